@@ -0,0 +1,103 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.github.kosmateus.shinden.config.PropertySkippingParser;
+import com.github.kosmateus.shinden.user.request.AnimeListField;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+import com.github.kosmateus.shinden.user.response.ListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding of the user anime list JSON response.
+ *
+ * <p>The response body is decoded from a {@link String} into {@code ListResponse<AnimeListItem>}.
+ * {@link #decode()} resolves the type on every call through {@code ObjectMapper.readValue}, while
+ * {@link #decodeCachedReader()} reuses an {@link ObjectReader} configured the same way as the one used by the
+ * REST client of the library for {@code UserApi.getAnimeList}. {@link #decodeBlackbird()} adds the
+ * {@link BlackbirdModule}, as registered through {@code ShindenConfig.jacksonModule}, and
+ * {@link #decodeWithoutDescriptions()} decodes the body for a request excluding both descriptions, which are
+ * skipped by the parser.</p>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnimeListDecodingBenchmark {
+
+    private static final TypeReference<ListResponse<AnimeListItem>> LIST_RESPONSE_TYPE = new TypeReference<ListResponse<AnimeListItem>>() {
+    };
+
+    private ObjectMapper objectMapper;
+    private ObjectReader reader;
+    private ObjectReader blackbirdReader;
+    private Set<String> excludedProperties;
+    private String body;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        reader = clientMapper().readerFor(LIST_RESPONSE_TYPE);
+        blackbirdReader = clientMapper().registerModule(new BlackbirdModule()).readerFor(LIST_RESPONSE_TYPE);
+        excludedProperties = AnimeListRequest.builder()
+                .userId(1L)
+                .excludeFields(AnimeListField.DESCRIPTION_EN, AnimeListField.DESCRIPTION)
+                .build()
+                .getExcludedProperties();
+        body = Fixture.ANIME_LIST.content();
+    }
+
+    @Benchmark
+    public ListResponse<AnimeListItem> decode() throws JsonProcessingException {
+        return objectMapper.readValue(body, LIST_RESPONSE_TYPE);
+    }
+
+    @Benchmark
+    public ListResponse<AnimeListItem> decodeCachedReader() throws IOException {
+        return reader.readValue(body);
+    }
+
+    @Benchmark
+    public ListResponse<AnimeListItem> decodeBlackbird() throws IOException {
+        return blackbirdReader.readValue(body);
+    }
+
+    @Benchmark
+    public ListResponse<AnimeListItem> decodeWithoutDescriptions() throws IOException {
+        try (JsonParser parser = new PropertySkippingParser(objectMapper.getFactory().createParser(body),
+                excludedProperties)) {
+            return reader.readValue(parser);
+        }
+    }
+
+    private static ObjectMapper clientMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+}
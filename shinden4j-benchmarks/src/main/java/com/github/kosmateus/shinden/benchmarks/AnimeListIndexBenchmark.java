@@ -0,0 +1,99 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.kosmateus.shinden.common.enums.TitleType;
+import com.github.kosmateus.shinden.common.request.Pageable;
+import com.github.kosmateus.shinden.common.request.Sort;
+import com.github.kosmateus.shinden.common.response.Page;
+import com.github.kosmateus.shinden.user.AnimeListIndex;
+import com.github.kosmateus.shinden.user.common.enums.UserTitleStatus;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest.SortType;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+import com.github.kosmateus.shinden.user.response.ListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures local queries of an {@link AnimeListIndex}.
+ *
+ * <p>The index is built from the items of the anime list fixture, repeated up to {@code size} items. The
+ * benchmarks query it with the filters and orders of {@code UserApi.getAnimeList}, which would otherwise each
+ * fetch the list again.</p>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnimeListIndexBenchmark {
+
+    private static final long USER_ID = 123456L;
+
+    @Param({"1000"})
+    private int size;
+
+    private List<AnimeListItem> items;
+    private AnimeListIndex index;
+    private final AnimeListRequest filtered = AnimeListRequest.builder()
+            .userId(USER_ID)
+            .status(UserTitleStatus.COMPLETED)
+            .addAnimeType(TitleType.TV)
+            .build();
+    private final AnimeListRequest all = AnimeListRequest.builder().userId(USER_ID).build();
+    private final Pageable<SortType> firstPage = Pageable.of(0, 25, Sort.by(SortType.RATE.desc()));
+    private final Sort<SortType> byRateAndTitle = Sort.by(SortType.RATE.desc(), SortType.TITLE.asc());
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        List<AnimeListItem> fixtureItems = objectMapper.readValue(Fixture.ANIME_LIST.content(),
+                new TypeReference<ListResponse<AnimeListItem>>() {
+                }).getResult().getItems();
+        items = new ArrayList<>(size);
+        while (items.size() < size) {
+            items.add(fixtureItems.get(items.size() % fixtureItems.size()));
+        }
+        index = AnimeListIndex.of(USER_ID, items);
+    }
+
+    @Benchmark
+    public AnimeListIndex build() {
+        return AnimeListIndex.of(USER_ID, items);
+    }
+
+    @Benchmark
+    public List<AnimeListItem> filter() {
+        return index.query(filtered);
+    }
+
+    @Benchmark
+    public Page<AnimeListItem> sortedPage() {
+        return index.query(all, firstPage);
+    }
+
+    @Benchmark
+    public List<AnimeListItem> filterAndSortByTwoOrders() {
+        return index.query(filtered, byRateAndTitle);
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.kosmateus.shinden.user.codec.AnimeListSnapshotReader;
+import com.github.kosmateus.shinden.user.codec.AnimeListSnapshotWriter;
+import com.github.kosmateus.shinden.user.codec.Compression;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+import com.github.kosmateus.shinden.user.response.ListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing and reading anime list snapshots.
+ *
+ * <p>The snapshot holds the items of the anime list fixture, repeated up to {@code size} items, as stored for many
+ * users sharing the same titles. The {@code json} benchmark writes the same items with the object mapper of the
+ * library for comparison.</p>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnimeListSnapshotBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    @Param({"NONE", "DEFLATE"})
+    private Compression compression;
+
+    private ObjectMapper objectMapper;
+    private List<AnimeListItem> items;
+    private byte[] snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        List<AnimeListItem> fixtureItems = objectMapper.readValue(Fixture.ANIME_LIST.content(),
+                new TypeReference<ListResponse<AnimeListItem>>() {
+                }).getResult().getItems();
+        items = new ArrayList<>(size);
+        while (items.size() < size) {
+            items.add(fixtureItems.get(items.size() % fixtureItems.size()));
+        }
+        snapshot = write().toByteArray();
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream write() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (AnimeListSnapshotWriter writer = new AnimeListSnapshotWriter(Channels.newChannel(output), compression,
+                AnimeListSnapshotWriter.DEFAULT_BLOCK_SIZE)) {
+            writer.writeAll(items);
+        }
+        return output;
+    }
+
+    @Benchmark
+    public List<AnimeListItem> read() throws IOException {
+        try (AnimeListSnapshotReader reader = new AnimeListSnapshotReader(
+                Channels.newChannel(new ByteArrayInputStream(snapshot)))) {
+            return reader.readAll();
+        }
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return objectMapper.writeValueAsBytes(items);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ *
+ * <p>The runner accepts the regular JMH command line options and always attaches the {@link GCProfiler},
+ * so every run reports the allocation rate ({@code gc.alloc.rate.norm} in bytes per operation) next to the
+ * throughput of each benchmark:</p>
+ *
+ * <pre>{@code
+ * java -jar target/benchmarks.jar                       # all benchmarks
+ * java -jar target/benchmarks.jar MapperBenchmark       # a single class
+ * java -jar target/benchmarks.jar -f 1 -wi 1 -i 3       # a quick run
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks selected by the command line arguments.
+     *
+     * @param args the JMH command line arguments
+     * @throws CommandLineOptionException if the arguments cannot be parsed
+     * @throws RunnerException            if the benchmarks fail to run
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
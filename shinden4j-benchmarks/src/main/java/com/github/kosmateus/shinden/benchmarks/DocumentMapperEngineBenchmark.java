@@ -0,0 +1,131 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.github.kosmateus.shinden.common.enums.UrlType;
+import com.github.kosmateus.shinden.user.common.enums.UserTitleStatus;
+import com.github.kosmateus.shinden.utils.jsoup.DocumentMapperEngine;
+import com.google.common.collect.ImmutableMap;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.kosmateus.shinden.constants.ShindenConstants.DATE_FORMAT;
+import static com.github.kosmateus.shinden.constants.ShindenConstants.DATE_TIME_FORMAT;
+import static com.github.kosmateus.shinden.constants.ShindenConstants.MEDIA_ID_MATCHER;
+import static com.github.kosmateus.shinden.constants.ShindenConstants.MEDIA_URL_TYPE_MATCHER;
+import static com.github.kosmateus.shinden.constants.ShindenConstants.USER_ID_MATCHER;
+
+/**
+ * Measures the individual {@link DocumentMapperEngine} step chains used by the mappers.
+ *
+ * <p>Each benchmark runs one of the chains found in the mappers against the saved user overview page:
+ * a plain text lookup, a text converted to a date, an attribute matched against a pattern, an own text
+ * mapped to an enum, the document location matched against a pattern and a list mapping. Comparing the
+ * chains shows which steps dominate the cost of a mapper.</p>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentMapperEngineBenchmark {
+
+    private final DocumentMapperEngine mapper = new DocumentMapperEngine(
+            DATE_TIME_FORMAT,
+            DATE_FORMAT,
+            ImmutableMap.of(
+                    UrlType.class, UrlType::fromValue,
+                    UserTitleStatus.class, UserTitleStatus::fromValue
+            ),
+            details -> () -> new IllegalStateException(details.getLeft(), details.getRight())
+    );
+
+    private Document document;
+    private Element listItem;
+
+    @Setup
+    public void setUp() {
+        document = Fixture.USER_OVERVIEW.document();
+        listItem = document.selectFirst("section.last-updates.anime-updates li");
+    }
+
+    @Benchmark
+    public String selectFirstText() {
+        return mapper.with(document)
+                .selectFirst("div.l-main-contantainer.controller-user > div > button > strong")
+                .text()
+                .orThrowWithCode("username");
+    }
+
+    @Benchmark
+    public LocalDateTime selectFirstTextToLocalDateTime() {
+        return mapper.with(document)
+                .selectFirst("aside.info-aside.aside-user dl.stats dd:nth-of-type(1)")
+                .text()
+                .toLocalDateTime()
+                .orThrowWithCode("last-online");
+    }
+
+    @Benchmark
+    public Long selectFirstAttrPatternToLong() {
+        return mapper.with(listItem)
+                .selectFirst("a")
+                .attr("href")
+                .pattern(MEDIA_ID_MATCHER)
+                .toLong()
+                .orThrowWithCode("id");
+    }
+
+    @Benchmark
+    public UrlType selectFirstAttrPatternMapTo() {
+        return mapper.with(listItem)
+                .selectFirst("a")
+                .attr("href")
+                .pattern(MEDIA_URL_TYPE_MATCHER)
+                .mapTo(UrlType.class)
+                .orThrowWithCode("url-type");
+    }
+
+    @Benchmark
+    public UserTitleStatus selectFirstOwnTextReplaceMapTo() {
+        return mapper.with(listItem)
+                .selectFirst("span")
+                .ownText()
+                .replace(":", "")
+                .mapTo(UserTitleStatus.class)
+                .orThrowWithCode("status");
+    }
+
+    @Benchmark
+    public Long locationPatternToLong() {
+        return mapper.with(document)
+                .location()
+                .pattern(USER_ID_MATCHER)
+                .toLong()
+                .orThrowWithCode("id");
+    }
+
+    @Benchmark
+    public List<Long> selectFirstSelectMapTo() {
+        return mapper.with(document)
+                .selectFirst("section.favouritue.animes")
+                .select("li")
+                .mapTo(item -> mapper.with(item).attr("data-id").toLong().orThrowWithCode("id"))
+                .orThrowWithCode("favourite.anime");
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.github.kosmateus.shinden.ShindenApi;
+import com.github.kosmateus.shinden.ShindenConfig;
+import com.github.kosmateus.shinden.anime.request.AnimeSearchRequest;
+import com.github.kosmateus.shinden.anime.response.AnimeSearchResult;
+import com.github.kosmateus.shinden.common.response.Page;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest;
+import com.github.kosmateus.shinden.user.response.Achievements;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+import com.github.kosmateus.shinden.user.response.UserOverview;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures complete {@code ShindenApi} calls against the {@link MockShindenServer}.
+ *
+ * <p>Every operation goes through the whole client stack: request building, the HTTP exchange over the loopback
+ * interface, parsing and mapping. The {@code size} parameter sets the number of anime list items, anime search
+ * rows and achievements served by the mock server. The number of concurrent callers is the JMH thread count,
+ * set with {@code -t} or swept by the {@link EndToEndRunner}.</p>
+ *
+ * <p>The server runs in the benchmark JVM, so the allocation reported per operation includes the allocations of
+ * the server threads serving the call. The anime search performs two exchanges per call, the requested page and
+ * the last page used to count the results.</p>
+ *
+ * <p>The translations are loaded and cached once per JVM, so the benchmark runs forked to measure every
+ * configuration from the same starting point.</p>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndToEndBenchmark {
+
+    private static final long USER_ID = 123456L;
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private MockShindenServer server;
+    private ShindenApi api;
+    private AnimeListRequest animeListRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = MockShindenServer.start(size, size, size);
+        api = ShindenApi.create(ShindenConfig.builder()
+                .transport(server.redirect())
+                .build());
+        animeListRequest = AnimeListRequest.builder().userId(USER_ID).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public UserOverview userOverview() {
+        return api.user().getOverview(USER_ID);
+    }
+
+    @Benchmark
+    public Achievements userAchievements() {
+        return api.user().getAchievements(USER_ID);
+    }
+
+    @Benchmark
+    public Page<AnimeSearchResult> animeSearch() {
+        return api.anime().searchAnime(AnimeSearchRequest.EMPTY);
+    }
+
+    @Benchmark
+    public List<AnimeListItem> animeList() {
+        return api.user().getAnimeList(animeListRequest);
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Runs the {@link EndToEndBenchmark} at increasing concurrency levels.
+ *
+ * <p>The runner repeats the benchmark with 1, 2, 4, ... 512 threads and, once all runs complete, prints a summary
+ * with the calls per second and the bytes allocated per call of every operation at every concurrency level.
+ * The regular JMH command line options are accepted, except for the thread count, which is set by the runner:</p>
+ *
+ * <pre>{@code
+ * java -cp target/benchmarks.jar com.github.kosmateus.shinden.benchmarks.EndToEndRunner
+ * java -cp target/benchmarks.jar com.github.kosmateus.shinden.benchmarks.EndToEndRunner animeList -p size=1000
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+public final class EndToEndRunner {
+
+    private static final int MAX_THREADS = 512;
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private EndToEndRunner() {
+    }
+
+    /**
+     * Runs the end-to-end benchmarks selected by the command line arguments at every concurrency level.
+     *
+     * @param args the JMH command line arguments, selecting the {@link EndToEndBenchmark} operations when empty
+     * @throws CommandLineOptionException if the arguments cannot be parsed
+     * @throws RunnerException            if the benchmarks fail to run
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        List<String> summary = new ArrayList<>();
+        summary.add(String.format("%-8s %-40s %8s %16s %16s", "threads", "benchmark", "size", "calls/s", "B/call"));
+        for (int threads = 1; threads <= MAX_THREADS; threads *= 2) {
+            OptionsBuilder builder = new OptionsBuilder();
+            builder.parent(commandLine)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class);
+            if (commandLine.getIncludes().isEmpty()) {
+                builder.include(EndToEndBenchmark.class.getName());
+            }
+            Options options = builder.build();
+            summarize(threads, new Runner(options).run(), summary);
+        }
+        summary.forEach(System.out::println);
+    }
+
+    private static void summarize(int threads, Collection<RunResult> results, List<String> summary) {
+        for (RunResult result : results) {
+            Result<?> allocation = result.getSecondaryResults().get(ALLOCATION);
+            summary.add(String.format("%-8d %-40s %8s %16.1f %16.0f",
+                    threads,
+                    result.getParams().getBenchmark().replace(EndToEndBenchmark.class.getName() + ".", ""),
+                    result.getParams().getParam("size"),
+                    result.getPrimaryResult().getScore(),
+                    allocation != null ? allocation.getScore() : Double.NaN));
+        }
+    }
+}
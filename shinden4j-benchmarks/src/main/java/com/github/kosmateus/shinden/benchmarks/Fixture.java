@@ -0,0 +1,108 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.google.common.io.Resources;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.github.kosmateus.shinden.constants.ShindenConstants.SHINDEN_URL;
+import static com.github.kosmateus.shinden.constants.ShindenConstants.SHINDEN_USER_LIST_URL;
+
+/**
+ * Saved responses used as the input of the benchmarks.
+ *
+ * <p>Each constant points to a fixture stored under {@code src/main/resources/fixtures} together with the URL
+ * the page is served from. The location matters for mappers reading identifiers from the document location,
+ * such as the user overview mapper.</p>
+ *
+ * <p>The fixtures mirror the structure of the Shinden pages expected by the mappers, including the page layout
+ * surrounding the mapped content, but carry generated data instead of real user profiles.</p>
+ *
+ * @version 1.0.0
+ */
+public enum Fixture {
+
+    /**
+     * The user profile page.
+     */
+    USER_OVERVIEW("user-overview.html", SHINDEN_URL + "/user/123456-benchmark-user"),
+
+    /**
+     * The user achievements page.
+     */
+    USER_ACHIEVEMENTS("user-achievements.html", SHINDEN_URL + "/user/123456-benchmark-user/achievements"),
+
+    /**
+     * The user reviews page.
+     */
+    USER_REVIEWS("user-reviews.html", SHINDEN_URL + "/user/123456-benchmark-user/reviews"),
+
+    /**
+     * The user recommendations page.
+     */
+    USER_RECOMMENDATIONS("user-recommendations.html", SHINDEN_URL + "/user/123456-benchmark-user/recommendations"),
+
+    /**
+     * The user favourite tags page.
+     */
+    USER_FAVOURITE_TAGS("user-favourite-tags.html", SHINDEN_URL + "/user/123456-benchmark-user/fav-tags"),
+
+    /**
+     * The user settings page.
+     */
+    USER_SETTINGS("user-settings.html", SHINDEN_URL + "/user/123456-benchmark-user/edit"),
+
+    /**
+     * A page of the anime search results.
+     */
+    ANIME_SEARCH("anime-search.html", SHINDEN_URL + "/series"),
+
+    /**
+     * The JSON response of the user anime list endpoint.
+     */
+    ANIME_LIST("anime-list.json", SHINDEN_USER_LIST_URL + "/api/userlist/123456/anime");
+
+    private final String fileName;
+    private final String location;
+
+    Fixture(String fileName, String location) {
+        this.fileName = fileName;
+        this.location = location;
+    }
+
+    /**
+     * Returns the URL the fixture is served from.
+     *
+     * @return the location of the fixture
+     */
+    public String location() {
+        return location;
+    }
+
+    /**
+     * Reads the content of the fixture.
+     *
+     * @return the fixture content decoded as UTF-8
+     * @throws UncheckedIOException if the fixture cannot be read
+     */
+    public String content() {
+        try {
+            return Resources.toString(Resources.getResource("fixtures/" + fileName), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read fixture " + fileName, e);
+        }
+    }
+
+    /**
+     * Reads and parses the fixture as an HTML document located at the fixture URL.
+     *
+     * @return the parsed document
+     * @throws UncheckedIOException if the fixture cannot be read
+     */
+    public Document document() {
+        return Jsoup.parse(content(), location);
+    }
+}
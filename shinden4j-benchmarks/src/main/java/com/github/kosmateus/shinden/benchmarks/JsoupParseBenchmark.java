@@ -0,0 +1,59 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of the saved HTML pages into jsoup documents.
+ *
+ * <p>Every page fetched by the library is parsed with {@link Jsoup#parse(String, String)} before it is mapped,
+ * so this benchmark sets the baseline the mapper benchmarks build upon.</p>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsoupParseBenchmark {
+
+    @Param({
+            "USER_OVERVIEW",
+            "USER_ACHIEVEMENTS",
+            "USER_REVIEWS",
+            "USER_RECOMMENDATIONS",
+            "USER_FAVOURITE_TAGS",
+            "USER_SETTINGS",
+            "ANIME_SEARCH"
+    })
+    private Fixture fixture;
+
+    private String content;
+    private String location;
+
+    @Setup
+    public void setUp() {
+        content = fixture.content();
+        location = fixture.location();
+    }
+
+    @Benchmark
+    public Document parse() {
+        return Jsoup.parse(content, location);
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.github.kosmateus.shinden.anime.mapper.AnimeSearchMapper;
+import com.github.kosmateus.shinden.anime.request.AnimeSearchRequest.SortType;
+import com.github.kosmateus.shinden.anime.response.AnimeSearchResult;
+import com.github.kosmateus.shinden.common.request.FixedPageable;
+import com.github.kosmateus.shinden.common.response.Page;
+import com.github.kosmateus.shinden.user.mapper.UserAchievementsMapper;
+import com.github.kosmateus.shinden.user.mapper.UserFavouriteTagsMapper;
+import com.github.kosmateus.shinden.user.mapper.UserOverviewMapper;
+import com.github.kosmateus.shinden.user.mapper.UserRecommendationMapper;
+import com.github.kosmateus.shinden.user.mapper.UserReviewsMapper;
+import com.github.kosmateus.shinden.user.mapper.UserSettingsMapper;
+import com.github.kosmateus.shinden.user.response.Achievements;
+import com.github.kosmateus.shinden.user.response.FavouriteTag;
+import com.github.kosmateus.shinden.user.response.Recommendation;
+import com.github.kosmateus.shinden.user.response.Review;
+import com.github.kosmateus.shinden.user.response.UserOverview;
+import com.github.kosmateus.shinden.user.response.UserSettings;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mappers turning parsed Shinden pages into response objects.
+ *
+ * <p>The user page mappers receive documents parsed once during the setup, so the results isolate the cost
+ * of the selector evaluation and value conversion performed by each mapper. The anime search mapper accepts
+ * the raw page bytes, therefore its benchmark includes parsing the requested page and the last page used to count
+ * the results, exactly as {@code AnimeApi.searchAnime} does when the results span several pages.</p>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final UserOverviewMapper overviewMapper = new UserOverviewMapper();
+    private final UserAchievementsMapper achievementsMapper = new UserAchievementsMapper();
+    private final UserReviewsMapper reviewsMapper = new UserReviewsMapper();
+    private final UserRecommendationMapper recommendationMapper = new UserRecommendationMapper();
+    private final UserFavouriteTagsMapper favouriteTagsMapper = new UserFavouriteTagsMapper();
+    private final UserSettingsMapper settingsMapper = new UserSettingsMapper();
+    private final AnimeSearchMapper searchMapper = new AnimeSearchMapper();
+
+    private Document overview;
+    private Document achievements;
+    private Document reviews;
+    private Document recommendations;
+    private Document favouriteTags;
+    private Document settings;
+    private byte[] searchPage;
+    private FixedPageable<SortType> searchPageable;
+
+    @Setup
+    public void setUp() {
+        overview = Fixture.USER_OVERVIEW.document();
+        achievements = Fixture.USER_ACHIEVEMENTS.document();
+        reviews = Fixture.USER_REVIEWS.document();
+        recommendations = Fixture.USER_RECOMMENDATIONS.document();
+        favouriteTags = Fixture.USER_FAVOURITE_TAGS.document();
+        settings = Fixture.USER_SETTINGS.document();
+        searchPage = Fixture.ANIME_SEARCH.content().getBytes(StandardCharsets.UTF_8);
+        searchPageable = FixedPageable.of(1);
+    }
+
+    @Benchmark
+    public UserOverview userOverview() {
+        return overviewMapper.map(overview);
+    }
+
+    @Benchmark
+    public Achievements userAchievements() {
+        return achievementsMapper.map(achievements);
+    }
+
+    @Benchmark
+    public List<Review> userReviews() {
+        return reviewsMapper.map(reviews);
+    }
+
+    @Benchmark
+    public List<Recommendation> userRecommendations() {
+        return recommendationMapper.map(recommendations);
+    }
+
+    @Benchmark
+    public List<FavouriteTag> userFavouriteTags() {
+        return favouriteTagsMapper.map(favouriteTags);
+    }
+
+    @Benchmark
+    public UserSettings userSettings() {
+        return settingsMapper.map(settings);
+    }
+
+    @Benchmark
+    public Page<AnimeSearchResult> animeSearch() {
+        Pair<List<AnimeSearchResult>, Integer> results = searchMapper.mapPage(reader(searchPage));
+        int lastPageResults = searchMapper.countResults(reader(searchPage));
+        return searchMapper.map(results.getLeft(), Pair.of(results.getRight(), lastPageResults), searchPageable);
+    }
+
+    private static Reader reader(byte[] page) {
+        return new InputStreamReader(new ByteArrayInputStream(page), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,252 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.kosmateus.shinden.http.transport.HttpTransportDecorator;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.github.kosmateus.shinden.constants.ShindenConstants.SHINDEN_URL;
+import static com.github.kosmateus.shinden.constants.ShindenConstants.SHINDEN_USER_LIST_URL;
+
+/**
+ * Embedded HTTP server impersonating Shinden for end-to-end benchmarks.
+ *
+ * <p>The {@code MockShindenServer} runs on the JDK {@link HttpServer}, bound to an ephemeral port of the loopback
+ * interface, and serves the pages and the anime list JSON the {@code ShindenApi} requests. The responses are
+ * rendered once from the {@link Fixture}s when the server starts: the anime list items, the anime search rows and
+ * the achievements are repeated until the configured sizes are reached, while the remaining pages are served as
+ * they are. Requests for a user profile are redirected to the profile URL carrying the user name, the same way
+ * Shinden does.</p>
+ *
+ * <p>The API is pointed at the server with the transport decorator returned by {@link #redirect()}, which sends
+ * the requests addressed to {@code shinden.pl} and {@code lista.shinden.pl} to the server and reports the original
+ * URLs in the responses, so the mappers see the locations they would see in production:</p>
+ *
+ * <pre>{@code
+ * try (MockShindenServer server = MockShindenServer.start(1000, 50, 100)) {
+ *     ShindenApi api = ShindenApi.create(ShindenConfig.builder()
+ *             .transport(server.redirect())
+ *             .build());
+ *     api.user().getAchievements(123456L);
+ * }
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+public final class MockShindenServer implements AutoCloseable {
+
+    private static final String HTML = "text/html; charset=UTF-8";
+    private static final String JSON = "application/json; charset=UTF-8";
+    private static final String USER_SLUG = "-benchmark-user";
+    private static final Pattern USER_PATH = Pattern.compile("/user/(\\d+)(-[\\w-]+)?(/[\\w-]+)?");
+
+    static {
+        // The JDK server writes the response headers and the body separately; without TCP_NODELAY every
+        // response waits for the delayed acknowledgement of the headers, capping the calls at a few per second.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String origin;
+    private final byte[] overview;
+    private final byte[] achievements;
+    private final byte[] reviews;
+    private final byte[] recommendations;
+    private final byte[] favouriteTags;
+    private final byte[] settings;
+    private final byte[] search;
+    private final byte[] animeList;
+
+    private MockShindenServer(int listItems, int searchRows, int achievementCount) throws IOException {
+        this.overview = Fixture.USER_OVERVIEW.content().getBytes(StandardCharsets.UTF_8);
+        this.achievements = repeat(Fixture.USER_ACHIEVEMENTS.document(), "section.achv div.achv-entry", achievementCount);
+        this.reviews = Fixture.USER_REVIEWS.content().getBytes(StandardCharsets.UTF_8);
+        this.recommendations = Fixture.USER_RECOMMENDATIONS.content().getBytes(StandardCharsets.UTF_8);
+        this.favouriteTags = Fixture.USER_FAVOURITE_TAGS.content().getBytes(StandardCharsets.UTF_8);
+        this.settings = Fixture.USER_SETTINGS.content().getBytes(StandardCharsets.UTF_8);
+        this.search = repeat(Fixture.ANIME_SEARCH.document(), "section.anime-list > section > article > ul.div-row", searchRows);
+        this.animeList = repeatListItems(listItems);
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "mock-shinden-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+        this.origin = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Starts a server rendering the repeated content at the given sizes.
+     *
+     * @param listItems        the number of items of the user anime list
+     * @param searchRows       the number of rows of an anime search results page
+     * @param achievementCount the number of achievements on the user achievements page
+     * @return the started server
+     * @throws IOException if the server cannot be bound
+     */
+    public static MockShindenServer start(int listItems, int searchRows, int achievementCount) throws IOException {
+        return new MockShindenServer(listItems, searchRows, achievementCount);
+    }
+
+    /**
+     * Returns the origin the server listens on, e.g. {@code http://127.0.0.1:52713}.
+     *
+     * @return the origin of the server
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Returns a transport decorator sending the requests addressed to Shinden to this server.
+     *
+     * @return the redirecting transport decorator
+     */
+    public HttpTransportDecorator redirect() {
+        return transport -> request -> {
+            String url = request.getUrl();
+            String shindenOrigin = url.startsWith(SHINDEN_USER_LIST_URL) ? SHINDEN_USER_LIST_URL : SHINDEN_URL;
+            if (!url.startsWith(shindenOrigin)) {
+                return transport.execute(request);
+            }
+            TransportResponse response = transport.execute(request.toBuilder()
+                    .url(origin + url.substring(shindenOrigin.length()))
+                    .build());
+            return response.toBuilder()
+                    .url(shindenOrigin + response.getUrl().substring(origin.length()))
+                    .build();
+        };
+    }
+
+    /**
+     * Stops the server, closing the open exchanges.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals("/series")) {
+                respond(exchange, HTML, search);
+            } else if (path.startsWith("/api/userlist/")) {
+                respond(exchange, JSON, animeList);
+            } else {
+                handleUserPage(exchange, path);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleUserPage(HttpExchange exchange, String path) throws IOException {
+        Matcher matcher = USER_PATH.matcher(path);
+        if (!matcher.matches()) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        String page = matcher.group(3);
+        if (page == null) {
+            if (matcher.group(2) == null) {
+                exchange.getResponseHeaders().set("Location", "/user/" + matcher.group(1) + USER_SLUG);
+                exchange.sendResponseHeaders(302, -1);
+                return;
+            }
+            respond(exchange, HTML, overview);
+            return;
+        }
+        switch (page) {
+            case "/achievements":
+                respond(exchange, HTML, achievements);
+                break;
+            case "/reviews":
+                respond(exchange, HTML, reviews);
+                break;
+            case "/recommendations":
+                respond(exchange, HTML, recommendations);
+                break;
+            case "/favourite-tags":
+                respond(exchange, HTML, favouriteTags);
+                break;
+            case "/settings":
+                respond(exchange, HTML, settings);
+                break;
+            default:
+                exchange.sendResponseHeaders(404, -1);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    /**
+     * Replaces the rows matched by the selector with the given number of rows, cycling through the original ones.
+     */
+    private static byte[] repeat(Document document, String rowSelector, int count) {
+        Elements rows = document.select(rowSelector);
+        Element anchor = rows.last();
+        for (int i = rows.size(); i < count; i++) {
+            Element row = rows.get(i % rows.size()).clone();
+            anchor.after(row);
+            anchor = row;
+        }
+        for (int i = rows.size() - 1; i >= count; i--) {
+            rows.get(i).remove();
+        }
+        return document.outerHtml().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] repeatListItems(int count) {
+        try {
+            ObjectMapper objectMapper = new ObjectMapper();
+            ObjectNode root = (ObjectNode) objectMapper.readTree(Fixture.ANIME_LIST.content());
+            ObjectNode result = (ObjectNode) root.get("result");
+            ArrayNode items = (ArrayNode) result.get("items");
+            ArrayNode repeated = objectMapper.createArrayNode();
+            for (int i = 0; i < count; i++) {
+                ObjectNode item = items.get(i % items.size()).deepCopy();
+                item.put("titleId", String.valueOf(i + 1));
+                repeated.add(item);
+            }
+            result.put("count", count);
+            result.set("items", repeated);
+            return objectMapper.writeValueAsBytes(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
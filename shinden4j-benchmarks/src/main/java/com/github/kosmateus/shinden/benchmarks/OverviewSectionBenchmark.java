@@ -0,0 +1,76 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.github.kosmateus.shinden.user.common.enums.OverviewSection;
+import com.github.kosmateus.shinden.user.mapper.UserOverviewMapper;
+import com.github.kosmateus.shinden.user.response.UserOverview;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of mapping every section of the user overview on its own.
+ *
+ * <p>The {@code section} parameter runs the projected mapping once for every {@link OverviewSection}, so the
+ * results show how much each section contributes to the complete mapping measured by {@code full}. The projected
+ * mappings include reading the user ID from the document location, which is always mapped.</p>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OverviewSectionBenchmark {
+
+    private final UserOverviewMapper mapper = new UserOverviewMapper();
+
+    private Document overview;
+
+    @Setup
+    public void setUp() {
+        overview = Fixture.USER_OVERVIEW.document();
+    }
+
+    @Benchmark
+    public UserOverview section(Projection projection) {
+        return mapper.map(overview, projection.sections);
+    }
+
+    @Benchmark
+    public UserOverview full() {
+        return mapper.map(overview);
+    }
+
+    /**
+     * Holds the projection of a single section, kept apart so that only the {@code section} benchmark is
+     * repeated for every section.
+     */
+    @State(Scope.Benchmark)
+    public static class Projection {
+
+        @Param
+        public OverviewSection section;
+
+        private Set<OverviewSection> sections;
+
+        @Setup
+        public void setUp() {
+            sections = EnumSet.of(section);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.github.kosmateus.shinden.user.mapper.UserAchievementsMapper;
+import com.github.kosmateus.shinden.user.mapper.UserFavouriteTagsMapper;
+import com.github.kosmateus.shinden.user.mapper.UserRecommendationMapper;
+import com.github.kosmateus.shinden.user.mapper.UserReviewsMapper;
+import com.github.kosmateus.shinden.utils.jsoup.BaseDocumentMapper;
+import com.github.kosmateus.shinden.utils.jsoup.PageRegion;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing the whole page with parsing only the region of the page read by its mapper.
+ *
+ * <p>The {@code trimmed} benchmark includes scanning the page for the region declared by the mapper,
+ * see {@link PageRegion#trim(byte[])}.</p>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageRegionBenchmark {
+
+    @Param({
+            "USER_ACHIEVEMENTS",
+            "USER_REVIEWS",
+            "USER_RECOMMENDATIONS",
+            "USER_FAVOURITE_TAGS"
+    })
+    private Fixture fixture;
+
+    private byte[] content;
+    private String location;
+    private PageRegion region;
+
+    @Setup
+    public void setUp() {
+        content = fixture.content().getBytes(StandardCharsets.UTF_8);
+        location = fixture.location();
+        region = mapper(fixture).getRegion();
+    }
+
+    @Benchmark
+    public Document full() throws IOException {
+        return Jsoup.parse(new ByteArrayInputStream(content), StandardCharsets.UTF_8.name(), location);
+    }
+
+    @Benchmark
+    public Document trimmed() throws IOException {
+        return Jsoup.parse(new ByteArrayInputStream(region.trim(content)), StandardCharsets.UTF_8.name(), location);
+    }
+
+    private static BaseDocumentMapper mapper(Fixture fixture) {
+        switch (fixture) {
+            case USER_ACHIEVEMENTS:
+                return new UserAchievementsMapper();
+            case USER_REVIEWS:
+                return new UserReviewsMapper();
+            case USER_RECOMMENDATIONS:
+                return new UserRecommendationMapper();
+            case USER_FAVOURITE_TAGS:
+                return new UserFavouriteTagsMapper();
+            default:
+                throw new IllegalArgumentException("No page region declared for " + fixture);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.github.kosmateus.shinden.ShindenApi;
+import com.github.kosmateus.shinden.ShindenConfig;
+import com.github.kosmateus.shinden.user.response.UserOverview;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from creating a {@code ShindenApi} to the result of its first call, in a fresh JVM.
+ *
+ * <p>Every fork creates the API client once and fetches a user overview from the {@link MockShindenServer}.
+ * The measured time covers the bootstrap of the client, including the Guice injector, the validator and the
+ * translations, and the first, cold exchange with the mock server, which is started before the measurement.
+ * The classes of the client are loaded during the measurement, so the result reflects what a short-lived
+ * worker pays before its first response.</p>
+ *
+ * <p>The translations are loaded and cached once per JVM, so each fork measures a single call.
+ * The score is averaged over the forks.</p>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    private static final long USER_ID = 123456L;
+
+    private MockShindenServer server;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = MockShindenServer.start(10, 10, 10);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public UserOverview timeToFirstOverview() {
+        ShindenApi api = ShindenApi.create(ShindenConfig.builder()
+                .transport(server.redirect())
+                .build());
+        return api.user().getOverview(USER_ID);
+    }
+}
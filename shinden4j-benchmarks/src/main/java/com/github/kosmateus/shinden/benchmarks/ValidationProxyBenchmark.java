@@ -0,0 +1,106 @@
+package com.github.kosmateus.shinden.benchmarks;
+
+import com.github.kosmateus.shinden.anime.AnimeApi;
+import com.github.kosmateus.shinden.anime.request.AnimeSearchRequest;
+import com.github.kosmateus.shinden.anime.request.AnimeSearchRequest.SortType;
+import com.github.kosmateus.shinden.anime.response.AnimeSearchResult;
+import com.github.kosmateus.shinden.common.request.BulkOptions;
+import com.github.kosmateus.shinden.common.request.FixedPageable;
+import com.github.kosmateus.shinden.common.response.Page;
+import com.github.kosmateus.shinden.utils.ValidationInvocationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the validating proxies put in front of the API implementations.
+ *
+ * <p>The proxied implementations return immediately, so the scores show the cost of the proxy alone:
+ * a direct call of the implementation, a proxied call whose arguments declare no constraints, a proxied
+ * call taking only JDK types and a proxied call validating a constrained request.</p>
+ *
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationProxyBenchmark {
+
+    private final AnimeSearchRequest request = AnimeSearchRequest.builder().build();
+    private final FixedPageable<SortType> pageable = FixedPageable.of(1);
+    private final BulkOptions options = BulkOptions.builder().build();
+
+    private final AnimeApi animeApi = new StubAnimeApi();
+    private final AnimeApi validatedAnimeApi = ValidationInvocationHandler.createProxy(animeApi, AnimeApi.class);
+    private final LookupApi lookupApi = new StubLookupApi();
+    private final LookupApi validatedLookupApi = ValidationInvocationHandler.createProxy(lookupApi, LookupApi.class);
+
+    @Benchmark
+    public Page<AnimeSearchResult> direct() {
+        return animeApi.searchAnime(request, pageable);
+    }
+
+    @Benchmark
+    public Page<AnimeSearchResult> unconstrainedRequest() {
+        return validatedAnimeApi.searchAnime(request, pageable);
+    }
+
+    @Benchmark
+    public Long jdkTypes() {
+        return validatedLookupApi.find(42L, "name");
+    }
+
+    @Benchmark
+    public int constrainedRequest() {
+        return validatedLookupApi.count(options);
+    }
+
+    /**
+     * An API taking JDK types and a constrained request.
+     */
+    public interface LookupApi {
+
+        Long find(@NotNull Long id, @NotNull String name);
+
+        int count(@Valid @NotNull BulkOptions options);
+    }
+
+    private static final class StubLookupApi implements LookupApi {
+
+        @Override
+        public Long find(Long id, String name) {
+            return id;
+        }
+
+        @Override
+        public int count(BulkOptions options) {
+            return options.getParallelism();
+        }
+    }
+
+    private static final class StubAnimeApi implements AnimeApi {
+
+        @Override
+        public Page<AnimeSearchResult> searchAnime(AnimeSearchRequest request, FixedPageable<SortType> pageable) {
+            return null;
+        }
+
+        @Override
+        public Page<AnimeSearchResult> searchAnime(AnimeSearchRequest request) {
+            return null;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.github.kosmateus.shinden.login.LoginApi;
 import com.github.kosmateus.shinden.user.UserApi;
 import com.google.inject.Guice;
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Locale;
@@ -18,18 +19,22 @@ import java.util.Locale;
  * <p>This class provides access to the login and user-related functionalities of the Shinden platform,
  * encapsulating the API's services behind simple, intuitive methods.</p>
  *
- * <p>The API client can be instantiated using the {@link #create(SessionManager)} or
- * {@link #create(SessionManager, Locale)} methods, which initialize the necessary dependencies
- * through Google Guice and set the appropriate locale for translations.</p>
+ * <p>The API client can be instantiated using the {@link #create(SessionManager)},
+ * {@link #create(SessionManager, Locale)} or {@link #create(ShindenConfig)} methods, which initialize
+ * the necessary dependencies through Google Guice and set the appropriate locale for translations.</p>
+ *
+ * <p>The client starts lean: the login, user and anime APIs are created on their first use, and the translations
+ * and the validator of the request parameters are loaded when they are first needed, so creating the client costs
+ * little more than building the injector.</p>
  *
  * @version 1.0.0
  */
 @RequiredArgsConstructor(onConstructor_ = @__(@Inject))
 public class ShindenApi {
 
-    private final LoginApi loginApi;
-    private final UserApi userApi;
-    private final AnimeApi animeApi;
+    private final Provider<LoginApi> loginApi;
+    private final Provider<UserApi> userApi;
+    private final Provider<AnimeApi> animeApi;
 
     /**
      * Creates an instance of {@code ShindenApi} using the default locale and an in-memory session manager.
@@ -67,8 +72,26 @@ public class ShindenApi {
      * @return an instance of {@code ShindenApi}
      */
     public static ShindenApi create(SessionManager sessionManager, Locale locale) {
-        TranslationUtil.init(locale);
-        return Guice.createInjector(new ShindenModule(sessionManager)).getInstance(ShindenApi.class);
+        return create(ShindenConfig.builder()
+                .sessionManager(sessionManager)
+                .locale(locale)
+                .build());
+    }
+
+    /**
+     * Creates an instance of {@code ShindenApi} using the provided configuration.
+     *
+     * <p>This method sets the locale of the translation utilities, which load the translations on first use,
+     * and sets up the necessary dependencies using Google Guice. Optional features, such as
+     * tracing, are enabled according to the configuration. Several clients can be created in one JVM; the locale
+     * of the first one is the default locale of the translation utilities.</p>
+     *
+     * @param config the configuration of the API client
+     * @return an instance of {@code ShindenApi}
+     */
+    public static ShindenApi create(ShindenConfig config) {
+        TranslationUtil.initIfAbsent(config.getLocale());
+        return Guice.createInjector(new ShindenModule(config)).getInstance(ShindenApi.class);
     }
 
     /**
@@ -77,7 +100,7 @@ public class ShindenApi {
      * @return an instance of {@link LoginApi}
      */
     public LoginApi login() {
-        return loginApi;
+        return loginApi.get();
     }
 
     /**
@@ -86,7 +109,7 @@ public class ShindenApi {
      * @return an instance of {@link UserApi}
      */
     public UserApi user() {
-        return userApi;
+        return userApi.get();
     }
 
     /**
@@ -95,6 +118,6 @@ public class ShindenApi {
      * @return an instance of {@link AnimeApi}
      */
     public AnimeApi anime() {
-        return animeApi;
+        return animeApi.get();
     }
 }
@@ -0,0 +1,80 @@
+package com.github.kosmateus.shinden;
+
+import com.fasterxml.jackson.databind.Module;
+import com.github.kosmateus.shinden.auth.InMemorySessionManager;
+import com.github.kosmateus.shinden.auth.SessionManager;
+import com.github.kosmateus.shinden.http.transport.HttpTransportDecorator;
+import com.github.kosmateus.shinden.http.transport.RecordingTransport;
+import com.github.kosmateus.shinden.http.transport.ReplayTransport;
+import com.github.kosmateus.shinden.http.transport.TransportArchive;
+import io.opentelemetry.api.OpenTelemetry;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * Configuration of a {@link ShindenApi} instance.
+ *
+ * <p>The {@code ShindenConfig} class gathers the settings used to bootstrap the API client. Every setting
+ * has a sensible default, so only the values that differ from the defaults have to be provided:</p>
+ *
+ * <pre>{@code
+ * ShindenApi api = ShindenApi.create(ShindenConfig.builder()
+ *         .locale(Locale.ENGLISH)
+ *         .openTelemetry(openTelemetry)
+ *         .build());
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+public final class ShindenConfig {
+
+    /**
+     * The session manager used to manage authentication sessions.
+     * <p>
+     * Defaults to a new {@link InMemorySessionManager}.
+     * </p>
+     */
+    @Builder.Default
+    private final SessionManager sessionManager = new InMemorySessionManager();
+
+    /**
+     * The locale used for translations.
+     * <p>
+     * Defaults to the system's default locale.
+     * </p>
+     */
+    @Builder.Default
+    private final Locale locale = Locale.getDefault();
+
+    /**
+     * The OpenTelemetry instance used to report tracing spans.
+     * <p>
+     * When not provided, tracing is disabled and no spans are created.
+     * </p>
+     */
+    private final OpenTelemetry openTelemetry;
+
+    /**
+     * The decorator applied to the HTTP transports of the Jsoup and REST clients.
+     * <p>
+     * When not provided, requests are sent over the network. A {@link RecordingTransport} captures the
+     * exchanges into a {@link TransportArchive}, and a {@link ReplayTransport} serves them back without
+     * network access.
+     * </p>
+     */
+    private final HttpTransportDecorator transport;
+
+    /**
+     * The Jackson module registered on the object mapper decoding the JSON responses.
+     * <p>
+     * When not provided, the responses are decoded with the default reflective accessors. A bytecode
+     * generating module, such as {@code BlackbirdModule} from {@code jackson-module-blackbird} on Java 11
+     * and later, speeds up the decoding of large responses like anime lists.
+     * </p>
+     */
+    private final Module jacksonModule;
+}
@@ -1,10 +1,14 @@
 package com.github.kosmateus.shinden;
 
+import com.fasterxml.jackson.databind.Module;
 import com.github.kosmateus.shinden.anime.AnimeModule;
 import com.github.kosmateus.shinden.auth.SessionManager;
+import com.github.kosmateus.shinden.http.transport.HttpTransportDecorator;
 import com.github.kosmateus.shinden.login.LoginModule;
+import com.github.kosmateus.shinden.tracing.ShindenTracing;
 import com.github.kosmateus.shinden.user.UserModule;
 import com.google.inject.AbstractModule;
+import com.google.inject.multibindings.OptionalBinder;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -21,16 +25,32 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 class ShindenModule extends AbstractModule {
 
-    private final SessionManager sessionManager;
+    private final ShindenConfig config;
 
     /**
      * Configures the bindings for the Shinden API.
      *
      * <p>This method installs the {@link LoginModule}, {@link UserModule}, and {@link AnimeModule},
-     * which handle the setup of dependencies related to login, user, and anime functionalities.</p>
+     * which handle the setup of dependencies related to login, user, and anime functionalities,
+     * and binds the {@link ShindenTracing}, the {@link HttpTransportDecorator} and the Jackson {@link Module}
+     * derived from the configuration.</p>
      */
     @Override
     protected void configure() {
+        SessionManager sessionManager = config.getSessionManager();
+        bind(ShindenTracing.class).toInstance(config.getOpenTelemetry() != null
+                ? ShindenTracing.of(config.getOpenTelemetry())
+                : ShindenTracing.noop());
+        if (config.getTransport() != null) {
+            OptionalBinder.newOptionalBinder(binder(), HttpTransportDecorator.class)
+                    .setBinding()
+                    .toInstance(config.getTransport());
+        }
+        if (config.getJacksonModule() != null) {
+            OptionalBinder.newOptionalBinder(binder(), Module.class)
+                    .setBinding()
+                    .toInstance(config.getJacksonModule());
+        }
         install(new LoginModule(sessionManager));
         install(new UserModule(sessionManager));
         install(new AnimeModule(sessionManager));
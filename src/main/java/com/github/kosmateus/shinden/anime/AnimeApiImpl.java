@@ -8,13 +8,14 @@ import com.github.kosmateus.shinden.common.request.FixedPageable;
 import com.github.kosmateus.shinden.common.request.Sort;
 import com.github.kosmateus.shinden.common.response.Page;
 import com.github.kosmateus.shinden.http.response.ResponseHandler;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
+import com.github.kosmateus.shinden.tracing.ShindenTracing;
 import com.google.inject.Inject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
 
 import static com.github.kosmateus.shinden.utils.response.ResponseHandlerValidator.validateResponse;
 
@@ -29,11 +30,9 @@ import static com.github.kosmateus.shinden.utils.response.ResponseHandlerValidat
 @Slf4j
 @RequiredArgsConstructor(onConstructor_ = @__(@Inject))
 public class AnimeApiImpl implements AnimeApi {
-    private static final String LAST_PAGE_REGEX = "<li>[^>]*>(\\d+)<[^<]*<\\/li>\\s*<li\\s+class=[\"']pagination-next[\"'][^>]*>(?:[\\s\\S]*?)<\\/li>\\s*<li\\s+class=[\"']pagination-next[\"'][^>]*>(?:[\\s\\S]*?)<\\/li>\\s*<\\/ul>(?![\\s\\S]*?<li>)";
-    private static final Pattern LAST_PAGE_PATTERN = Pattern.compile(LAST_PAGE_REGEX);
-
     private final AnimeHttpClient httpClient;
     private final AnimeSearchMapper searchMapper;
+    private final ShindenTracing tracing;
 
     /**
      * Searches for anime titles based on the specified request and pagination details.
@@ -44,10 +43,12 @@ public class AnimeApiImpl implements AnimeApi {
      */
     @Override
     public Page<AnimeSearchResult> searchAnime(AnimeSearchRequest request, FixedPageable<SortType> pageable) {
-        ResponseHandler<String> requestedPage = httpClient.searchAnime(request.toQueryParams(), pageable);
+        ResponseHandler<TransportResponse> requestedPage = httpClient.searchAnime(request.toQueryParams(), pageable);
         validateResponse(requestedPage);
-        String page = requestedPage.getEntity();
-        return searchMapper.map(page, getLastPageData(request, pageable, page), pageable);
+        Pair<List<AnimeSearchResult>, Integer> results = tracing.inMapperSpan(searchMapper.getCode(),
+                () -> searchMapper.mapPage(requestedPage.getEntity().getBodyReader()));
+        Pair<Integer, Integer> lastPageData = getLastPageData(request, pageable, results);
+        return searchMapper.map(results.getLeft(), lastPageData, pageable);
     }
 
     /**
@@ -66,21 +67,23 @@ public class AnimeApiImpl implements AnimeApi {
      *
      * @param request  the {@link AnimeSearchRequest} containing the search criteria
      * @param pageable the {@link FixedPageable} object containing pagination details
-     * @param page     the current page content as a string
-     * @return a {@link Pair} containing the last page number and its content
+     * @param results  the results of the requested page together with the last page number read from it
+     * @return a {@link Pair} containing the last page number and the number of results on it, or {@code null}
+     * if the requested page links to no further pages
      */
-    private Pair<Integer, String> getLastPageData(AnimeSearchRequest request, FixedPageable<SortType> pageable, String page) {
-        Matcher matcher = LAST_PAGE_PATTERN.matcher(page);
-        if (matcher.find()) {
-            int pageNumber = Integer.parseInt(matcher.group(1));
-            if (pageNumber == pageable.getPageNumber()) {
-                return Pair.of(pageNumber, page);
-            }
-            FixedPageable<SortType> lastPagePageable = FixedPageable.of(pageNumber, pageable.getSort().orElse(Sort.unsorted()));
-            ResponseHandler<String> lastPage = httpClient.searchAnime(request.toQueryParams(), lastPagePageable);
-            validateResponse(lastPage);
-            return Pair.of(pageNumber, lastPage.getEntity());
+    private Pair<Integer, Integer> getLastPageData(AnimeSearchRequest request, FixedPageable<SortType> pageable,
+                                                   Pair<List<AnimeSearchResult>, Integer> results) {
+        Integer pageNumber = results.getRight();
+        if (pageNumber == null) {
+            return null;
+        }
+        if (pageNumber == pageable.getPageNumber()) {
+            return Pair.of(pageNumber, results.getLeft().size());
         }
-        return null;
+        FixedPageable<SortType> lastPagePageable = FixedPageable.of(pageNumber, pageable.getSort().orElse(Sort.unsorted()));
+        ResponseHandler<TransportResponse> lastPage = httpClient.searchAnime(request.toQueryParams(), lastPagePageable);
+        validateResponse(lastPage);
+        return Pair.of(pageNumber, tracing.inMapperSpan(searchMapper.getCode(),
+                () -> searchMapper.countResults(lastPage.getEntity().getBodyReader())));
     }
 }
@@ -7,6 +7,7 @@ import com.github.kosmateus.shinden.http.request.HttpRequest;
 import com.github.kosmateus.shinden.http.request.HttpRequest.KeyValue;
 import com.github.kosmateus.shinden.http.response.ResponseHandler;
 import com.github.kosmateus.shinden.http.rest.HttpClient;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
 import com.google.inject.Inject;
 import lombok.RequiredArgsConstructor;
 
@@ -32,9 +33,9 @@ class AnimeHttpClient {
      *
      * @param params   the list of {@link KeyValue} query parameters representing the search criteria
      * @param pageable the {@link FixedPageable} object containing pagination details, such as page number and sort type
-     * @return a {@link ResponseHandler} containing the HTTP response as a string
+     * @return a {@link ResponseHandler} containing the raw HTTP response, with the page kept as bytes
      */
-    ResponseHandler<String> searchAnime(List<KeyValue> params, FixedPageable<SortType> pageable) {
+    ResponseHandler<TransportResponse> searchAnime(List<KeyValue> params, FixedPageable<SortType> pageable) {
         List<KeyValue> queryParams = new ArrayList<>(params);
         if (pageable != null) {
             queryParams.add(KeyValue.of("page", String.valueOf(pageable.getPageNumber())));
@@ -45,10 +46,10 @@ class AnimeHttpClient {
                 });
             }
         }
-        return httpClient.get(HttpRequest.builder()
+        return httpClient.fetch(HttpRequest.builder()
                 .target(SHINDEN_URL)
                 .path("/series")
                 .queryParams(queryParams)
-                .build(), String.class);
+                .build());
     }
 }
@@ -3,6 +3,8 @@ package com.github.kosmateus.shinden.anime;
 import com.github.kosmateus.shinden.anime.mapper.AnimeSearchMapper;
 import com.github.kosmateus.shinden.auth.SessionManager;
 import com.github.kosmateus.shinden.http.HttpModule;
+import com.github.kosmateus.shinden.tracing.ShindenTracing;
+import com.github.kosmateus.shinden.tracing.TracingInvocationHandler;
 import com.github.kosmateus.shinden.utils.ValidationInvocationHandler;
 import com.google.inject.AbstractModule;
 import com.google.inject.Inject;
@@ -42,16 +44,19 @@ public class AnimeModule extends AbstractModule {
     }
 
     /**
-     * Provider for {@link AnimeApi} that uses a validation invocation handler to create a proxy for {@link AnimeApiImpl}.
+     * Provider for {@link AnimeApi} that uses a validation invocation handler to create a proxy for {@link AnimeApiImpl},
+     * wrapped in a tracing proxy when tracing is enabled.
      */
     @RequiredArgsConstructor(onConstructor_ = @__(@Inject))
     static class AnimeApiProvider implements Provider<AnimeApi> {
 
         private final AnimeApiImpl animeApiImpl;
+        private final ShindenTracing tracing;
 
         @Override
         public AnimeApi get() {
-            return ValidationInvocationHandler.createProxy(animeApiImpl, AnimeApi.class);
+            AnimeApi validated = ValidationInvocationHandler.createProxy(animeApiImpl, AnimeApi.class);
+            return TracingInvocationHandler.createProxy(validated, AnimeApi.class, tracing);
         }
     }
 }
@@ -10,16 +10,21 @@ import com.github.kosmateus.shinden.common.enums.tag.Genre;
 import com.github.kosmateus.shinden.common.request.FixedPageable;
 import com.github.kosmateus.shinden.common.response.Page;
 import com.github.kosmateus.shinden.common.response.PageImpl;
+import com.github.kosmateus.shinden.utils.PatternMatcher;
 import com.github.kosmateus.shinden.utils.jsoup.BaseDocumentMapper;
+import com.github.kosmateus.shinden.utils.jsoup.DocumentMapperEngine;
 import com.google.common.collect.ImmutableMap;
 import org.apache.commons.lang3.tuple.Pair;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Element;
 
+import java.io.Reader;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.github.kosmateus.shinden.constants.ShindenConstants.MEDIA_ID_MATCHER;
 import static com.github.kosmateus.shinden.constants.ShindenConstants.MEDIA_URL_TYPE_MATCHER;
@@ -29,15 +34,14 @@ public class AnimeSearchMapper extends BaseDocumentMapper {
     public static final String LI_RATING_COL = "li.ratings-col";
     public static final String LI_RATE_TOP = "li.rate-top";
     public static final String ANIME_SEARCH_RESULT_ROW = "section.anime-list > section > article > ul.div-row";
+    public static final String LAST_PAGE_CANDIDATES = "ul.pagination:has(> li.pagination-next) > li:not([class])";
+    private static final PatternMatcher PAGE_NUMBER_MATCHER = PatternMatcher.nullableMatch("^\\d+$", 0);
 
-    public Page<AnimeSearchResult> map(String requestedPage, Pair<Integer, String> lastPageData, FixedPageable<SortType> pageable) {
-        List<AnimeSearchResult> animeSearchResults = mapper.with(Jsoup.parse(requestedPage))
-                .select(ANIME_SEARCH_RESULT_ROW)
-                .mapTo(this::mapAnime)
-                .orElse(Collections.emptyList());
+    public Page<AnimeSearchResult> map(List<AnimeSearchResult> animeSearchResults, Pair<Integer, Integer> lastPageData,
+                                       FixedPageable<SortType> pageable) {
         if (lastPageData != null) {
             Integer lastPage = lastPageData.getLeft();
-            Integer items = countItemsOnLastPage(lastPageData.getRight());
+            Integer items = lastPageData.getRight();
 
             return new PageImpl<>(animeSearchResults, pageable, (long) (lastPage - 1) * pageable.getPageSize() + items);
         }
@@ -52,6 +56,61 @@ public class AnimeSearchMapper extends BaseDocumentMapper {
         return new PageImpl<>(animeSearchResults, pageable, (long) (pageNumber - 1) * pageSize + animeSearchResults.size());
     }
 
+    /**
+     * Maps the rows of an anime search results page and reads the number of the last page from its pagination.
+     * <p>
+     * The rows are mapped while the page is being parsed, see {@link #stream(Reader)}; the pagination is read
+     * from the rest of the page afterwards.
+     * </p>
+     *
+     * @param page the reader supplying the search results page
+     * @return a {@link Pair} of the search results and the number of the last page, or {@code null} as the number
+     * if the page links to no further pages
+     */
+    public Pair<List<AnimeSearchResult>, Integer> mapPage(Reader page) {
+        try (DocumentMapperEngine.StreamStep document = mapper.stream(page, "")) {
+            List<AnimeSearchResult> animeSearchResults = document.select(ANIME_SEARCH_RESULT_ROW)
+                    .mapTo(this::mapAnime)
+                    .collect(Collectors.toList());
+            List<Integer> pages = document.complete()
+                    .select(LAST_PAGE_CANDIDATES)
+                    .mapTo(item -> mapper.with(item).text().pattern(PAGE_NUMBER_MATCHER).toInteger().orElse(null))
+                    .orElse(Collections.emptyList());
+            Integer lastPage = pages.stream().filter(Objects::nonNull).reduce((first, second) -> second).orElse(null);
+            return Pair.of(animeSearchResults, lastPage);
+        }
+    }
+
+    /**
+     * Counts the rows of an anime search results page without mapping them.
+     *
+     * @param page the reader supplying the search results page
+     * @return the number of search results on the page
+     */
+    public int countResults(Reader page) {
+        try (Stream<Element> rows = mapper.stream(page, "")
+                .select(ANIME_SEARCH_RESULT_ROW)
+                .mapTo(Function.identity())) {
+            return (int) rows.count();
+        }
+    }
+
+    /**
+     * Maps the rows of an anime search results page while the page is being parsed.
+     * <p>
+     * Every row is mapped as soon as the parser closes it and is dropped from the document afterwards, so only
+     * one row is held in memory at a time. The stream should be closed once consumed.
+     * </p>
+     *
+     * @param page the reader supplying the search results page
+     * @return a lazily evaluated {@link Stream} of the search results, in page order
+     */
+    public Stream<AnimeSearchResult> stream(Reader page) {
+        return mapper.stream(page, "")
+                .select(ANIME_SEARCH_RESULT_ROW)
+                .mapTo(this::mapAnime);
+    }
+
     @Override
     protected String getMapperCode() {
         return "anime.search";
@@ -95,8 +154,4 @@ public class AnimeSearchMapper extends BaseDocumentMapper {
     private Genre map(Element element) {
         return mapper.with(element).attr("href").pattern(MEDIA_ID_MATCHER).mapTo(Genre.class).orThrowWithCode("genre");
     }
-
-    private Integer countItemsOnLastPage(String lastPage) {
-        return Jsoup.parse(lastPage).select(ANIME_SEARCH_RESULT_ROW).size();
-    }
 }
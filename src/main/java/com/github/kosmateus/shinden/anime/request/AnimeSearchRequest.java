@@ -8,15 +8,20 @@ import com.github.kosmateus.shinden.common.enums.tag.Tag;
 import com.github.kosmateus.shinden.common.request.Sort.Order;
 import com.github.kosmateus.shinden.http.request.HttpRequest.KeyValue;
 import com.github.kosmateus.shinden.http.request.SortParam;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -33,6 +38,9 @@ import static com.github.kosmateus.shinden.common.request.Sort.Direction.DESC;
  * <p>The {@code AnimeSearchRequest} class encapsulates various parameters and filters used for querying anime titles.
  * It includes methods for converting the request into query parameters suitable for use in HTTP requests.</p>
  *
+ * <p>Requests are immutable: the builder copies the sets of values it is given into unmodifiable sets, so changes
+ * to the caller's sets do not affect the built requests and their cached query parameters.</p>
+ *
  * @version 1.0.0
  */
 @Getter
@@ -42,6 +50,11 @@ public class AnimeSearchRequest {
     public static final AnimeSearchRequest EMPTY = AnimeSearchRequest.builder().build();
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(Tag::getTagType).thenComparing(Tag::getQueryValue);
+    private static final List<KeyValue> DEFAULT_TITLE_TYPES = defaultQueryParams(TitleType.ANIME_SEARCH_QUERY_PARAM, TitleType.values());
+    private static final List<KeyValue> DEFAULT_TITLE_STATUSES = defaultQueryParams(TitleStatus.ANIME_SEARCH_QUERY_PARAM, TitleStatus.values());
+    private static final List<KeyValue> DEFAULT_EPISODES_NUMBERS = defaultQueryParams(EpisodesNumber.ANIME_SEARCH_QUERY_PARAM, EpisodesNumber.values());
+    private static final List<KeyValue> DEFAULT_EPISODE_LENGTHS = defaultQueryParams(EpisodeLength.ANIME_SEARCH_QUERY_PARAM, EpisodeLength.values());
 
     /**
      * The starting letter for filtering anime titles.
@@ -205,16 +218,41 @@ public class AnimeSearchRequest {
      */
     private final boolean withoutCompletedTitlesOnMyList;
 
+    /**
+     * The query parameters of the request, encoded on first use.
+     */
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final List<KeyValue> queryParams = encodeQueryParams();
+
+    /**
+     * The canonical, percent-encoded query string of the request, e.g. {@code search=naruto&series_type%5B%5D=TV}.
+     * <p>
+     * Requests with the same criteria have the same canonical query, regardless of the order in which the values
+     * of their set-valued filters were added, which makes it suitable as a cache key for search results.
+     * The query does not include the page and sort parameters.
+     * </p>
+     */
+    @Getter(lazy = true)
+    private final String canonicalQuery = encodeCanonicalQuery();
+
     public static AnimeSearchRequestBuilder search(String search) {
         return AnimeSearchRequest.builder().search(search);
     }
 
     /**
      * Converts the {@code AnimeSearchRequest} into a list of query parameters for HTTP requests.
+     * <p>
+     * The parameters are encoded once per request and cached. The values of the set-valued filters are
+     * encoded in a stable order, independent of the order in which they were added.
+     * </p>
      *
-     * @return a list of {@link KeyValue} representing the query parameters
+     * @return an unmodifiable list of {@link KeyValue} representing the query parameters
      */
     public List<KeyValue> toQueryParams() {
+        return getQueryParams();
+    }
+
+    private List<KeyValue> encodeQueryParams() {
         List<KeyValue> queryParams = new ArrayList<>(Arrays.asList(
                 Objects.nonNull(letter) ? KeyValue.of(letter.getQueryParameter(), letter.getQueryValue()) : null,
                 Objects.nonNull(search) ? KeyValue.of("search", search) : null,
@@ -224,36 +262,20 @@ public class AnimeSearchRequest {
                 Objects.nonNull(startDate) ? KeyValue.of("year_from", startDate.format(DATE_FORMATTER)) : null,
                 Objects.nonNull(endDate) ? KeyValue.of("year_to", endDate.format(DATE_FORMATTER)) : null,
                 getDatePrecisionQueryParam()));
-        queryParams.addAll(getTitleTypesQueryParam());
-        queryParams.addAll(getTitleStatusesQueryParam());
+        queryParams.addAll(getFilterQueryParams(titleTypes, DEFAULT_TITLE_TYPES));
+        queryParams.addAll(getFilterQueryParams(titleStatuses, DEFAULT_TITLE_STATUSES));
         queryParams.addAll(getEpisodesNumbersQueryParam());
-        queryParams.addAll(getEpisodeLengthsQueryParam());
+        queryParams.addAll(getFilterQueryParams(episodeLengths, DEFAULT_EPISODE_LENGTHS));
         queryParams.add(atLeastOneEpisodeOnline ? KeyValue.of("one_online", "true") : null);
         queryParams.add(withoutTitlesOnMyList ? KeyValue.of("not_on_list", "true") : null);
         queryParams.add(withoutCompletedTitlesOnMyList ? KeyValue.of("not_saw", "true") : null);
-        return queryParams.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        return Collections.unmodifiableList(queryParams.stream().filter(Objects::nonNull).collect(Collectors.toList()));
     }
 
-    private List<KeyValue> getTitleTypesQueryParam() {
-        if (titleTypes == null || titleTypes.isEmpty()) {
-            return Stream.of(TitleType.values())
-                    .map(value -> KeyValue.of(TitleType.ANIME_SEARCH_QUERY_PARAM, value.getQueryValue()))
-                    .collect(Collectors.toList());
-        }
-        return titleTypes.stream()
-                .map(value -> KeyValue.of(value.getAnimeSearchQueryParameter(), value.getQueryValue()))
-                .collect(Collectors.toList());
-    }
-
-    private List<KeyValue> getTitleStatusesQueryParam() {
-        if (titleStatuses == null || titleStatuses.isEmpty()) {
-            return Stream.of(TitleStatus.values())
-                    .map(value -> KeyValue.of(TitleStatus.ANIME_SEARCH_QUERY_PARAM, value.getQueryValue()))
-                    .collect(Collectors.toList());
-        }
-        return titleStatuses.stream()
-                .map(value -> KeyValue.of(value.getAnimeSearchQueryParameter(), value.getQueryValue()))
-                .collect(Collectors.toList());
+    private String encodeCanonicalQuery() {
+        return getQueryParams().stream()
+                .map(param -> encode(param.getKey()) + "=" + encode(param.getValue()))
+                .collect(Collectors.joining("&"));
     }
 
     private List<KeyValue> getEpisodesNumbersQueryParam() {
@@ -264,26 +286,31 @@ public class AnimeSearchRequest {
         } else if (episodesNumberTo != null) {
             return Collections.singletonList(KeyValue.of(EpisodesNumber.ANIME_SEARCH_QUERY_PARAM, "less_" + episodesNumberTo));
         }
+        return getFilterQueryParams(episodesNumbers, DEFAULT_EPISODES_NUMBERS);
+    }
 
-        if (episodesNumbers == null || episodesNumbers.isEmpty()) {
-            return Stream.of(EpisodesNumber.values())
-                    .map(value -> KeyValue.of(EpisodesNumber.ANIME_SEARCH_QUERY_PARAM, value.getQueryValue()))
-                    .collect(Collectors.toList());
+    private static <E extends Enum<E> & AnimeSearchQueryParam> List<KeyValue> getFilterQueryParams(Set<E> values, List<KeyValue> defaults) {
+        if (values == null || values.isEmpty()) {
+            return defaults;
         }
-        return episodesNumbers.stream()
+        return values.stream()
+                .sorted()
                 .map(value -> KeyValue.of(value.getAnimeSearchQueryParameter(), value.getQueryValue()))
                 .collect(Collectors.toList());
     }
 
-    private List<KeyValue> getEpisodeLengthsQueryParam() {
-        if (episodeLengths == null || episodeLengths.isEmpty()) {
-            return Stream.of(EpisodeLength.values())
-                    .map(value -> KeyValue.of(EpisodeLength.ANIME_SEARCH_QUERY_PARAM, value.getQueryValue()))
-                    .collect(Collectors.toList());
+    private static List<KeyValue> defaultQueryParams(String queryParameter, AnimeSearchQueryParam[] values) {
+        return Collections.unmodifiableList(Stream.of(values)
+                .map(value -> KeyValue.of(queryParameter, value.getQueryValue()))
+                .collect(Collectors.toList()));
+    }
+
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
         }
-        return episodeLengths.stream()
-                .map(value -> KeyValue.of(value.getAnimeSearchQueryParameter(), value.getQueryValue()))
-                .collect(Collectors.toList());
     }
 
     private KeyValue getDatePrecisionQueryParam() {
@@ -299,11 +326,11 @@ public class AnimeSearchRequest {
         if ((includedTags == null || includedTags.isEmpty()) && (excludedTags == null || excludedTags.isEmpty())) {
             return null;
         } else if (includedTags != null && !includedTags.isEmpty() && excludedTags == null) {
-            return KeyValue.of("genres", includedTags.stream().map(tag -> "i" + tag.getQueryValue()).collect(Collectors.joining(";")));
+            return KeyValue.of("genres", includedTags.stream().sorted(TAG_ORDER).map(tag -> "i" + tag.getQueryValue()).collect(Collectors.joining(";")));
         } else if (includedTags == null) {
-            return KeyValue.of("genres", excludedTags.stream().map(tag -> "e" + tag.getQueryValue()).collect(Collectors.joining(";")));
+            return KeyValue.of("genres", excludedTags.stream().sorted(TAG_ORDER).map(tag -> "e" + tag.getQueryValue()).collect(Collectors.joining(";")));
         } else {
-            return KeyValue.of("genres", includedTags.stream().map(tag -> "i" + tag.getQueryValue()).collect(Collectors.joining(";")) + ";" + excludedTags.stream().map(tag -> "e" + tag.getQueryValue()).collect(Collectors.joining(";")));
+            return KeyValue.of("genres", includedTags.stream().sorted(TAG_ORDER).map(tag -> "i" + tag.getQueryValue()).collect(Collectors.joining(";")) + ";" + excludedTags.stream().sorted(TAG_ORDER).map(tag -> "e" + tag.getQueryValue()).collect(Collectors.joining(";")));
         }
     }
 
@@ -424,59 +451,71 @@ public class AnimeSearchRequest {
 
     public static class AnimeSearchRequestBuilder {
 
+        public AnimeSearchRequestBuilder excludedTags(Set<Tag> excludedTags) {
+            this.excludedTags = copyOf(excludedTags);
+            return this;
+        }
+
+        public AnimeSearchRequestBuilder includedTags(Set<Tag> includedTags) {
+            this.includedTags = copyOf(includedTags);
+            return this;
+        }
+
+        public AnimeSearchRequestBuilder titleTypes(Set<TitleType> titleTypes) {
+            this.titleTypes = copyOf(titleTypes);
+            return this;
+        }
+
+        public AnimeSearchRequestBuilder titleStatuses(Set<TitleStatus> titleStatuses) {
+            this.titleStatuses = copyOf(titleStatuses);
+            return this;
+        }
+
+        public AnimeSearchRequestBuilder episodesNumbers(Set<EpisodesNumber> episodesNumbers) {
+            this.episodesNumbers = copyOf(episodesNumbers);
+            return this;
+        }
+
+        public AnimeSearchRequestBuilder episodeLengths(Set<EpisodeLength> episodeLengths) {
+            this.episodeLengths = copyOf(episodeLengths);
+            return this;
+        }
+
         public AnimeSearchRequestBuilder addExcludedTag(Tag tag) {
-            if (this.excludedTags == null) {
-                this.excludedTags = new HashSet<>();
-            }
-            this.excludedTags.add(tag);
+            this.excludedTags = with(this.excludedTags, tag);
             return this;
         }
 
         public AnimeSearchRequestBuilder addIncludedTag(Tag tag) {
-            if (this.includedTags == null) {
-                this.includedTags = new HashSet<>();
-            }
-            this.includedTags.add(tag);
+            this.includedTags = with(this.includedTags, tag);
             return this;
         }
 
         public AnimeSearchRequestBuilder addTitleType(TitleType titleType) {
-            if (this.titleTypes == null) {
-                this.titleTypes = new HashSet<>();
-            }
-            this.titleTypes.add(titleType);
+            this.titleTypes = with(this.titleTypes, titleType);
             return this;
         }
 
         public AnimeSearchRequestBuilder addTitleStatus(TitleStatus titleStatus) {
-            if (this.titleStatuses == null) {
-                this.titleStatuses = new HashSet<>();
-            }
-            this.titleStatuses.add(titleStatus);
+            this.titleStatuses = with(this.titleStatuses, titleStatus);
             return this;
         }
 
         public AnimeSearchRequestBuilder addEpisodesNumber(EpisodesNumber episodesNumber) {
-            if (this.episodesNumbers == null) {
-                this.episodesNumbers = new HashSet<>();
-            }
-            this.episodesNumbers.add(episodesNumber);
+            this.episodesNumbers = with(this.episodesNumbers, episodesNumber);
             this.episodesNumberFrom = null;
             this.episodesNumberTo = null;
             return this;
         }
 
         public AnimeSearchRequestBuilder addEpisodeLength(EpisodeLength episodeLength) {
-            if (this.episodeLengths == null) {
-                this.episodeLengths = new HashSet<>();
-            }
-            this.episodeLengths.add(episodeLength);
+            this.episodeLengths = with(this.episodeLengths, episodeLength);
             return this;
         }
 
         public AnimeSearchRequestBuilder episodesNumberFrom(Integer episodesNumberFrom) {
             if (episodesNumberFrom != null) {
-                this.episodesNumbers.clear();
+                this.episodesNumbers = null;
             }
             this.episodesNumberFrom = episodesNumberFrom;
             return this;
@@ -484,10 +523,27 @@ public class AnimeSearchRequest {
 
         public AnimeSearchRequestBuilder episodesNumberTo(Integer episodesNumberTo) {
             if (episodesNumberTo != null) {
-                this.episodesNumbers.clear();
+                this.episodesNumbers = null;
             }
             this.episodesNumberTo = episodesNumberTo;
             return this;
         }
+
+        /**
+         * Returns an unmodifiable copy of the set with the value added, so that the sets of the requests built
+         * before are left unchanged.
+         */
+        private static <T> Set<T> with(Set<T> values, T value) {
+            Set<T> copy = values == null ? new HashSet<>() : new HashSet<>(values);
+            copy.add(value);
+            return Collections.unmodifiableSet(copy);
+        }
+
+        /**
+         * Returns an unmodifiable copy of the set given by the caller, or {@code null} if no set was given.
+         */
+        private static <T> Set<T> copyOf(Set<T> values) {
+            return values == null ? null : Collections.unmodifiableSet(new HashSet<>(values));
+        }
     }
 }
@@ -0,0 +1,28 @@
+package com.github.kosmateus.shinden.auth;
+
+import java.util.Optional;
+
+/**
+ * Service logging in an account and returning its authenticated session.
+ * <p>
+ * Unlike {@link com.github.kosmateus.shinden.login.LoginApi}, an {@code Authenticator} does not store the session
+ * in the {@link SessionManager}; the caller decides where the returned session is kept. It is used by
+ * {@link SessionPool} to log in, and log in again, each of its accounts. The API client binds an implementation
+ * performing the regular Shinden login, which is used unless the pool is given its own authenticator.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface Authenticator {
+
+    /**
+     * Logs in the account with the given credentials.
+     *
+     * @param username the username of the account.
+     * @param password the password of the account.
+     * @return the authenticated session, or an empty {@link Optional} if the login failed, e.g. because
+     * the credentials are invalid or the server could not be reached.
+     */
+    Optional<SessionSnapshot> authenticate(String username, String password);
+}
@@ -0,0 +1,232 @@
+package com.github.kosmateus.shinden.auth;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * {@link SessionManager} persisting the session in a file, so that it survives the restart of the application.
+ * <p>
+ * The {@code FileSessionManager} keeps the session in memory, like {@link InMemorySessionManager}, and writes the
+ * cookies, authentication token, user ID, username and remember-me flag to the file whenever the session changes.
+ * The session stored by a previous run is loaded when the manager is created, so that
+ * {@link com.github.kosmateus.shinden.login.LoginApi#resume} can reuse it instead of logging in again. The password
+ * is never written to the file.
+ * </p>
+ * <p>
+ * The file is replaced atomically: the session is written to a temporary file in the same directory, which is then
+ * renamed over the previous file, so a crash never leaves a partially written session behind. When an
+ * {@code encryptionKey} is given, the file is encrypted with AES-GCM and cannot be read or altered without the key.
+ * Otherwise the file is readable by its owner only, where the file system supports POSIX permissions.
+ * </p>
+ * <pre>{@code
+ * FileSessionManager sessionManager = FileSessionManager.builder()
+ *         .path(Paths.get("shinden.session"))
+ *         .encryptionKey(key)
+ *         .build();
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public class FileSessionManager extends InMemorySessionManager {
+
+    private static final byte[] ENCRYPTED_HEADER = "SHINDEN-SESSION-AES-GCM\n".getBytes(StandardCharsets.US_ASCII);
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+    private static final String COOKIE_PREFIX = "cookie.";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * The file the session is stored in.
+     */
+    @Getter
+    private final Path path;
+
+    private final SecretKey encryptionKey;
+
+    @Builder
+    private FileSessionManager(@NonNull Path path, SecretKey encryptionKey) {
+        this.path = path.toAbsolutePath();
+        this.encryptionKey = encryptionKey;
+        load();
+    }
+
+    @Override
+    public void updateSession(SessionSnapshot snapshot) {
+        super.updateSession(snapshot);
+        store();
+    }
+
+    @Override
+    public void setAuthToken(String authToken) {
+        super.setAuthToken(authToken);
+        store();
+    }
+
+    @Override
+    public void setCookies(Map<String, String> cookies) {
+        super.setCookies(cookies);
+        store();
+    }
+
+    @Override
+    public void setUserId(Long userId) {
+        super.setUserId(userId);
+        store();
+    }
+
+    /**
+     * Removes the stored session, both from memory and from the file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    public void clear() throws IOException {
+        super.updateSession(SessionSnapshot.EMPTY);
+        Files.deleteIfExists(path);
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        try {
+            Properties properties = new Properties();
+            properties.load(new InputStreamReader(new ByteArrayInputStream(decrypt(Files.readAllBytes(path))),
+                    StandardCharsets.UTF_8));
+            Map<String, String> cookies = new LinkedHashMap<>();
+            properties.stringPropertyNames().stream()
+                    .filter(name -> name.startsWith(COOKIE_PREFIX))
+                    .sorted()
+                    .forEach(name -> cookies.put(name.substring(COOKIE_PREFIX.length()), properties.getProperty(name)));
+            String userId = properties.getProperty("userId");
+            setUsername(properties.getProperty("username"));
+            setRememberMe(Boolean.parseBoolean(properties.getProperty("rememberMe")));
+            super.updateSession(SessionSnapshot.of(cookies, properties.getProperty("authToken"),
+                    userId != null ? Long.valueOf(userId) : null));
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            log.warn("Stored session {} cannot be read, starting with an empty session", path, e);
+        }
+    }
+
+    private synchronized void store() {
+        SessionSnapshot session = getSnapshot();
+        Properties properties = new Properties();
+        setIfPresent(properties, "username", getUsername());
+        properties.setProperty("rememberMe", String.valueOf(isRememberMe()));
+        setIfPresent(properties, "authToken", session.getAuthToken());
+        setIfPresent(properties, "userId", session.getUserId() != null ? String.valueOf(session.getUserId()) : null);
+        session.getCookies().forEach((name, value) -> properties.setProperty(COOKIE_PREFIX + name, value));
+
+        Path temporary = null;
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            try (Writer writer = new OutputStreamWriter(content, StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+            Path directory = path.getParent();
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            restrictToOwner(temporary);
+            Files.write(temporary, encrypt(content.toByteArray()));
+            move(temporary, path);
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("Session cannot be stored in {}", path, e);
+            deleteQuietly(temporary);
+        }
+    }
+
+    private static void setIfPresent(Properties properties, String key, String value) {
+        if (value != null) {
+            properties.setProperty(key, value);
+        }
+    }
+
+    private static void restrictToOwner(Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            log.debug("POSIX permissions are not supported for {}", file);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Temporary session file {} cannot be deleted", file, e);
+        }
+    }
+
+    private byte[] encrypt(byte[] content) throws GeneralSecurityException {
+        if (encryptionKey == null) {
+            return content;
+        }
+        byte[] iv = new byte[IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+        cipher.updateAAD(ENCRYPTED_HEADER);
+        byte[] encrypted = cipher.doFinal(content);
+
+        byte[] result = new byte[ENCRYPTED_HEADER.length + IV_LENGTH + encrypted.length];
+        System.arraycopy(ENCRYPTED_HEADER, 0, result, 0, ENCRYPTED_HEADER.length);
+        System.arraycopy(iv, 0, result, ENCRYPTED_HEADER.length, IV_LENGTH);
+        System.arraycopy(encrypted, 0, result, ENCRYPTED_HEADER.length + IV_LENGTH, encrypted.length);
+        return result;
+    }
+
+    private byte[] decrypt(byte[] content) throws GeneralSecurityException {
+        boolean encrypted = content.length >= ENCRYPTED_HEADER.length
+                && Arrays.equals(Arrays.copyOf(content, ENCRYPTED_HEADER.length), ENCRYPTED_HEADER);
+        if (encrypted != (encryptionKey != null)) {
+            throw new GeneralSecurityException(encrypted
+                    ? "The session file is encrypted, but no encryption key is configured"
+                    : "The session file is not encrypted, but an encryption key is configured");
+        }
+        if (!encrypted) {
+            return content;
+        }
+        int offset = ENCRYPTED_HEADER.length;
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.DECRYPT_MODE, encryptionKey,
+                new GCMParameterSpec(TAG_LENGTH_BITS, content, offset, IV_LENGTH));
+        cipher.updateAAD(ENCRYPTED_HEADER);
+        return cipher.doFinal(content, offset + IV_LENGTH, content.length - offset - IV_LENGTH);
+    }
+}
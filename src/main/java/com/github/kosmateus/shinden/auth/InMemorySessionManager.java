@@ -1,10 +1,11 @@
 package com.github.kosmateus.shinden.auth;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.lang3.StringUtils;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * In-memory implementation of the {@link SessionManager} interface.
@@ -13,6 +14,11 @@ import java.util.Map;
  * authentication token, and cookies, directly in memory. This is suitable for short-lived sessions or
  * scenarios where persistence is not required beyond the application runtime.
  * </p>
+ * <p>
+ * The cookies, authentication token and user ID are kept in a single {@link SessionSnapshot} published through
+ * an {@link AtomicReference}. Every change publishes a new snapshot, so concurrent requests read a consistent
+ * session without locking.
+ * </p>
  *
  * @version 1.0.0
  */
@@ -20,15 +26,56 @@ import java.util.Map;
 @Setter
 public class InMemorySessionManager implements SessionManager {
 
-    private String username;
-    private String password;
-    private String authToken;
-    private boolean rememberMe;
-    private Map<String, String> cookies;
-    private Long userId;
+    private volatile String username;
+    private volatile String password;
+    private volatile boolean rememberMe;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final AtomicReference<SessionSnapshot> session = new AtomicReference<>(SessionSnapshot.EMPTY);
+
+    @Override
+    public SessionSnapshot getSnapshot() {
+        return session.get();
+    }
+
+    @Override
+    public void updateSession(SessionSnapshot snapshot) {
+        session.set(snapshot);
+    }
+
+    @Override
+    public String getAuthToken() {
+        return session.get().getAuthToken();
+    }
+
+    @Override
+    public void setAuthToken(String authToken) {
+        session.updateAndGet(snapshot -> snapshot.withAuthToken(authToken));
+    }
+
+    @Override
+    public Map<String, String> getCookies() {
+        return session.get().getCookies();
+    }
+
+    @Override
+    public void setCookies(Map<String, String> cookies) {
+        session.updateAndGet(snapshot -> snapshot.withCookies(cookies));
+    }
+
+    @Override
+    public Long getUserId() {
+        return session.get().getUserId();
+    }
+
+    @Override
+    public void setUserId(Long userId) {
+        session.updateAndGet(snapshot -> snapshot.withUserId(userId));
+    }
 
     @Override
     public boolean isSuccessfullyAuthenticated() {
-        return StringUtils.isNotBlank(authToken);
+        return session.get().isAuthenticated();
     }
 }
@@ -0,0 +1,62 @@
+package com.github.kosmateus.shinden.auth;
+
+/**
+ * The use of a session by a single request.
+ * <p>
+ * A {@code SessionLease} is obtained from {@link SessionManager#lease()} before a request is sent, and closed once
+ * its response has been received. It provides the credentials the request is sent with and lets the request report
+ * that the server rejected them, so that the session manager can log in again.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+public interface SessionLease extends AutoCloseable {
+
+    /**
+     * Returns the credentials the request is sent with.
+     *
+     * @return the leased {@link SessionSnapshot}.
+     */
+    SessionSnapshot getSnapshot();
+
+    /**
+     * Reports that the server rejected the credentials of the lease.
+     * <p>
+     * The default implementation does nothing.
+     * </p>
+     */
+    default void invalidate() {
+    }
+
+    /**
+     * Returns the time the leased session was logged in, in milliseconds since the epoch.
+     * <p>
+     * The default implementation returns {@code 0}, meaning the time is not known.
+     * </p>
+     *
+     * @return the login time of the leased session, or {@code 0} if it is not known.
+     */
+    default long getAuthenticatedAtMillis() {
+        return 0;
+    }
+
+    /**
+     * Releases the lease once the response of the request has been received.
+     * <p>
+     * The default implementation does nothing.
+     * </p>
+     */
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Creates a lease of the given credentials that requires no release.
+     *
+     * @param snapshot the credentials the request is sent with.
+     * @return the session lease.
+     */
+    static SessionLease of(SessionSnapshot snapshot) {
+        return () -> snapshot;
+    }
+}
@@ -103,4 +103,73 @@ public interface SessionManager {
      * @param headers a {@link Map} of cookies, where the key is the cookie name and the value is the cookie value.
      */
     void setCookies(Map<String, String> headers);
+
+    /**
+     * Returns a consistent, immutable view of the cookies, authentication token and user ID of the session.
+     * <p>
+     * The default implementation assembles the snapshot from the individual getters on every call.
+     * Implementations shared by concurrent requests should keep the current snapshot and publish
+     * a new one on every change instead.
+     * </p>
+     *
+     * @return the current {@link SessionSnapshot}.
+     */
+    default SessionSnapshot getSnapshot() {
+        return SessionSnapshot.of(getCookies(), getAuthToken(), getUserId());
+    }
+
+    /**
+     * Leases the session for a single request.
+     * <p>
+     * The default implementation leases the current {@link #getSnapshot() snapshot}. Session managers holding
+     * more than one session, such as {@link SessionPool}, pick the session the request is sent with.
+     * </p>
+     *
+     * @return the {@link SessionLease}, to be closed once the response has been received.
+     */
+    default SessionLease lease() {
+        return SessionLease.of(getSnapshot());
+    }
+
+    /**
+     * Indicates whether the session manager replaces rejected sessions itself.
+     * <p>
+     * A session manager returning {@code true} logs in again when a lease is {@link SessionLease#invalidate()
+     * invalidated}. Otherwise the rejected session is replaced by logging in again with the stored credentials.
+     * The default implementation returns {@code false}.
+     * </p>
+     *
+     * @return {@code true} if rejected sessions are renewed by the session manager; {@code false} otherwise.
+     */
+    default boolean renewsRejectedSessions() {
+        return false;
+    }
+
+    /**
+     * Indicates whether the session manager stores the credentials and session of a single logged in user.
+     * <p>
+     * A session manager returning {@code false}, such as {@link SessionPool}, logs in its sessions itself and
+     * cannot be used to log in through {@code LoginApi}. The default implementation returns {@code true}.
+     * </p>
+     *
+     * @return {@code true} if a login may store its credentials and session; {@code false} otherwise.
+     */
+    default boolean acceptsCredentials() {
+        return true;
+    }
+
+    /**
+     * Replaces the cookies, authentication token and user ID of the session with those of the given snapshot.
+     * <p>
+     * The default implementation calls the individual setters. Implementations shared by concurrent requests
+     * should publish the snapshot atomically instead, so that no request observes a partially updated session.
+     * </p>
+     *
+     * @param snapshot the new state of the session.
+     */
+    default void updateSession(SessionSnapshot snapshot) {
+        setCookies(snapshot.getCookies());
+        setAuthToken(snapshot.getAuthToken());
+        setUserId(snapshot.getUserId());
+    }
 }
@@ -0,0 +1,434 @@
+package com.github.kosmateus.shinden.auth;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link SessionManager} spreading the requests over the sessions of several accounts.
+ * <p>
+ * The {@code SessionPool} holds one session per configured {@link Account}. Every request leases one of the
+ * authenticated sessions, picked according to the {@link Selection} strategy, and is sent with the cookies of that
+ * session. Each session has its own cookies and its own rate budget: when {@code requestsPerSecond} is set, requests
+ * leasing a session wait until its budget allows them to be sent, while the other sessions are unaffected.
+ * </p>
+ * <p>
+ * Sessions are logged in by an {@link Authenticator}. Unless one is given to the builder, the pool uses the regular
+ * Shinden login bound by {@link com.github.kosmateus.shinden.ShindenApi}, so the accounts are logged in with
+ * {@link #loginAll()} once the API client has been created:
+ * </p>
+ * <pre>{@code
+ * SessionPool pool = SessionPool.builder()
+ *         .account("first", "password")
+ *         .account("second", "password")
+ *         .selection(SessionPool.Selection.LEAST_LOADED)
+ *         .requestsPerSecond(2.0)
+ *         .build();
+ * ShindenApi api = ShindenApi.create(pool);
+ * pool.loginAll();
+ * }</pre>
+ * <p>
+ * When the server rejects the credentials of a session, the session is taken out of rotation and logged in again
+ * in the background, while the requests go on with the remaining sessions. A {@code 403} received within a minute
+ * of the login of a session is taken as a page the account may not see rather than a rejection, so the session
+ * stays in rotation. A failed login is retried after
+ * {@code retryDelay}. While no session is authenticated, requests are sent with the cookies of an unauthenticated
+ * session, so that public pages can still be fetched.
+ * </p>
+ * <p>
+ * The sessions of the pool are managed by the pool only: the setters of {@link SessionManager} and
+ * {@link #updateSession(SessionSnapshot)} are not supported, so {@link com.github.kosmateus.shinden.login.LoginApi}
+ * cannot be used with a pool. The getters describe the first authenticated session.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public final class SessionPool implements SessionManager {
+
+    private static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final PooledSession[] sessions;
+    private final Selection selection;
+    private final long retryDelayNanos;
+    private final ExecutorService loginExecutor;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile Authenticator authenticator;
+
+    @Builder
+    private SessionPool(List<Account> accounts, Selection selection, Double requestsPerSecond,
+                        Authenticator authenticator, Duration retryDelay) {
+        if (accounts == null || accounts.isEmpty()) {
+            throw new IllegalArgumentException("A session pool requires at least one account");
+        }
+        this.sessions = accounts.stream()
+                .map(account -> new PooledSession(account,
+                        requestsPerSecond != null ? RateLimiter.create(requestsPerSecond) : null))
+                .toArray(PooledSession[]::new);
+        this.selection = selection != null ? selection : Selection.ROUND_ROBIN;
+        this.retryDelayNanos = (retryDelay != null ? retryDelay : DEFAULT_RETRY_DELAY).toNanos();
+        this.authenticator = authenticator;
+        this.loginExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("shinden-session-login-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Sets the authenticator bound by the API client, unless the pool was built with its own.
+     *
+     * @param authenticator the default authenticator
+     */
+    @Inject(optional = true)
+    void setDefaultAuthenticator(Authenticator authenticator) {
+        if (this.authenticator == null) {
+            this.authenticator = authenticator;
+        }
+    }
+
+    /**
+     * Logs in all sessions of the pool that are not authenticated, concurrently, and waits for the logins to finish.
+     *
+     * @return the number of authenticated sessions
+     * @throws IllegalStateException if the pool has no authenticator, i.e. it was neither given one nor used
+     *                               to create an API client yet
+     */
+    public int loginAll() {
+        if (authenticator == null) {
+            throw new IllegalStateException("The session pool has no authenticator");
+        }
+        List<CompletableFuture<Void>> logins = new ArrayList<>();
+        for (PooledSession session : sessions) {
+            if (!session.isAvailable()) {
+                logins.add(CompletableFuture.runAsync(session::login, loginExecutor));
+            }
+        }
+        CompletableFuture.allOf(logins.toArray(new CompletableFuture[0])).join();
+        int authenticated = 0;
+        for (PooledSession session : sessions) {
+            authenticated += session.isAvailable() ? 1 : 0;
+        }
+        return authenticated;
+    }
+
+    /**
+     * Leases one of the sessions of the pool, waiting for its rate budget if necessary.
+     *
+     * @return the lease of the picked session, to be closed once the response has been received
+     */
+    @Override
+    public SessionLease lease() {
+        PooledSession session = select();
+        session.inFlight.incrementAndGet();
+        if (session.rateLimiter != null) {
+            session.rateLimiter.acquire();
+        }
+        SessionSnapshot snapshot = session.snapshot.get();
+        return new PooledLease(session, snapshot, session.authenticatedAtMillis);
+    }
+
+    private PooledSession select() {
+        int start = Math.floorMod(next.getAndIncrement(), sessions.length);
+        PooledSession selected = null;
+        for (int i = 0; i < sessions.length; i++) {
+            PooledSession session = sessions[(start + i) % sessions.length];
+            if (!session.isAvailable()) {
+                session.loginInBackground();
+                continue;
+            }
+            if (selection == Selection.ROUND_ROBIN) {
+                return session;
+            }
+            if (selected == null || session.inFlight.get() < selected.inFlight.get()) {
+                selected = session;
+            }
+        }
+        return selected != null ? selected : sessions[start];
+    }
+
+    private PooledSession current() {
+        for (PooledSession session : sessions) {
+            if (session.isAvailable()) {
+                return session;
+            }
+        }
+        return sessions[0];
+    }
+
+    @Override
+    public boolean renewsRejectedSessions() {
+        return true;
+    }
+
+    @Override
+    public boolean acceptsCredentials() {
+        return false;
+    }
+
+    @Override
+    public SessionSnapshot getSnapshot() {
+        return current().snapshot.get();
+    }
+
+    @Override
+    public Long getUserId() {
+        return getSnapshot().getUserId();
+    }
+
+    @Override
+    public String getUsername() {
+        return current().account.getUsername();
+    }
+
+    @Override
+    public String getPassword() {
+        return current().account.getPassword();
+    }
+
+    @Override
+    public String getAuthToken() {
+        return getSnapshot().getAuthToken();
+    }
+
+    @Override
+    public boolean isRememberMe() {
+        return true;
+    }
+
+    @Override
+    public boolean isSuccessfullyAuthenticated() {
+        return current().isAvailable();
+    }
+
+    @Override
+    public Map<String, String> getCookies() {
+        return getSnapshot().getCookies();
+    }
+
+    @Override
+    public void setUserId(Long userId) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setUsername(String username) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setPassword(String password) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setAuthToken(String authToken) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setRememberMe(boolean rememberMe) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCookies(Map<String, String> headers) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateSession(SessionSnapshot snapshot) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("The sessions of a session pool are logged in by the pool");
+    }
+
+    /**
+     * Strategy picking the session a request is sent with.
+     */
+    public enum Selection {
+
+        /**
+         * The authenticated sessions are used in turn.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * The authenticated session with the fewest requests in progress, including the requests waiting
+         * for its rate budget, is used.
+         */
+        LEAST_LOADED
+    }
+
+    /**
+     * The credentials of an account of the pool.
+     */
+    @Getter
+    @RequiredArgsConstructor(staticName = "of")
+    public static final class Account {
+
+        /**
+         * The username of the account.
+         */
+        private final String username;
+
+        /**
+         * The password of the account.
+         */
+        private final String password;
+
+        @Override
+        public String toString() {
+            return "Account(username=" + username + ")";
+        }
+    }
+
+    /**
+     * Builder of {@link SessionPool} instances.
+     */
+    public static class SessionPoolBuilder {
+
+        private List<Account> accounts = new ArrayList<>();
+
+        /**
+         * Adds an account to the pool.
+         *
+         * @param account the credentials of the account
+         * @return this builder
+         */
+        public SessionPoolBuilder account(Account account) {
+            accounts.add(account);
+            return this;
+        }
+
+        /**
+         * Adds an account to the pool.
+         *
+         * @param username the username of the account
+         * @param password the password of the account
+         * @return this builder
+         */
+        public SessionPoolBuilder account(String username, String password) {
+            return account(Account.of(username, password));
+        }
+    }
+
+    /**
+     * The session of a single account, with its own cookies, rate budget and login state.
+     */
+    private final class PooledSession {
+
+        private final Account account;
+        private final RateLimiter rateLimiter;
+        private final AtomicReference<SessionSnapshot> snapshot = new AtomicReference<>(SessionSnapshot.EMPTY);
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean loggingIn = new AtomicBoolean();
+        private volatile boolean valid;
+        private volatile long nextLoginAttempt = System.nanoTime();
+        private volatile long authenticatedAtMillis;
+
+        private PooledSession(Account account, RateLimiter rateLimiter) {
+            this.account = account;
+            this.rateLimiter = rateLimiter;
+        }
+
+        private boolean isAvailable() {
+            return valid && snapshot.get().isAuthenticated();
+        }
+
+        private void loginInBackground() {
+            if (authenticator == null || System.nanoTime() - nextLoginAttempt < 0) {
+                return;
+            }
+            if (!loggingIn.compareAndSet(false, true)) {
+                return;
+            }
+            loginExecutor.execute(() -> {
+                try {
+                    authenticate();
+                } finally {
+                    loggingIn.set(false);
+                }
+            });
+        }
+
+        private void login() {
+            if (!loggingIn.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                authenticate();
+            } finally {
+                loggingIn.set(false);
+            }
+        }
+
+        private void authenticate() {
+            Optional<SessionSnapshot> authenticated;
+            try {
+                authenticated = authenticator.authenticate(account.getUsername(), account.getPassword());
+            } catch (RuntimeException e) {
+                log.warn("Login of {} failed", account.getUsername(), e);
+                authenticated = Optional.empty();
+            }
+            if (authenticated.isPresent()) {
+                authenticatedAtMillis = System.currentTimeMillis();
+                snapshot.set(authenticated.get());
+                valid = true;
+            } else {
+                nextLoginAttempt = System.nanoTime() + retryDelayNanos;
+            }
+        }
+
+        private void invalidate(SessionSnapshot leased) {
+            if (snapshot.get() == leased && valid) {
+                valid = false;
+                log.info("Session of {} was rejected, logging in again", account.getUsername());
+                loginInBackground();
+            }
+        }
+    }
+
+    /**
+     * The lease of a pooled session by a single request.
+     */
+    @RequiredArgsConstructor
+    private static final class PooledLease implements SessionLease {
+
+        private final PooledSession session;
+        @Getter
+        private final SessionSnapshot snapshot;
+        @Getter
+        private final long authenticatedAtMillis;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public void invalidate() {
+            session.invalidate(snapshot);
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                session.inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.github.kosmateus.shinden.auth;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * Logs in again when the server rejects the session of a request, e.g. because it has expired.
+ * <p>
+ * The HTTP executors report every response to the {@code SessionRenewer}. A response rejects the session when it
+ * has the status {@code 401} or {@code 403}, or when the request was redirected to the login page, and the request
+ * was sent with an authenticated session. The rejected session is then replaced:
+ * </p>
+ * <ul>
+ *   <li>A {@link SessionManager} renewing its sessions itself, such as {@link SessionPool}, is notified through
+ *   {@link SessionLease#invalidate()}.</li>
+ *   <li>Otherwise the user is logged in again by the {@link Authenticator}, with the credentials stored in the
+ *   {@link SessionManager}. The login is single-flight: the first thread detecting the rejection logs in, while the
+ *   threads whose requests were rejected meanwhile wait for the same login instead of starting their own.</li>
+ * </ul>
+ * <p>
+ * A {@code 403} is also returned for pages the user is not allowed to see. To avoid logging in for each of them,
+ * a {@code 403} received within {@link #MIN_SESSION_AGE_MILLIS} of the login of the leased session, or of the last
+ * renewal, is not taken as a rejection. The login time of a session is reported by
+ * {@link SessionLease#getAuthenticatedAtMillis()}, so the sessions of a {@link SessionPool} each have their own
+ * window. Likewise, no login is attempted within that time after a failed one.
+ * </p>
+ * <p>
+ * A request sent with a session which has been renewed in the meantime is sent again with the renewed session,
+ * whatever the status of its response, without logging in again.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@Slf4j
+public final class SessionRenewer {
+
+    /**
+     * The time after a renewal during which a {@code 403} is taken as a denied access rather than a rejected session.
+     */
+    static final long MIN_SESSION_AGE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final Pattern LOGIN_PATH = Pattern.compile("/main(/\\d+)?/login/?");
+
+    private final SessionManager sessionManager;
+    private final Optional<Provider<Authenticator>> authenticator;
+    private final AtomicReference<CompletableFuture<SessionSnapshot>> renewal = new AtomicReference<>();
+    private volatile long lastRenewal;
+    private volatile long lastFailedRenewal;
+
+    /**
+     * Creates the renewer of the given session manager.
+     *
+     * @param sessionManager the session manager whose sessions are renewed
+     * @param authenticator  the provider of the authenticator logging in again, absent if no login is bound
+     */
+    @Inject
+    public SessionRenewer(SessionManager sessionManager, Optional<Provider<Authenticator>> authenticator) {
+        this.sessionManager = sessionManager;
+        this.authenticator = authenticator;
+    }
+
+    /**
+     * Checks whether a request with the given HTTP method is safe to be sent again after its session
+     * has been renewed.
+     *
+     * @param method the HTTP method of the request
+     * @return {@code true} for idempotent HTTP methods; {@code false} otherwise.
+     */
+    public static boolean isRetryable(String method) {
+        switch (method) {
+            case "GET":
+            case "HEAD":
+            case "OPTIONS":
+            case "PUT":
+            case "DELETE":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Renews the session of the given lease if the response rejected it.
+     *
+     * @param lease       the lease the request was sent with
+     * @param statusCode  the HTTP status of the response
+     * @param requestUrl  the URL the request was sent to
+     * @param responseUrl the URL the response was received from, after the redirects
+     * @return {@code true} if the session was rejected and has been renewed, so the request can be sent again;
+     * {@code false} otherwise.
+     */
+    public boolean renewIfRejected(SessionLease lease, int statusCode, String requestUrl, String responseUrl) {
+        SessionSnapshot rejected = lease.getSnapshot();
+        if (!rejected.isAuthenticated()) {
+            return false;
+        }
+        if (statusCode == 403 && !sessionManager.renewsRejectedSessions() && isRenewedSince(rejected)) {
+            return true;
+        }
+        if (!isRejection(lease, statusCode, requestUrl, responseUrl)) {
+            return false;
+        }
+        lease.invalidate();
+        if (sessionManager.renewsRejectedSessions()) {
+            return true;
+        }
+        return renew(rejected);
+    }
+
+    private boolean isRejection(SessionLease lease, int statusCode, String requestUrl, String responseUrl) {
+        if (statusCode == 401) {
+            return true;
+        }
+        if (statusCode == 403) {
+            long authenticatedAt = Math.max(lastRenewal, lease.getAuthenticatedAtMillis());
+            return System.currentTimeMillis() - authenticatedAt >= MIN_SESSION_AGE_MILLIS;
+        }
+        return responseUrl != null && !responseUrl.equals(requestUrl) && isLoginPage(responseUrl)
+                && !isLoginPage(requestUrl);
+    }
+
+    private static boolean isLoginPage(String url) {
+        try {
+            String path = URI.create(url).getPath();
+            return path != null && LOGIN_PATH.matcher(path).matches();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the session has been renewed since the given one was leased.
+     */
+    private boolean isRenewedSince(SessionSnapshot leased) {
+        SessionSnapshot current = sessionManager.getSnapshot();
+        return current.isAuthenticated() && !isSameSession(current, leased);
+    }
+
+    private boolean renew(SessionSnapshot rejected) {
+        String username = sessionManager.getUsername();
+        String password = sessionManager.getPassword();
+        if (!authenticator.isPresent() || username == null || password == null) {
+            log.warn("Session was rejected, but no credentials are stored to log in again");
+            return false;
+        }
+        if (System.currentTimeMillis() - lastFailedRenewal < MIN_SESSION_AGE_MILLIS) {
+            return false;
+        }
+        while (true) {
+            SessionSnapshot current = sessionManager.getSnapshot();
+            if (!isSameSession(current, rejected)) {
+                return current.isAuthenticated();
+            }
+            CompletableFuture<SessionSnapshot> pending = renewal.get();
+            if (pending != null) {
+                return await(pending);
+            }
+            CompletableFuture<SessionSnapshot> started = new CompletableFuture<>();
+            if (renewal.compareAndSet(null, started)) {
+                try {
+                    started.complete(login(rejected, username, password));
+                } catch (RuntimeException e) {
+                    lastFailedRenewal = System.currentTimeMillis();
+                    started.completeExceptionally(e);
+                } finally {
+                    renewal.compareAndSet(started, null);
+                }
+                return await(started);
+            }
+        }
+    }
+
+    private SessionSnapshot login(SessionSnapshot rejected, String username, String password) {
+        SessionSnapshot current = sessionManager.getSnapshot();
+        if (!isSameSession(current, rejected)) {
+            return current;
+        }
+        log.info("Session of {} was rejected, logging in again", username);
+        Optional<SessionSnapshot> renewed = authenticator.get().get().authenticate(username, password);
+        if (!renewed.isPresent()) {
+            log.warn("Logging in again as {} failed", username);
+            lastFailedRenewal = System.currentTimeMillis();
+            return null;
+        }
+        lastRenewal = System.currentTimeMillis();
+        sessionManager.updateSession(renewed.get());
+        return renewed.get();
+    }
+
+    /**
+     * Checks whether two snapshots hold the same session. Snapshots are compared by content, as session managers
+     * may assemble a new snapshot on every {@link SessionManager#getSnapshot()} call.
+     */
+    private static boolean isSameSession(SessionSnapshot first, SessionSnapshot second) {
+        return Objects.equals(first.getAuthToken(), second.getAuthToken())
+                && Objects.equals(first.getCookieHeader(), second.getCookieHeader());
+    }
+
+    private static boolean await(CompletableFuture<SessionSnapshot> renewal) {
+        try {
+            SessionSnapshot renewed = renewal.join();
+            return renewed != null && renewed.isAuthenticated();
+        } catch (CompletionException e) {
+            log.warn("Logging in again failed", e.getCause());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.kosmateus.shinden.auth;
+
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of the authentication state of a session at a point in time.
+ * <p>
+ * The {@code SessionSnapshot} holds the session cookies, the authentication token and the ID of the authenticated
+ * user, together with the {@code Cookie} request header precomputed from the cookies. A request reads the snapshot
+ * once and sends a consistent set of credentials, even when the session is updated concurrently, e.g. by a login
+ * on another thread. Changing the session means publishing a new snapshot.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@Getter
+public final class SessionSnapshot {
+
+    /**
+     * The snapshot of a session that has not been authenticated.
+     */
+    public static final SessionSnapshot EMPTY = new SessionSnapshot(null, null, null);
+
+    /**
+     * The cookies of the session, never {@code null}.
+     */
+    private final Map<String, String> cookies;
+
+    /**
+     * The authentication token of the session, or {@code null} if the session is not authenticated.
+     */
+    private final String authToken;
+
+    /**
+     * The ID of the authenticated user, or {@code null} if the session is not authenticated.
+     */
+    private final Long userId;
+
+    /**
+     * The value of the {@code Cookie} request header carrying the cookies, or {@code null} if there are no cookies.
+     */
+    private final String cookieHeader;
+
+    private SessionSnapshot(Map<String, String> cookies, String authToken, Long userId) {
+        this.cookies = cookies == null || cookies.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new LinkedHashMap<>(cookies));
+        this.authToken = authToken;
+        this.userId = userId;
+        this.cookieHeader = this.cookies.isEmpty() ? null : this.cookies.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Creates a snapshot of the given session state.
+     *
+     * @param cookies   the cookies of the session, may be {@code null}; the map is copied
+     * @param authToken the authentication token, may be {@code null}
+     * @param userId    the ID of the authenticated user, may be {@code null}
+     * @return the session snapshot
+     */
+    public static SessionSnapshot of(Map<String, String> cookies, String authToken, Long userId) {
+        return new SessionSnapshot(cookies, authToken, userId);
+    }
+
+    /**
+     * Returns a copy of this snapshot with the given cookies.
+     *
+     * @param cookies the new cookies of the session, may be {@code null}
+     * @return the updated snapshot
+     */
+    public SessionSnapshot withCookies(Map<String, String> cookies) {
+        return new SessionSnapshot(cookies, authToken, userId);
+    }
+
+    /**
+     * Returns a copy of this snapshot with the given authentication token.
+     *
+     * @param authToken the new authentication token, may be {@code null}
+     * @return the updated snapshot
+     */
+    public SessionSnapshot withAuthToken(String authToken) {
+        return new SessionSnapshot(cookies, authToken, userId);
+    }
+
+    /**
+     * Returns a copy of this snapshot with the given user ID.
+     *
+     * @param userId the new user ID, may be {@code null}
+     * @return the updated snapshot
+     */
+    public SessionSnapshot withUserId(Long userId) {
+        return new SessionSnapshot(cookies, authToken, userId);
+    }
+
+    /**
+     * Indicates whether the session holds an authentication token.
+     *
+     * @return {@code true} if the session is authenticated; {@code false} otherwise.
+     */
+    public boolean isAuthenticated() {
+        return StringUtils.isNotBlank(authToken);
+    }
+}
@@ -3,6 +3,7 @@ package com.github.kosmateus.shinden.common.enums;
 import com.github.kosmateus.shinden.anime.request.AnimeSearchQueryParam;
 import com.github.kosmateus.shinden.http.request.QueryParam;
 import com.github.kosmateus.shinden.i18n.Translatable;
+import com.github.kosmateus.shinden.i18n.TranslationUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -70,12 +71,8 @@ public enum TitleStatus implements Translatable, QueryParam, AnimeSearchQueryPar
                 return status;
             }
         }
-        for (TitleStatus status : values()) {
-            if (status.getTranslation().equals(value)) {
-                return status;
-            }
-        }
-        throw new IllegalArgumentException("Unknown title status: " + value);
+        return TranslationUtil.fromTranslation(TitleStatus.class, value)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown title status: " + value));
     }
 
     @Override
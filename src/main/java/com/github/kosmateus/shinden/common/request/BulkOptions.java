@@ -0,0 +1,88 @@
+package com.github.kosmateus.shinden.common.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Options of a bulk operation fetching many resources at once.
+ * <p>
+ * The {@code BulkOptions} class controls how the requests of a bulk operation are spread over time and threads:
+ * how many requests run concurrently, how many requests per second are started at most, how many threads parse
+ * and map the fetched pages, and in which order the results are handed back.
+ * </p>
+ *
+ * <pre>{@code
+ * Stream<BulkResult<Long, UserOverview>> overviews = api.user().getOverviews(userIds, BulkOptions.builder()
+ *         .parallelism(8)
+ *         .requestsPerSecond(4)
+ *         .order(BulkOptions.Order.INPUT)
+ *         .build());
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+public class BulkOptions {
+
+    /**
+     * The maximum number of requests executed concurrently.
+     * Defaults to 4.
+     */
+    @Min(1)
+    @Builder.Default
+    private final int parallelism = 4;
+
+    /**
+     * The maximum number of requests started per second, shared by all concurrent requests.
+     * Defaults to 5. {@link Double#POSITIVE_INFINITY} disables the limit.
+     */
+    @DecimalMin(value = "0", inclusive = false)
+    @Builder.Default
+    private final double requestsPerSecond = 5;
+
+    /**
+     * The number of threads parsing and mapping the fetched pages.
+     * Defaults to the number of available processors.
+     */
+    @Min(1)
+    @Builder.Default
+    private final int mapperParallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The order in which the results are returned.
+     * Defaults to {@link Order#COMPLETION}.
+     */
+    @NotNull
+    @Builder.Default
+    private final Order order = Order.COMPLETION;
+
+    /**
+     * Returns the default bulk options.
+     *
+     * @return the {@code BulkOptions} with every setting at its default value
+     */
+    public static BulkOptions defaults() {
+        return BulkOptions.builder().build();
+    }
+
+    /**
+     * The order of the results of a bulk operation.
+     */
+    public enum Order {
+
+        /**
+         * The results are returned as soon as they are ready, regardless of the order of the input.
+         */
+        COMPLETION,
+
+        /**
+         * The results are returned in the order of the input, each one waiting for its predecessors.
+         */
+        INPUT
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.kosmateus.shinden.common.response;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The outcome of a single item of a bulk operation.
+ * <p>
+ * The {@code BulkResult} class pairs the key of the requested resource, e.g. a user ID, with either the fetched
+ * value or the exception that prevented fetching it. A failure of one item, such as a
+ * {@link com.github.kosmateus.shinden.exception.NotFoundException NotFoundException} for a deleted user,
+ * does not interrupt the remaining items of the operation.
+ * </p>
+ *
+ * @param <K> the type of the key of the requested resource.
+ * @param <T> the type of the fetched value.
+ * @version 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BulkResult<K, T> {
+
+    /**
+     * The key of the requested resource.
+     */
+    private final K key;
+
+    /**
+     * The fetched value, or {@code null} if fetching failed.
+     */
+    private final T value;
+
+    /**
+     * The exception that prevented fetching the value, or {@code null} if fetching succeeded.
+     */
+    private final Throwable error;
+
+    /**
+     * Creates a successful result.
+     *
+     * @param <K>   the type of the key.
+     * @param <T>   the type of the value.
+     * @param key   the key of the requested resource.
+     * @param value the fetched value.
+     * @return a successful {@code BulkResult}.
+     */
+    public static <K, T> BulkResult<K, T> success(K key, T value) {
+        return new BulkResult<>(key, value, null);
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param <K>   the type of the key.
+     * @param <T>   the type of the value.
+     * @param key   the key of the requested resource.
+     * @param error the exception that prevented fetching the value.
+     * @return a failed {@code BulkResult}.
+     */
+    public static <K, T> BulkResult<K, T> failure(K key, Throwable error) {
+        return new BulkResult<>(key, null, error);
+    }
+
+    /**
+     * Checks if the value was fetched successfully.
+     *
+     * @return {@code true} if the value was fetched, {@code false} if fetching failed.
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Returns the fetched value, or throws the exception that prevented fetching it.
+     *
+     * @return the fetched value.
+     * @throws RuntimeException      the exception that prevented fetching the value, if it is unchecked.
+     * @throws IllegalStateException wrapping the exception that prevented fetching the value, if it is checked.
+     */
+    public T orElseThrow() {
+        if (error == null) {
+            return value;
+        }
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        throw new IllegalStateException("No value fetched for " + key, error);
+    }
+}
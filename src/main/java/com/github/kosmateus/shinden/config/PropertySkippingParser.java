@@ -0,0 +1,85 @@
+package com.github.kosmateus.shinden.config;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * JSON parser skipping the properties with the given names.
+ * <p>
+ * The {@code PropertySkippingParser} class hides the excluded properties, at any depth, from the deserializer
+ * reading from it. When the parser reaches the name of an excluded property, it moves to the value and skips it
+ * with {@link JsonParser#skipChildren()}, so the value is never materialized: a skipped string is stepped over
+ * without being decoded into a {@link String}, and a skipped object or array without creating its contents.
+ * Properties missing from the JSON are left at their default value by the deserializer.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+public final class PropertySkippingParser extends JsonParserDelegate {
+
+    private final Set<String> skippedProperties;
+
+    /**
+     * Constructs a new {@code PropertySkippingParser}.
+     *
+     * @param parser            the parser reading the JSON
+     * @param skippedProperties the names of the properties to skip
+     */
+    public PropertySkippingParser(JsonParser parser, Set<String> skippedProperties) {
+        super(parser);
+        this.skippedProperties = skippedProperties;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        JsonToken token = delegate.nextToken();
+        while (token == JsonToken.FIELD_NAME && skippedProperties.contains(delegate.currentName())) {
+            delegate.nextToken();
+            delegate.skipChildren();
+            token = delegate.nextToken();
+        }
+        return token;
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        JsonToken token = nextToken();
+        return token == JsonToken.FIELD_NAME ? nextToken() : token;
+    }
+
+    @Override
+    public String nextFieldName() throws IOException {
+        return nextToken() == JsonToken.FIELD_NAME ? delegate.currentName() : null;
+    }
+
+    @Override
+    public boolean nextFieldName(SerializableString name) throws IOException {
+        return nextToken() == JsonToken.FIELD_NAME && name.getValue().equals(delegate.currentName());
+    }
+
+    @Override
+    public String nextTextValue() throws IOException {
+        return nextToken() == JsonToken.VALUE_STRING ? delegate.getText() : null;
+    }
+
+    @Override
+    public int nextIntValue(int defaultValue) throws IOException {
+        return nextToken() == JsonToken.VALUE_NUMBER_INT ? delegate.getIntValue() : defaultValue;
+    }
+
+    @Override
+    public long nextLongValue(long defaultValue) throws IOException {
+        return nextToken() == JsonToken.VALUE_NUMBER_INT ? delegate.getLongValue() : defaultValue;
+    }
+
+    @Override
+    public Boolean nextBooleanValue() throws IOException {
+        JsonToken token = nextToken();
+        return token == JsonToken.VALUE_TRUE ? Boolean.TRUE : token == JsonToken.VALUE_FALSE ? Boolean.FALSE : null;
+    }
+}
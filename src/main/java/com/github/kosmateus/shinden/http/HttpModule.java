@@ -4,6 +4,7 @@ import com.github.kosmateus.shinden.auth.SessionManager;
 import com.github.kosmateus.shinden.http.jsoup.JsoupModule;
 import com.github.kosmateus.shinden.http.rest.RestModule;
 import com.google.inject.AbstractModule;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -12,9 +13,15 @@ import lombok.RequiredArgsConstructor;
  * The {@code HttpModule} class extends {@link AbstractModule} and installs
  * the necessary sub-modules for handling HTTP operations, such as Jsoup and REST modules.
  * </p>
+ * <p>
+ * The HTTP modules are equal when they are created for the same {@link SessionManager}. Guice installs equal
+ * modules only once, so the HTTP bindings are configured a single time although the login, user and anime modules
+ * each install them.
+ * </p>
  *
  * @version 1.0.0
  */
+@EqualsAndHashCode(callSuper = false)
 @RequiredArgsConstructor
 public class HttpModule extends AbstractModule {
 
@@ -1,21 +1,42 @@
 package com.github.kosmateus.shinden.http.jsoup;
 
+import com.github.kosmateus.shinden.auth.SessionLease;
 import com.github.kosmateus.shinden.auth.SessionManager;
+import com.github.kosmateus.shinden.auth.SessionRenewer;
+import com.github.kosmateus.shinden.auth.SessionSnapshot;
+import com.github.kosmateus.shinden.http.request.HttpRequest;
 import com.github.kosmateus.shinden.http.response.EmptyReason;
 import com.github.kosmateus.shinden.http.response.ErrorDetails;
 import com.github.kosmateus.shinden.http.response.HttpStatus;
 import com.github.kosmateus.shinden.http.response.HttpStatusExceptionRetrieval;
 import com.github.kosmateus.shinden.http.response.ResponseHandler;
+import com.github.kosmateus.shinden.http.transport.HttpTransport;
+import com.github.kosmateus.shinden.http.transport.HttpTransportDecorator;
+import com.github.kosmateus.shinden.http.transport.TransportRequest;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
+import com.github.kosmateus.shinden.tracing.ShindenTracing;
+import com.github.kosmateus.shinden.tracing.TracingAttributes;
+import com.github.kosmateus.shinden.utils.jsoup.PageRegion;
 import com.google.inject.Inject;
-import lombok.RequiredArgsConstructor;
-import org.jsoup.Connection;
-import org.jsoup.Connection.Response;
+import io.opentelemetry.api.trace.SpanKind;
+import org.jsoup.Connection.KeyVal;
+import org.jsoup.Connection.Method;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.UnsupportedMimeTypeException;
 import org.jsoup.nodes.Document;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Supplier;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * Executor for making authenticated HTTP calls using Jsoup.
@@ -25,49 +46,237 @@ import java.util.function.Supplier;
  * and handling the response. If the request fails, it handles the exception and provides
  * a detailed error response.
  * </p>
+ * <p>
+ * The requests are carried by an {@link HttpTransport}. By default this is the {@link JsoupTransport},
+ * which may be wrapped or replaced by the {@link HttpTransportDecorator} bound in the injector.
+ * </p>
+ * <p>
+ * The HTTP exchange and the parsing of the response body are reported as separate
+ * {@link ShindenTracing} spans when tracing is enabled.
+ * </p>
  *
  * @version 1.0.0
  */
-@RequiredArgsConstructor(onConstructor = @__(@Inject))
 class JsoupCallExecutor {
 
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded; charset=UTF-8";
+    private static final Pattern XML_CONTENT_TYPE = Pattern.compile("(\\w+)/\\w*\\+?xml.*");
+
     private final SessionManager sessionManager;
+    private final SessionRenewer sessionRenewer;
+    private final ShindenTracing tracing;
+    private final HttpTransport transport;
+
+    @Inject
+    JsoupCallExecutor(SessionManager sessionManager, SessionRenewer sessionRenewer, ShindenTracing tracing,
+                      JsoupTransport networkTransport, Optional<HttpTransportDecorator> transportDecorator) {
+        this.sessionManager = sessionManager;
+        this.sessionRenewer = sessionRenewer;
+        this.tracing = tracing;
+        this.transport = transportDecorator.map(decorator -> decorator.decorate(networkTransport)).orElse(networkTransport);
+    }
 
     /**
-     * Executes the provided connection with authentication and handles the response.
+     * Executes the request with authentication and handles the response.
      *
-     * @param connectionSupplier a supplier that provides a Jsoup {@link Connection} to be executed.
+     * @param httpRequest the {@link HttpRequest} describing the URL and headers of the request.
+     * @param method      the HTTP method of the request.
+     * @param data        the form parameters sent in the request body, or an empty collection if there are none.
      * @return a {@link ResponseHandler} containing the parsed {@link Document}, HTTP status, headers, and cookies.
      */
-    protected ResponseHandler<Document> executeConnection(Supplier<Connection> connectionSupplier) {
+    protected ResponseHandler<Document> execute(HttpRequest httpRequest, Method method, Collection<KeyVal> data) {
+        return parse(fetch(httpRequest, method, data));
+    }
+
+    /**
+     * Executes the request with authentication without parsing the response body.
+     * <p>
+     * The response is validated the same way as by {@link #execute(HttpRequest, Method, Collection)}, so HTTP
+     * error statuses and unsupported content types result in an empty {@link ResponseHandler}. When the response
+     * rejects the session, e.g. because it has expired, the session is renewed by the {@link SessionRenewer} and
+     * idempotent requests are sent once more with the renewed session.
+     * </p>
+     *
+     * @param httpRequest the {@link HttpRequest} describing the URL and headers of the request.
+     * @param method      the HTTP method of the request.
+     * @param data        the form parameters sent in the request body, or an empty collection if there are none.
+     * @return a {@link ResponseHandler} containing the raw {@link TransportResponse}, HTTP status, headers, and cookies.
+     */
+    protected ResponseHandler<TransportResponse> fetch(HttpRequest httpRequest, Method method, Collection<KeyVal> data) {
         try {
-            Response response = authenticatedConnection(connectionSupplier.get()).execute();
-            return ResponseHandler.of(response.parse(), response.statusCode(), response.headers(), response.cookies());
+            TransportResponse response = send(httpRequest, method, data);
+            validateResponse(response);
+            return ResponseHandler.of(response, response.getStatusCode(), response.getHeaders(), response.getCookies());
         } catch (IOException e) {
-            int httpStatus = HttpStatusExceptionRetrieval.getHttpStatus(e).orElse(HttpStatus.BAD_REQUEST).value();
-            return ResponseHandler.empty(httpStatus, new HashMap<>(),
-                    EmptyReason.fromHttpStatus(httpStatus,
-                            ErrorDetails.builder()
-                                    .errorName("Invalid response from server")
-                                    .code("JSOUP_EX")
-                                    .message(e.getMessage())
-                                    .build()
-                    )
-            );
+            return invalidResponse(e);
+        }
+    }
+
+    /**
+     * Sends the request with a leased session, sending it once more if the session was rejected and renewed.
+     *
+     * @param httpRequest the {@link HttpRequest} describing the URL and headers of the request.
+     * @param method      the HTTP method of the request.
+     * @param data        the form parameters sent in the request body.
+     * @return the {@link TransportResponse} received for the last attempt.
+     * @throws IOException if the form parameters cannot be encoded or the exchange could not be completed.
+     */
+    private TransportResponse send(HttpRequest httpRequest, Method method, Collection<KeyVal> data) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try (SessionLease lease = leaseSession(httpRequest)) {
+                TransportRequest request = createRequest(httpRequest, method, data, lease.getSnapshot());
+                TransportResponse response = tracing.inSpan(method.name() + " " + httpRequest.getUrlTemplate(), SpanKind.CLIENT, span -> {
+                    span.setAttribute(TracingAttributes.HTTP_METHOD, method.name());
+                    span.setAttribute(TracingAttributes.URL_TEMPLATE, httpRequest.getUrlTemplate());
+                    TransportResponse received = transport.execute(request);
+                    span.setAttribute(TracingAttributes.HTTP_STATUS, received.getStatusCode());
+                    span.setAttribute(TracingAttributes.BODY_SIZE, received.getBody().length);
+                    return received;
+                });
+                boolean renewed = attempt == 1 && sessionRenewer.renewIfRejected(lease, response.getStatusCode(),
+                        request.getUrl(), response.getUrl());
+                if (!renewed || !SessionRenewer.isRetryable(method.name())) {
+                    return response;
+                }
+            }
         }
     }
 
     /**
-     * Adds authentication cookies to the Jsoup connection.
+     * Parses the body of a fetched response into a {@link Document}.
+     *
+     * @param fetched the {@link ResponseHandler} returned by {@link #fetch(HttpRequest, Method, Collection)}.
+     * @return a {@link ResponseHandler} containing the parsed {@link Document}, or the empty response of the fetch.
+     */
+    protected ResponseHandler<Document> parse(ResponseHandler<TransportResponse> fetched) {
+        return parse(fetched, null);
+    }
+
+    /**
+     * Parses the region of the body of a fetched response into a {@link Document}.
+     * <p>
+     * The body is cut down to the given {@link PageRegion} before it is parsed, so the returned document holds only
+     * the anchor elements of the region. If the body holds no anchor element, the whole body is parsed.
+     * </p>
      *
-     * @param connection the Jsoup {@link Connection} to which the cookies should be added.
-     * @return the authenticated {@link Connection}.
+     * @param fetched the {@link ResponseHandler} returned by {@link #fetch(HttpRequest, Method, Collection)}.
+     * @param region  the region of the page to parse, or {@code null} to parse the whole page.
+     * @return a {@link ResponseHandler} containing the parsed {@link Document}, or the empty response of the fetch.
      */
-    private Connection authenticatedConnection(Connection connection) {
-        Map<String, String> cookies = sessionManager.getCookies();
-        if (cookies != null && !cookies.isEmpty()) {
-            connection.cookies(cookies);
+    protected ResponseHandler<Document> parse(ResponseHandler<TransportResponse> fetched, PageRegion region) {
+        try {
+            return fetched.map(response -> tracing.inSpan("jsoup.parse", SpanKind.INTERNAL, span -> {
+                byte[] trimmed = region != null && isAsciiCompatible(response.getCharset()) ? region.trim(response.getBody()) : null;
+                if (region != null) {
+                    span.setAttribute(TracingAttributes.PARSE_REGION, trimmed != null ? region.toString() : "");
+                }
+                return trimmed != null ? parseDocument(trimmed, response) : parseDocument(response);
+            }));
+        } catch (UncheckedIOException e) {
+            return invalidResponse(e.getCause());
+        }
+    }
+
+    private static Document parseDocument(TransportResponse response) {
+        try {
+            return Jsoup.parse(response.getBodyStream(), response.getCharsetName(), response.getUrl());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Document parseDocument(byte[] trimmed, TransportResponse response) {
+        try {
+            return Jsoup.parse(new ByteArrayInputStream(trimmed), response.getCharset().name(), response.getUrl());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isAsciiCompatible(Charset charset) {
+        return !charset.name().startsWith("UTF-16") && !charset.name().startsWith("UTF-32");
+    }
+
+    private static <T> ResponseHandler<T> invalidResponse(IOException e) {
+        int httpStatus = HttpStatusExceptionRetrieval.getHttpStatus(e).orElse(HttpStatus.BAD_REQUEST).value();
+        return ResponseHandler.empty(httpStatus, new HashMap<>(),
+                EmptyReason.fromHttpStatus(httpStatus,
+                        ErrorDetails.builder()
+                                .errorName("Invalid response from server")
+                                .code("JSOUP_EX")
+                                .message(e.getMessage())
+                                .build()
+                )
+        );
+    }
+
+    /**
+     * Leases the session the request is sent with. Requests carrying their own cookies are sent with those cookies
+     * instead of the managed session.
+     *
+     * @param httpRequest the {@link HttpRequest} to be sent.
+     * @return the lease of the session, to be closed once the response has been received.
+     */
+    private SessionLease leaseSession(HttpRequest httpRequest) {
+        return httpRequest.getCookies() != null
+                ? SessionLease.of(SessionSnapshot.of(httpRequest.getCookies(), null, null))
+                : sessionManager.lease();
+    }
+
+    /**
+     * Creates the transport request, adding the authentication cookies and encoding the form parameters.
+     *
+     * @param httpRequest the {@link HttpRequest} describing the URL and headers of the request.
+     * @param method      the HTTP method of the request.
+     * @param data        the form parameters sent in the request body.
+     * @param session     the session whose cookies are sent with the request.
+     * @return the {@link TransportRequest} to be executed.
+     * @throws IOException if the form parameters cannot be encoded.
+     */
+    private TransportRequest createRequest(HttpRequest httpRequest, Method method, Collection<KeyVal> data,
+                                           SessionSnapshot session) throws IOException {
+        TransportRequest.TransportRequestBuilder request = TransportRequest.builder()
+                .method(method.name())
+                .url(httpRequest.getURL())
+                .urlTemplate(httpRequest.getUrlTemplate())
+                .headers(httpRequest.getHeaders() != null ? httpRequest.getHeaders() : Collections.emptyMap())
+                .cookies(session.getCookies())
+                .cookieHeader(session.getCookieHeader());
+        if (!data.isEmpty()) {
+            request.body(encodeForm(data)).contentType(FORM_CONTENT_TYPE);
+        }
+        return request.build();
+    }
+
+    /**
+     * Rejects the responses Jsoup does not accept: HTTP error statuses and content types that cannot be parsed.
+     *
+     * @param response the response to validate.
+     * @throws HttpStatusException         if the response has an HTTP error status.
+     * @throws UnsupportedMimeTypeException if the response content type cannot be parsed.
+     */
+    private static void validateResponse(TransportResponse response) throws IOException {
+        int status = response.getStatusCode();
+        if (status < 200 || status >= 400) {
+            throw new HttpStatusException("HTTP error fetching URL", status, response.getUrl());
+        }
+        String contentType = response.getContentType();
+        if (contentType != null && !contentType.startsWith("text/") && !XML_CONTENT_TYPE.matcher(contentType).matches()) {
+            throw new UnsupportedMimeTypeException("Unhandled content type. Must be text/*, */xml, or */*+xml",
+                    contentType, response.getUrl());
+        }
+    }
+
+    private static byte[] encodeForm(Collection<KeyVal> data) throws IOException {
+        StringBuilder form = new StringBuilder();
+        for (KeyVal keyVal : data) {
+            if (form.length() > 0) {
+                form.append('&');
+            }
+            form.append(URLEncoder.encode(keyVal.key(), StandardCharsets.UTF_8.name()))
+                    .append('=')
+                    .append(URLEncoder.encode(keyVal.value(), StandardCharsets.UTF_8.name()));
         }
-        return connection;
+        return form.toString().getBytes(StandardCharsets.UTF_8);
     }
 }
@@ -2,17 +2,20 @@ package com.github.kosmateus.shinden.http.jsoup;
 
 import com.github.kosmateus.shinden.http.request.HttpRequest;
 import com.github.kosmateus.shinden.http.response.ResponseHandler;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
+import com.github.kosmateus.shinden.utils.jsoup.PageRegion;
 import com.google.inject.Inject;
 import lombok.RequiredArgsConstructor;
 import org.jsoup.Connection.KeyVal;
 import org.jsoup.Connection.Method;
 import org.jsoup.nodes.Document;
 
-import java.util.HashMap;
+import org.jsoup.helper.HttpConnection;
+
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-
-import static org.jsoup.Jsoup.connect;
+import java.util.stream.Collectors;
 
 /**
  * HTTP client for making requests using Jsoup.
@@ -37,11 +40,18 @@ public final class JsoupClient {
      * @return a {@link ResponseHandler} containing the parsed {@link Document} and response details.
      */
     public ResponseHandler<Document> post(HttpRequest httpRequest, Map<String, String> data) {
-        return executor.executeConnection(() -> connect(httpRequest.getURL())
-                .headers(httpRequest.getHeaders() != null ? httpRequest.getHeaders() : new HashMap<>())
-                .data(data)
-                .method(Method.POST)
-        );
+        return executor.execute(httpRequest, Method.POST, toFormData(data));
+    }
+
+    /**
+     * Sends an HTTP POST request to the specified URL with the provided data, without parsing the response body.
+     *
+     * @param httpRequest the HTTP request containing the URL and headers.
+     * @param data        the data to be sent in the POST request as form parameters.
+     * @return a {@link ResponseHandler} containing the raw {@link TransportResponse} and response details.
+     */
+    public ResponseHandler<TransportResponse> submit(HttpRequest httpRequest, Map<String, String> data) {
+        return executor.fetch(httpRequest, Method.POST, toFormData(data));
     }
 
     /**
@@ -52,11 +62,7 @@ public final class JsoupClient {
      * @return a {@link ResponseHandler} containing the parsed {@link Document} and response details.
      */
     public ResponseHandler<Document> post(HttpRequest httpRequest, List<KeyVal> data) {
-        return executor.executeConnection(() -> connect(httpRequest.getURL())
-                .headers(httpRequest.getHeaders() != null ? httpRequest.getHeaders() : new HashMap<>())
-                .data(data)
-                .method(Method.POST)
-        );
+        return executor.execute(httpRequest, Method.POST, data);
     }
 
     /**
@@ -66,9 +72,51 @@ public final class JsoupClient {
      * @return a {@link ResponseHandler} containing the parsed {@link Document} and response details.
      */
     public ResponseHandler<Document> get(HttpRequest httpRequest) {
-        return executor.executeConnection(() -> connect(httpRequest.getURL())
-                .headers(httpRequest.getHeaders() != null ? httpRequest.getHeaders() : new HashMap<>())
-                .method(Method.GET)
-        );
+        return executor.execute(httpRequest, Method.GET, Collections.emptyList());
+    }
+
+    /**
+     * Sends an HTTP GET request to the specified URL and parses only the given region of the response body.
+     * <p>
+     * The body is cut down to the anchor elements of the region before it is parsed, which saves building
+     * the parts of the page the caller does not read. If the region is not found, the whole body is parsed.
+     * </p>
+     *
+     * @param httpRequest the HTTP request containing the URL and headers.
+     * @param region      the region of the page to parse, or {@code null} to parse the whole page.
+     * @return a {@link ResponseHandler} containing the parsed {@link Document} and response details.
+     */
+    public ResponseHandler<Document> get(HttpRequest httpRequest, PageRegion region) {
+        return executor.parse(executor.fetch(httpRequest, Method.GET, Collections.emptyList()), region);
+    }
+
+    /**
+     * Sends an HTTP GET request to the specified URL without parsing the response body.
+     * <p>
+     * Together with {@link #parse(ResponseHandler)} it allows the HTTP exchange and the parsing to run
+     * on different threads, e.g. when many pages are fetched concurrently.
+     * </p>
+     *
+     * @param httpRequest the HTTP request containing the URL and headers.
+     * @return a {@link ResponseHandler} containing the raw {@link TransportResponse} and response details.
+     */
+    public ResponseHandler<TransportResponse> fetch(HttpRequest httpRequest) {
+        return executor.fetch(httpRequest, Method.GET, Collections.emptyList());
+    }
+
+    /**
+     * Parses the body of a response returned by {@link #fetch(HttpRequest)}.
+     *
+     * @param fetched the fetched response.
+     * @return a {@link ResponseHandler} containing the parsed {@link Document} and response details.
+     */
+    public ResponseHandler<Document> parse(ResponseHandler<TransportResponse> fetched) {
+        return executor.parse(fetched);
+    }
+
+    private static List<KeyVal> toFormData(Map<String, String> data) {
+        return data.entrySet().stream()
+                .map(entry -> HttpConnection.KeyVal.create(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
     }
 }
@@ -1,8 +1,13 @@
 package com.github.kosmateus.shinden.http.jsoup;
 
+import com.github.kosmateus.shinden.auth.Authenticator;
 import com.github.kosmateus.shinden.auth.SessionManager;
+import com.github.kosmateus.shinden.auth.SessionRenewer;
+import com.github.kosmateus.shinden.http.transport.HttpTransportDecorator;
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
+import com.google.inject.multibindings.OptionalBinder;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -14,6 +19,7 @@ import lombok.RequiredArgsConstructor;
  *
  * @version 1.0.0
  */
+@EqualsAndHashCode(callSuper = false)
 @RequiredArgsConstructor
 public class JsoupModule extends AbstractModule {
 
@@ -30,6 +36,10 @@ public class JsoupModule extends AbstractModule {
     @Override
     protected void configure() {
         bind(SessionManager.class).toInstance(sessionManager);
+        OptionalBinder.newOptionalBinder(binder(), HttpTransportDecorator.class);
+        OptionalBinder.newOptionalBinder(binder(), Authenticator.class);
+        bind(SessionRenewer.class).in(Singleton.class);
+        bind(JsoupTransport.class).in(Singleton.class);
         bind(JsoupCallExecutor.class).in(Singleton.class);
         bind(JsoupClient.class).in(Singleton.class);
     }
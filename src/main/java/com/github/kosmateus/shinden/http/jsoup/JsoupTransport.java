@@ -0,0 +1,64 @@
+package com.github.kosmateus.shinden.http.jsoup;
+
+import com.github.kosmateus.shinden.http.transport.HttpTransport;
+import com.github.kosmateus.shinden.http.transport.ResponseBodyReader;
+import com.github.kosmateus.shinden.http.transport.TransportRequest;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
+import org.jsoup.Connection;
+import org.jsoup.Connection.Method;
+import org.jsoup.Connection.Response;
+import org.jsoup.Jsoup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Network transport of the {@link JsoupClient}, executing requests with a Jsoup connection.
+ * <p>
+ * The {@code JsoupTransport} keeps the behavior of the Jsoup connection the client has always used: redirects
+ * are followed and the cookies set along the redirects are collected. Responses with HTTP error statuses or
+ * content types Jsoup cannot parse are returned rather than thrown, as required by the {@link HttpTransport}
+ * contract, and are rejected by the {@link JsoupCallExecutor} instead. The body is read from the connection
+ * stream with the {@link ResponseBodyReader}, within the maximum body size of the connection.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+class JsoupTransport implements HttpTransport {
+
+    /**
+     * Executes the request with a new Jsoup connection.
+     *
+     * @param request the request to execute
+     * @return the response received for the request
+     * @throws IOException if the exchange could not be completed
+     */
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        Connection connection = Jsoup.connect(request.getUrl())
+                .method(Method.valueOf(request.getMethod()))
+                .headers(request.getHeaders())
+                .cookies(request.getCookies())
+                .ignoreHttpErrors(true)
+                .ignoreContentType(true);
+        if (request.getBody() != null) {
+            connection.header("Content-Type", request.getContentType())
+                    .requestBody(new String(request.getBody(), StandardCharsets.UTF_8));
+        }
+        Response response = connection.execute();
+        byte[] body;
+        try (InputStream bodyStream = response.bodyStream()) {
+            body = ResponseBodyReader.read(bodyStream);
+        }
+        return TransportResponse.builder()
+                .statusCode(response.statusCode())
+                .statusMessage(response.statusMessage())
+                .url(response.url().toExternalForm())
+                .headers(response.headers())
+                .cookies(response.cookies())
+                .contentType(response.contentType())
+                .body(body)
+                .build();
+    }
+}
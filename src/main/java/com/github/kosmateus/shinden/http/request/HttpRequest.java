@@ -1,5 +1,6 @@
 package com.github.kosmateus.shinden.http.request;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -8,8 +9,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Represents an HTTP request with various configurable parameters.
@@ -108,65 +107,42 @@ public final class HttpRequest {
      */
     private final Map<String, FileResource> fileResources;
 
+    /**
+     * The full URL of the request, built on first use.
+     */
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    @EqualsAndHashCode.Exclude
+    private final String fullUrl = UrlTemplate.of(getUrlTemplate()).expand(getPathParams(), getQueryParams());
+
     /**
      * Constructs the full URL for the HTTP request by combining the target, path,
      * path parameters, and query parameters.
      * <p>
-     * This method builds the complete URL by appending the path and query parameters
-     * to the base target URL. If any path parameters are specified, they are replaced
-     * in the URL accordingly. If any query parameters are specified, they are appended
-     * to the URL in the standard query string format.
+     * This method builds the complete URL from the {@link UrlTemplate} of the request. The path parameters
+     * are substituted in the path and the query parameters are appended in the standard query string format,
+     * both percent-encoded. The URL is built once and cached by the request.
      * </p>
      *
      * @return the full URL as a {@link String}
      * @throws IllegalArgumentException if any required path parameters are missing or not provided
      */
     public String getURL() {
-        String path = getTarget() + (StringUtils.isNotBlank(getPath()) ? getPath() : "");
-        if (getPathParams() != null && !getPathParams().isEmpty()) {
-            Map<String, String> filteredPathParams = getPathParams().entrySet().stream()
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-            for (Map.Entry<String, String> entry : filteredPathParams.entrySet()) {
-                path = path.replace("{" + entry.getKey() + "}", entry.getValue());
-            }
-        }
-        if (path.contains("{")) {
-            throw new IllegalArgumentException("Missing path parameter value for path: " + path);
-        }
-        if (getQueryParams() != null && !getQueryParams().isEmpty()) {
-            path += "?" + createQueryParams();
-        }
-
-        return path.replaceAll(" ", "%20");
+        return getFullUrl();
     }
 
     /**
-     * Creates the query parameters string for the URL based on the provided map.
+     * Returns the URL template of the request.
      * <p>
-     * This method generates a properly formatted query string by iterating over
-     * the {@code queryParams} map and concatenating each key-value pair in the standard
-     * `key=value` format, separated by an ampersand (&).
+     * The template is the target URL combined with the path, before the path parameters are substituted
+     * and without the query string, e.g. {@code https://shinden.pl/user/{userId}/reviews}. Unlike the full URL,
+     * the template does not depend on the identifiers of the requested resources, which makes it a suitable
+     * low-cardinality name for metrics and tracing spans.
      * </p>
      *
-     * @return the query parameters as a {@link String}
+     * @return the URL template as a {@link String}
      */
-    private String createQueryParams() {
-        return queryParams
-                .stream()
-                .filter(entry -> entry != null && StringUtils.isNotBlank(entry.getKey()) && StringUtils.isNotBlank(entry.getValue()))
-                .collect(
-                        StringBuilder::new,
-                        (stringBuilder, entry) -> {
-                            if (stringBuilder.length() > 0) {
-                                stringBuilder.append("&");
-                            }
-                            stringBuilder.append(entry.getKey());
-                            stringBuilder.append("=");
-                            stringBuilder.append(entry.getValue());
-                        },
-                        StringBuilder::append)
-                .toString();
+    public String getUrlTemplate() {
+        return getTarget() + (StringUtils.isNotBlank(getPath()) ? getPath() : "");
     }
 
     /**
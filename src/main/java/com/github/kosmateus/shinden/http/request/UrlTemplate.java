@@ -0,0 +1,163 @@
+package com.github.kosmateus.shinden.http.request;
+
+import com.github.kosmateus.shinden.http.request.HttpRequest.KeyValue;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A URL template with named path parameters, e.g. {@code https://shinden.pl/user/{userId}/achievements}.
+ * <p>
+ * The template is split into its literal parts and parameter names once, when it is first used, and is cached
+ * for all later requests to the same endpoint. {@link #expand(Map, List)} writes the literals, the path parameter
+ * values and the query parameters into a single, presized {@link StringBuilder}. Path parameter values and query
+ * parameters are percent-encoded as UTF-8, so values containing reserved characters, such as {@code &}, {@code /}
+ * or spaces, or non-ASCII characters are transmitted as given. The literal parts of the template are kept as they are.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+public final class UrlTemplate {
+
+    private static final int MAX_CACHED_TEMPLATES = 256;
+    private static final Map<String, UrlTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final String PATH_SAFE = "-._~!$&'()*+,;=:@";
+    private static final String QUERY_SAFE = "-._~";
+
+    /**
+     * The template the URL is built from.
+     */
+    @Getter
+    private final String template;
+
+    private final String[] literals;
+    private final String[] names;
+    private final int literalsLength;
+
+    private UrlTemplate(String template) {
+        List<String> literalParts = new ArrayList<>();
+        List<String> nameParts = new ArrayList<>();
+        int position = 0;
+        int start;
+        while ((start = template.indexOf('{', position)) >= 0) {
+            int end = template.indexOf('}', start);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed path parameter in template: " + template);
+            }
+            literalParts.add(template.substring(position, start));
+            nameParts.add(template.substring(start + 1, end));
+            position = end + 1;
+        }
+        literalParts.add(template.substring(position));
+        this.template = template;
+        this.literals = literalParts.toArray(new String[0]);
+        this.names = nameParts.toArray(new String[0]);
+        this.literalsLength = literalParts.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Returns the parsed URL template.
+     *
+     * @param template the URL template, with path parameters enclosed in braces
+     * @return the parsed template, shared by all requests with the same template
+     * @throws IllegalArgumentException if a path parameter in the template is not closed
+     */
+    public static UrlTemplate of(String template) {
+        UrlTemplate cached = CACHE.get(template);
+        if (cached != null) {
+            return cached;
+        }
+        UrlTemplate parsed = new UrlTemplate(template);
+        if (CACHE.size() < MAX_CACHED_TEMPLATES) {
+            CACHE.putIfAbsent(template, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Builds the URL by substituting the path parameters and appending the query parameters.
+     * <p>
+     * Query parameters with a blank key or value are skipped.
+     * </p>
+     *
+     * @param pathParams  the values of the path parameters, may be {@code null} if the template has none
+     * @param queryParams the query parameters, may be {@code null}
+     * @return the full URL
+     * @throws IllegalArgumentException if the value of a path parameter of the template is missing
+     */
+    public String expand(Map<String, String> pathParams, List<KeyValue> queryParams) {
+        StringBuilder url = new StringBuilder(estimateLength(pathParams, queryParams));
+        url.append(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            String value = pathParams != null ? pathParams.get(names[i]) : null;
+            if (value == null) {
+                throw new IllegalArgumentException("Missing path parameter value for path: " + template);
+            }
+            encode(url, value, PATH_SAFE);
+            url.append(literals[i + 1]);
+        }
+        if (queryParams != null) {
+            char separator = '?';
+            for (KeyValue param : queryParams) {
+                if (param == null || StringUtils.isBlank(param.getKey()) || StringUtils.isBlank(param.getValue())) {
+                    continue;
+                }
+                url.append(separator);
+                encode(url, param.getKey(), QUERY_SAFE);
+                url.append('=');
+                encode(url, param.getValue(), QUERY_SAFE);
+                separator = '&';
+            }
+        }
+        return url.toString();
+    }
+
+    private int estimateLength(Map<String, String> pathParams, List<KeyValue> queryParams) {
+        int length = literalsLength;
+        if (pathParams != null) {
+            for (String name : names) {
+                String value = pathParams.get(name);
+                length += value != null ? value.length() : 0;
+            }
+        }
+        if (queryParams != null) {
+            for (KeyValue param : queryParams) {
+                if (param != null && param.getKey() != null && param.getValue() != null) {
+                    length += param.getKey().length() + param.getValue().length() + 2;
+                }
+            }
+        }
+        return length + length / 8;
+    }
+
+    private static void encode(StringBuilder url, String value, String safe) {
+        for (int i = 0; i < value.length(); i++) {
+            char current = value.charAt(i);
+            if (isAlphanumeric(current) || current < 0x80 && safe.indexOf(current) >= 0) {
+                url.append(current);
+            } else if (current < 0x80) {
+                appendEscaped(url, current);
+            } else {
+                int end = Character.isHighSurrogate(current) && i + 1 < value.length() ? i + 2 : i + 1;
+                for (byte octet : value.substring(i, end).getBytes(StandardCharsets.UTF_8)) {
+                    appendEscaped(url, octet & 0xFF);
+                }
+                i = end - 1;
+            }
+        }
+    }
+
+    private static boolean isAlphanumeric(char value) {
+        return value >= 'a' && value <= 'z' || value >= 'A' && value <= 'Z' || value >= '0' && value <= '9';
+    }
+
+    private static void appendEscaped(StringBuilder url, int octet) {
+        url.append('%').append(HEX[octet >> 4]).append(HEX[octet & 0x0F]);
+    }
+}
@@ -260,6 +260,26 @@ public final class ResponseHandler<T> {
         return this.isPresent() ? this.entity : mapper.apply(this.emptyReason);
     }
 
+    /**
+     * Transforms the entity of the response, keeping its status, headers and cookies.
+     * <p>
+     * If the entity is not present, the mapper is not invoked and the returned handler carries
+     * the same empty reason as this one.
+     * </p>
+     *
+     * @param <R>    the type of the transformed entity.
+     * @param mapper the function transforming the entity. Must not return {@code null}.
+     * @return a {@code ResponseHandler} containing the transformed entity, or an empty handler if the entity is not present.
+     */
+    public <R> ResponseHandler<R> map(Function<? super T, ? extends R> mapper) {
+        if (!isPresent()) {
+            ResponseHandler<R> empty = new ResponseHandler<>(httpHeaders, httpStatus, emptyReason);
+            empty.cookies = cookies;
+            return empty;
+        }
+        return of(mapper.apply(entity), httpStatus, httpHeaders, cookies);
+    }
+
     /**
      * Retrieves a specific cookie by its name.
      *
@@ -0,0 +1,123 @@
+package com.github.kosmateus.shinden.http.rest;
+
+import com.github.kosmateus.shinden.http.transport.HttpTransport;
+import com.github.kosmateus.shinden.http.transport.ResponseBodyReader;
+import com.github.kosmateus.shinden.http.transport.TransportRequest;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Network transport of the {@link HttpClient}, executing requests with Apache HttpClient.
+ * <p>
+ * The {@code ApacheHttpTransport} sends the request cookies in a single {@code Cookie} header and reads
+ * the whole response body into memory. Headers repeated in the response are joined with a comma, and the
+ * cookies set by the response are collected from its {@code Set-Cookie} headers.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+class ApacheHttpTransport implements HttpTransport {
+
+    private final CloseableHttpClient client = HttpClients.createDefault();
+
+    /**
+     * Executes the request with the shared Apache HttpClient.
+     *
+     * @param request the request to execute
+     * @return the response received for the request
+     * @throws IOException if the exchange could not be completed
+     */
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        HttpRequestBase httpRequest = createRequest(request.getMethod(), URI.create(request.getUrl()));
+        request.getHeaders().forEach(httpRequest::addHeader);
+        String cookieHeader = request.getCookieHeader();
+        if (cookieHeader != null) {
+            httpRequest.addHeader("Cookie", cookieHeader);
+        }
+        if (request.getBody() != null && httpRequest instanceof HttpEntityEnclosingRequestBase) {
+            ((HttpEntityEnclosingRequestBase) httpRequest).setEntity(
+                    new ByteArrayEntity(request.getBody(), ContentType.parse(request.getContentType())));
+        }
+
+        try (CloseableHttpResponse response = client.execute(httpRequest)) {
+            HttpEntity entity = response.getEntity();
+            Header contentType = entity != null ? entity.getContentType() : null;
+            return TransportResponse.builder()
+                    .statusCode(response.getStatusLine().getStatusCode())
+                    .statusMessage(response.getStatusLine().getReasonPhrase())
+                    .url(request.getUrl())
+                    .headers(Arrays.stream(response.getAllHeaders())
+                            .collect(Collectors.toMap(
+                                    Header::getName,
+                                    Header::getValue,
+                                    (existingValue, newValue) -> existingValue + ", " + newValue
+                            )))
+                    .cookies(readCookies(response.getHeaders("Set-Cookie")))
+                    .contentType(contentType != null ? contentType.getValue() : null)
+                    .body(readBody(entity))
+                    .build();
+        }
+    }
+
+    /**
+     * Creates an instance of {@link HttpRequestBase} based on the specified HTTP method and URI.
+     *
+     * @param method the HTTP method (e.g., GET, POST, PUT)
+     * @param uri    the {@link URI} for the request
+     * @return a new instance of {@link HttpRequestBase}
+     * @throws IllegalArgumentException if the HTTP method is not supported
+     */
+    private static HttpRequestBase createRequest(String method, URI uri) {
+        switch (method) {
+            case HttpGet.METHOD_NAME:
+                return new HttpGet(uri);
+            case HttpPost.METHOD_NAME:
+                return new HttpPost(uri);
+            case HttpPut.METHOD_NAME:
+                return new HttpPut(uri);
+            default:
+                throw new IllegalArgumentException("Method not supported");
+        }
+    }
+
+    private static byte[] readBody(HttpEntity entity) throws IOException {
+        if (entity == null) {
+            return new byte[0];
+        }
+        try (InputStream content = entity.getContent()) {
+            return content != null ? ResponseBodyReader.read(content) : new byte[0];
+        }
+    }
+
+    private static Map<String, String> readCookies(Header[] setCookieHeaders) {
+        Map<String, String> cookies = new HashMap<>();
+        for (Header header : setCookieHeaders) {
+            String cookie = header.getValue().split(";", 2)[0];
+            int separator = cookie.indexOf('=');
+            if (separator > 0) {
+                cookies.put(cookie.substring(0, separator).trim(), cookie.substring(separator + 1).trim());
+            }
+        }
+        return cookies;
+    }
+}
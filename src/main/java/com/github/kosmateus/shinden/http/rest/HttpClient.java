@@ -3,13 +3,15 @@ package com.github.kosmateus.shinden.http.rest;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.github.kosmateus.shinden.http.request.HttpRequest;
 import com.github.kosmateus.shinden.http.response.ResponseHandler;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
 import com.google.inject.Inject;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 
+import java.util.Set;
+
 /**
  * HTTP client for making API calls.
  * <p>
@@ -40,7 +42,7 @@ public final class HttpClient {
      * @return a {@link ResponseHandler} containing the response data
      */
     public <T> ResponseHandler<T> get(HttpRequest httpRequest, Class<T> returnType) {
-        return executor.executeRequest(() -> Pair.of(executor.createHttpRequest(httpRequest, HttpGet.METHOD_NAME), httpRequest), returnType);
+        return executor.executeRequest(httpRequest, HttpGet.METHOD_NAME, returnType);
     }
 
     /**
@@ -57,7 +59,42 @@ public final class HttpClient {
      * @return a {@link ResponseHandler} containing the response data
      */
     public <T> ResponseHandler<T> get(HttpRequest httpRequest, TypeReference<T> returnType) {
-        return executor.executeRequest(() -> Pair.of(executor.createHttpRequest(httpRequest, HttpGet.METHOD_NAME), httpRequest), returnType);
+        return executor.executeRequest(httpRequest, HttpGet.METHOD_NAME, returnType);
+    }
+
+    /**
+     * Executes an HTTP GET request with a custom type reference, skipping the given properties of the response.
+     * <p>
+     * This method is similar to {@link #get(HttpRequest, TypeReference)}, but the given JSON properties are
+     * skipped while the response is decoded, without materializing their values. This saves the time and memory
+     * of decoding large properties the caller does not need.
+     * </p>
+     *
+     * @param <T>               the type of the entity expected in the response
+     * @param httpRequest       the {@link HttpRequest} containing the details of the request
+     * @param returnType        a {@link TypeReference} representing the complex type to which the response should be
+     *                          deserialized
+     * @param skippedProperties the names of the JSON properties to skip, at any depth
+     * @return a {@link ResponseHandler} containing the response data
+     */
+    public <T> ResponseHandler<T> get(HttpRequest httpRequest, TypeReference<T> returnType,
+                                      Set<String> skippedProperties) {
+        return executor.executeRequest(httpRequest, HttpGet.METHOD_NAME, returnType, skippedProperties);
+    }
+
+    /**
+     * Executes an HTTP GET request and returns the raw response.
+     * <p>
+     * Unlike {@link #get(HttpRequest, Class)}, the response body is not decoded. The returned
+     * {@link TransportResponse} keeps the body as bytes, so pages can be parsed directly from them
+     * without creating a decoded copy of the whole body.
+     * </p>
+     *
+     * @param httpRequest the {@link HttpRequest} containing the details of the request, such as the target URL and headers
+     * @return a {@link ResponseHandler} containing the raw response, or empty if the request failed
+     */
+    public ResponseHandler<TransportResponse> fetch(HttpRequest httpRequest) {
+        return executor.fetch(httpRequest, HttpGet.METHOD_NAME);
     }
 
     /**
@@ -76,7 +113,7 @@ public final class HttpClient {
      * @return a {@link ResponseHandler} containing the response data
      */
     public <T> ResponseHandler<T> post(HttpRequest httpRequest, Class<T> returnType) {
-        return executor.executeRequest(() -> Pair.of(executor.createHttpRequest(httpRequest, HttpPost.METHOD_NAME), httpRequest), returnType);
+        return executor.executeRequest(httpRequest, HttpPost.METHOD_NAME, returnType);
     }
 
     /**
@@ -95,7 +132,7 @@ public final class HttpClient {
      * @return a {@link ResponseHandler} containing the response data
      */
     public <T> ResponseHandler<T> post(HttpRequest httpRequest, TypeReference<T> returnType) {
-        return executor.executeRequest(() -> Pair.of(executor.createHttpRequest(httpRequest, HttpPost.METHOD_NAME), httpRequest), returnType);
+        return executor.executeRequest(httpRequest, HttpPost.METHOD_NAME, returnType);
     }
 
     /**
@@ -113,7 +150,7 @@ public final class HttpClient {
      * @return a {@link ResponseHandler} containing the response data
      */
     public <T> ResponseHandler<T> put(HttpRequest httpRequest, Class<T> returnType) {
-        return executor.executeRequest(() -> Pair.of(executor.createHttpRequest(httpRequest, HttpPut.METHOD_NAME), httpRequest), returnType);
+        return executor.executeRequest(httpRequest, HttpPut.METHOD_NAME, returnType);
     }
 
     /**
@@ -131,6 +168,6 @@ public final class HttpClient {
      * @return a {@link ResponseHandler} containing the response data
      */
     public <T> ResponseHandler<T> put(HttpRequest httpRequest, TypeReference<T> returnType) {
-        return executor.executeRequest(() -> Pair.of(executor.createHttpRequest(httpRequest, HttpPut.METHOD_NAME), httpRequest), returnType);
+        return executor.executeRequest(httpRequest, HttpPut.METHOD_NAME, returnType);
     }
 }
@@ -1,40 +1,47 @@
 package com.github.kosmateus.shinden.http.rest;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.kosmateus.shinden.auth.SessionLease;
 import com.github.kosmateus.shinden.auth.SessionManager;
+import com.github.kosmateus.shinden.auth.SessionRenewer;
+import com.github.kosmateus.shinden.auth.SessionSnapshot;
+import com.github.kosmateus.shinden.config.PropertySkippingParser;
 import com.github.kosmateus.shinden.http.request.FileResource;
 import com.github.kosmateus.shinden.http.request.HttpRequest;
 import com.github.kosmateus.shinden.http.response.EmptyReason;
 import com.github.kosmateus.shinden.http.response.ErrorDetails;
 import com.github.kosmateus.shinden.http.response.ResponseHandler;
+import com.github.kosmateus.shinden.http.transport.HttpTransport;
+import com.github.kosmateus.shinden.http.transport.HttpTransportDecorator;
+import com.github.kosmateus.shinden.http.transport.TransportRequest;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
+import com.github.kosmateus.shinden.tracing.ShindenTracing;
+import com.github.kosmateus.shinden.tracing.TracingAttributes;
 import com.google.inject.Inject;
+import io.opentelemetry.api.trace.SpanKind;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
-import org.apache.http.Header;
 import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
-import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
-import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.mime.HttpMultipartMode;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.net.URI;
-import java.util.Arrays;
+import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.Map;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Executor for making HTTP requests using Apache HttpClient.
@@ -51,20 +58,53 @@ import java.util.stream.Collectors;
  * complexities of request construction and response handling.
  * </p>
  *
+ * <p>
+ * The requests are carried by an {@link HttpTransport}. By default this is the {@link ApacheHttpTransport},
+ * which may be wrapped or replaced by the {@link HttpTransportDecorator} bound in the injector.
+ * </p>
+ *
+ * <p>
+ * The HTTP exchange and the decoding of JSON bodies are reported as {@link ShindenTracing} spans
+ * when tracing is enabled.
+ * </p>
+ *
+ * <p>
+ * JSON bodies are decoded by an {@link ObjectReader} created once per target type and reused by later
+ * responses of that type, so the type is resolved and its deserializer looked up only once. Every response
+ * type declares the unknown properties it ignores, so the mapper does not check for them globally. The
+ * Jackson {@link Module} bound in the injector, e.g. the Blackbird module replacing reflective accessors with
+ * generated ones, is registered on the mapper.
+ * </p>
+ *
  * @version 1.0.0
  */
 class HttpRestClientExecutor {
 
-    private final CloseableHttpClient client;
+    /**
+     * The boundary of the multipart bodies. A fixed boundary encodes equal requests into equal bodies, so their
+     * exchanges can be recorded and replayed.
+     */
+    static final String MULTIPART_BOUNDARY = "shinden4j-7f3a9c1e5b2d4086a1f0c8e6d3b5a927";
+
+    private final HttpTransport transport;
     private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
     private final SessionManager sessionManager;
+    private final SessionRenewer sessionRenewer;
+    private final ShindenTracing tracing;
 
     @Inject
-    public HttpRestClientExecutor(SessionManager sessionManager) {
+    public HttpRestClientExecutor(SessionManager sessionManager, SessionRenewer sessionRenewer, ShindenTracing tracing,
+                                  ApacheHttpTransport networkTransport, Optional<HttpTransportDecorator> transportDecorator,
+                                  Optional<Module> jacksonModule) {
         this.sessionManager = sessionManager;
+        this.sessionRenewer = sessionRenewer;
+        this.tracing = tracing;
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
-        this.client = HttpClients.createDefault();
+        this.objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        jacksonModule.ifPresent(objectMapper::registerModule);
+        this.transport = transportDecorator.map(decorator -> decorator.decorate(networkTransport)).orElse(networkTransport);
     }
 
     /**
@@ -76,12 +116,43 @@ class HttpRestClientExecutor {
      * </p>
      *
      * @param <T>           the type of the entity expected in the response
-     * @param executor      a supplier providing a pair of the HTTP request and the original {@link HttpRequest}
+     * @param httpRequest   the {@link HttpRequest} containing the details of the request
+     * @param method        the HTTP method (e.g., GET, POST, PUT)
      * @param typeReference a {@link TypeReference} representing the complex type to which the response should be deserialized
      * @return a {@link ResponseHandler} containing the response data or error details
      */
-    public <T> ResponseHandler<T> executeRequest(Supplier<Pair<HttpUriRequest, HttpRequest>> executor, TypeReference<T> typeReference) {
-        return executeRequestInternal(executor, response -> handleResponseResult(response, typeReference));
+    public <T> ResponseHandler<T> executeRequest(HttpRequest httpRequest, String method, TypeReference<T> typeReference) {
+        return executeRequestInternal(httpRequest, method, response -> handleResponseResult(response, typeReference));
+    }
+
+    /**
+     * Executes an HTTP request and processes the response into a specified complex type, skipping the given
+     * properties of the response.
+     * <p>
+     * The skipped properties are stepped over by a {@link PropertySkippingParser} while the body is decoded,
+     * without materializing their values, and are left at their default value in the returned entity.
+     * </p>
+     *
+     * @param <T>               the type of the entity expected in the response
+     * @param httpRequest       the {@link HttpRequest} containing the details of the request
+     * @param method            the HTTP method (e.g., GET, POST, PUT)
+     * @param typeReference     a {@link TypeReference} representing the complex type to which the response should be
+     *                          deserialized
+     * @param skippedProperties the names of the JSON properties to skip, at any depth
+     * @return a {@link ResponseHandler} containing the response data or error details
+     */
+    <T> ResponseHandler<T> executeRequest(HttpRequest httpRequest, String method, TypeReference<T> typeReference,
+                                          Set<String> skippedProperties) {
+        if (skippedProperties.isEmpty()) {
+            return executeRequest(httpRequest, method, typeReference);
+        }
+        ObjectReader reader = readerFor(typeReference.getType());
+        return executeRequestInternal(httpRequest, method, response -> handleResponseResult(response, body -> {
+            try (JsonParser parser = new PropertySkippingParser(objectMapper.getFactory().createParser(body),
+                    skippedProperties)) {
+                return reader.readValue(parser);
+            }
+        }));
     }
 
     /**
@@ -91,80 +162,71 @@ class HttpRestClientExecutor {
      * return type. It is suitable for handling responses that map directly to a specific class.
      * </p>
      *
-     * @param <T>      the type of the entity expected in the response
-     * @param executor a supplier providing a pair of the HTTP request and the original {@link HttpRequest}
-     * @param clazz    the {@link Class} of the expected return type. This is used to deserialize the response body
-     *                 into an instance of the specified type
+     * @param <T>         the type of the entity expected in the response
+     * @param httpRequest the {@link HttpRequest} containing the details of the request
+     * @param method      the HTTP method (e.g., GET, POST, PUT)
+     * @param clazz       the {@link Class} of the expected return type. This is used to deserialize the response body
+     *                    into an instance of the specified type
      * @return a {@link ResponseHandler} containing the response data or error details
      */
-    <T> ResponseHandler<T> executeRequest(Supplier<Pair<HttpUriRequest, HttpRequest>> executor, Class<T> clazz) {
-        return executeRequestInternal(executor, response -> handleResponseResult(response, clazz));
+    <T> ResponseHandler<T> executeRequest(HttpRequest httpRequest, String method, Class<T> clazz) {
+        return executeRequestInternal(httpRequest, method, response -> handleResponseResult(response, clazz));
     }
 
     /**
-     * Creates an HTTP request, adding necessary headers, cookies, and handling body content such as JSON,
-     * form fields, and files.
+     * Executes an HTTP request and returns the raw response.
+     * <p>
+     * The response body is not decoded. Responses with an HTTP error status are reported as an empty
+     * {@link ResponseHandler}, the same way as by the decoding methods.
+     * </p>
      *
      * @param httpRequest the {@link HttpRequest} containing the details of the request
      * @param method      the HTTP method (e.g., GET, POST, PUT)
-     * @return a {@link HttpUriRequest} with headers, cookies, and the body applied
+     * @return a {@link ResponseHandler} containing the raw response or error details
      */
-    HttpUriRequest createHttpRequest(HttpRequest httpRequest, String method) {
-        HttpUriRequest request = createRequest(method, URI.create(httpRequest.getURL()));
-        addAuthenticationCookies(request);
-
-        return request;
+    ResponseHandler<TransportResponse> fetch(HttpRequest httpRequest, String method) {
+        return executeRequestInternal(httpRequest, method, response -> response.getStatusCode() < 400
+                ? ResponseHandler.of(response, response.getStatusCode(), response.getHeaders())
+                : errorResponse(response));
     }
 
     /**
      * Executes the HTTP request and handles the response.
      * <p>
-     * This internal method sends the HTTP request and uses a response handler function to process
-     * the response. It supports various HTTP methods and content types, including JSON, form fields,
-     * and multipart file uploads.
+     * This internal method sends the HTTP request through the {@link HttpTransport} and uses a response
+     * handler function to process the response. It supports various HTTP methods and content types,
+     * including JSON, form fields, and multipart file uploads. When the response rejects the session, e.g.
+     * because it has expired, the session is renewed by the {@link SessionRenewer} and idempotent requests
+     * are sent once more with the renewed session.
      * </p>
      *
      * @param <T>                     the type of the entity expected in the response
-     * @param executor                a supplier providing a pair of the HTTP request and the original {@link HttpRequest}
+     * @param httpRequest             the {@link HttpRequest} containing the details of the request
+     * @param method                  the HTTP method (e.g., GET, POST, PUT)
      * @param responseHandlerFunction a function to process the response and convert it into a {@link ResponseHandler}
      * @return a {@link ResponseHandler} containing the response data or error details
      */
-    private <T> ResponseHandler<T> executeRequestInternal(Supplier<Pair<HttpUriRequest, HttpRequest>> executor, ResponseHandlerFunction<T> responseHandlerFunction) {
-        Pair<HttpUriRequest, HttpRequest> requestPair = executor.get();
-        HttpUriRequest request = requestPair.getLeft();
-        HttpRequest httpRequest = requestPair.getRight();
-
-        if (httpRequest.getHeaders() != null && !httpRequest.getHeaders().isEmpty()) {
-            httpRequest.getHeaders().forEach(request::addHeader);
-        }
-
-        if (request instanceof HttpPost || request instanceof HttpPut) {
-            HttpEntityEnclosingRequestBase entityRequest = (HttpEntityEnclosingRequestBase) request;
-            MultipartEntityBuilder builder = MultipartEntityBuilder.create();
-            builder.setMode(HttpMultipartMode.BROWSER_COMPATIBLE);
-
-            try {
-                if (StringUtils.isNotBlank(httpRequest.getBody())) {
-                    builder.addTextBody("body", httpRequest.getBody(), ContentType.APPLICATION_JSON);
-                }
-                if (httpRequest.getFormFields() != null && !httpRequest.getFormFields().isEmpty()) {
-                    httpRequest.getFormFields().forEach((key, value) ->
-                            builder.addTextBody(key, value, ContentType.TEXT_PLAIN));
+    private <T> ResponseHandler<T> executeRequestInternal(HttpRequest httpRequest, String method, ResponseHandlerFunction<T> responseHandlerFunction) {
+        String spanName = method + " " + httpRequest.getUrlTemplate();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try (SessionLease lease = leaseSession(httpRequest)) {
+                    TransportRequest request = createTransportRequest(httpRequest, method, lease.getSnapshot());
+                    TransportResponse response = tracing.inSpan(spanName, SpanKind.CLIENT, span -> {
+                        span.setAttribute(TracingAttributes.HTTP_METHOD, method);
+                        span.setAttribute(TracingAttributes.URL_TEMPLATE, httpRequest.getUrlTemplate());
+                        TransportResponse received = transport.execute(request);
+                        span.setAttribute(TracingAttributes.HTTP_STATUS, received.getStatusCode());
+                        span.setAttribute(TracingAttributes.BODY_SIZE, received.getBody().length);
+                        return received;
+                    });
+                    boolean renewed = attempt == 1 && sessionRenewer.renewIfRejected(lease, response.getStatusCode(),
+                            request.getUrl(), response.getUrl());
+                    if (!renewed || !SessionRenewer.isRetryable(method)) {
+                        return responseHandlerFunction.handle(response);
+                    }
                 }
-
-                if (httpRequest.getFileResources() != null && !httpRequest.getFileResources().isEmpty()) {
-                    addFileResources(builder, httpRequest.getFileResources());
-                }
-
-                HttpEntity entity = builder.build();
-                entityRequest.setEntity(entity);
-            } catch (IOException e) {
-                return handleIOException(e);
             }
-        }
-
-        try (CloseableHttpResponse response = client.execute(request)) {
-            return responseHandlerFunction.handle(response);
         } catch (IOException e) {
             return handleIOException(e);
         } catch (Exception e) {
@@ -173,40 +235,62 @@ class HttpRestClientExecutor {
     }
 
     /**
-     * Adds authentication cookies to the HTTP request.
+     * Leases the session the request is sent with. Requests carrying their own cookies are sent with those cookies
+     * instead of the managed session.
      *
-     * @param request the {@link HttpUriRequest} to which the cookies should be added
+     * @param httpRequest the {@link HttpRequest} to be sent
+     * @return the lease of the session, to be closed once the response has been received
      */
-    private void addAuthenticationCookies(HttpUriRequest request) {
-        Map<String, String> cookies = sessionManager.getCookies();
-        if (cookies != null && !cookies.isEmpty()) {
-            String cookieHeader = cookies.entrySet()
-                    .stream()
-                    .map(entry -> entry.getKey() + "=" + entry.getValue())
-                    .collect(Collectors.joining("; "));
-            request.addHeader("Cookie", cookieHeader);
-        }
+    private SessionLease leaseSession(HttpRequest httpRequest) {
+        return httpRequest.getCookies() != null
+                ? SessionLease.of(SessionSnapshot.of(httpRequest.getCookies(), null, null))
+                : sessionManager.lease();
     }
 
     /**
-     * Creates an instance of {@link HttpUriRequest} based on the specified HTTP method and URI.
+     * Creates the transport request, adding the headers, the authentication cookies and, for POST and PUT
+     * requests, the multipart body built from the JSON body, form fields and files, delimited by the
+     * {@link #MULTIPART_BOUNDARY}.
      *
-     * @param method the HTTP method (e.g., GET, POST, PUT)
-     * @param uri    the {@link URI} for the request
-     * @return a new instance of {@link HttpUriRequest}
-     * @throws IllegalArgumentException if the HTTP method is not supported
+     * @param httpRequest the {@link HttpRequest} containing the details of the request
+     * @param method      the HTTP method (e.g., GET, POST, PUT)
+     * @param session     the session whose cookies are sent with the request
+     * @return a {@link TransportRequest} with headers, cookies, and the body applied
+     * @throws IOException if an error occurs while reading a file resource
      */
-    private HttpUriRequest createRequest(String method, URI uri) {
-        switch (method) {
-            case "GET":
-                return new HttpGet(uri);
-            case "POST":
-                return new HttpPost(uri);
-            case "PUT":
-                return new HttpPut(uri);
-            default:
-                throw new IllegalArgumentException("Method not supported");
+    private TransportRequest createTransportRequest(HttpRequest httpRequest, String method, SessionSnapshot session)
+            throws IOException {
+        TransportRequest.TransportRequestBuilder request = TransportRequest.builder()
+                .method(method)
+                .url(httpRequest.getURL())
+                .urlTemplate(httpRequest.getUrlTemplate())
+                .headers(httpRequest.getHeaders() != null ? httpRequest.getHeaders() : Collections.emptyMap())
+                .cookies(session.getCookies())
+                .cookieHeader(session.getCookieHeader());
+
+        if (HttpPost.METHOD_NAME.equals(method) || HttpPut.METHOD_NAME.equals(method)) {
+            MultipartEntityBuilder builder = MultipartEntityBuilder.create();
+            builder.setMode(HttpMultipartMode.BROWSER_COMPATIBLE);
+            builder.setBoundary(MULTIPART_BOUNDARY);
+
+            if (StringUtils.isNotBlank(httpRequest.getBody())) {
+                builder.addTextBody("body", httpRequest.getBody(), ContentType.APPLICATION_JSON);
+            }
+            if (httpRequest.getFormFields() != null && !httpRequest.getFormFields().isEmpty()) {
+                httpRequest.getFormFields().forEach((key, value) ->
+                        builder.addTextBody(key, value, ContentType.TEXT_PLAIN));
+            }
+
+            if (httpRequest.getFileResources() != null && !httpRequest.getFileResources().isEmpty()) {
+                addFileResources(builder, httpRequest.getFileResources());
+            }
+
+            HttpEntity entity = builder.build();
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            entity.writeTo(body);
+            request.body(body.toByteArray()).contentType(entity.getContentType().getValue());
         }
+        return request.build();
     }
 
     /**
@@ -228,54 +312,62 @@ class HttpRestClientExecutor {
      * Handles the response from the server, deserializing it into the specified type.
      *
      * @param <T>      the type of the entity expected in the response
-     * @param response the {@link HttpResponse} received from the server
+     * @param response the {@link TransportResponse} received from the server
      * @param clazz    the {@link Class} of the expected return type
      * @return a {@link ResponseHandler} containing the response data
      * @throws IOException if an error occurs while processing the response
      */
-    private <T> ResponseHandler<T> handleResponseResult(HttpResponse response, Class<T> clazz)
+    private <T> ResponseHandler<T> handleResponseResult(TransportResponse response, Class<T> clazz)
             throws IOException {
-        return handleResponseResult(response, body -> objectMapper.readValue(body, clazz));
+        return handleResponseResult(response, body -> readerFor(clazz).readValue(body));
     }
 
     /**
      * Handles the response from the server, deserializing it into the specified type.
      *
      * @param <T>           the type of the entity expected in the response
-     * @param response      the {@link HttpResponse} received from the server
+     * @param response      the {@link TransportResponse} received from the server
      * @param typeReference the {@link TypeReference} of the expected return type
      * @return a {@link ResponseHandler} containing the response data
      * @throws IOException if an error occurs while processing the response
      */
-    private <T> ResponseHandler<T> handleResponseResult(HttpResponse response, TypeReference<T> typeReference) throws IOException {
-        return handleResponseResult(response, body -> objectMapper.readValue(body, typeReference));
+    private <T> ResponseHandler<T> handleResponseResult(TransportResponse response, TypeReference<T> typeReference) throws IOException {
+        return handleResponseResult(response, body -> readerFor(typeReference.getType()).readValue(body));
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> ResponseHandler<T> handleResponseResult(HttpResponse response, BodyConverter<T> converter) throws IOException {
-        HttpEntity entity = response.getEntity();
-        String body = EntityUtils.toString(entity);
+    /**
+     * Returns the reader decoding JSON bodies into the given type, creating it on first use.
+     *
+     * @param type the type of the decoded entities
+     * @return the {@link ObjectReader} for the type
+     */
+    private ObjectReader readerFor(Type type) {
+        return readers.computeIfAbsent(type, key -> objectMapper.readerFor(objectMapper.constructType(key)));
+    }
 
-        int status = response.getStatusLine().getStatusCode();
-        Map<String, String> headers = Arrays.stream(response.getAllHeaders())
-                .collect(Collectors.toMap(
-                        Header::getName,
-                        Header::getValue,
-                        (existingValue, newValue) -> existingValue + ", " + newValue
-                ));
+    @SuppressWarnings("unchecked")
+    private <T> ResponseHandler<T> handleResponseResult(TransportResponse response, BodyConverter<T> converter) throws IOException {
+        String body = response.getBodyAsString();
+        int status = response.getStatusCode();
+        Map<String, String> headers = response.getHeaders();
 
         if (status < 400) {
             if (StringUtils.isNotBlank(body)) {
                 if (body.startsWith("[") || body.startsWith("{")) {
-                    return ResponseHandler.of(converter.convert(body), status, headers);
+                    T entityValue = tracing.inSpan("json.decode", SpanKind.INTERNAL, decodeSpan -> converter.convert(body));
+                    return ResponseHandler.of(entityValue, status, headers);
                 }
                 return ResponseHandler.of((T) body, status, headers);
             }
             return ResponseHandler.emptyOk(status, headers);
         }
 
-        return ResponseHandler.empty(status, headers,
-                EmptyReason.fromHttpStatus(status, ErrorDetails.builder().build()));
+        return errorResponse(response);
+    }
+
+    private <T> ResponseHandler<T> errorResponse(TransportResponse response) {
+        return ResponseHandler.empty(response.getStatusCode(), response.getHeaders(),
+                EmptyReason.fromHttpStatus(response.getStatusCode(), ErrorDetails.builder().build()));
     }
 
     /**
@@ -312,11 +404,11 @@ class HttpRestClientExecutor {
 
     @FunctionalInterface
     private interface ResponseHandlerFunction<T> {
-        ResponseHandler<T> handle(HttpResponse response) throws IOException;
+        ResponseHandler<T> handle(TransportResponse response) throws IOException;
     }
 
     @FunctionalInterface
     private interface BodyConverter<T> {
-        T convert(String body) throws JsonProcessingException;
+        T convert(String body) throws IOException;
     }
 }
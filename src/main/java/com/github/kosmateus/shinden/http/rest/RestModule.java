@@ -1,8 +1,14 @@
 package com.github.kosmateus.shinden.http.rest;
 
+import com.fasterxml.jackson.databind.Module;
+import com.github.kosmateus.shinden.auth.Authenticator;
 import com.github.kosmateus.shinden.auth.SessionManager;
+import com.github.kosmateus.shinden.auth.SessionRenewer;
+import com.github.kosmateus.shinden.http.transport.HttpTransportDecorator;
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
+import com.google.inject.multibindings.OptionalBinder;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -16,6 +22,7 @@ import lombok.RequiredArgsConstructor;
  *
  * @version 1.0.0
  */
+@EqualsAndHashCode(callSuper = false)
 @RequiredArgsConstructor
 public class RestModule extends AbstractModule {
 
@@ -34,6 +41,11 @@ public class RestModule extends AbstractModule {
     @Override
     protected void configure() {
         bind(SessionManager.class).toInstance(sessionManager);
+        OptionalBinder.newOptionalBinder(binder(), HttpTransportDecorator.class);
+        OptionalBinder.newOptionalBinder(binder(), Authenticator.class);
+        OptionalBinder.newOptionalBinder(binder(), Module.class);
+        bind(SessionRenewer.class).in(Singleton.class);
+        bind(ApacheHttpTransport.class).in(Singleton.class);
         bind(HttpRestClientExecutor.class).in(Singleton.class);
         bind(HttpClient.class).in(Singleton.class);
     }
@@ -0,0 +1,30 @@
+package com.github.kosmateus.shinden.http.transport;
+
+import java.io.IOException;
+
+/**
+ * Carries a single HTTP exchange between the library and the server.
+ *
+ * <p>The {@code HttpTransport} interface is the lowest layer of the HTTP stack. The {@code JsoupClient} and the
+ * REST {@code HttpClient} prepare a {@link TransportRequest} and hand it to the transport, which returns the raw
+ * {@link TransportResponse}; parsing, decoding and error handling happen above this layer. Replacing the transport
+ * allows the API to run without network access, e.g. by replaying recorded exchanges with {@link ReplayTransport}.</p>
+ *
+ * <p>Implementations must be thread-safe. HTTP error statuses are not failures of the transport: responses with
+ * status codes of 400 and above are returned like any other response, while an {@link IOException} is reserved
+ * for exchanges that could not be completed.</p>
+ *
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface HttpTransport {
+
+    /**
+     * Executes the given request and returns the received response.
+     *
+     * @param request the request to execute
+     * @return the response received for the request, including responses with error statuses
+     * @throws IOException if the exchange could not be completed
+     */
+    TransportResponse execute(TransportRequest request) throws IOException;
+}
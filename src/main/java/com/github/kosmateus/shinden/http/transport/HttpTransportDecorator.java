@@ -0,0 +1,34 @@
+package com.github.kosmateus.shinden.http.transport;
+
+/**
+ * Customizes the transport used by the HTTP clients of the library.
+ *
+ * <p>The decorator receives the default network transport of a client and returns the transport the client
+ * should use instead. It can wrap the network transport, e.g. to record the exchanges with
+ * {@link RecordingTransport#into(TransportArchive)}, or replace it entirely, e.g. with a {@link ReplayTransport}
+ * through {@link #replaceWith(HttpTransport)}. The decorator is applied once per client, so a single
+ * decorator covers both the HTML and the REST endpoints.</p>
+ *
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface HttpTransportDecorator {
+
+    /**
+     * Returns the transport to use in place of the given network transport.
+     *
+     * @param transport the default network transport of the client
+     * @return the transport to be used by the client
+     */
+    HttpTransport decorate(HttpTransport transport);
+
+    /**
+     * Creates a decorator replacing the network transport with the given transport.
+     *
+     * @param transport the transport to use instead of the network transport
+     * @return a decorator always returning the given transport
+     */
+    static HttpTransportDecorator replaceWith(HttpTransport transport) {
+        return ignored -> transport;
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.kosmateus.shinden.http.transport;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Distribution of the delays applied by a {@link ReplayTransport} before serving a response.
+ *
+ * <p>The distribution is sampled once per replayed exchange and receives the latency of the original,
+ * recorded exchange, so distributions can either reproduce the recorded timings or replace them with
+ * synthetic ones. Implementations must be thread-safe.</p>
+ *
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Samples the delay of a replayed exchange.
+     *
+     * @param recordedNanos the duration of the recorded exchange in nanoseconds
+     * @return the delay to apply in nanoseconds, values below one are treated as no delay
+     */
+    long sampleNanos(long recordedNanos);
+
+    /**
+     * Returns a distribution serving every response immediately.
+     *
+     * @return a distribution without any delay
+     */
+    static LatencyDistribution none() {
+        return recordedNanos -> 0L;
+    }
+
+    /**
+     * Returns a distribution reproducing the latency of each recorded exchange.
+     *
+     * @return a distribution returning the recorded latencies
+     */
+    static LatencyDistribution recorded() {
+        return recordedNanos -> recordedNanos;
+    }
+
+    /**
+     * Returns a distribution applying the same delay to every exchange.
+     *
+     * @param delay the delay to apply
+     * @return a constant distribution
+     */
+    static LatencyDistribution fixed(Duration delay) {
+        long delayNanos = delay.toNanos();
+        return recordedNanos -> delayNanos;
+    }
+
+    /**
+     * Returns a distribution drawing delays uniformly from the given range.
+     *
+     * @param min the minimum delay, inclusive
+     * @param max the maximum delay, exclusive
+     * @return a uniform distribution
+     * @throws IllegalArgumentException if the maximum delay is lower than the minimum delay
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        if (maxNanos < minNanos) {
+            throw new IllegalArgumentException("Maximum latency must not be lower than minimum latency");
+        }
+        if (maxNanos == minNanos) {
+            return recordedNanos -> minNanos;
+        }
+        return recordedNanos -> ThreadLocalRandom.current().nextLong(minNanos, maxNanos);
+    }
+
+    /**
+     * Returns a log-normal distribution, which models the long tail of real network latencies.
+     *
+     * @param median the median delay
+     * @param sigma  the standard deviation of the logarithm of the delay, {@code 0} yields a constant delay
+     * @return a log-normal distribution
+     * @throws IllegalArgumentException if the median is not positive or sigma is negative
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        if (median.isNegative() || median.isZero()) {
+            throw new IllegalArgumentException("Median latency must be positive");
+        }
+        if (sigma < 0) {
+            throw new IllegalArgumentException("Sigma must not be negative");
+        }
+        double mu = Math.log(median.toNanos());
+        return recordedNanos -> (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+    }
+
+    /**
+     * Returns a distribution multiplying the delays of this distribution by the given factor.
+     *
+     * @param factor the factor to apply, e.g. {@code 0.5} to halve the delays
+     * @return a scaled distribution
+     */
+    default LatencyDistribution scaled(double factor) {
+        return recordedNanos -> (long) (sampleNanos(recordedNanos) * factor);
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.kosmateus.shinden.http.transport;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A single request-response pair captured by a {@link RecordingTransport}.
+ * <p>
+ * The exchange identifies the request by its {@link TransportRequest#getExchangeKey() exchange key} and keeps
+ * the complete response together with the time the original exchange took. Request headers, cookies and
+ * bodies are not recorded.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+public final class RecordedExchange {
+
+    /**
+     * The key identifying the recorded request.
+     */
+    private final String key;
+
+    /**
+     * The response received for the request.
+     */
+    private final TransportResponse response;
+
+    /**
+     * The duration of the original exchange in nanoseconds.
+     */
+    private final long latencyNanos;
+}
@@ -0,0 +1,68 @@
+package com.github.kosmateus.shinden.http.transport;
+
+import java.io.IOException;
+
+/**
+ * Transport recording every exchange it executes into a {@link TransportArchive}.
+ *
+ * <p>The {@code RecordingTransport} delegates each request to another transport, typically the network
+ * transport of the client, and adds the received response together with the time the exchange took to the
+ * archive. Exchanges failing with an {@link IOException} are not recorded. The archive can then be saved and
+ * served by a {@link ReplayTransport}:</p>
+ *
+ * <pre>{@code
+ * TransportArchive archive = new TransportArchive();
+ * ShindenApi api = ShindenApi.create(ShindenConfig.builder()
+ *         .transport(RecordingTransport.into(archive))
+ *         .build());
+ * api.user().getReviews(userId);
+ * archive.writeTo(Paths.get("user-reviews.shta"));
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+public final class RecordingTransport implements HttpTransport {
+
+    private final HttpTransport delegate;
+    private final TransportArchive archive;
+
+    /**
+     * Constructs a {@code RecordingTransport} recording the exchanges of the given transport.
+     *
+     * @param delegate the transport executing the requests
+     * @param archive  the archive the exchanges are recorded into
+     */
+    public RecordingTransport(HttpTransport delegate, TransportArchive archive) {
+        this.delegate = delegate;
+        this.archive = archive;
+    }
+
+    /**
+     * Creates a decorator recording the exchanges of every decorated transport into the given archive.
+     *
+     * @param archive the archive the exchanges are recorded into
+     * @return a decorator wrapping transports with a {@code RecordingTransport}
+     */
+    public static HttpTransportDecorator into(TransportArchive archive) {
+        return transport -> new RecordingTransport(transport, archive);
+    }
+
+    /**
+     * Executes the request with the delegate transport and records the exchange.
+     *
+     * @param request the request to execute
+     * @return the response returned by the delegate transport
+     * @throws IOException if the delegate transport fails to complete the exchange
+     */
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        long start = System.nanoTime();
+        TransportResponse response = delegate.execute(request);
+        archive.add(RecordedExchange.builder()
+                .key(request.getExchangeKey())
+                .response(response)
+                .latencyNanos(System.nanoTime() - start)
+                .build());
+        return response;
+    }
+}
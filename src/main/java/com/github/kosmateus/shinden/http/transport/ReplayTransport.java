@@ -0,0 +1,96 @@
+package com.github.kosmateus.shinden.http.transport;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transport serving recorded exchanges from memory instead of the network.
+ *
+ * <p>The {@code ReplayTransport} looks up each request by its {@link TransportRequest#getExchangeKey() exchange
+ * key} in a {@link TransportArchive} and returns the recorded response after a delay drawn from the configured
+ * {@link LatencyDistribution}. When the same request was recorded several times, the recorded responses are
+ * returned in turn. Requests that were not recorded fail with an {@link IOException}, so a test never reaches
+ * the real service by accident:</p>
+ *
+ * <pre>{@code
+ * ReplayTransport replay = new ReplayTransport(TransportArchive.read(Paths.get("user-reviews.shta")),
+ *         LatencyDistribution.logNormal(Duration.ofMillis(80), 0.4));
+ * ShindenApi api = ShindenApi.create(ShindenConfig.builder()
+ *         .transport(HttpTransportDecorator.replaceWith(replay))
+ *         .build());
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+public final class ReplayTransport implements HttpTransport {
+
+    private final Map<String, List<RecordedExchange>> exchanges;
+    private final Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+    private final LatencyDistribution latency;
+
+    /**
+     * Constructs a {@code ReplayTransport} serving the exchanges of the given archive without any delay.
+     *
+     * @param archive the archive containing the recorded exchanges
+     */
+    public ReplayTransport(TransportArchive archive) {
+        this(archive, LatencyDistribution.none());
+    }
+
+    /**
+     * Constructs a {@code ReplayTransport} serving the exchanges of the given archive.
+     *
+     * @param archive the archive containing the recorded exchanges
+     * @param latency the distribution of the delays applied before serving a response
+     */
+    public ReplayTransport(TransportArchive archive, LatencyDistribution latency) {
+        Map<String, List<RecordedExchange>> byKey = new HashMap<>();
+        for (RecordedExchange exchange : archive.getExchanges()) {
+            byKey.computeIfAbsent(exchange.getKey(), key -> new ArrayList<>()).add(exchange);
+        }
+        byKey.replaceAll((key, recorded) -> Collections.unmodifiableList(recorded));
+        this.exchanges = Collections.unmodifiableMap(byKey);
+        this.latency = latency;
+    }
+
+    /**
+     * Returns the recorded response for the given request.
+     *
+     * @param request the request to serve
+     * @return the recorded response
+     * @throws IOException if no exchange was recorded for the request, or the thread is interrupted while
+     *                     the response is delayed
+     */
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        String key = request.getExchangeKey();
+        List<RecordedExchange> recorded = exchanges.get(key);
+        if (recorded == null) {
+            throw new IOException("No recorded exchange for " + key);
+        }
+        int index = cursors.computeIfAbsent(key, ignored -> new AtomicInteger()).getAndIncrement();
+        RecordedExchange exchange = recorded.get(Math.floorMod(index, recorded.size()));
+        delay(latency.sampleNanos(exchange.getLatencyNanos()));
+        return exchange.getResponse();
+    }
+
+    private static void delay(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while replaying an exchange");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.kosmateus.shinden.http.transport;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility class reading response bodies from the network into memory.
+ * <p>
+ * The {@code ResponseBodyReader} reads the body into fixed-size chunks borrowed from a pool shared by all
+ * transports, and copies the chunks into a single array of the exact body size once the stream is exhausted.
+ * Unlike a growing {@link java.io.ByteArrayOutputStream}, reading a body allocates no intermediate arrays besides
+ * the returned one. Up to {@value #MAX_POOLED_CHUNKS} chunks of {@value #CHUNK_SIZE} bytes are kept for reuse.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResponseBodyReader {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+    private static final int MAX_POOLED_CHUNKS = 64;
+    private static final Queue<byte[]> POOL = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOLED = new AtomicInteger();
+
+    /**
+     * Reads the given stream to the end. The stream is not closed.
+     *
+     * @param input the stream to read
+     * @return the bytes read from the stream
+     * @throws IOException if the stream could not be read, or holds more than {@link Integer#MAX_VALUE} bytes
+     */
+    public static byte[] read(InputStream input) throws IOException {
+        List<byte[]> chunks = new ArrayList<>();
+        try {
+            int length = 0;
+            int position = CHUNK_SIZE;
+            byte[] chunk = null;
+            while (true) {
+                if (position == CHUNK_SIZE) {
+                    chunk = acquire();
+                    chunks.add(chunk);
+                    position = 0;
+                }
+                int read = input.read(chunk, position, CHUNK_SIZE - position);
+                if (read == -1) {
+                    break;
+                }
+                if (length > Integer.MAX_VALUE - read) {
+                    throw new IOException("Response body exceeds " + Integer.MAX_VALUE + " bytes");
+                }
+                position += read;
+                length += read;
+            }
+            byte[] body = new byte[length];
+            int offset = 0;
+            for (byte[] filled : chunks) {
+                int count = Math.min(CHUNK_SIZE, length - offset);
+                System.arraycopy(filled, 0, body, offset, count);
+                offset += count;
+            }
+            return body;
+        } finally {
+            chunks.forEach(ResponseBodyReader::release);
+        }
+    }
+
+    private static byte[] acquire() {
+        byte[] chunk = POOL.poll();
+        if (chunk == null) {
+            return new byte[CHUNK_SIZE];
+        }
+        POOLED.decrementAndGet();
+        return chunk;
+    }
+
+    private static void release(byte[] chunk) {
+        if (POOLED.incrementAndGet() <= MAX_POOLED_CHUNKS) {
+            POOL.offer(chunk);
+        } else {
+            POOLED.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.github.kosmateus.shinden.http.transport;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A collection of recorded HTTP exchanges that can be stored in a compact binary file.
+ *
+ * <p>The {@code TransportArchive} class is filled by {@link RecordingTransport} instances and serves as the
+ * source of the responses replayed by a {@link ReplayTransport}. Exchanges can be added concurrently.</p>
+ *
+ * <p>The archive is stored as a GZIP-compressed stream of the magic number, the format version, the number
+ * of exchanges and the exchanges themselves. Each exchange consists of the request key, the recorded latency,
+ * the status line, the final URL, the headers, the cookies, the content type and the body of the response.
+ * Archives contain the cookies set by the server, e.g. session tokens returned by the login form, and should
+ * be treated as secrets when recorded with real credentials.</p>
+ *
+ * @version 1.0.0
+ */
+public final class TransportArchive {
+
+    private static final int MAGIC = 0x53484e54;
+    private static final int VERSION = 1;
+    private static final int MAX_LENGTH = 256 * 1024 * 1024;
+    private static final int CHUNK_LENGTH = 64 * 1024;
+
+    private final ConcurrentLinkedQueue<RecordedExchange> exchanges = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Adds an exchange to the archive.
+     *
+     * @param exchange the exchange to add
+     */
+    public void add(RecordedExchange exchange) {
+        exchanges.add(exchange);
+    }
+
+    /**
+     * Returns the exchanges of the archive in the order they were added.
+     *
+     * @return an unmodifiable snapshot of the recorded exchanges
+     */
+    public List<RecordedExchange> getExchanges() {
+        return Collections.unmodifiableList(new ArrayList<>(exchanges));
+    }
+
+    /**
+     * Writes the archive to the given file, replacing any existing content.
+     *
+     * @param file the file to write the archive to
+     * @throws IOException if the archive cannot be written
+     */
+    public void writeTo(Path file) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            writeTo(outputStream);
+        }
+    }
+
+    /**
+     * Writes the archive to the given stream. The stream is not closed.
+     *
+     * @param outputStream the stream to write the archive to
+     * @throws IOException if the archive cannot be written
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        List<RecordedExchange> snapshot = getExchanges();
+        GZIPOutputStream gzip = new GZIPOutputStream(outputStream);
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(gzip));
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(snapshot.size());
+        for (RecordedExchange exchange : snapshot) {
+            TransportResponse response = exchange.getResponse();
+            writeString(output, exchange.getKey());
+            output.writeLong(exchange.getLatencyNanos());
+            output.writeInt(response.getStatusCode());
+            writeString(output, response.getStatusMessage());
+            writeString(output, response.getUrl());
+            writeMap(output, response.getHeaders());
+            writeMap(output, response.getCookies());
+            writeString(output, response.getContentType());
+            output.writeInt(response.getBody().length);
+            output.write(response.getBody());
+        }
+        output.flush();
+        gzip.finish();
+    }
+
+    /**
+     * Reads an archive from the given file.
+     *
+     * @param file the file containing the archive
+     * @return the archive read from the file
+     * @throws IOException if the file cannot be read or is not a valid archive
+     */
+    public static TransportArchive read(Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return read(inputStream);
+        }
+    }
+
+    /**
+     * Reads an archive from the given stream. The stream is not closed.
+     *
+     * @param inputStream the stream containing the archive
+     * @return the archive read from the stream
+     * @throws IOException if the stream cannot be read or does not contain a valid archive, e.g. because it
+     *                     declares a negative or too large length
+     */
+    public static TransportArchive read(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(inputStream)));
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a transport archive");
+        }
+        int version = input.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported transport archive version: " + version);
+        }
+        TransportArchive archive = new TransportArchive();
+        int count = readLength(input);
+        for (int i = 0; i < count; i++) {
+            String key = readString(input);
+            long latencyNanos = input.readLong();
+            TransportResponse.TransportResponseBuilder response = TransportResponse.builder()
+                    .statusCode(input.readInt())
+                    .statusMessage(readString(input))
+                    .url(readString(input))
+                    .headers(readMap(input))
+                    .cookies(readMap(input))
+                    .contentType(readString(input));
+            byte[] body = readBytes(input, readLength(input));
+            archive.add(RecordedExchange.builder()
+                    .key(key)
+                    .latencyNanos(latencyNanos)
+                    .response(response.body(body).build())
+                    .build());
+        }
+        return archive;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(readBytes(input, length), StandardCharsets.UTF_8);
+    }
+
+    private static int readLength(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IOException("Invalid length in transport archive: " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Reads the given number of bytes. Long arrays are read in chunks, so a length exceeding the remaining input
+     * fails at the end of the input instead of allocating the whole length up front.
+     */
+    private static byte[] readBytes(DataInputStream input, int length) throws IOException {
+        if (length > MAX_LENGTH) {
+            throw new IOException("Invalid length in transport archive: " + length);
+        }
+        if (length <= CHUNK_LENGTH) {
+            byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            return bytes;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(CHUNK_LENGTH);
+        byte[] chunk = new byte[CHUNK_LENGTH];
+        for (int remaining = length; remaining > 0; remaining -= CHUNK_LENGTH) {
+            int read = Math.min(remaining, CHUNK_LENGTH);
+            input.readFully(chunk, 0, read);
+            bytes.write(chunk, 0, read);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeMap(DataOutputStream output, Map<String, String> map) throws IOException {
+        output.writeInt(map.size());
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeString(output, entry.getKey());
+            writeString(output, entry.getValue());
+        }
+    }
+
+    private static Map<String, String> readMap(DataInputStream input) throws IOException {
+        int size = readLength(input);
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(input), readString(input));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -0,0 +1,168 @@
+package com.github.kosmateus.shinden.http.transport;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a fully prepared HTTP request handed to an {@link HttpTransport}.
+ * <p>
+ * The {@code TransportRequest} class holds everything needed to put the request on the wire: the HTTP method,
+ * the resolved URL, the headers, the cookies and the already encoded request body. Unlike the
+ * {@link com.github.kosmateus.shinden.http.request.HttpRequest}, it does not describe how the request was built,
+ * so transports do not depend on the clients creating the requests.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@Getter
+@Builder(toBuilder = true)
+public final class TransportRequest {
+
+    /**
+     * The form fields carrying credentials: those of the login form and of the password change form.
+     */
+    private static final Set<String> CREDENTIAL_FIELDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "username", "password", "passwd_old", "passwd", "passwd_new2")));
+    private static final Pattern BOUNDARY = Pattern.compile("boundary=\"?([^\";]+)\"?");
+    private static final Pattern PART_NAME = Pattern.compile(";\\s*name=\"([^\"]*)\"");
+
+    /**
+     * The HTTP method of the request, e.g. {@code GET} or {@code POST}.
+     */
+    private final String method;
+
+    /**
+     * The full URL of the request, including the query string.
+     */
+    private final String url;
+
+    /**
+     * The URL template of the request, e.g. {@code https://shinden.pl/user/{userId}/reviews}.
+     * <p>
+     * The template is informational and may be used by transports to group similar requests.
+     * </p>
+     */
+    private final String urlTemplate;
+
+    /**
+     * The HTTP headers of the request.
+     */
+    @Builder.Default
+    private final Map<String, String> headers = Collections.emptyMap();
+
+    /**
+     * The cookies sent with the request.
+     */
+    @Builder.Default
+    private final Map<String, String> cookies = Collections.emptyMap();
+
+    /**
+     * The {@code Cookie} header precomputed from the cookies, or {@code null} to build it from the cookies.
+     */
+    @Getter(AccessLevel.NONE)
+    private final String cookieHeader;
+
+    /**
+     * The encoded request body, or {@code null} if the request has no body.
+     * <p>
+     * The array is shared and must not be modified.
+     * </p>
+     */
+    private final byte[] body;
+
+    /**
+     * The content type of the request body, or {@code null} if the request has no body.
+     */
+    private final String contentType;
+
+    /**
+     * Returns the value of the {@code Cookie} header carrying the cookies of the request.
+     * <p>
+     * The precomputed header is returned when it was given, e.g. from a
+     * {@link com.github.kosmateus.shinden.auth.SessionSnapshot}, otherwise the header is built from the cookies.
+     * </p>
+     *
+     * @return the {@code Cookie} header value, or {@code null} if the request has no cookies
+     */
+    public String getCookieHeader() {
+        if (cookieHeader != null || cookies.isEmpty()) {
+            return cookieHeader;
+        }
+        return cookies.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Returns the key identifying the request when exchanges are recorded and replayed.
+     * <p>
+     * The key consists of the method, the URL and the SHA-256 digest of the body. The values of the credential
+     * fields of URL-encoded and multipart form bodies, such as the login password, are blanked before the body
+     * is digested, so credentials neither end up in recorded archives nor in a digest which could be checked
+     * against guessed passwords. Requests differing only in their credentials therefore share the same key.
+     * </p>
+     *
+     * @return the key identifying the request
+     */
+    public String getExchangeKey() {
+        if (body == null || body.length == 0) {
+            return method + " " + url;
+        }
+        return method + " " + url + " " + DigestUtils.sha256Hex(redactCredentials());
+    }
+
+    private byte[] redactCredentials() {
+        String type = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+        if (type.startsWith("application/x-www-form-urlencoded")) {
+            return redactForm();
+        }
+        if (type.startsWith("multipart/form-data")) {
+            return redactMultipart();
+        }
+        return body;
+    }
+
+    private byte[] redactForm() {
+        StringJoiner redacted = new StringJoiner("&");
+        for (String field : new String(body, StandardCharsets.ISO_8859_1).split("&", -1)) {
+            int separator = field.indexOf('=');
+            String name = separator >= 0 ? field.substring(0, separator) : field;
+            redacted.add(CREDENTIAL_FIELDS.contains(name) ? name + "=" : field);
+        }
+        return redacted.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private byte[] redactMultipart() {
+        Matcher boundary = BOUNDARY.matcher(contentType);
+        if (!boundary.find()) {
+            return body;
+        }
+        String delimiter = "--" + boundary.group(1);
+        String[] parts = new String(body, StandardCharsets.ISO_8859_1).split(Pattern.quote(delimiter), -1);
+        for (int i = 1; i < parts.length; i++) {
+            int headersEnd = parts[i].indexOf("\r\n\r\n");
+            if (headersEnd < 0) {
+                continue;
+            }
+            Matcher name = PART_NAME.matcher(parts[i].substring(0, headersEnd));
+            if (name.find() && CREDENTIAL_FIELDS.contains(name.group(1))) {
+                parts[i] = parts[i].substring(0, headersEnd + 4) + "\r\n";
+            }
+        }
+        return String.join(delimiter, parts).getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.kosmateus.shinden.http.transport;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents the raw HTTP response returned by an {@link HttpTransport}.
+ * <p>
+ * The {@code TransportResponse} class holds the status line, the headers, the cookies set by the server
+ * and the complete response body. The body is kept as bytes, so the clients decide how to decode it: the
+ * {@code JsoupClient} parses it as an HTML document, while the REST {@code HttpClient} decodes it as JSON.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@Getter
+@Builder(toBuilder = true)
+public final class TransportResponse {
+
+    private static final Pattern CHARSET_PATTERN = Pattern.compile("(?i)\\bcharset=\\s*\"?([^\\s;\"]+)");
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    /**
+     * The HTTP status code of the response.
+     */
+    private final int statusCode;
+
+    /**
+     * The HTTP status message of the response.
+     */
+    private final String statusMessage;
+
+    /**
+     * The URL the response was received from, which differs from the request URL when redirects were followed.
+     */
+    private final String url;
+
+    /**
+     * The HTTP headers of the response. Repeated headers are joined with a comma.
+     */
+    @Builder.Default
+    private final Map<String, String> headers = Collections.emptyMap();
+
+    /**
+     * The cookies set by the server while executing the request.
+     */
+    @Builder.Default
+    private final Map<String, String> cookies = Collections.emptyMap();
+
+    /**
+     * The content type of the response body, or {@code null} if the server did not send one.
+     */
+    private final String contentType;
+
+    /**
+     * The response body.
+     * <p>
+     * The array is shared and must not be modified.
+     * </p>
+     */
+    @Builder.Default
+    private final byte[] body = EMPTY_BODY;
+
+    /**
+     * Returns the response body as a stream.
+     *
+     * @return a new {@link InputStream} reading the response body
+     */
+    public InputStream getBodyStream() {
+        return new ByteArrayInputStream(body);
+    }
+
+    /**
+     * Returns the response body decoded with the charset declared by the content type,
+     * or with UTF-8 if the content type does not declare a supported charset.
+     *
+     * @return the decoded response body
+     */
+    public String getBodyAsString() {
+        return new String(body, getCharset());
+    }
+
+    /**
+     * Returns a reader decoding the response body with the charset declared by the content type,
+     * or with UTF-8 if the content type does not declare a supported charset.
+     * <p>
+     * The body is decoded while it is read, so no decoded copy of the whole body is created.
+     * </p>
+     *
+     * @return a new {@link Reader} reading the decoded response body
+     */
+    public Reader getBodyReader() {
+        return new InputStreamReader(getBodyStream(), getCharset());
+    }
+
+    /**
+     * Returns the charset declared by the content type.
+     *
+     * @return the declared charset, or UTF-8 if the content type does not declare a supported charset
+     */
+    public Charset getCharset() {
+        String charsetName = getCharsetName();
+        if (charsetName != null) {
+            try {
+                return Charset.forName(charsetName);
+            } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+                return StandardCharsets.UTF_8;
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Returns the name of the charset declared by the content type.
+     *
+     * @return the declared charset name, or {@code null} if the content type does not declare one
+     */
+    public String getCharsetName() {
+        if (contentType == null) {
+            return null;
+        }
+        Matcher matcher = CHARSET_PATTERN.matcher(contentType);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.kosmateus.shinden.i18n;
 
+import java.util.Locale;
+
 /**
  * Interface for objects that can be translated based on a translation key.
  * <p>
@@ -26,13 +28,28 @@ public interface Translatable {
      * Returns the translated text for this object.
      * <p>
      * This default method uses the translation key provided by {@link #getTranslationKey()}
-     * to retrieve the corresponding translation from a resource bundle via {@link TranslationUtil#getTranslation(String)}.
+     * to retrieve the corresponding translation of the default locale via
+     * {@link Translations#getTranslation(Translatable)}.
      * </p>
      *
      * @return the translated text as a {@link String}.
      */
     default String getTranslation() {
-        return TranslationUtil.getTranslation(getTranslationKey());
+        return TranslationUtil.getTranslations().getTranslation(this);
+    }
+
+    /**
+     * Returns the translated text for this object in the given locale.
+     * <p>
+     * This default method looks up the translation key provided by {@link #getTranslationKey()}
+     * in the {@link Translations} of the given locale, which may differ from the default one.
+     * </p>
+     *
+     * @param locale the locale of the translation.
+     * @return the translated text as a {@link String}.
+     */
+    default String getTranslation(Locale locale) {
+        return Translations.forLocale(locale).getTranslation(this);
     }
 
 }
@@ -0,0 +1,118 @@
+package com.github.kosmateus.shinden.i18n;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Reads and writes the compiled translation bundle.
+ * <p>
+ * The build compiles all {@code translation*.yaml} files into the single {@value #RESOURCE_NAME} resource, see
+ * {@link TranslationBundleCompiler}. For each file, the bundle holds the sorted keys, each stored as the length of
+ * the prefix it shares with the previous key followed by the rest of the key, and then their translations. The bundle
+ * is loaded with a single read into the interned arrays of {@link Translations}, without parsing YAML or looking up
+ * the translation files of every locale on the class path. The YAML files remain the fallback when no bundle is
+ * found, e.g. when running from sources that were not built.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+final class TranslationBundle {
+
+    /**
+     * The name of the resource holding the compiled translations.
+     */
+    static final String RESOURCE_NAME = "translations.bin";
+
+    private static final int MAGIC = 0x53485452;
+    private static final int VERSION = 1;
+
+    private TranslationBundle() {
+    }
+
+    /**
+     * Writes the translations of the given files as a bundle.
+     *
+     * @param files        the translations by key, by the name of their YAML file
+     * @param outputStream the stream the bundle is written to
+     * @throws IOException if the bundle cannot be written
+     */
+    static void write(Map<String, Map<String, String>> files, OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(files.size());
+        for (Map.Entry<String, Map<String, String>> file : files.entrySet()) {
+            output.writeUTF(file.getKey());
+            write(file.getValue(), output);
+        }
+        output.flush();
+    }
+
+    /**
+     * Reads the translations of a bundle.
+     *
+     * @param inputStream the content of the bundle
+     * @return the translations, by the name of their YAML file
+     * @throws IOException if the bundle cannot be read or is not a translation bundle
+     */
+    static Map<String, Translations> read(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream, 1 << 16));
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            throw new IOException("Not a translation bundle of version " + VERSION);
+        }
+        int fileCount = input.readInt();
+        Map<String, Translations> files = new HashMap<>();
+        for (int i = 0; i < fileCount; i++) {
+            files.put(input.readUTF(), readTranslations(input));
+        }
+        return files;
+    }
+
+    private static void write(Map<String, String> translations, DataOutputStream output) throws IOException {
+        SortedMap<String, String> sorted = new TreeMap<>(translations);
+        output.writeInt(sorted.size());
+        String previous = "";
+        for (String key : sorted.keySet()) {
+            int shared = sharedPrefixLength(previous, key);
+            output.writeShort(shared);
+            output.writeUTF(key.substring(shared));
+            previous = key;
+        }
+        for (String value : sorted.values()) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static Translations readTranslations(DataInputStream input) throws IOException {
+        int size = input.readInt();
+        String[] keys = new String[size];
+        String[] values = new String[size];
+        String previous = "";
+        for (int i = 0; i < size; i++) {
+            int shared = input.readUnsignedShort();
+            keys[i] = (previous.substring(0, shared) + input.readUTF()).intern();
+            previous = keys[i];
+        }
+        for (int i = 0; i < size; i++) {
+            values[i] = input.readUTF().intern();
+        }
+        return new Translations(keys, values);
+    }
+
+    private static int sharedPrefixLength(String first, String second) {
+        int length = Math.min(first.length(), second.length());
+        int shared = 0;
+        while (shared < length && first.charAt(shared) == second.charAt(shared)) {
+            shared++;
+        }
+        return shared;
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.kosmateus.shinden.i18n;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Build step compiling the YAML translation files into translation bundles.
+ * <p>
+ * The build runs the {@code TranslationBundleCompiler} on its output directory after the classes are compiled.
+ * The {@code translation*.yaml} files of the directory are compiled into a single bundle next to them, which
+ * {@link Translations} loads instead of the YAML files at runtime.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+public final class TranslationBundleCompiler {
+
+    private TranslationBundleCompiler() {
+    }
+
+    /**
+     * Compiles the translation files of the given directory.
+     *
+     * @param args the directory containing the translation files
+     * @throws IOException if a translation file cannot be read or its bundle cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: TranslationBundleCompiler <directory>");
+        }
+        Path directory = Paths.get(args[0]);
+        Map<String, Map<String, String>> translations = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "translation*.yaml")) {
+            for (Path file : files) {
+                try (InputStream inputStream = Files.newInputStream(file)) {
+                    translations.put(file.getFileName().toString(), TranslationYaml.read(inputStream));
+                }
+            }
+        }
+        try (OutputStream outputStream = Files.newOutputStream(directory.resolve(TranslationBundle.RESOURCE_NAME))) {
+            TranslationBundle.write(translations, outputStream);
+        }
+    }
+}
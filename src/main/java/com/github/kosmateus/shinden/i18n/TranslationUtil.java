@@ -1,16 +1,8 @@
 package com.github.kosmateus.shinden.i18n;
 
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
-import org.yaml.snakeyaml.nodes.Node;
-import org.yaml.snakeyaml.nodes.ScalarNode;
-
-import java.io.InputStream;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * Utility class for handling translations and internationalization.
@@ -20,19 +12,23 @@ import java.util.stream.Collectors;
  * It supports localization by allowing the application to set a specific {@link Locale} and loads
  * translations from resource bundles using UTF-8 encoding.
  * </p>
+ * <p>
+ * The translations are loaded on first use rather than on initialization, so that creating the API client does not
+ * pay for parsing the translation file. They are held by the {@link Translations} of the default locale; the
+ * translations of other locales are available through {@link Translations#forLocale(Locale)}.
+ * </p>
  *
  * @version 1.0.0
  */
 public final class TranslationUtil {
 
-    private static Locale locale = Locale.getDefault();
-    private static boolean initialized = false;
-    private static Map<String, String> TRANSLATIONS;
+    private static Locale locale;
+    private static volatile Translations TRANSLATIONS;
 
     /**
      * Initializes the translation utility with the specified locale.
      * <p>
-     * This method sets the locale and loads the corresponding translations.
+     * This method sets the locale whose translations are loaded on first use.
      * It must be called before attempting to retrieve translations. If initialization
      * is attempted more than once, an {@link IllegalStateException} is thrown.
      * </p>
@@ -40,13 +36,29 @@ public final class TranslationUtil {
      * @param locale the {@link Locale} to use for loading translations.
      * @throws IllegalStateException if the utility is already initialized.
      */
-    public static void init(Locale locale) {
-        if (initialized) {
+    public static synchronized void init(Locale locale) {
+        if (!initIfAbsent(locale)) {
             throw new IllegalStateException("TranslationUtil already initialized");
         }
+    }
+
+    /**
+     * Initializes the translation utility with the specified locale, unless it is already initialized.
+     * <p>
+     * The first API client created in the JVM sets the default locale this way. The clients created later
+     * keep it; the translations of their locales remain available through {@link Translations#forLocale(Locale)}.
+     * </p>
+     *
+     * @param locale the {@link Locale} to use for loading translations.
+     * @return {@code true} if the utility has been initialized with the locale; {@code false} if it was
+     * already initialized.
+     */
+    public static synchronized boolean initIfAbsent(Locale locale) {
+        if (TranslationUtil.locale != null) {
+            return false;
+        }
         TranslationUtil.locale = locale;
-        loadTranslations();
-        initialized = true;
+        return true;
     }
 
     /**
@@ -60,118 +72,55 @@ public final class TranslationUtil {
      * @return the translated string associated with the key.
      */
     public static String getTranslation(String key) {
-        if (!initialized) {
-            init(Locale.getDefault());
-        }
-        return TRANSLATIONS.get(key);
+        return getTranslations().get(key);
     }
 
     /**
      * Retrieves a group of translations that share a common prefix.
      * <p>
-     * This method filters the loaded translations by the specified prefix and returns
-     * a map of translations with the prefix removed from the keys.
+     * This method returns an unmodifiable view of the loaded translations whose keys start with the specified
+     * prefix, with the prefix removed from the keys.
      * </p>
      *
      * @param prefix the prefix used to filter the translation keys.
      * @return a map of translations with keys stripped of the prefix.
      */
     public static Map<String, String> getTranslationGroup(String prefix) {
-        if (!initialized) {
-            init(Locale.getDefault());
-        }
-        return TRANSLATIONS.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(prefix))
-                .collect(Collectors.toMap(
-                        entry -> entry.getKey().substring(prefix.length() + 1),
-                        Map.Entry::getValue
-                ));
+        return getTranslations().getGroup(prefix);
+    }
+
+    /**
+     * Finds the constant of the given enum whose translation in the default locale is the given text.
+     *
+     * @param enumType    the type of the enum.
+     * @param translation the translated text.
+     * @param <T>         the type of the enum.
+     * @return the constant with the given translation, or an empty {@code Optional} if there is none.
+     */
+    public static <T extends Enum<T> & Translatable> Optional<T> fromTranslation(Class<T> enumType,
+                                                                               String translation) {
+        return getTranslations().findByTranslation(enumType, translation);
     }
 
     /**
-     * Loads the translations for the current locale.
+     * Returns the translations of the default locale, loading them on first use.
      * <p>
-     * This method loads translations from a resource bundle named "translations"
-     * using the current locale and UTF-8 encoding.
+     * If the utility has not been initialized, it is initialized with the default locale.
      * </p>
+     *
+     * @return the translations of the default locale.
      */
-    private static void loadTranslations() {
-        Constructor constructor = new Constructor(new LoaderOptions()) {
-            @Override
-            protected Object constructObject(Node node) {
-                if (node instanceof ScalarNode) {
-                    return constructScalarAsString((ScalarNode) node);
+    public static Translations getTranslations() {
+        Translations translations = TRANSLATIONS;
+        if (translations == null) {
+            synchronized (TranslationUtil.class) {
+                initIfAbsent(Locale.getDefault());
+                if (TRANSLATIONS == null) {
+                    TRANSLATIONS = Translations.forLocale(locale);
                 }
-                return super.constructObject(node);
+                translations = TRANSLATIONS;
             }
-
-            private String constructScalarAsString(ScalarNode node) {
-                return node.getValue();
-            }
-        };
-        Yaml yaml = new Yaml(constructor);
-        String fileName = getTranslationFileName();
-        try (InputStream inputStream = TranslationUtil.class.getClassLoader().getResourceAsStream(fileName)) {
-            if (inputStream == null) {
-                throw new RuntimeException("Translation file not found: " + fileName);
-            }
-            Map<String, Object> yamlMap = yaml.load(inputStream);
-            TRANSLATIONS = flattenYamlMap(yamlMap);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to load translations", e);
-        }
-    }
-
-    private static String getTranslationFileName() {
-        String baseName = "translation";
-        String language = locale.getLanguage();
-        String country = locale.getCountry();
-
-        // Try to load the most specific file first, then fall back to more general ones
-        String[] fileNames = {
-                baseName + "-" + language + "-" + country + ".yaml",
-                baseName + "-" + language + ".yaml",
-                baseName + ".yaml"
-        };
-
-        for (String fileName : fileNames) {
-            if (TranslationUtil.class.getClassLoader().getResource(fileName) != null) {
-                return fileName;
-            }
-        }
-
-        // If no file is found, return the default file name
-        return baseName + ".yaml";
-    }
-
-    private static Map<String, String> flattenYamlMap(Map<String, Object> yamlMap) {
-        Map<String, String> flatMap = new HashMap<>();
-        flattenYamlMapRecursive(yamlMap, "", flatMap);
-        return flatMap;
-    }
-
-    private static void flattenYamlMapRecursive(Map<String, Object> yamlMap, String prefix, Map<String, String> flatMap) {
-        for (Map.Entry<String, Object> entry : yamlMap.entrySet()) {
-            String key = prefix.isEmpty() ? String.valueOf(entry.getKey()) : prefix + "." + String.valueOf(entry.getKey());
-            Object value = entry.getValue();
-
-            if (value instanceof Map) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> nestedMap = (Map<String, Object>) value;
-                flattenYamlMapRecursive(nestedMap, key, flatMap);
-            } else {
-                flatMap.put(key, convertToString(value));
-            }
-        }
-    }
-
-    private static String convertToString(Object value) {
-        if (value == null) {
-            return "";
-        } else if (value instanceof Boolean) {
-            return ((Boolean) value) ? "true" : "false";
-        } else {
-            return value.toString();
         }
+        return translations;
     }
 }
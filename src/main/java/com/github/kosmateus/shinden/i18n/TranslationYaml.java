@@ -0,0 +1,82 @@
+package com.github.kosmateus.shinden.i18n;
+
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads the YAML translation files.
+ * <p>
+ * The nested keys of the YAML files are flattened into dotted keys. The YAML files are read by the build, which
+ * compiles them into a {@link TranslationBundle}, and at runtime only when no bundle is found.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+final class TranslationYaml {
+
+    private TranslationYaml() {
+    }
+
+    /**
+     * Reads the translations of a YAML file.
+     *
+     * @param inputStream the content of the YAML file
+     * @return the translations by flattened key
+     */
+    static Map<String, String> read(InputStream inputStream) {
+        Constructor constructor = new Constructor(new LoaderOptions()) {
+            @Override
+            protected Object constructObject(Node node) {
+                if (node instanceof ScalarNode) {
+                    return constructScalarAsString((ScalarNode) node);
+                }
+                return super.constructObject(node);
+            }
+
+            private String constructScalarAsString(ScalarNode node) {
+                return node.getValue();
+            }
+        };
+        Yaml yaml = new Yaml(constructor);
+        Map<String, Object> yamlMap = yaml.load(inputStream);
+        return flattenYamlMap(yamlMap);
+    }
+
+    private static Map<String, String> flattenYamlMap(Map<String, Object> yamlMap) {
+        Map<String, String> flatMap = new HashMap<>();
+        flattenYamlMapRecursive(yamlMap, "", flatMap);
+        return flatMap;
+    }
+
+    private static void flattenYamlMapRecursive(Map<String, Object> yamlMap, String prefix, Map<String, String> flatMap) {
+        for (Map.Entry<String, Object> entry : yamlMap.entrySet()) {
+            String key = prefix.isEmpty() ? String.valueOf(entry.getKey()) : prefix + "." + String.valueOf(entry.getKey());
+            Object value = entry.getValue();
+
+            if (value instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> nestedMap = (Map<String, Object>) value;
+                flattenYamlMapRecursive(nestedMap, key, flatMap);
+            } else {
+                flatMap.put(key, convertToString(value));
+            }
+        }
+    }
+
+    private static String convertToString(Object value) {
+        if (value == null) {
+            return "";
+        } else if (value instanceof Boolean) {
+            return ((Boolean) value) ? "true" : "false";
+        } else {
+            return value.toString();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.github.kosmateus.shinden.i18n;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Immutable table of the translations of a single locale.
+ * <p>
+ * The {@code Translations} class keeps the translation keys in a sorted array, next to an array of their
+ * translations. A translation is looked up by binary search, and the translations sharing a prefix occupy a
+ * contiguous range of the array, so {@link #getGroup(String)} returns a view of that range after two binary
+ * searches instead of scanning every key. The class also indexes the translations of enums implementing
+ * {@link Translatable} by their translated text, so an enum constant can be found from its text with a single
+ * hash lookup.
+ * </p>
+ * <p>
+ * With the roughly 2,650 keys of a translation file, a lookup takes at most 12 comparisons, and the two arrays
+ * hold no per-key nodes, unlike a trie or a tree map. Prefix groups are ranges of the sorted keys, so a trie
+ * would not make them cheaper either.
+ * </p>
+ * <p>
+ * The tables are loaded on first use and cached, so several locales can be used at once in a single JVM.
+ * Locales falling back to the same translation file share one table.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+public final class Translations {
+
+    private static final ConcurrentMap<Locale, Translations> BY_LOCALE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Translations> BY_FILE = new ConcurrentHashMap<>();
+
+    private final String[] keys;
+    private final String[] values;
+    private final ConcurrentMap<Class<?>, Map<String, ?>> reverseIndexes = new ConcurrentHashMap<>();
+    private final ClassValue<String[]> enumTranslations = new ClassValue<String[]>() {
+        @Override
+        protected String[] computeValue(Class<?> enumType) {
+            Object[] constants = enumType.getEnumConstants();
+            String[] translations = new String[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                translations[i] = Translations.this.get(((Translatable) constants[i]).getTranslationKey());
+            }
+            return translations;
+        }
+    };
+
+    Translations(Map<String, String> translations) {
+        TreeMap<String, String> sorted = new TreeMap<>(translations);
+        this.keys = sorted.keySet().toArray(new String[0]);
+        this.values = sorted.values().toArray(new String[0]);
+    }
+
+    Translations(String[] sortedKeys, String[] values) {
+        this.keys = sortedKeys;
+        this.values = values;
+    }
+
+    /**
+     * Returns the translations of the given locale, loading them on first use.
+     * <p>
+     * The most specific translation file is used: {@code translation-<language>-<country>.yaml}, then
+     * {@code translation-<language>.yaml}, then {@code translation.yaml}. The files are taken from the bundle
+     * compiled by the build, or read from the class path when there is no bundle.
+     * </p>
+     *
+     * @param locale the locale of the translations
+     * @return the translations of the locale
+     * @throws RuntimeException if the translation file cannot be loaded
+     */
+    public static Translations forLocale(Locale locale) {
+        Translations translations = BY_LOCALE.get(locale);
+        if (translations == null) {
+            translations = BY_LOCALE.computeIfAbsent(locale, Translations::resolve);
+        }
+        return translations;
+    }
+
+    /**
+     * Retrieves the translation associated with the given key.
+     *
+     * @param key the translation key
+     * @return the translated string, or {@code null} if there is no translation for the key
+     */
+    public String get(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * Retrieves the translation of the given object.
+     * <p>
+     * The translations of the constants of an enum are resolved once and kept in an array indexed by the ordinal
+     * of the constants, so translating an enum constant, such as a
+     * {@link com.github.kosmateus.shinden.common.enums.tag.Tag}, is an array access. Other objects are translated
+     * by their key.
+     * </p>
+     *
+     * @param translatable the object to translate
+     * @return the translated string, or {@code null} if there is no translation for the key of the object
+     */
+    public String getTranslation(Translatable translatable) {
+        if (translatable instanceof Enum) {
+            Enum<?> constant = (Enum<?>) translatable;
+            return enumTranslations.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+        return get(translatable.getTranslationKey());
+    }
+
+    /**
+     * Retrieves the group of translations whose keys start with the given prefix, followed by a dot.
+     * <p>
+     * The group is an unmodifiable view, keyed by the remainder of the keys after the prefix and the dot.
+     * </p>
+     *
+     * @param prefix the prefix of the translation keys
+     * @return the translations of the group, keyed without the prefix
+     */
+    public Map<String, String> getGroup(String prefix) {
+        String groupPrefix = prefix + ".";
+        int from = insertionPoint(groupPrefix);
+        int to = insertionPoint(prefix + (char) ('.' + 1));
+        return new Group(groupPrefix, from, to);
+    }
+
+    /**
+     * Finds the constant of the given enum whose translation is the given text.
+     *
+     * @param enumType    the type of the enum
+     * @param translation the translated text
+     * @param <T>         the type of the enum
+     * @return the constant with the given translation, or an empty {@code Optional} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Enum<T> & Translatable> Optional<T> findByTranslation(Class<T> enumType, String translation) {
+        Map<String, ?> index = reverseIndexes.get(enumType);
+        if (index == null) {
+            index = reverseIndexes.computeIfAbsent(enumType, this::createReverseIndex);
+        }
+        return Optional.ofNullable((T) index.get(translation));
+    }
+
+    private Map<String, ?> createReverseIndex(Class<?> enumType) {
+        Map<String, Object> index = new HashMap<>();
+        for (Object constant : enumType.getEnumConstants()) {
+            String translation = get(((Translatable) constant).getTranslationKey());
+            if (translation != null) {
+                index.putIfAbsent(translation, constant);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    private int insertionPoint(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * View of the contiguous range of the keys sharing a prefix.
+     */
+    private final class Group extends AbstractMap<String, String> {
+
+        private final String prefix;
+        private final int from;
+        private final int to;
+
+        private Group(String prefix, int from, int to) {
+            this.prefix = prefix;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String get(Object key) {
+            int index = indexOf(key);
+            return index >= 0 ? values[index] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<Entry<String, String>>() {
+                        private int next = from;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < to;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (next >= to) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, String> entry = new SimpleImmutableEntry<>(
+                                    keys[next].substring(prefix.length()), values[next]);
+                            next++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return to - from;
+                }
+            };
+        }
+
+        private int indexOf(Object key) {
+            if (!(key instanceof String)) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(keys, from, to, prefix + key);
+            return index >= 0 ? index : -1;
+        }
+    }
+
+    private static Translations resolve(Locale locale) {
+        Map<String, Translations> compiledFiles = CompiledBundle.FILES;
+        Translations compiled = compiledFiles.get(getTranslationFileName(locale, compiledFiles::containsKey));
+        if (compiled != null) {
+            return compiled;
+        }
+        return BY_FILE.computeIfAbsent(getTranslationFileName(locale, Translations::isResource), Translations::load);
+    }
+
+    private static Translations load(String fileName) {
+        try (InputStream inputStream = Translations.class.getClassLoader().getResourceAsStream(fileName)) {
+            if (inputStream == null) {
+                throw new RuntimeException("Translation file not found: " + fileName);
+            }
+            return new Translations(TranslationYaml.read(inputStream));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load translations", e);
+        }
+    }
+
+    private static boolean isResource(String fileName) {
+        return Translations.class.getClassLoader().getResource(fileName) != null;
+    }
+
+    private static String getTranslationFileName(Locale locale, Predicate<String> exists) {
+        String baseName = "translation";
+        String language = locale.getLanguage();
+        String country = locale.getCountry();
+
+        // Try to load the most specific file first, then fall back to more general ones
+        String[] fileNames = {
+                baseName + "-" + language + "-" + country + ".yaml",
+                baseName + "-" + language + ".yaml",
+                baseName + ".yaml"
+        };
+
+        for (String fileName : fileNames) {
+            if (exists.test(fileName)) {
+                return fileName;
+            }
+        }
+
+        // If no file is found, return the default file name
+        return baseName + ".yaml";
+    }
+
+    /**
+     * The translations compiled by the build, read on first use.
+     */
+    private static final class CompiledBundle {
+
+        private static final Map<String, Translations> FILES = read();
+
+        private static Map<String, Translations> read() {
+            try (InputStream inputStream = Translations.class.getClassLoader()
+                    .getResourceAsStream(TranslationBundle.RESOURCE_NAME)) {
+                return inputStream != null ? TranslationBundle.read(inputStream) : Collections.emptyMap();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load translations", e);
+            }
+        }
+    }
+}
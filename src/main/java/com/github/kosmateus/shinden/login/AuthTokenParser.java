@@ -3,17 +3,17 @@ package com.github.kosmateus.shinden.login;
 import com.github.kosmateus.shinden.exception.JsoupParserException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.jsoup.nodes.Document;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 /**
- * Utility class for parsing authentication tokens from an HTML document.
+ * Utility class for parsing the authentication details from the pages returned by the login.
  * <p>
- * The {@code AuthTokenParser} class provides a method to extract an authentication token
- * from the HTML content of a login response. It uses a regular expression pattern to
- * locate the token within the document.
+ * The {@code AuthTokenParser} class reads the authentication token and the user ID assigned to the
+ * {@code _Storage} object by the inline scripts of the login pages. The raw response bytes are scanned for the
+ * assignments, without parsing the page into a document or serializing it back, and the scan stops at the first
+ * assignment of the requested property.
  * </p>
  *
  * @version 1.0.0
@@ -21,27 +21,122 @@ import java.util.regex.Pattern;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 class AuthTokenParser {
 
-    private static final Pattern TOKEN_PATTERN = Pattern.compile("_Storage\\.basic.*=.*'(.*?)'");
+    private static final byte[] STORAGE = "_Storage.".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] AUTH_TOKEN = "basic".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] USER_ID = "userId".getBytes(StandardCharsets.US_ASCII);
 
     /**
-     * Parses the authentication token from the given HTML document.
+     * Parses the authentication token from the given page.
      * <p>
-     * This method searches the HTML content of the provided {@link Document} for
-     * an authentication token using a predefined regular expression pattern.
-     * If the token is found, it is returned as a string. If not, a {@link JsoupParserException}
-     * is thrown indicating that the token could not be found.
+     * This method looks for the {@code _Storage.basic = '...'} assignment and returns the quoted value.
+     * If the token is not found, a {@link JsoupParserException} is thrown indicating that the token could not
+     * be found.
      * </p>
      *
-     * @param document the {@link Document} containing the HTML content to parse.
+     * @param page the raw bytes of the page containing the token.
      * @return the extracted authentication token as a {@link String}.
-     * @throws JsoupParserException if the authentication token is not found in the document.
+     * @throws JsoupParserException if the authentication token is not found in the page.
      */
-    static String parseAuthToken(Document document) {
-        String htmlDocument = document.html();
-        Matcher matcher = TOKEN_PATTERN.matcher(htmlDocument);
-        if (matcher.find()) {
-            return matcher.group(1);
+    static String parseAuthToken(byte[] page) {
+        return find(page, AUTH_TOKEN, AuthTokenParser::readQuotedValue)
+                .orElseThrow(() -> new JsoupParserException(LoginErrorCodes.NO_AUTH_TOKEN_IN_LOGIN_RESPONSE));
+    }
+
+    /**
+     * Parses the ID of the logged-in user from the given page.
+     * <p>
+     * This method looks for the {@code _Storage.userId = 123;} assignment and returns the assigned number.
+     * </p>
+     *
+     * @param page the raw bytes of the page containing the user ID.
+     * @return the user ID, or an empty {@link Optional} if it is not found in the page.
+     */
+    static Optional<Long> parseUserId(byte[] page) {
+        return find(page, USER_ID, AuthTokenParser::readNumberValue).map(Long::valueOf);
+    }
+
+    private static Optional<String> find(byte[] page, byte[] property, ValueReader reader) {
+        for (int start = indexOf(page, STORAGE, 0); start >= 0; start = indexOf(page, STORAGE, start + 1)) {
+            int propertyStart = start + STORAGE.length;
+            if (regionMatches(page, propertyStart, property)) {
+                String value = reader.read(page, propertyStart + property.length);
+                if (value != null) {
+                    return Optional.of(value);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the first quoted value assigned on the same line, e.g. {@code = 'value'}.
+     */
+    private static String readQuotedValue(byte[] page, int position) {
+        int assignment = indexOnLine(page, (byte) '=', position);
+        int open = assignment < 0 ? -1 : indexOnLine(page, (byte) '\'', assignment + 1);
+        int close = open < 0 ? -1 : indexOnLine(page, (byte) '\'', open + 1);
+        return close < 0 ? null : new String(page, open + 1, close - open - 1, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a number assigned right after the property and terminated by a semicolon, e.g. {@code = 123;}.
+     */
+    private static String readNumberValue(byte[] page, int position) {
+        position = skipWhitespace(page, position);
+        if (position >= page.length || page[position] != '=') {
+            return null;
         }
-        throw new JsoupParserException(LoginErrorCodes.NO_AUTH_TOKEN_IN_LOGIN_RESPONSE);
+        int start = skipWhitespace(page, position + 1);
+        int end = start;
+        while (end < page.length && page[end] >= '0' && page[end] <= '9') {
+            end++;
+        }
+        if (end == start || end >= page.length || page[end] != ';') {
+            return null;
+        }
+        return new String(page, start, end - start, StandardCharsets.US_ASCII);
+    }
+
+    private static int skipWhitespace(byte[] page, int position) {
+        while (position < page.length && Character.isWhitespace(page[position])) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int indexOnLine(byte[] page, byte value, int from) {
+        for (int i = from; i < page.length && page[i] != '\n'; i++) {
+            if (page[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte[] page, byte[] value, int from) {
+        for (int i = from; i <= page.length - value.length; i++) {
+            if (page[i] == value[0] && regionMatches(page, i, value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(byte[] page, int offset, byte[] value) {
+        if (offset + value.length > page.length) {
+            return false;
+        }
+        for (int i = 0; i < value.length; i++) {
+            if (page[offset + i] != value[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    private interface ValueReader {
+
+        String read(byte[] page, int position);
     }
 }
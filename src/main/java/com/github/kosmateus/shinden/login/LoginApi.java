@@ -34,6 +34,28 @@ public interface LoginApi {
      * @return a {@link LoginDetails} indicating the outcome of the login attempt.
      * @throws PageStructureChangedException if the structure of the login page has changed unexpectedly.
      * @throws JsoupParserException          if an error occurs while parsing the web page.
+     * @throws IllegalStateException         if the session manager is a
+     *                                       {@link com.github.kosmateus.shinden.auth.SessionPool}, before any request
+     *                                       is sent.
      */
     LoginDetails login(@Valid @NotNull LoginRequest loginRequest);
+
+    /**
+     * Resumes the stored session of a user, logging in only if it cannot be reused.
+     * <p>
+     * The session held by the session manager, e.g. loaded from a file by a
+     * {@link com.github.kosmateus.shinden.auth.FileSessionManager}, is validated locally, without sending any
+     * request. If it belongs to the user and has not expired, it is reused and no login request is sent.
+     * Otherwise the user is logged in as with {@link #login(LoginRequest)}.
+     * </p>
+     *
+     * @param loginRequest the {@link LoginRequest} containing the user's login credentials.
+     * @return a {@link LoginDetails} indicating the outcome of the resumption or login attempt.
+     * @throws PageStructureChangedException if the structure of the login page has changed unexpectedly.
+     * @throws JsoupParserException          if an error occurs while parsing the web page.
+     * @throws IllegalStateException         if the session manager is a
+     *                                       {@link com.github.kosmateus.shinden.auth.SessionPool}, before any request
+     *                                       is sent.
+     */
+    LoginDetails resume(@Valid @NotNull LoginRequest loginRequest);
 }
@@ -1,15 +1,20 @@
 package com.github.kosmateus.shinden.login;
 
+import com.github.kosmateus.shinden.auth.Authenticator;
 import com.github.kosmateus.shinden.auth.PageStructureChangedException;
 import com.github.kosmateus.shinden.auth.SessionManager;
+import com.github.kosmateus.shinden.auth.SessionSnapshot;
 import com.github.kosmateus.shinden.http.response.ResponseHandler;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
 import com.github.kosmateus.shinden.login.request.LoginRequest;
 import com.github.kosmateus.shinden.login.response.LoginDetails;
 import com.github.kosmateus.shinden.login.response.LoginDetails.Status;
-import com.github.kosmateus.shinden.utils.PatternMatcher;
 import com.google.inject.Inject;
 import lombok.RequiredArgsConstructor;
-import org.jsoup.nodes.Document;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.time.Clock;
+import java.util.Optional;
 
 /**
  * Implementation of the {@link LoginApi} interface for handling user login.
@@ -17,53 +22,86 @@ import org.jsoup.nodes.Document;
  * The {@code LoginApiImpl} class provides the logic to authenticate a user by interacting with a login client and managing the user's session upon successful
  * authentication. It validates the login credentials, handles the response from the server, and stores session details for future use.
  * </p>
+ * <p>
+ * As an {@link Authenticator}, it performs the same login without storing the session, which lets a
+ * {@link com.github.kosmateus.shinden.auth.SessionPool} log in each of its accounts.
+ * </p>
  *
  * @version 1.0.0
  */
 @RequiredArgsConstructor(onConstructor = @__(@Inject))
-class LoginApiImpl implements LoginApi {
+class LoginApiImpl implements LoginApi, Authenticator {
 
-    private static final PatternMatcher USER_ID_PATTERN = PatternMatcher.match(
-            "_Storage\\.userId\\s*=\\s*(\\d+);", 1);
     private final LoginClient client;
     private final SessionManager sessionManager;
 
     @Override
     public LoginDetails login(LoginRequest loginRequest) {
-        ResponseHandler<Document> loginFormResponse = client.sendLoginForm(loginRequest.toFormData());
+        requireCredentialsAccepted();
+        Pair<LoginDetails, SessionSnapshot> result = loginWith(loginRequest);
+        if (result.getRight() != null) {
+            storeSuccessfulLoginDetails(loginRequest, result.getRight());
+        }
+        return result.getLeft();
+    }
 
-        if (loginFormResponse.isPresent() && !loginFormResponse.getCookie("jwtCookie").isPresent()) {
-            return LoginDetails.builder().status(Status.INVALID_CREDENTIALS).build();
-        } else if (loginFormResponse.isPresent() && !USER_ID_PATTERN.get(loginFormResponse.getEntity().head().toString())
-                .isPresent()) {
-            throw new PageStructureChangedException(() -> "login.user-id");
-        } else if (!loginFormResponse.isPresent()) {
-            return LoginDetails.builder().status(Status.FAILURE)
-                    .details(loginFormResponse.getEmptyReason().getErrorDetails()).build();
+    @Override
+    public LoginDetails resume(LoginRequest loginRequest) {
+        requireCredentialsAccepted();
+        if (!SessionValidator.isReusable(sessionManager.getSnapshot(), sessionManager.getUsername(),
+                loginRequest.getUsername(), Clock.systemUTC())) {
+            return login(loginRequest);
         }
+        sessionManager.setPassword(loginRequest.getPassword());
+        sessionManager.setRememberMe(loginRequest.isRememberMe());
+        return LoginDetails.builder().status(Status.SUCCESS).build();
+    }
 
-        ResponseHandler<Document> loginResult = client.getMainPage(loginFormResponse.getCookies());
+    @Override
+    public Optional<SessionSnapshot> authenticate(String username, String password) {
+        LoginRequest loginRequest = LoginRequest.builder()
+                .username(username)
+                .password(password)
+                .rememberMe(true)
+                .build();
+        return Optional.ofNullable(loginWith(loginRequest).getRight());
+    }
+
+    private void requireCredentialsAccepted() {
+        if (!sessionManager.acceptsCredentials()) {
+            throw new IllegalStateException("The sessions of a session pool are logged in by the pool, "
+                    + "use SessionPool.loginAll() instead");
+        }
+    }
+
+    private Pair<LoginDetails, SessionSnapshot> loginWith(LoginRequest loginRequest) {
+        ResponseHandler<TransportResponse> loginFormResponse = client.sendLoginForm(loginRequest.toFormData());
+        if (!loginFormResponse.isPresent()) {
+            return Pair.of(LoginDetails.builder().status(Status.FAILURE)
+                    .details(loginFormResponse.getEmptyReason().getErrorDetails()).build(), null);
+        } else if (!loginFormResponse.getCookie("jwtCookie").isPresent()) {
+            return Pair.of(LoginDetails.builder().status(Status.INVALID_CREDENTIALS).build(), null);
+        }
+        Long userId = AuthTokenParser.parseUserId(loginFormResponse.getEntity().getBody())
+                .orElseThrow(() -> new PageStructureChangedException(() -> "login.user-id"));
+
+        ResponseHandler<TransportResponse> loginResult = client.getMainPage(loginFormResponse.getCookies());
         if (!loginResult.isPresent()) {
-            return LoginDetails.builder().status(Status.FAILURE)
-                    .details(loginResult.getEmptyReason().getErrorDetails()).build();
+            return Pair.of(LoginDetails.builder().status(Status.FAILURE)
+                    .details(loginResult.getEmptyReason().getErrorDetails()).build(), null);
         }
 
-        String authToken = AuthTokenParser.parseAuthToken(loginResult.getEntity());
-        storeSuccessfulLoginDetails(loginRequest, authToken, loginFormResponse);
+        String authToken = AuthTokenParser.parseAuthToken(loginResult.getEntity().getBody());
 
-        return LoginDetails.builder().status(Status.SUCCESS).build();
+        return Pair.of(LoginDetails.builder().status(Status.SUCCESS).build(),
+                SessionSnapshot.of(loginFormResponse.getCookies(), authToken, userId));
     }
 
-    @SuppressWarnings("OptionalGetWithoutIsPresent")
-    private void storeSuccessfulLoginDetails(LoginRequest loginRequest, String authToken,
-                                             ResponseHandler<Document> loginFormResponse) {
-        sessionManager.setAuthToken(authToken);
-        sessionManager.setCookies(loginFormResponse.getCookies());
+    private void storeSuccessfulLoginDetails(LoginRequest loginRequest, SessionSnapshot session) {
         sessionManager.setUsername(loginRequest.getUsername());
         sessionManager.setPassword(loginRequest.getPassword());
         sessionManager.setRememberMe(loginRequest.isRememberMe());
-        sessionManager.setUserId(
-                Long.valueOf(USER_ID_PATTERN.get(loginFormResponse.getEntity().head().toString()).get()));
+        sessionManager.updateSession(session);
     }
 
 }
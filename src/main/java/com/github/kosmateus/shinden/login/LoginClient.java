@@ -3,10 +3,11 @@ package com.github.kosmateus.shinden.login;
 import com.github.kosmateus.shinden.http.jsoup.JsoupClient;
 import com.github.kosmateus.shinden.http.request.HttpRequest;
 import com.github.kosmateus.shinden.http.response.ResponseHandler;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
 import com.google.inject.Inject;
 import lombok.RequiredArgsConstructor;
-import org.jsoup.nodes.Document;
 
+import java.util.Collections;
 import java.util.Map;
 
 import static com.github.kosmateus.shinden.constants.ShindenClientHeaders.LOGIN_HEADERS;
@@ -31,19 +32,20 @@ class LoginClient {
      * Sends the login form data to the Shinden login endpoint.
      * <p>
      * This method constructs an HTTP POST request with the provided form data and
-     * sends it to the Shinden login URL. The response is returned as a {@link ResponseHandler}
-     * containing a {@link Document} that represents the resulting HTML page.
+     * sends it to the Shinden login URL without any session cookies. The response is returned as a {@link ResponseHandler}
+     * containing the raw {@link TransportResponse}; the page is not parsed.
      * </p>
      *
      * @param formData a map containing the form data to be sent in the login request.
-     * @return a {@link ResponseHandler} containing the response document.
+     * @return a {@link ResponseHandler} containing the raw response.
      */
-    ResponseHandler<Document> sendLoginForm(Map<String, String> formData) {
-        return client.post(
+    ResponseHandler<TransportResponse> sendLoginForm(Map<String, String> formData) {
+        return client.submit(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
                         .path("/main/0/login")
                         .headers(LOGIN_HEADERS)
+                        .cookies(Collections.emptyMap())
                         .build(),
                 formData
         );
@@ -54,14 +56,14 @@ class LoginClient {
      * <p>
      * This method constructs an HTTP GET request using the cookies obtained from
      * the login response. The request is sent to the Shinden main page URL, and
-     * the resulting HTML document is returned as a {@link ResponseHandler}.
+     * the raw response is returned as a {@link ResponseHandler} without parsing the page.
      * </p>
      *
      * @param cookies a map containing the cookies from the login response.
-     * @return a {@link ResponseHandler} containing the response document.
+     * @return a {@link ResponseHandler} containing the raw response.
      */
-    ResponseHandler<Document> getMainPage(Map<String, String> cookies) {
-        return client.get(
+    ResponseHandler<TransportResponse> getMainPage(Map<String, String> cookies) {
+        return client.fetch(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
                         .headers(LOGIN_HEADERS)
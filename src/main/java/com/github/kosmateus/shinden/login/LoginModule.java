@@ -1,9 +1,11 @@
 package com.github.kosmateus.shinden.login;
 
+import com.github.kosmateus.shinden.auth.Authenticator;
 import com.github.kosmateus.shinden.auth.SessionManager;
 import com.github.kosmateus.shinden.http.jsoup.JsoupModule;
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
+import com.google.inject.multibindings.OptionalBinder;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -12,7 +14,8 @@ import lombok.RequiredArgsConstructor;
  * The {@code LoginModule} class sets up the dependency injection bindings required for the
  * login functionality within the application. This includes binding the {@link SessionManager},
  * installing the {@link JsoupModule}, and setting up singletons for the {@link LoginClient}
- * and {@link LoginApi}.
+ * and {@link LoginApi}. The login implementation is also bound as the {@link Authenticator}
+ * used by session pools and to log in again when a session expires.
  * </p>
  *
  * @version 1.0.0
@@ -35,6 +38,8 @@ public class LoginModule extends AbstractModule {
         install(new JsoupModule(sessionManager));
         bind(SessionManager.class).toInstance(sessionManager);
         bind(LoginClient.class).in(Singleton.class);
-        bind(LoginApi.class).to(LoginApiImpl.class).in(Singleton.class);
+        bind(LoginApiImpl.class).in(Singleton.class);
+        bind(LoginApi.class).to(LoginApiImpl.class);
+        OptionalBinder.newOptionalBinder(binder(), Authenticator.class).setBinding().to(LoginApiImpl.class);
     }
 }
@@ -0,0 +1,75 @@
+package com.github.kosmateus.shinden.login;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kosmateus.shinden.auth.SessionSnapshot;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Utility class deciding whether a stored session can be reused without logging in again.
+ * <p>
+ * The {@code SessionValidator} class validates the session locally, without sending any request: the session must
+ * belong to the user logging in, hold an authentication token, a user ID and the {@code jwtCookie} set by the login,
+ * and the JWT in that cookie must not expire within {@link #EXPIRY_MARGIN}. A session revoked by the server before
+ * its expiry is detected by the first request rejecting it.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class SessionValidator {
+
+    /**
+     * The minimum remaining validity of a reused session.
+     */
+    static final Duration EXPIRY_MARGIN = Duration.ofMinutes(5);
+
+    private static final String JWT_COOKIE = "jwtCookie";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Checks whether the given session can be reused for the given user.
+     *
+     * @param session        the stored session.
+     * @param storedUsername the username the session was stored for.
+     * @param username       the username of the user logging in.
+     * @param clock          the clock the expiry of the session is checked against.
+     * @return {@code true} if the session can be reused; {@code false} if the user has to log in.
+     */
+    static boolean isReusable(SessionSnapshot session, String storedUsername, String username, Clock clock) {
+        String jwt = session.getCookies().get(JWT_COOKIE);
+        if (!session.isAuthenticated() || session.getUserId() == null || jwt == null
+                || !Objects.equals(storedUsername, username)) {
+            return false;
+        }
+        Instant expiry = readExpiry(jwt);
+        return expiry == null || expiry.isAfter(clock.instant().plus(EXPIRY_MARGIN));
+    }
+
+    /**
+     * Reads the {@code exp} claim of the given JWT, without verifying its signature.
+     *
+     * @param jwt the JWT.
+     * @return the expiry of the token, or {@code null} if the token is not a JWT or has no expiry.
+     */
+    private static Instant readExpiry(String jwt) {
+        String[] parts = jwt.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            JsonNode expiry = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+            return expiry != null && expiry.canConvertToLong() ? Instant.ofEpochSecond(expiry.asLong()) : null;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.kosmateus.shinden.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Entry point for the optional tracing of Shinden API calls.
+ *
+ * <p>The {@code ShindenTracing} class wraps an OpenTelemetry {@link Tracer} and opens spans around the phases
+ * of an API call: the public {@code UserApi}/{@code AnimeApi} operation, each HTTP exchange, the parsing of the
+ * response body and the mapping of the parsed document. Every span is started as a child of the span that is
+ * current at that moment, so a single API call produces one trace with the phases nested beneath it.</p>
+ *
+ * <p>Tracing is disabled by default. A disabled instance never touches the OpenTelemetry API and runs the traced
+ * actions with {@link Span#getInvalid()}, so attribute writes performed by the instrumented code are free.</p>
+ *
+ * @version 1.0.0
+ */
+public final class ShindenTracing {
+
+    /**
+     * The instrumentation scope name reported with every span created by the library.
+     */
+    public static final String INSTRUMENTATION_NAME = "com.github.kosmateus.shinden";
+
+    private static final ShindenTracing NOOP = new ShindenTracing();
+
+    private final Tracer tracer;
+    private final boolean enabled;
+
+    /**
+     * Constructs a disabled {@code ShindenTracing} instance.
+     *
+     * <p>This constructor is used by Guice whenever no tracing instance has been bound explicitly,
+     * for example when the HTTP modules are installed on their own.</p>
+     */
+    public ShindenTracing() {
+        this.tracer = null;
+        this.enabled = false;
+    }
+
+    private ShindenTracing(Tracer tracer) {
+        this.tracer = tracer;
+        this.enabled = true;
+    }
+
+    /**
+     * Returns the disabled tracing instance.
+     *
+     * @return a {@code ShindenTracing} that does not record any spans
+     */
+    public static ShindenTracing noop() {
+        return NOOP;
+    }
+
+    /**
+     * Creates a tracing instance that reports spans through the given OpenTelemetry instance.
+     *
+     * @param openTelemetry the OpenTelemetry instance used to obtain the tracer, must not be null
+     * @return a {@code ShindenTracing} backed by the tracer of the given OpenTelemetry instance
+     */
+    public static ShindenTracing of(OpenTelemetry openTelemetry) {
+        Objects.requireNonNull(openTelemetry, "openTelemetry");
+        return new ShindenTracing(openTelemetry.getTracer(INSTRUMENTATION_NAME));
+    }
+
+    /**
+     * Indicates whether spans are recorded by this instance.
+     *
+     * @return {@code true} if spans are reported to OpenTelemetry, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs the given action inside a new span.
+     *
+     * <p>The span is made current for the duration of the action, so spans opened by the action become its
+     * children. When the action throws, the exception is recorded on the span, the span status is set to
+     * {@link StatusCode#ERROR} and the exception is rethrown unchanged. The span is always ended.</p>
+     *
+     * @param name   the name of the span
+     * @param kind   the kind of the span
+     * @param action the action to run, receiving the span so it can attach attributes
+     * @param <T>    the type of the action result
+     * @param <E>    the type of the checked exception thrown by the action
+     * @return the result of the action
+     * @throws E if the action throws
+     */
+    public <T, E extends Exception> T inSpan(String name, SpanKind kind, SpanAction<T, E> action) throws E {
+        if (!enabled) {
+            return action.run(Span.getInvalid());
+        }
+        Span span = tracer.spanBuilder(name).setSpanKind(kind).startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return action.run(span);
+        } catch (Throwable throwable) {
+            span.recordException(throwable);
+            span.setStatus(StatusCode.ERROR);
+            throw throwable;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Runs a mapping phase inside a new span.
+     *
+     * <p>The span is named {@code map <mapperCode>} and carries the mapper code and the number
+     * of rows produced by the mapping.</p>
+     *
+     * @param mapperCode the code of the mapper performing the mapping
+     * @param mapping    the mapping to run
+     * @param <T>        the type of the mapping result
+     * @return the result of the mapping
+     */
+    public <T> T inMapperSpan(String mapperCode, Supplier<T> mapping) {
+        return inSpan("map " + mapperCode, SpanKind.INTERNAL, span -> {
+            span.setAttribute(TracingAttributes.MAPPER, mapperCode);
+            T result = mapping.get();
+            span.setAttribute(TracingAttributes.ROWS, TracingAttributes.rowCount(result));
+            return result;
+        });
+    }
+
+    /**
+     * An action executed inside a span.
+     *
+     * @param <T> the type of the action result
+     * @param <E> the type of the checked exception thrown by the action
+     */
+    @FunctionalInterface
+    public interface SpanAction<T, E extends Exception> {
+
+        /**
+         * Runs the action.
+         *
+         * @param span the span the action runs in
+         * @return the result of the action
+         * @throws E if the action fails
+         */
+        T run(Span span) throws E;
+    }
+}
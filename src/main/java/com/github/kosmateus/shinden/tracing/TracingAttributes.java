@@ -0,0 +1,86 @@
+package com.github.kosmateus.shinden.tracing;
+
+import com.github.kosmateus.shinden.common.response.Page;
+import io.opentelemetry.api.common.AttributeKey;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Attribute keys attached to the spans created by {@link ShindenTracing}.
+ *
+ * <p>HTTP related keys follow the OpenTelemetry semantic conventions, the remaining keys are specific
+ * to the Shinden API and are prefixed with {@code shinden.}.</p>
+ *
+ * @version 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TracingAttributes {
+
+    /**
+     * The URL template of the HTTP request, e.g. {@code https://shinden.pl/user/{userId}/achievements}.
+     */
+    public static final AttributeKey<String> URL_TEMPLATE = AttributeKey.stringKey("url.template");
+
+    /**
+     * The HTTP request method.
+     */
+    public static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.request.method");
+
+    /**
+     * The HTTP response status code.
+     */
+    public static final AttributeKey<Long> HTTP_STATUS = AttributeKey.longKey("http.response.status_code");
+
+    /**
+     * The size of the HTTP response body in bytes.
+     */
+    public static final AttributeKey<Long> BODY_SIZE = AttributeKey.longKey("http.response.body.size");
+
+    /**
+     * The name of the API operation, e.g. {@code UserApi.getOverview}.
+     */
+    public static final AttributeKey<String> OPERATION = AttributeKey.stringKey("shinden.operation");
+
+    /**
+     * The code of the mapper that produced the result, e.g. {@code user.overview}.
+     */
+    public static final AttributeKey<String> MAPPER = AttributeKey.stringKey("shinden.mapper");
+
+    /**
+     * The number of rows (items) produced by a mapper or returned by an API operation.
+     */
+    public static final AttributeKey<Long> ROWS = AttributeKey.longKey("shinden.rows");
+
+    /**
+     * The region of the page parsed instead of the whole page, e.g. {@code section.achv}, or an empty string
+     * if the region was not found and the whole page was parsed.
+     */
+    public static final AttributeKey<String> PARSE_REGION = AttributeKey.stringKey("shinden.parse.region");
+
+    /**
+     * Counts the rows carried by the given result.
+     *
+     * <p>Collections, maps and pages report their number of elements, any other non-null value counts as a single row.</p>
+     *
+     * @param result the result to count, may be null
+     * @return the number of rows carried by the result
+     */
+    public static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+        if (result instanceof Page) {
+            return ((Page<?>) result).getNumberOfElements();
+        }
+        return 1;
+    }
+}
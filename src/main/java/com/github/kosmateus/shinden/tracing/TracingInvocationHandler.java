@@ -0,0 +1,92 @@
+package com.github.kosmateus.shinden.tracing;
+
+import io.opentelemetry.api.trace.SpanKind;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Invocation handler opening a span around every call of a public API interface.
+ *
+ * <p>The {@code TracingInvocationHandler} creates a dynamic proxy in front of an API implementation.
+ * Each call of an interface method runs inside a span named after the interface and the method,
+ * e.g. {@code UserApi.getOverview}, which becomes the parent of the HTTP, parse and mapper spans
+ * opened while serving the call.</p>
+ *
+ * @version 1.0.0
+ */
+public class TracingInvocationHandler implements InvocationHandler {
+
+    private final Object target;
+    private final String interfaceName;
+    private final ShindenTracing tracing;
+
+    private TracingInvocationHandler(Object target, Class<?> interfaceType, ShindenTracing tracing) {
+        this.target = target;
+        this.interfaceName = interfaceType.getSimpleName();
+        this.tracing = tracing;
+    }
+
+    /**
+     * Creates a proxy that traces method calls, or returns the target itself when tracing is disabled.
+     *
+     * @param target        the target object whose methods are to be traced
+     * @param interfaceType the interface class that the proxy should implement
+     * @param tracing       the tracing used to open the spans
+     * @param <T>           the type of the interface
+     * @return a tracing proxy, or the target when tracing is disabled
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T createProxy(T target, Class<T> interfaceType, ShindenTracing tracing) {
+        if (!tracing.isEnabled()) {
+            return target;
+        }
+        return (T) Proxy.newProxyInstance(
+                interfaceType.getClassLoader(),
+                new Class<?>[]{interfaceType},
+                new TracingInvocationHandler(target, interfaceType, tracing)
+        );
+    }
+
+    /**
+     * Invokes the target method inside a span and records the number of returned rows.
+     *
+     * <p>Exceptions thrown by the target are rethrown unwrapped, so the proxy is transparent to callers.</p>
+     *
+     * @param proxy  the proxy instance that the method was invoked on
+     * @param method the invoked interface method
+     * @param args   the arguments of the invocation
+     * @return the result of the invocation
+     * @throws Throwable the exception thrown by the target method
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeTarget(method, args);
+        }
+        String operation = interfaceName + "." + method.getName();
+        return tracing.inSpan(operation, SpanKind.INTERNAL, span -> {
+            span.setAttribute(TracingAttributes.OPERATION, operation);
+            Object result = invokeTarget(method, args);
+            span.setAttribute(TracingAttributes.ROWS, TracingAttributes.rowCount(result));
+            return result;
+        });
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Exception {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
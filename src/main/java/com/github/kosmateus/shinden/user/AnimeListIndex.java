@@ -0,0 +1,304 @@
+package com.github.kosmateus.shinden.user;
+
+import com.github.kosmateus.shinden.common.enums.MPAA;
+import com.github.kosmateus.shinden.common.enums.TitleStatus;
+import com.github.kosmateus.shinden.common.enums.TitleType;
+import com.github.kosmateus.shinden.common.request.Pageable;
+import com.github.kosmateus.shinden.common.request.Sort;
+import com.github.kosmateus.shinden.common.request.Sort.Direction;
+import com.github.kosmateus.shinden.common.request.Sort.Order;
+import com.github.kosmateus.shinden.common.response.Page;
+import com.github.kosmateus.shinden.common.response.PageImpl;
+import com.github.kosmateus.shinden.user.common.enums.UserTitleStatus;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest.SortType;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable in-memory index over a user's complete anime list.
+ * <p>
+ * The {@code AnimeListIndex} class answers the filters of an {@link AnimeListRequest} and all its
+ * {@link SortType} orders locally, so a user's list is fetched once and then queried without further requests.
+ * The list is stored by column: the statuses, types, title statuses and age ratings are dictionary-encoded as
+ * the ordinal of their constant in byte arrays, the premiere years are kept in an int array, and each sort order
+ * is precomputed as an int array holding the rank of every item. A query scans these arrays and sorts the
+ * matching items by their packed ranks, without comparing the items themselves.
+ * </p>
+ * <p>
+ * Items missing the value of a sort order come last in both directions. Items with equal values keep the order
+ * of the fetched list. The tags of the titles are not part of the list, so requests filtering by tags cannot be
+ * answered by the index.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+public final class AnimeListIndex {
+
+    private static final int MISSING = -1;
+    private static final SortType[] SORT_TYPES = SortType.values();
+
+    private final Long userId;
+    private final AnimeListItem[] items;
+    private final byte[] statuses;
+    private final byte[] types;
+    private final byte[] titleStatuses;
+    private final byte[] ageRatings;
+    private final int[] premiereYears;
+    private final int[][] ranks;
+    private final int[] maxRanks;
+
+    private AnimeListIndex(Long userId, AnimeListItem[] items) {
+        this.userId = userId;
+        this.items = items;
+        int size = items.length;
+        this.statuses = new byte[size];
+        this.types = new byte[size];
+        this.titleStatuses = new byte[size];
+        this.ageRatings = new byte[size];
+        this.premiereYears = new int[size];
+        for (int row = 0; row < size; row++) {
+            AnimeListItem item = items[row];
+            statuses[row] = encode(item.getStatus());
+            types[row] = encode(item.getType());
+            titleStatuses[row] = encode(item.getTitleStatus());
+            ageRatings[row] = encode(item.getMpaa());
+            premiereYears[row] = item.getStartDate() != null ? item.getStartDate().getYear() : MISSING;
+        }
+        this.ranks = new int[SORT_TYPES.length][];
+        this.maxRanks = new int[SORT_TYPES.length];
+        for (SortType sortType : SORT_TYPES) {
+            int[] rank = rank(sortType);
+            ranks[sortType.ordinal()] = rank;
+            maxRanks[sortType.ordinal()] = IntStream.of(rank).max().orElse(MISSING);
+        }
+    }
+
+    /**
+     * Creates an index over the given anime list.
+     *
+     * @param userId the unique identifier of the user owning the list
+     * @param items  the complete anime list of the user, in the order of the response
+     * @return the index over the list
+     */
+    public static AnimeListIndex of(Long userId, List<AnimeListItem> items) {
+        return new AnimeListIndex(Objects.requireNonNull(userId, "userId"), items.toArray(new AnimeListItem[0]));
+    }
+
+    /**
+     * Returns the unique identifier of the user owning the indexed list.
+     *
+     * @return the unique identifier of the user
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Returns the number of items of the indexed list.
+     *
+     * @return the number of items
+     */
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * Retrieves all items matching the filters of the given request, in the order of the fetched list.
+     *
+     * @param request the criteria of the items
+     * @return the matching items
+     * @throws IllegalArgumentException if the request is for another user or filters by tags
+     */
+    public List<AnimeListItem> query(AnimeListRequest request) {
+        return toItems(match(request), 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves all items matching the filters of the given request, in the given order.
+     *
+     * @param request the criteria of the items
+     * @param sort    the order of the items
+     * @return the matching items
+     * @throws IllegalArgumentException if the request is for another user or filters by tags
+     */
+    public List<AnimeListItem> query(AnimeListRequest request, Sort<SortType> sort) {
+        return toItems(sort(match(request), sort), 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves a page of the items matching the filters of the given request.
+     *
+     * @param request  the criteria of the items
+     * @param pageable the page and order of the items
+     * @return the page of the matching items
+     * @throws IllegalArgumentException if the request is for another user or filters by tags
+     */
+    public Page<AnimeListItem> query(AnimeListRequest request, Pageable<SortType> pageable) {
+        int[] rows = sort(match(request), pageable.getSort().orElse(null));
+        long offset = Math.min(pageable.getOffset(), rows.length);
+        return new PageImpl<>(toItems(rows, (int) offset, pageable.getPageSize()), pageable, rows.length);
+    }
+
+    private int[] match(AnimeListRequest request) {
+        if (!userId.equals(request.getUserId())) {
+            throw new IllegalArgumentException("The index holds the anime list of user " + userId
+                    + ", not of user " + request.getUserId());
+        }
+        if (request.getTags() != null && !request.getTags().isEmpty()) {
+            throw new IllegalArgumentException("The anime list does not contain the tags of the titles");
+        }
+        boolean[] statusMask = mask(UserTitleStatus.values().length,
+                request.getStatus() != null ? Collections.singleton(request.getStatus()) : null);
+        boolean[] typeMask = mask(TitleType.values().length, request.getAnimeTypes());
+        boolean[] titleStatusMask = mask(TitleStatus.values().length, request.getAnimeStatuses());
+        boolean[] ageRatingMask = mask(MPAA.values().length, request.getAgeRatings());
+        Integer premiereYearMin = request.getPremiereYearMin();
+        Integer premiereYearMax = request.getPremiereYearMax();
+        int yearMin = premiereYearMin != null ? premiereYearMin : Integer.MIN_VALUE;
+        int yearMax = premiereYearMax != null ? premiereYearMax : Integer.MAX_VALUE;
+        boolean filterYears = premiereYearMin != null || premiereYearMax != null;
+
+        int[] rows = new int[items.length];
+        int count = 0;
+        for (int row = 0; row < items.length; row++) {
+            if (statusMask[statuses[row]]
+                    && typeMask[types[row]]
+                    && titleStatusMask[titleStatuses[row]]
+                    && ageRatingMask[ageRatings[row]]
+                    && (!filterYears || premiereYears[row] != MISSING
+                    && premiereYears[row] >= yearMin && premiereYears[row] <= yearMax)) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    private int[] sort(int[] rows, Sort<SortType> sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return rows;
+        }
+        List<Order<SortType>> orders = sort.getOrders();
+        if (orders.size() == 1) {
+            Order<SortType> order = orders.get(0);
+            long[] keys = new long[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                keys[i] = (long) sortKey(order, rows[i]) << 32 | rows[i];
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = (int) keys[i];
+            }
+            return rows;
+        }
+        Comparator<Integer> comparator = null;
+        for (Order<SortType> order : orders) {
+            Comparator<Integer> byOrder = Comparator.comparingInt(row -> sortKey(order, row));
+            comparator = comparator == null ? byOrder : comparator.thenComparing(byOrder);
+        }
+        return IntStream.of(rows).boxed()
+                .sorted(comparator.thenComparingInt(row -> row))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private int sortKey(Order<SortType> order, int row) {
+        int ordinal = order.getProperty().ordinal();
+        int rank = ranks[ordinal][row];
+        if (rank == MISSING) {
+            return Integer.MAX_VALUE;
+        }
+        return order.getDirection() == Direction.DESC ? maxRanks[ordinal] - rank : rank;
+    }
+
+    private List<AnimeListItem> toItems(int[] rows, int offset, int limit) {
+        int to = (int) Math.min((long) offset + limit, rows.length);
+        List<AnimeListItem> result = new ArrayList<>(Math.max(to - offset, 0));
+        for (int i = offset; i < to; i++) {
+            result.add(items[rows[i]]);
+        }
+        return result;
+    }
+
+    private int[] rank(SortType sortType) {
+        switch (sortType) {
+            case TITLE:
+                return rank(row -> items[row].getTitle() != null,
+                        Comparator.comparing(row -> items[row].getTitle(), String.CASE_INSENSITIVE_ORDER));
+            case RATE:
+                return rank(AnimeListItem::getUserTotalRating);
+            case STORY_RATE:
+                return rank(AnimeListItem::getUserStoryRating);
+            case GRAPHICS_RATE:
+                return rank(AnimeListItem::getUserGraphicRating);
+            case MUSIC_RATE:
+                return rank(AnimeListItem::getUserMusicRating);
+            case CHARACTERS_RATE:
+                return rank(AnimeListItem::getUserCharactersRating);
+            case PREMIERE_DATE:
+                return rank(row -> items[row].getStartDate() != null,
+                        Comparator.comparing(row -> items[row].getStartDate()));
+            case PROGRESS:
+                return rank(AnimeListItem::getWatchedEpisodes);
+            case TYPE:
+                return rank(row -> types[row] != 0, Comparator.comparingInt(row -> types[row]));
+            default:
+                throw new IllegalArgumentException("Unsupported sort type: " + sortType);
+        }
+    }
+
+    private int[] rank(Function<AnimeListItem, Integer> column) {
+        int[] values = new int[items.length];
+        boolean[] present = new boolean[items.length];
+        for (int row = 0; row < items.length; row++) {
+            Integer value = column.apply(items[row]);
+            present[row] = value != null;
+            values[row] = value != null ? value : 0;
+        }
+        return rank(row -> present[row], Comparator.comparingInt(row -> values[row]));
+    }
+
+    /**
+     * Computes the dense rank of every item in the given order, {@value #MISSING} for the items without a value.
+     */
+    private int[] rank(IntPredicate present, Comparator<Integer> order) {
+        Integer[] rows = IntStream.range(0, items.length).filter(present).boxed().toArray(Integer[]::new);
+        Arrays.sort(rows, order);
+        int[] rank = new int[items.length];
+        Arrays.fill(rank, MISSING);
+        int current = 0;
+        for (int i = 0; i < rows.length; i++) {
+            if (i > 0 && order.compare(rows[i - 1], rows[i]) != 0) {
+                current++;
+            }
+            rank[rows[i]] = current;
+        }
+        return rank;
+    }
+
+    private static byte encode(Enum<?> constant) {
+        return (byte) (constant != null ? constant.ordinal() + 1 : 0);
+    }
+
+    private static boolean[] mask(int constants, Set<? extends Enum<?>> accepted) {
+        boolean[] mask = new boolean[constants + 1];
+        if (accepted == null || accepted.isEmpty()) {
+            Arrays.fill(mask, true);
+            return mask;
+        }
+        for (Enum<?> constant : accepted) {
+            mask[constant.ordinal() + 1] = true;
+        }
+        return mask;
+    }
+}
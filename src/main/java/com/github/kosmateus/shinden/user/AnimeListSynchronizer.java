@@ -0,0 +1,216 @@
+package com.github.kosmateus.shinden.user;
+
+import com.github.kosmateus.shinden.common.request.Pageable;
+import com.github.kosmateus.shinden.common.request.Sort;
+import com.github.kosmateus.shinden.common.response.Page;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest.SortType;
+import com.github.kosmateus.shinden.user.request.AnimeListSyncOptions;
+import com.github.kosmateus.shinden.user.response.AnimeListChange;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+import com.github.kosmateus.shinden.utils.MethodValidator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps local mirrors of users' anime lists up to date by polling them.
+ * <p>
+ * The {@code AnimeListSynchronizer} class keeps the last snapshot of every polled list and reports the changes
+ * found by each poll as {@link AnimeListChange} events, instead of the complete list. A poll fetches the list in
+ * pages sorted by title, an order which status, progress and rating changes do not affect, and fingerprints the
+ * tracked fields of every page: the status, the number of watched episodes and the ratings of each item. Pages
+ * whose fingerprint matches the previous poll are not compared item by item.
+ * </p>
+ * <p>
+ * When the number of items is unchanged, a poll stops at the first unchanged page, so polling an unchanged list
+ * costs a single request. Changes past that page are found by the next full scan, which fetches every page and
+ * runs when the number of items changed, when a new item was found, on the first poll of a user, and otherwise
+ * every {@link AnimeListSyncOptions#getFullScanInterval()} polls. Removed items are reported by full scans.
+ * </p>
+ * <p>
+ * Polls of different users may run concurrently. Polls of the same user must not overlap.
+ * </p>
+ *
+ * <pre>{@code
+ * AnimeListSynchronizer synchronizer = new AnimeListSynchronizer(api.user());
+ * for (AnimeListChange change : synchronizer.synchronize(userId)) {
+ *     mirror.apply(change);
+ * }
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+public class AnimeListSynchronizer {
+
+    private static final Sort<SortType> STABLE_ORDER = Sort.by(SortType.TITLE.asc());
+
+    private final UserApi userApi;
+    private final AnimeListSyncOptions options;
+    private final ConcurrentMap<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code AnimeListSynchronizer} with the default options.
+     *
+     * @param userApi the API used to fetch the lists
+     */
+    public AnimeListSynchronizer(UserApi userApi) {
+        this(userApi, AnimeListSyncOptions.defaults());
+    }
+
+    /**
+     * Constructs a new {@code AnimeListSynchronizer}.
+     *
+     * @param userApi the API used to fetch the lists
+     * @param options the options of the synchronization
+     * @throws javax.validation.ConstraintViolationException if the options are invalid
+     */
+    public AnimeListSynchronizer(UserApi userApi, AnimeListSyncOptions options) {
+        new MethodValidator().validateParameter(Objects.requireNonNull(options, "options"));
+        this.userApi = Objects.requireNonNull(userApi, "userApi");
+        this.options = options;
+    }
+
+    /**
+     * Polls the anime list of the given user and returns the changes since the previous poll.
+     * <p>
+     * The first poll of a user reports every item of the list as added.
+     * </p>
+     *
+     * @param userId the unique identifier of the user
+     * @return the changes of the list, in the order of the list, followed by the removed items
+     * @throws com.github.kosmateus.shinden.exception.NotFoundException  if the user is not found
+     * @throws com.github.kosmateus.shinden.exception.ForbiddenException if the user's list is not accessible
+     */
+    public List<AnimeListChange> synchronize(Long userId) {
+        Snapshot previous = snapshots.get(userId);
+        AnimeListRequest request = AnimeListRequest.builder().userId(userId).build();
+        int pageSize = options.getPageSize();
+
+        Page<AnimeListItem> page = fetch(request, 0);
+        int count = (int) page.getTotalElements();
+        boolean fullScan = previous == null
+                || previous.count != count
+                || previous.pollsSinceFullScan + 1 >= options.getFullScanInterval();
+        int pageCount = (count + pageSize - 1) / pageSize;
+
+        Map<Long, AnimeListItem> items = previous != null ? new HashMap<>(previous.items) : new HashMap<>();
+        long[] pageFingerprints = Arrays.copyOf(previous != null ? previous.pageFingerprints : new long[0], pageCount);
+        Set<Long> seen = new HashSet<>();
+        List<AnimeListChange> changes = new ArrayList<>();
+        for (int pageNumber = 0; pageNumber < pageCount; pageNumber++) {
+            if (pageNumber > 0) {
+                page = fetch(request, pageNumber);
+            }
+            List<AnimeListItem> content = page.getContent();
+            long fingerprint = fingerprint(content);
+            boolean unchanged = previous != null
+                    && pageNumber < previous.pageFingerprints.length
+                    && previous.pageFingerprints[pageNumber] == fingerprint;
+            if (unchanged && !fullScan) {
+                break;
+            }
+            pageFingerprints[pageNumber] = fingerprint;
+            for (AnimeListItem item : content) {
+                seen.add(item.getId());
+                if (unchanged) {
+                    continue;
+                }
+                AnimeListItem before = items.put(item.getId(), item);
+                if (before == null) {
+                    changes.add(AnimeListChange.added(item));
+                    fullScan = true;
+                } else if (fingerprint(before) != fingerprint(item)) {
+                    changes.add(AnimeListChange.updated(before, item));
+                }
+            }
+        }
+
+        if (fullScan && previous != null) {
+            for (AnimeListItem item : previous.items.values()) {
+                if (!seen.contains(item.getId())) {
+                    items.remove(item.getId());
+                    changes.add(AnimeListChange.removed(item));
+                }
+            }
+        }
+        int pollsSinceFullScan = fullScan ? 0 : previous.pollsSinceFullScan + 1;
+        snapshots.put(userId, new Snapshot(count, pageFingerprints, items, pollsSinceFullScan));
+        return changes;
+    }
+
+    /**
+     * Returns the items of the given user's list as of the last poll.
+     *
+     * @param userId the unique identifier of the user
+     * @return the items of the list, or an empty collection if the user was not polled
+     */
+    public Collection<AnimeListItem> getItems(Long userId) {
+        Snapshot snapshot = snapshots.get(userId);
+        return snapshot != null ? Collections.unmodifiableCollection(snapshot.items.values()) : Collections.emptyList();
+    }
+
+    /**
+     * Drops the snapshot of the given user, so the next poll reports the complete list again.
+     *
+     * @param userId the unique identifier of the user
+     */
+    public void forget(Long userId) {
+        snapshots.remove(userId);
+    }
+
+    private Page<AnimeListItem> fetch(AnimeListRequest request, int pageNumber) {
+        return userApi.getAnimeList(request, Pageable.of(pageNumber, options.getPageSize(), STABLE_ORDER));
+    }
+
+    private static long fingerprint(List<AnimeListItem> items) {
+        long fingerprint = items.size();
+        for (AnimeListItem item : items) {
+            fingerprint = fingerprint * 0x9E3779B97F4A7C15L + fingerprint(item);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Fingerprints the identity and the tracked fields of an item.
+     */
+    private static long fingerprint(AnimeListItem item) {
+        long fingerprint = Objects.hashCode(item.getId());
+        fingerprint = fingerprint * 31 + Objects.hashCode(item.getStatus());
+        fingerprint = fingerprint * 31 + Objects.hashCode(item.getWatchedEpisodes());
+        fingerprint = fingerprint * 31 + Objects.hashCode(item.getUserTotalRating());
+        fingerprint = fingerprint * 31 + Objects.hashCode(item.getUserStoryRating());
+        fingerprint = fingerprint * 31 + Objects.hashCode(item.getUserGraphicRating());
+        fingerprint = fingerprint * 31 + Objects.hashCode(item.getUserMusicRating());
+        fingerprint = fingerprint * 31 + Objects.hashCode(item.getUserCharactersRating());
+        return fingerprint ^ fingerprint >>> 29;
+    }
+
+    /**
+     * The state of a user's list as of the last poll.
+     */
+    private static final class Snapshot {
+
+        private final int count;
+        private final long[] pageFingerprints;
+        private final Map<Long, AnimeListItem> items;
+        private final int pollsSinceFullScan;
+
+        private Snapshot(int count, long[] pageFingerprints, Map<Long, AnimeListItem> items, int pollsSinceFullScan) {
+            this.count = count;
+            this.pageFingerprints = pageFingerprints;
+            this.items = items;
+            this.pollsSinceFullScan = pollsSinceFullScan;
+        }
+    }
+}
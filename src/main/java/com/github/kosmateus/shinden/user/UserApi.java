@@ -1,11 +1,14 @@
 package com.github.kosmateus.shinden.user;
 
+import com.github.kosmateus.shinden.common.request.BulkOptions;
 import com.github.kosmateus.shinden.common.request.Pageable;
+import com.github.kosmateus.shinden.common.response.BulkResult;
 import com.github.kosmateus.shinden.common.response.Page;
 import com.github.kosmateus.shinden.common.response.UpdateResult;
 import com.github.kosmateus.shinden.exception.ForbiddenException;
 import com.github.kosmateus.shinden.exception.JsoupParserException;
 import com.github.kosmateus.shinden.exception.NotFoundException;
+import com.github.kosmateus.shinden.user.common.enums.OverviewSection;
 import com.github.kosmateus.shinden.user.request.AddToListSettingsRequest;
 import com.github.kosmateus.shinden.user.request.AnimeListRequest;
 import com.github.kosmateus.shinden.user.request.AnimeListRequest.SortType;
@@ -28,7 +31,10 @@ import com.github.kosmateus.shinden.user.response.UserSettings;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Interface defining user-related API operations.
@@ -55,6 +61,46 @@ public interface UserApi {
      */
     UserOverview getOverview(@NotNull Long userId);
 
+    /**
+     * Retrieves the selected sections of the overview of a user by their ID.
+     * <p>
+     * Only the requested sections of the profile page are looked up and mapped, which makes the call noticeably
+     * cheaper when just a part of the overview is needed, e.g. the {@link OverviewSection#ANIME_STATISTICS}.
+     * The properties belonging to the sections that were not requested are {@code null}; the user ID is always
+     * present.
+     * </p>
+     *
+     * @param userId   the ID of the user
+     * @param sections the sections of the overview to map, e.g. {@code EnumSet.of(OverviewSection.ANIME_STATISTICS)}
+     * @return the {@link UserOverview} containing the requested sections of the user's overview
+     * @throws NotFoundException    if the user page is not found
+     * @throws JsoupParserException if there is an error parsing the web page
+     */
+    UserOverview getOverview(@NotNull Long userId, @NotNull Set<OverviewSection> sections);
+
+    /**
+     * Retrieves the overviews of many users concurrently.
+     * <p>
+     * The profile pages are fetched by up to {@link BulkOptions#getParallelism()} concurrent requests, started at
+     * no more than {@link BulkOptions#getRequestsPerSecond()} per second, and are parsed and mapped on a separate
+     * pool of {@link BulkOptions#getMapperParallelism()} threads. The results are returned as soon as they are ready
+     * or in the order of the given IDs, as selected by {@link BulkOptions#getOrder()}.
+     * </p>
+     * <p>
+     * A user whose overview cannot be retrieved does not interrupt the operation; the exception, e.g.
+     * {@link NotFoundException} or {@link JsoupParserException}, is reported in the {@link BulkResult} of that user.
+     * The requests start immediately and run to completion even if the stream is not consumed; closing the stream
+     * cancels the requests that have not completed yet.
+     * </p>
+     *
+     * @param userIds the IDs of the users. Must not be null.
+     * @param options the options controlling the concurrency and the order of the results. Must not be null.
+     * @return a {@link Stream} of {@link BulkResult}s, one for every given user ID, holding the {@link UserOverview}
+     * or the exception that prevented retrieving it.
+     * @throws IllegalArgumentException if the user IDs or the options are null or the options are invalid.
+     */
+    Stream<BulkResult<Long, UserOverview>> getOverviews(@NotNull Collection<Long> userIds, @Valid @NotNull BulkOptions options);
+
     /**
      * Retrieves the achievements of a user by their ID.
      * <p>
@@ -317,5 +363,20 @@ public interface UserApi {
      */
     List<AnimeListItem> getAnimeList(@Valid @NotNull AnimeListRequest request);
 
+    /**
+     * Fetches a user's complete anime list once and indexes it for local queries.
+     * <p>
+     * The returned {@link AnimeListIndex} answers the filters and sort orders of {@link AnimeListRequest}
+     * in memory, so querying the same list with different criteria does not fetch it again.
+     * </p>
+     *
+     * @param userId the unique identifier of the user whose anime list is indexed. Must not be null.
+     * @return an {@link AnimeListIndex} over the user's complete anime list.
+     * @throws IllegalArgumentException if the user ID is null.
+     * @throws NotFoundException        if the user is not found.
+     * @throws ForbiddenException       if the user is not authorized to access the anime list.
+     */
+    AnimeListIndex getAnimeListIndex(@NotNull Long userId);
+
 
 }
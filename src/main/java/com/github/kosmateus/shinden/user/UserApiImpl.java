@@ -1,7 +1,9 @@
 package com.github.kosmateus.shinden.user;
 
 import com.github.kosmateus.shinden.common.mapper.CommonMapper;
+import com.github.kosmateus.shinden.common.request.BulkOptions;
 import com.github.kosmateus.shinden.common.request.Pageable;
+import com.github.kosmateus.shinden.common.response.BulkResult;
 import com.github.kosmateus.shinden.common.response.Page;
 import com.github.kosmateus.shinden.common.response.PageImpl;
 import com.github.kosmateus.shinden.common.response.UpdateResult;
@@ -9,6 +11,7 @@ import com.github.kosmateus.shinden.exception.NotFoundException;
 import com.github.kosmateus.shinden.http.response.HttpStatus;
 import com.github.kosmateus.shinden.http.response.ResponseHandler;
 import com.github.kosmateus.shinden.user.common.UserId;
+import com.github.kosmateus.shinden.user.common.enums.OverviewSection;
 import com.github.kosmateus.shinden.user.mapper.UserAccountMapper;
 import com.github.kosmateus.shinden.user.mapper.UserAchievementsMapper;
 import com.github.kosmateus.shinden.user.mapper.UserFavouriteTagsMapper;
@@ -38,14 +41,19 @@ import com.github.kosmateus.shinden.user.response.Review;
 import com.github.kosmateus.shinden.user.response.UserInformation;
 import com.github.kosmateus.shinden.user.response.UserOverview;
 import com.github.kosmateus.shinden.user.response.UserSettings;
+import com.github.kosmateus.shinden.tracing.ShindenTracing;
+import com.github.kosmateus.shinden.utils.BulkExecutor;
 import com.google.inject.Inject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Connection.KeyVal;
 import org.jsoup.nodes.Document;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static com.github.kosmateus.shinden.utils.response.ResponseHandlerValidator.validateResponse;
 
@@ -76,54 +84,73 @@ class UserApiImpl implements UserApi {
     private final UserSettingsMapper settingsMapper;
     private final UserAccountMapper accountMapper;
     private final UserImportMalListMapper userImportMalListMapper;
+    private final ShindenTracing tracing;
 
     @Override
     public UserOverview getOverview(Long userId) {
         ResponseHandler<Document> userPage = jsoupClient.getUserPage(userId);
         validateResponse(userPage);
-        return overviewMapper.map(userPage.getEntity());
+        return tracing.inMapperSpan(overviewMapper.getCode(), () -> overviewMapper.map(userPage.getEntity()));
+    }
+
+    @Override
+    public UserOverview getOverview(Long userId, Set<OverviewSection> sections) {
+        ResponseHandler<Document> userPage = jsoupClient.getUserPage(userId);
+        validateResponse(userPage);
+        return tracing.inMapperSpan(overviewMapper.getCode(), () -> overviewMapper.map(userPage.getEntity(), sections));
+    }
+
+    @Override
+    public Stream<BulkResult<Long, UserOverview>> getOverviews(Collection<Long> userIds, BulkOptions options) {
+        return BulkExecutor.execute(userIds, options, jsoupClient::fetchUserPage, (userId, fetched) -> {
+            ResponseHandler<Document> userPage = jsoupClient.parse(fetched);
+            validateResponse(userPage);
+            return tracing.inMapperSpan(overviewMapper.getCode(), () -> overviewMapper.map(userPage.getEntity()));
+        });
     }
 
     @Override
     public Achievements getAchievements(Long userId) {
-        ResponseHandler<Document> achievementsPage = jsoupClient.getAchievementsPage(userId);
+        ResponseHandler<Document> achievementsPage = jsoupClient.getAchievementsPage(userId, achievementsMapper.getRegion());
         validateResponse(achievementsPage);
-        return achievementsMapper.map(achievementsPage.getEntity());
+        return tracing.inMapperSpan(achievementsMapper.getCode(), () -> achievementsMapper.map(achievementsPage.getEntity()));
     }
 
     @Override
     public List<FavouriteTag> getFavouriteTags(FavouriteTagsRequest request) {
-        ResponseHandler<Document> favouriteTagsPage = jsoupClient.getFavouriteTagsPage(request);
+        ResponseHandler<Document> favouriteTagsPage = jsoupClient.getFavouriteTagsPage(request, favouriteTagsMapper.getRegion());
         validateResponse(favouriteTagsPage);
-        return favouriteTagsMapper.map(favouriteTagsPage.getEntity());
+        return tracing.inMapperSpan(favouriteTagsMapper.getCode(), () -> favouriteTagsMapper.map(favouriteTagsPage.getEntity()));
     }
 
     @Override
     public List<Review> getReviews(Long userId) {
-        ResponseHandler<Document> reviewsPage = jsoupClient.getReviewsPage(userId);
+        ResponseHandler<Document> reviewsPage = jsoupClient.getReviewsPage(userId, reviewsMapper.getRegion());
         validateResponse(reviewsPage);
-        return reviewsMapper.map(reviewsPage.getEntity());
+        return tracing.inMapperSpan(reviewsMapper.getCode(), () -> reviewsMapper.map(reviewsPage.getEntity()));
     }
 
     @Override
     public List<Recommendation> getRecommendations(Long userId) {
-        ResponseHandler<Document> recommendationsPage = jsoupClient.getRecommendationsPage(userId);
+        ResponseHandler<Document> recommendationsPage = jsoupClient.getRecommendationsPage(userId, recommendationsMapper.getRegion());
         validateResponse(recommendationsPage);
-        return recommendationsMapper.map(recommendationsPage.getEntity());
+        return tracing.inMapperSpan(recommendationsMapper.getCode(),
+                () -> recommendationsMapper.map(recommendationsPage.getEntity()));
     }
 
     @Override
     public UserInformation getInformation(Long userId) {
         ResponseHandler<Document> informationPage = jsoupClient.getInformationEditPage(userId);
         validateResponse(informationPage);
-        return informationMapper.map(informationPage.getEntity());
+        return tracing.inMapperSpan(informationMapper.getCode(), () -> informationMapper.map(informationPage.getEntity()));
     }
 
     @Override
     public UpdateResult updateInformation(UserInformationRequest request) {
         ResponseHandler<Document> informationEditPage = jsoupClient.getInformationEditPage(request.getUserId());
         validateResponse(informationEditPage);
-        Map<String, String> updateUserInformationFormData = informationMapper.map(informationEditPage.getEntity(), request);
+        Map<String, String> updateUserInformationFormData = tracing.inMapperSpan(informationMapper.getCode(),
+                () -> informationMapper.map(informationEditPage.getEntity(), request));
         return commonMapper.map(jsoupClient.updateInformation(request.getUserId(), updateUserInformationFormData));
     }
 
@@ -131,14 +158,15 @@ class UserApiImpl implements UserApi {
     public UserSettings getSettings(Long userId) {
         ResponseHandler<Document> settingsPage = jsoupClient.getSettingsPage(userId);
         validateResponse(settingsPage);
-        return settingsMapper.map(settingsPage.getEntity());
+        return tracing.inMapperSpan(settingsMapper.getCode(), () -> settingsMapper.map(settingsPage.getEntity()));
     }
 
     @Override
     public UpdateResult updateBaseSettings(BaseSettingsRequest request) {
         ResponseHandler<Document> settingsPage = getSettingsPage(request);
         validateResponse(settingsPage);
-        List<KeyVal> formData = settingsMapper.map(settingsPage.getEntity(), request);
+        List<KeyVal> formData = tracing.inMapperSpan(settingsMapper.getCode(),
+                () -> settingsMapper.map(settingsPage.getEntity(), request));
         return commonMapper.map(jsoupClient.updatePageSettings(request.getUserId(), formData));
     }
 
@@ -146,7 +174,8 @@ class UserApiImpl implements UserApi {
     public UpdateResult updateListsSettings(ListsSettingsRequest request) {
         ResponseHandler<Document> settingsPage = getSettingsPage(request);
         validateResponse(settingsPage);
-        List<KeyVal> formData = settingsMapper.map(settingsPage.getEntity(), request);
+        List<KeyVal> formData = tracing.inMapperSpan(settingsMapper.getCode(),
+                () -> settingsMapper.map(settingsPage.getEntity(), request));
         return commonMapper.map(jsoupClient.updateSettings(request.getUserId(), formData));
     }
 
@@ -154,7 +183,8 @@ class UserApiImpl implements UserApi {
     public UpdateResult updateAddToListSettings(AddToListSettingsRequest request) {
         ResponseHandler<Document> settingsPage = getSettingsPage(request);
         validateResponse(settingsPage);
-        List<KeyVal> formData = settingsMapper.map(settingsPage.getEntity(), request);
+        List<KeyVal> formData = tracing.inMapperSpan(settingsMapper.getCode(),
+                () -> settingsMapper.map(settingsPage.getEntity(), request));
         return commonMapper.map(jsoupClient.updateSettings(request.getUserId(), formData));
     }
 
@@ -162,7 +192,8 @@ class UserApiImpl implements UserApi {
     public UpdateResult updateAvatar(AvatarFileUpdateRequest request) {
         ResponseHandler<Document> editAvatarPage = jsoupClient.getEditAvatarPage(request.getUserId());
         validateResponse(editAvatarPage);
-        Map<String, String> formData = accountMapper.mapToUpdateAvatar(editAvatarPage.getEntity());
+        Map<String, String> formData = tracing.inMapperSpan(accountMapper.getCode(),
+                () -> accountMapper.mapToUpdateAvatar(editAvatarPage.getEntity()));
         return commonMapper.map(httpClient.updateUserAvatar(request.getUserId(), formData, request.getAvatar()));
 
     }
@@ -171,7 +202,8 @@ class UserApiImpl implements UserApi {
     public UpdateResult updateAvatar(AvatarUrlUpdateRequest request) {
         ResponseHandler<Document> editAvatarPage = jsoupClient.getEditAvatarPage(request.getUserId());
         validateResponse(editAvatarPage);
-        Map<String, String> formData = accountMapper.mapToUpdateAvatar(editAvatarPage.getEntity(), request);
+        Map<String, String> formData = tracing.inMapperSpan(accountMapper.getCode(),
+                () -> accountMapper.mapToUpdateAvatar(editAvatarPage.getEntity(), request));
         return commonMapper.map(httpClient.updateUserAvatar(request.getUserId(), formData));
     }
 
@@ -179,14 +211,16 @@ class UserApiImpl implements UserApi {
     public UpdateResult deleteAvatar(Long userId) {
         ResponseHandler<Document> editAvatarPage = jsoupClient.getEditAvatarPage(userId);
         validateResponse(editAvatarPage);
-        Map<String, String> formData = accountMapper.mapToDeleteAvatar(editAvatarPage.getEntity());
+        Map<String, String> formData = tracing.inMapperSpan(accountMapper.getCode(),
+                () -> accountMapper.mapToDeleteAvatar(editAvatarPage.getEntity()));
         return commonMapper.map(httpClient.updateUserAvatar(userId, formData));
     }
 
     @Override
     public UpdateResult updatePassword(UpdatePasswordRequest request) {
         ResponseHandler<Document> settingsPage = jsoupClient.getEditPasswordPage(request.getUserId());
-        Map<String, String> formData = accountMapper.mapToUpdatePassword(settingsPage.getEntity(), request);
+        Map<String, String> formData = tracing.inMapperSpan(accountMapper.getCode(),
+                () -> accountMapper.mapToUpdatePassword(settingsPage.getEntity(), request));
         return commonMapper.map(httpClient.updatePassword(request.getUserId(), formData));
     }
 
@@ -194,7 +228,8 @@ class UserApiImpl implements UserApi {
     public UpdateResult importMalList(ImportMalListRequest request) {
         ResponseHandler<Document> importPage = jsoupClient.getImportMalListPage(request.getUserId());
         validateResponse(importPage);
-        Map<String, String> formData = userImportMalListMapper.map(importPage.getEntity(), request);
+        Map<String, String> formData = tracing.inMapperSpan(userImportMalListMapper.getCode(),
+                () -> userImportMalListMapper.map(importPage.getEntity(), request));
         return commonMapper.map(httpClient.importMalList(request.getUserId(), formData, request.getMalListFile()));
     }
 
@@ -212,6 +247,11 @@ class UserApiImpl implements UserApi {
         return animeList.getEntity().getResult().getItems();
     }
 
+    @Override
+    public AnimeListIndex getAnimeListIndex(Long userId) {
+        return AnimeListIndex.of(userId, getAnimeList(AnimeListRequest.builder().userId(userId).build()));
+    }
+
 
     private ResponseHandler<Document> getSettingsPage(UserId request) {
         ResponseHandler<Document> settingsPage = jsoupClient.getSettingsPage(request.getUserId());
@@ -7,7 +7,6 @@ import com.github.kosmateus.shinden.http.request.HttpRequest;
 import com.github.kosmateus.shinden.http.request.HttpRequest.KeyValue;
 import com.github.kosmateus.shinden.http.response.ResponseHandler;
 import com.github.kosmateus.shinden.http.rest.HttpClient;
-import com.github.kosmateus.shinden.user.common.enums.UserTitleStatus;
 import com.github.kosmateus.shinden.user.request.AnimeListRequest;
 import com.github.kosmateus.shinden.user.request.AnimeListRequest.SortType;
 import com.github.kosmateus.shinden.user.response.AnimeListItem;
@@ -53,7 +52,8 @@ class UserHttpClient {
         return httpClient.post(HttpRequest.builder()
                 .formFields(formData)
                 .target(SHINDEN_URL)
-                .path("/user/" + userId + "/edit_avatar")
+                .path("/user/{userId}/edit_avatar")
+                .pathParams(PathParamsBuilder.of("userId", userId))
                 .fileResources(ImmutableMap.of("avatar-local", fileResource))
                 .build(), String.class);
     }
@@ -71,7 +71,8 @@ class UserHttpClient {
         return httpClient.post(HttpRequest.builder()
                 .target(SHINDEN_URL)
                 .formFields(formData)
-                .path("/user/" + userId + "/edit_avatar")
+                .path("/user/{userId}/edit_avatar")
+                .pathParams(PathParamsBuilder.of("userId", userId))
                 .build(), String.class);
     }
 
@@ -88,7 +89,8 @@ class UserHttpClient {
         return httpClient.post(HttpRequest.builder()
                 .target(SHINDEN_URL)
                 .formFields(formData)
-                .path("/user/" + userId + "/edit_passwd")
+                .path("/user/{userId}/edit_passwd")
+                .pathParams(PathParamsBuilder.of("userId", userId))
                 .build(), String.class);
     }
 
@@ -108,7 +110,8 @@ class UserHttpClient {
                 .target(SHINDEN_URL)
                 .formFields(formData)
                 .fileResources(ImmutableMap.of("mal-list", fileResource))
-                .path("/user/" + userId + "/import_mal/1")
+                .path("/user/{userId}/import_mal/1")
+                .pathParams(PathParamsBuilder.of("userId", userId))
                 .build(), String.class);
     }
 
@@ -117,17 +120,20 @@ class UserHttpClient {
      *
      * <p>This method fetches a list of anime items from a user's anime list according to the specified
      * request criteria and pagination details. If no pagination is provided, all matching anime items
-     * are returned.</p>
+     * are returned. The properties excluded by the request are skipped while the response is decoded.</p>
      *
      * @param request  the {@link AnimeListRequest} containing the criteria for fetching the user's anime list. Must not be null.
      * @param pageable an optional {@link Pageable} object containing pagination information, such as page number and size. Can be null.
      * @return a {@link ResponseHandler} containing a {@link ListResponse} of {@link AnimeListItem} representing the user's anime list.
      */
     ResponseHandler<ListResponse<AnimeListItem>> getAnimeList(AnimeListRequest request, @Nullable Pageable<SortType> pageable) {
-        String path = "/api/userlist/" + request.getUserId() + "/anime" + Optional.ofNullable(request.getStatus())
-                .map(UserTitleStatus::getPathValue)
-                .map(status -> "/" + status)
+        String path = "/api/userlist/{userId}/anime" + Optional.ofNullable(request.getStatus())
+                .map(status -> "/{" + status.getPathParameter() + "}")
                 .orElse("");
+        Map<String, String> pathParams = ImmutableMap.<String, String>builder()
+                .putAll(PathParamsBuilder.of("userId", request.getUserId()))
+                .putAll(PathParamsBuilder.build(request.getStatus()))
+                .build();
 
         List<KeyValue> queryParams = request.toQueryParams();
         if (pageable == null) {
@@ -135,10 +141,10 @@ class UserHttpClient {
             return httpClient.get(HttpRequest.builder()
                     .target(SHINDEN_USER_LIST_URL)
                     .path(path)
-                    .pathParams(PathParamsBuilder.build(request.getStatus()))
+                    .pathParams(pathParams)
                     .queryParams(queryParams)
                     .build(), new TypeReference<ListResponse<AnimeListItem>>() {
-            });
+            }, request.getExcludedProperties());
         }
 
         queryParams.add(KeyValue.of("limit", String.valueOf(pageable.getPageSize())));
@@ -147,9 +153,9 @@ class UserHttpClient {
         return httpClient.get(HttpRequest.builder()
                 .target(SHINDEN_USER_LIST_URL)
                 .path(path)
-                .pathParams(PathParamsBuilder.build(request.getStatus()))
+                .pathParams(pathParams)
                 .queryParams(queryParams)
                 .build(), new TypeReference<ListResponse<AnimeListItem>>() {
-        });
+        }, request.getExcludedProperties());
     }
 }
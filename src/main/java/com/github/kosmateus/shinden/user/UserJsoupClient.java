@@ -5,7 +5,10 @@ import com.github.kosmateus.shinden.exception.NotFoundException;
 import com.github.kosmateus.shinden.http.jsoup.JsoupClient;
 import com.github.kosmateus.shinden.http.request.HttpRequest;
 import com.github.kosmateus.shinden.http.response.ResponseHandler;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
 import com.github.kosmateus.shinden.user.request.FavouriteTagsRequest;
+import com.github.kosmateus.shinden.utils.PathParamsBuilder;
+import com.github.kosmateus.shinden.utils.jsoup.PageRegion;
 import com.google.inject.Inject;
 import lombok.RequiredArgsConstructor;
 import org.jsoup.Connection.KeyVal;
@@ -39,27 +42,45 @@ class UserJsoupClient {
      * @throws NotFoundException if the user page is not found
      */
     ResponseHandler<Document> getUserPage(Long userId) {
-        return client.get(
-                HttpRequest.builder()
-                        .target(SHINDEN_URL)
-                        .path("/user/" + userId)
-                        .build()
-        );
+        return client.get(userPageRequest(userId));
+    }
+
+    /**
+     * Fetches the user page for the specified user ID without parsing it.
+     *
+     * @param userId the ID of the user
+     * @return a {@link ResponseHandler} containing the raw response, to be parsed with {@link #parse(ResponseHandler)}
+     */
+    ResponseHandler<TransportResponse> fetchUserPage(Long userId) {
+        return client.fetch(userPageRequest(userId));
+    }
+
+    /**
+     * Parses a page fetched by this client.
+     *
+     * @param fetched the fetched page
+     * @return a {@link ResponseHandler} containing the response document
+     */
+    ResponseHandler<Document> parse(ResponseHandler<TransportResponse> fetched) {
+        return client.parse(fetched);
     }
 
     /**
      * Retrieves the achievements page for the specified user ID.
      *
      * @param userId the ID of the user
+     * @param region the region of the page to parse
      * @return a {@link ResponseHandler} containing the response document
      * @throws NotFoundException if the achievements page is not found
      */
-    ResponseHandler<Document> getAchievementsPage(Long userId) {
+    ResponseHandler<Document> getAchievementsPage(Long userId, PageRegion region) {
         return client.get(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + userId + "/achievements")
-                        .build()
+                        .path("/user/{userId}/achievements")
+                        .pathParams(PathParamsBuilder.of("userId", userId))
+                        .build(),
+                region
         );
     }
 
@@ -67,16 +88,19 @@ class UserJsoupClient {
      * Retrieves the favourite tags page for the specified user.
      *
      * @param request the {@link FavouriteTagsRequest} containing user and tag details
+     * @param region the region of the page to parse
      * @return a {@link ResponseHandler} containing the response document
      * @throws NotFoundException if the favourite tags page is not found
      */
-    ResponseHandler<Document> getFavouriteTagsPage(FavouriteTagsRequest request) {
+    ResponseHandler<Document> getFavouriteTagsPage(FavouriteTagsRequest request, PageRegion region) {
         return client.get(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + request.getUserId() + "/favourite-tags")
+                        .path("/user/{userId}/favourite-tags")
+                        .pathParams(PathParamsBuilder.of("userId", request.getUserId()))
                         .queryParams(request.toQueryParams())
-                        .build()
+                        .build(),
+                region
         );
     }
 
@@ -84,15 +108,18 @@ class UserJsoupClient {
      * Retrieves the reviews page for the specified user ID.
      *
      * @param userId the ID of the user
+     * @param region the region of the page to parse
      * @return a {@link ResponseHandler} containing the response document
      * @throws NotFoundException if the reviews page is not found
      */
-    ResponseHandler<Document> getReviewsPage(Long userId) {
+    ResponseHandler<Document> getReviewsPage(Long userId, PageRegion region) {
         return client.get(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + userId + "/reviews")
-                        .build()
+                        .path("/user/{userId}/reviews")
+                        .pathParams(PathParamsBuilder.of("userId", userId))
+                        .build(),
+                region
         );
     }
 
@@ -100,15 +127,18 @@ class UserJsoupClient {
      * Retrieves the recommendations page for the specified user ID.
      *
      * @param userId the ID of the user
+     * @param region the region of the page to parse
      * @return a {@link ResponseHandler} containing the response document
      * @throws NotFoundException if the recommendations page is not found
      */
-    ResponseHandler<Document> getRecommendationsPage(Long userId) {
+    ResponseHandler<Document> getRecommendationsPage(Long userId, PageRegion region) {
         return client.get(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + userId + "/recommendations")
-                        .build()
+                        .path("/user/{userId}/recommendations")
+                        .pathParams(PathParamsBuilder.of("userId", userId))
+                        .build(),
+                region
         );
     }
 
@@ -124,7 +154,8 @@ class UserJsoupClient {
         return client.get(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + userId + "/edit")
+                        .path("/user/{userId}/edit")
+                        .pathParams(PathParamsBuilder.of("userId", userId))
                         .build()
         );
     }
@@ -142,7 +173,8 @@ class UserJsoupClient {
         return client.post(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + userId + "/edit")
+                        .path("/user/{userId}/edit")
+                        .pathParams(PathParamsBuilder.of("userId", userId))
                         .build(),
                 formData
         );
@@ -160,7 +192,8 @@ class UserJsoupClient {
         return client.get(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + userId + "/settings")
+                        .path("/user/{userId}/settings")
+                        .pathParams(PathParamsBuilder.of("userId", userId))
                         .build()
         );
     }
@@ -178,7 +211,8 @@ class UserJsoupClient {
         return client.post(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + userId + "/edit-skin-and-time")
+                        .path("/user/{userId}/edit-skin-and-time")
+                        .pathParams(PathParamsBuilder.of("userId", userId))
                         .build(),
                 pageSettings
         );
@@ -197,7 +231,8 @@ class UserJsoupClient {
         return client.post(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + userId + "/settings")
+                        .path("/user/{userId}/settings")
+                        .pathParams(PathParamsBuilder.of("userId", userId))
                         .build(),
                 settings
         );
@@ -219,7 +254,8 @@ class UserJsoupClient {
         return client.get(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + userId + "/edit_avatar")
+                        .path("/user/{userId}/edit_avatar")
+                        .pathParams(PathParamsBuilder.of("userId", userId))
                         .build()
         );
     }
@@ -243,7 +279,8 @@ class UserJsoupClient {
         return client.get(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + userId + "/edit_passwd")
+                        .path("/user/{userId}/edit_passwd")
+                        .pathParams(PathParamsBuilder.of("userId", userId))
                         .build()
         );
     }
@@ -267,8 +304,17 @@ class UserJsoupClient {
         return client.get(
                 HttpRequest.builder()
                         .target(SHINDEN_URL)
-                        .path("/user/" + userId + "/import-mal")
+                        .path("/user/{userId}/import-mal")
+                        .pathParams(PathParamsBuilder.of("userId", userId))
                         .build()
         );
     }
+
+    private static HttpRequest userPageRequest(Long userId) {
+        return HttpRequest.builder()
+                .target(SHINDEN_URL)
+                .path("/user/{userId}")
+                .pathParams(PathParamsBuilder.of("userId", userId))
+                .build();
+    }
 }
@@ -10,6 +10,8 @@ import com.github.kosmateus.shinden.user.mapper.UserOverviewMapper;
 import com.github.kosmateus.shinden.user.mapper.UserRecommendationMapper;
 import com.github.kosmateus.shinden.user.mapper.UserReviewsMapper;
 import com.github.kosmateus.shinden.user.mapper.UserSettingsMapper;
+import com.github.kosmateus.shinden.tracing.ShindenTracing;
+import com.github.kosmateus.shinden.tracing.TracingInvocationHandler;
 import com.github.kosmateus.shinden.utils.ValidationInvocationHandler;
 import com.google.inject.AbstractModule;
 import com.google.inject.Inject;
@@ -61,10 +63,12 @@ public class UserModule extends AbstractModule {
     static class UserApiProvider implements Provider<UserApi> {
 
         private final UserApiImpl userApiImpl;
+        private final ShindenTracing tracing;
 
         @Override
         public UserApi get() {
-            return ValidationInvocationHandler.createProxy(userApiImpl, UserApi.class);
+            UserApi validated = ValidationInvocationHandler.createProxy(userApiImpl, UserApi.class);
+            return TracingInvocationHandler.createProxy(validated, UserApi.class, tracing);
         }
     }
 }
@@ -0,0 +1,520 @@
+package com.github.kosmateus.shinden.user.codec;
+
+import com.github.kosmateus.shinden.common.enums.MPAA;
+import com.github.kosmateus.shinden.common.enums.TitleStatus;
+import com.github.kosmateus.shinden.common.enums.TitleType;
+import com.github.kosmateus.shinden.user.common.enums.UserTitleStatus;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Encoding of the anime list snapshot format.
+ * <p>
+ * A snapshot starts with the {@link #MAGIC} number, the {@link #VERSION} of the format, the {@link Compression} of
+ * its blocks and the names of the constants of every enum stored by {@link AnimeListItem}, so the constants are
+ * decoded by name even if an enum is reordered. The items follow in blocks, each made of the number of its items,
+ * the length of its encoded content and the length of its stored, possibly compressed, content. A block of zero
+ * items ends the snapshot.
+ * </p>
+ * <p>
+ * A block stores its items by column. The titles, cover IDs and descriptions are dictionary-encoded: each block
+ * first lists the strings it uses for the first time in the snapshot, and the items refer to them by their index.
+ * The site-wide ratings, repeated by every list holding a title, are dictionary-encoded the same way. The IDs are
+ * stored as zig-zag varint deltas from the previous ID, the other integers and the dates, as days since the epoch,
+ * as zig-zag varints, the enums as one byte per item and the booleans as bitmaps. Missing values take no space
+ * beyond a zero varint or byte.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+final class AnimeListSnapshotFormat {
+
+    static final int MAGIC = 0x5348414C;
+    static final int VERSION = 1;
+
+    /**
+     * The length of the header of every block: the number of items, the encoded length and the stored length.
+     */
+    static final int BLOCK_HEADER_LENGTH = 12;
+
+    private static final List<Class<? extends Enum<?>>> ENUM_TYPES = Arrays.asList(
+            UserTitleStatus.class, TitleStatus.class, MPAA.class, TitleType.class);
+    private static final int USER_TITLE_STATUS = 0;
+    private static final int TITLE_STATUS = 1;
+    private static final int AGE_RATING = 2;
+    private static final int TITLE_TYPE = 3;
+
+    private static final List<Function<AnimeListItem, String>> STRING_COLUMNS = Arrays.asList(
+            AnimeListItem::getTitle, AnimeListItem::getImage, AnimeListItem::getDescriptionEn,
+            AnimeListItem::getDescription);
+
+    private static final List<Function<AnimeListItem, Integer>> INTEGER_COLUMNS = Arrays.asList(
+            AnimeListItem::getPremierePrecision, AnimeListItem::getFinishPrecision, AnimeListItem::getTotalEpisodes,
+            AnimeListItem::getWatchedEpisodes, AnimeListItem::getUserTotalRating, AnimeListItem::getUserStoryRating,
+            AnimeListItem::getUserGraphicRating, AnimeListItem::getUserMusicRating,
+            AnimeListItem::getUserCharactersRating);
+
+    private static final List<Function<AnimeListItem, Double>> RATING_COLUMNS = Arrays.asList(
+            AnimeListItem::getCharactersRating, AnimeListItem::getTotalRating, AnimeListItem::getStoryRating,
+            AnimeListItem::getMusicRating, AnimeListItem::getGraphicRating);
+
+    private AnimeListSnapshotFormat() {
+    }
+
+    /**
+     * Encodes the names of the enum constants stored by the snapshot.
+     *
+     * @param out the sink of the header
+     */
+    static void encodeEnumTables(ByteSink out) {
+        for (Class<? extends Enum<?>> enumType : ENUM_TYPES) {
+            Enum<?>[] constants = enumType.getEnumConstants();
+            out.writeVarLong(constants.length);
+            for (Enum<?> constant : constants) {
+                out.writeString(constant.name());
+            }
+        }
+    }
+
+    /**
+     * Decodes the names of the enum constants stored by a snapshot into the constants of this version.
+     *
+     * @param in the encoded header
+     * @return the constants of every enum, by their code in the snapshot
+     * @throws IOException if the snapshot stores a constant unknown to this version
+     */
+    static Enum<?>[][] decodeEnumTables(ByteBuffer in) throws IOException {
+        Enum<?>[][] tables = new Enum<?>[ENUM_TYPES.size()][];
+        for (int type = 0; type < tables.length; type++) {
+            Enum<?>[] constants = ENUM_TYPES.get(type).getEnumConstants();
+            Enum<?>[] table = new Enum<?>[(int) readVarLong(in)];
+            for (int code = 0; code < table.length; code++) {
+                String name = readString(in);
+                for (Enum<?> constant : constants) {
+                    if (constant.name().equals(name)) {
+                        table[code] = constant;
+                    }
+                }
+                if (table[code] == null) {
+                    throw new IOException("Unknown constant " + name + " of " + ENUM_TYPES.get(type).getSimpleName());
+                }
+            }
+            tables[type] = table;
+        }
+        return tables;
+    }
+
+    /**
+     * Encodes a block of items.
+     *
+     * @param items   the items of the block
+     * @param strings the strings of the previous blocks, by their index, extended by the new strings of the block
+     * @param ratings the ratings of the previous blocks, by their index, extended by the new ratings of the block
+     * @param out     the sink of the block
+     */
+    static void encodeBlock(List<AnimeListItem> items, Map<String, Integer> strings, Map<Double, Integer> ratings,
+                            ByteSink out) {
+        List<String> newStrings = new ArrayList<>();
+        int[][] stringReferences = references(items, STRING_COLUMNS, strings, newStrings);
+        List<Double> newRatings = new ArrayList<>();
+        int[][] ratingReferences = references(items, RATING_COLUMNS, ratings, newRatings);
+        out.writeVarLong(newStrings.size());
+        for (String value : newStrings) {
+            out.writeString(value);
+        }
+        out.writeVarLong(newRatings.size());
+        for (Double value : newRatings) {
+            out.writeLong(Double.doubleToLongBits(value));
+        }
+        for (int[][] references : Arrays.asList(stringReferences, ratingReferences)) {
+            for (int[] column : references) {
+                for (int reference : column) {
+                    out.writeVarLong(reference);
+                }
+            }
+        }
+
+        long previousId = 0;
+        for (AnimeListItem item : items) {
+            Long id = item.getId();
+            out.writeNullableZigZag(id != null ? id - previousId : null);
+            previousId = id != null ? id : previousId;
+        }
+        for (AnimeListItem item : items) {
+            out.writeByte(encode(item.getStatus()));
+        }
+        for (AnimeListItem item : items) {
+            out.writeByte(encode(item.getTitleStatus()));
+        }
+        for (AnimeListItem item : items) {
+            out.writeByte(encode(item.getMpaa()));
+        }
+        for (AnimeListItem item : items) {
+            out.writeByte(encode(item.getType()));
+        }
+        for (Function<AnimeListItem, Integer> getter : INTEGER_COLUMNS) {
+            for (AnimeListItem item : items) {
+                Integer value = getter.apply(item);
+                out.writeNullableZigZag(value != null ? Long.valueOf(value) : null);
+            }
+        }
+        for (AnimeListItem item : items) {
+            out.writeNullableZigZag(item.getStartDate() != null ? item.getStartDate().toEpochDay() : null);
+        }
+        for (AnimeListItem item : items) {
+            out.writeNullableZigZag(item.getEndDate() != null ? item.getEndDate().toEpochDay() : null);
+        }
+        int size = items.size();
+        boolean[] favourite = new boolean[size];
+        boolean[] dmca = new boolean[size];
+        boolean[] userNotePrivate = new boolean[size];
+        for (int row = 0; row < size; row++) {
+            AnimeListItem item = items.get(row);
+            favourite[row] = item.isFavourite();
+            dmca[row] = item.isDmca();
+            userNotePrivate[row] = item.isUserNotePrivate();
+        }
+        out.writeBitmap(favourite);
+        out.writeBitmap(dmca);
+        out.writeBitmap(userNotePrivate);
+        for (AnimeListItem item : items) {
+            out.writeNullableString(item.getUserNote());
+        }
+    }
+
+    /**
+     * Decodes a block of items.
+     *
+     * @param in         the encoded block
+     * @param size       the number of items of the block
+     * @param strings    the strings of the previous blocks, extended by the new strings of the block
+     * @param ratings    the ratings of the previous blocks, extended by the new ratings of the block
+     * @param enumTables the constants of every enum, by their code in the snapshot
+     * @return the items of the block
+     */
+    static List<AnimeListItem> decodeBlock(ByteBuffer in, int size, List<String> strings, List<Double> ratings,
+                                           Enum<?>[][] enumTables) {
+        int newStrings = (int) readVarLong(in);
+        for (int i = 0; i < newStrings; i++) {
+            strings.add(readString(in));
+        }
+        int newRatings = (int) readVarLong(in);
+        for (int i = 0; i < newRatings; i++) {
+            ratings.add(Double.longBitsToDouble(in.getLong()));
+        }
+        List<AnimeListItem.AnimeListItemBuilder> builders = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            builders.add(AnimeListItem.builder());
+        }
+        for (int column = 0; column < STRING_COLUMNS.size(); column++) {
+            for (AnimeListItem.AnimeListItemBuilder builder : builders) {
+                int reference = (int) readVarLong(in);
+                String value = reference != 0 ? strings.get(reference - 1) : null;
+                switch (column) {
+                    case 0:
+                        builder.title(value);
+                        break;
+                    case 1:
+                        builder.image(value);
+                        break;
+                    case 2:
+                        builder.descriptionEn(value);
+                        break;
+                    default:
+                        builder.description(value);
+                        break;
+                }
+            }
+        }
+        for (int column = 0; column < RATING_COLUMNS.size(); column++) {
+            for (AnimeListItem.AnimeListItemBuilder builder : builders) {
+                int reference = (int) readVarLong(in);
+                Double value = reference != 0 ? ratings.get(reference - 1) : null;
+                switch (column) {
+                    case 0:
+                        builder.charactersRating(value);
+                        break;
+                    case 1:
+                        builder.totalRating(value);
+                        break;
+                    case 2:
+                        builder.storyRating(value);
+                        break;
+                    case 3:
+                        builder.musicRating(value);
+                        break;
+                    default:
+                        builder.graphicRating(value);
+                        break;
+                }
+            }
+        }
+
+        long previousId = 0;
+        for (AnimeListItem.AnimeListItemBuilder builder : builders) {
+            Long delta = readNullableZigZag(in);
+            if (delta != null) {
+                previousId += delta;
+                builder.id(previousId);
+            }
+        }
+        for (AnimeListItem.AnimeListItemBuilder builder : builders) {
+            builder.status((UserTitleStatus) decode(in.get(), enumTables[USER_TITLE_STATUS]));
+        }
+        for (AnimeListItem.AnimeListItemBuilder builder : builders) {
+            builder.titleStatus((TitleStatus) decode(in.get(), enumTables[TITLE_STATUS]));
+        }
+        for (AnimeListItem.AnimeListItemBuilder builder : builders) {
+            builder.mpaa((MPAA) decode(in.get(), enumTables[AGE_RATING]));
+        }
+        for (AnimeListItem.AnimeListItemBuilder builder : builders) {
+            builder.type((TitleType) decode(in.get(), enumTables[TITLE_TYPE]));
+        }
+        for (int column = 0; column < INTEGER_COLUMNS.size(); column++) {
+            for (AnimeListItem.AnimeListItemBuilder builder : builders) {
+                Long value = readNullableZigZag(in);
+                Integer integer = value != null ? value.intValue() : null;
+                switch (column) {
+                    case 0:
+                        builder.premierePrecision(integer);
+                        break;
+                    case 1:
+                        builder.finishPrecision(integer);
+                        break;
+                    case 2:
+                        builder.totalEpisodes(integer);
+                        break;
+                    case 3:
+                        builder.watchedEpisodes(integer);
+                        break;
+                    case 4:
+                        builder.userTotalRating(integer);
+                        break;
+                    case 5:
+                        builder.userStoryRating(integer);
+                        break;
+                    case 6:
+                        builder.userGraphicRating(integer);
+                        break;
+                    case 7:
+                        builder.userMusicRating(integer);
+                        break;
+                    default:
+                        builder.userCharactersRating(integer);
+                        break;
+                }
+            }
+        }
+        for (AnimeListItem.AnimeListItemBuilder builder : builders) {
+            Long epochDay = readNullableZigZag(in);
+            builder.startDate(epochDay != null ? LocalDate.ofEpochDay(epochDay) : null);
+        }
+        for (AnimeListItem.AnimeListItemBuilder builder : builders) {
+            Long epochDay = readNullableZigZag(in);
+            builder.endDate(epochDay != null ? LocalDate.ofEpochDay(epochDay) : null);
+        }
+        boolean[] favourite = readBitmap(in, size);
+        boolean[] dmca = readBitmap(in, size);
+        boolean[] userNotePrivate = readBitmap(in, size);
+        List<AnimeListItem> items = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            items.add(builders.get(row)
+                    .isFavourite(favourite[row])
+                    .dmca(dmca[row])
+                    .userNotePrivate(userNotePrivate[row])
+                    .userNote(readNullableString(in))
+                    .build());
+        }
+        return items;
+    }
+
+    private static <T> int[][] references(List<AnimeListItem> items, List<Function<AnimeListItem, T>> columns,
+                                          Map<T, Integer> dictionary, List<T> newValues) {
+        int[][] references = new int[columns.size()][items.size()];
+        for (int column = 0; column < references.length; column++) {
+            Function<AnimeListItem, T> getter = columns.get(column);
+            for (int row = 0; row < items.size(); row++) {
+                T value = getter.apply(items.get(row));
+                if (value == null) {
+                    continue;
+                }
+                Integer index = dictionary.get(value);
+                if (index == null) {
+                    index = dictionary.size();
+                    dictionary.put(value, index);
+                    newValues.add(value);
+                }
+                references[column][row] = index + 1;
+            }
+        }
+        return references;
+    }
+
+    private static byte encode(Enum<?> constant) {
+        return (byte) (constant != null ? constant.ordinal() + 1 : 0);
+    }
+
+    private static Enum<?> decode(byte code, Enum<?>[] table) {
+        return code != 0 ? table[code - 1] : null;
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static Long readNullableZigZag(ByteBuffer in) {
+        long encoded = readVarLong(in);
+        if (encoded == 0) {
+            return null;
+        }
+        long zigZag = encoded - 1;
+        return zigZag >>> 1 ^ -(zigZag & 1);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readVarLong(in);
+        return readUtf8(in, length);
+    }
+
+    private static String readNullableString(ByteBuffer in) {
+        int length = (int) readVarLong(in);
+        return length != 0 ? readUtf8(in, length - 1) : null;
+    }
+
+    private static String readUtf8(ByteBuffer in, int length) {
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            in.duplicate().get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        ((Buffer) in).position(in.position() + length);
+        return value;
+    }
+
+    private static boolean[] readBitmap(ByteBuffer in, int size) {
+        boolean[] bits = new boolean[size];
+        byte current = 0;
+        for (int i = 0; i < size; i++) {
+            if ((i & 7) == 0) {
+                current = in.get();
+            }
+            bits[i] = (current & 1 << (i & 7)) != 0;
+        }
+        return bits;
+    }
+
+    /**
+     * Growable byte array the snapshot is encoded into.
+     */
+    static final class ByteSink {
+
+        private byte[] bytes = new byte[1 << 16];
+        private int size;
+
+        byte[] array() {
+            return bytes;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeInt(int value) {
+            ensureCapacity(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeLong(long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) (value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void writeNullableZigZag(Long value) {
+            writeVarLong(value != null ? (value << 1 ^ value >> 63) + 1 : 0);
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            writeBytes(utf8, 0, utf8.length);
+        }
+
+        void writeNullableString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length + 1L);
+            writeBytes(utf8, 0, utf8.length);
+        }
+
+        void writeBitmap(boolean[] bits) {
+            ensureCapacity((bits.length + 7) / 8);
+            for (int i = 0; i < bits.length; i += 8) {
+                int packed = 0;
+                for (int bit = 0; bit < 8 && i + bit < bits.length; bit++) {
+                    if (bits[i + bit]) {
+                        packed |= 1 << bit;
+                    }
+                }
+                bytes[size++] = (byte) packed;
+            }
+        }
+
+        void writeBytes(byte[] source, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(source, offset, bytes, size, length);
+            size += length;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+    }
+}
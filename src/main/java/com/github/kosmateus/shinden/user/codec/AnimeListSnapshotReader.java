@@ -0,0 +1,283 @@
+package com.github.kosmateus.shinden.user.codec;
+
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads {@link AnimeListItem} records from a snapshot written by {@link AnimeListSnapshotWriter}.
+ * <p>
+ * The {@code AnimeListSnapshotReader} class decodes a snapshot one block at a time, either streamed from a channel
+ * or from a memory-mapped file, see {@link #map(FileChannel)}. Blocks of a mapped snapshot stored without
+ * compression are decoded in place, without copying them to the heap. Closing the reader does not close the
+ * channel.
+ * </p>
+ *
+ * <pre>{@code
+ * try (FileChannel channel = FileChannel.open(path, READ);
+ *      AnimeListSnapshotReader reader = AnimeListSnapshotReader.map(channel)) {
+ *     reader.forEachRemaining(mirror::put);
+ * }
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+public final class AnimeListSnapshotReader implements Closeable {
+
+    private static final int MAX_LENGTH = 256 * 1024 * 1024;
+
+    private final Source source;
+    private final Compression compression;
+    private final Enum<?>[][] enumTables;
+    private final List<String> strings = new ArrayList<>();
+    private final List<Double> ratings = new ArrayList<>();
+    private final Inflater inflater;
+    private byte[] inflated = new byte[0];
+    private boolean finished;
+
+    private AnimeListSnapshotReader(Source source) throws IOException {
+        this.source = source;
+        ByteBuffer header = source.read(10);
+        if (header.getInt() != AnimeListSnapshotFormat.MAGIC) {
+            throw new IOException("Not an anime list snapshot");
+        }
+        int version = header.get();
+        if (version != AnimeListSnapshotFormat.VERSION) {
+            throw new IOException("Unsupported anime list snapshot version " + version);
+        }
+        int compressionCode = header.get();
+        if (compressionCode < 0 || compressionCode >= Compression.values().length) {
+            throw new IOException("Unknown anime list snapshot compression " + compressionCode);
+        }
+        this.compression = Compression.values()[compressionCode];
+        ByteBuffer enumTables = source.read(readLength(header.getInt()));
+        try {
+            this.enumTables = AnimeListSnapshotFormat.decodeEnumTables(enumTables);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt anime list snapshot header", e);
+        }
+        this.inflater = compression == Compression.DEFLATE ? new Inflater() : null;
+    }
+
+    /**
+     * Constructs a new {@code AnimeListSnapshotReader} streaming the snapshot from the given channel.
+     *
+     * @param channel the channel the snapshot is read from
+     * @throws IOException if the header of the snapshot cannot be read or is not supported
+     */
+    public AnimeListSnapshotReader(ReadableByteChannel channel) throws IOException {
+        this(new ChannelSource(Objects.requireNonNull(channel, "channel")));
+    }
+
+    /**
+     * Creates a reader of the snapshot stored in the given file, mapped into memory from its current position.
+     *
+     * @param channel the channel of the file holding the snapshot
+     * @return the reader of the snapshot
+     * @throws IOException if the file cannot be mapped, is larger than 2 GB, or holds an unsupported snapshot
+     */
+    public static AnimeListSnapshotReader map(FileChannel channel) throws IOException {
+        long position = channel.position();
+        long length = channel.size() - position;
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Snapshots larger than 2 GB must be streamed");
+        }
+        return new AnimeListSnapshotReader(new BufferSource(channel.map(FileChannel.MapMode.READ_ONLY, position,
+                length)));
+    }
+
+    /**
+     * Reads the next block of items.
+     *
+     * @return the items of the next block, or {@code null} if the snapshot has no more items
+     * @throws IOException if the block cannot be read or is corrupt
+     */
+    public List<AnimeListItem> readBlock() throws IOException {
+        if (finished) {
+            return null;
+        }
+        ByteBuffer header = source.read(AnimeListSnapshotFormat.BLOCK_HEADER_LENGTH);
+        int size = header.getInt();
+        int encodedLength = readLength(header.getInt());
+        int storedLength = readLength(header.getInt());
+        if (size == 0) {
+            finished = true;
+            return null;
+        }
+        if (size < 0 || size > encodedLength
+                || compression == Compression.NONE && storedLength != encodedLength) {
+            throw new IOException("Corrupt anime list snapshot block");
+        }
+        ByteBuffer block = source.read(storedLength);
+        if (compression == Compression.DEFLATE) {
+            block = inflate(block, storedLength, encodedLength);
+        }
+        try {
+            return AnimeListSnapshotFormat.decodeBlock(block, size, strings, ratings, enumTables);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt anime list snapshot block", e);
+        }
+    }
+
+    /**
+     * Passes every remaining item to the given action, in the order they were written.
+     *
+     * @param action the action to perform on each item
+     * @throws IOException if a block cannot be read or is corrupt
+     */
+    public void forEachRemaining(Consumer<? super AnimeListItem> action) throws IOException {
+        for (List<AnimeListItem> block = readBlock(); block != null; block = readBlock()) {
+            block.forEach(action);
+        }
+    }
+
+    /**
+     * Reads every remaining item.
+     *
+     * @return the remaining items, in the order they were written
+     * @throws IOException if a block cannot be read or is corrupt
+     */
+    public List<AnimeListItem> readAll() throws IOException {
+        List<AnimeListItem> items = new ArrayList<>();
+        forEachRemaining(items::add);
+        return items;
+    }
+
+    /**
+     * Releases the decompressor of the reader.
+     */
+    @Override
+    public void close() {
+        finished = true;
+        if (inflater != null) {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Validates a length read from the snapshot, before anything is allocated or read for it.
+     */
+    private static int readLength(int length) throws IOException {
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IOException("Invalid length in anime list snapshot: " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Inflates a block. The output buffer grows with the inflated bytes, up to the encoded length, so a corrupt
+     * encoded length does not allocate more than the block actually inflates to.
+     */
+    private ByteBuffer inflate(ByteBuffer block, int storedLength, int encodedLength) throws IOException {
+        inflater.reset();
+        if (block.hasArray()) {
+            inflater.setInput(block.array(), block.arrayOffset() + block.position(), storedLength);
+        } else {
+            byte[] input = new byte[storedLength];
+            block.get(input);
+            inflater.setInput(input);
+        }
+        try {
+            int length = 0;
+            while (length < encodedLength && !inflater.finished()) {
+                if (length == inflated.length) {
+                    inflated = Arrays.copyOf(inflated, Math.min(encodedLength, Math.max(1 << 16, length * 2)));
+                }
+                int inflatedLength = inflater.inflate(inflated, length,
+                        Math.min(encodedLength, inflated.length) - length);
+                if (inflatedLength == 0 && inflater.needsInput()) {
+                    throw new EOFException("Truncated anime list snapshot block");
+                }
+                length += inflatedLength;
+            }
+            return ByteBuffer.wrap(inflated, 0, length);
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt anime list snapshot block", e);
+        }
+    }
+
+    /**
+     * The bytes of a snapshot, read in consecutive chunks.
+     */
+    private interface Source {
+
+        /**
+         * Reads the next chunk of the snapshot.
+         *
+         * @param length the length of the chunk
+         * @return the chunk, valid until the next read
+         * @throws IOException if the snapshot ends before the chunk
+         */
+        ByteBuffer read(int length) throws IOException;
+    }
+
+    /**
+     * Snapshot streamed from a channel into a reused heap buffer. The buffer grows with the bytes actually read,
+     * so a length exceeding the remaining input fails at the end of the input instead of allocating it up front.
+     */
+    private static final class ChannelSource implements Source {
+
+        private final ReadableByteChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+
+        private ChannelSource(ReadableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public ByteBuffer read(int length) throws IOException {
+            ((Buffer) buffer).clear();
+            ((Buffer) buffer).limit(Math.min(length, buffer.capacity()));
+            while (buffer.position() < length) {
+                if (!buffer.hasRemaining()) {
+                    ByteBuffer grown = ByteBuffer.allocate(Math.min(length, buffer.capacity() * 2));
+                    ((Buffer) buffer).flip();
+                    grown.put(buffer);
+                    ((Buffer) grown).limit(grown.capacity());
+                    buffer = grown;
+                }
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Truncated anime list snapshot");
+                }
+            }
+            ((Buffer) buffer).flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * Snapshot held by a buffer, such as a mapped file, read in place.
+     */
+    private static final class BufferSource implements Source {
+
+        private final ByteBuffer buffer;
+
+        private BufferSource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public ByteBuffer read(int length) throws IOException {
+            if (buffer.remaining() < length) {
+                throw new EOFException("Truncated anime list snapshot");
+            }
+            ByteBuffer chunk = buffer.slice();
+            ((Buffer) chunk).limit(length);
+            ((Buffer) buffer).position(buffer.position() + length);
+            return chunk;
+        }
+    }
+}
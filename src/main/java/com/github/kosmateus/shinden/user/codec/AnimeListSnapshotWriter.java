@@ -0,0 +1,185 @@
+package com.github.kosmateus.shinden.user.codec;
+
+import com.github.kosmateus.shinden.user.codec.AnimeListSnapshotFormat.ByteSink;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+/**
+ * Streams {@link AnimeListItem} records into a compact binary snapshot.
+ * <p>
+ * The {@code AnimeListSnapshotWriter} class buffers the written items and encodes them by column in blocks of
+ * {@code blockSize} items. Titles, cover IDs, descriptions and site-wide ratings shared by many records are stored
+ * once per snapshot, numbers as varints and flags as bitmaps, so a snapshot of many users' lists takes a fraction
+ * of the size of their JSON or Java serialization. The snapshot is complete once the writer is closed; closing the
+ * writer does not close the channel.
+ * </p>
+ *
+ * <pre>{@code
+ * try (FileChannel channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING);
+ *      AnimeListSnapshotWriter writer = new AnimeListSnapshotWriter(channel)) {
+ *     writer.writeAll(items);
+ * }
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+public final class AnimeListSnapshotWriter implements Closeable {
+
+    /**
+     * The default number of items of a block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+    private final WritableByteChannel channel;
+    private final Compression compression;
+    private final int blockSize;
+    private final List<AnimeListItem> pending;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final Map<Double, Integer> ratings = new HashMap<>();
+    private final ByteSink encoded = new ByteSink();
+    private final ByteSink stored = new ByteSink();
+    private final Deflater deflater;
+    private final byte[] deflateBuffer = new byte[1 << 16];
+    private boolean closed;
+
+    /**
+     * Constructs a new {@code AnimeListSnapshotWriter} compressing blocks of the default size.
+     *
+     * @param channel the channel the snapshot is written to
+     * @throws IOException if the header of the snapshot cannot be written
+     */
+    public AnimeListSnapshotWriter(WritableByteChannel channel) throws IOException {
+        this(channel, Compression.DEFLATE, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs a new {@code AnimeListSnapshotWriter}.
+     *
+     * @param channel     the channel the snapshot is written to
+     * @param compression the compression of the blocks
+     * @param blockSize   the number of items of a block, larger blocks compress better but take more memory
+     * @throws IOException if the header of the snapshot cannot be written
+     */
+    public AnimeListSnapshotWriter(WritableByteChannel channel, Compression compression, int blockSize)
+            throws IOException {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be greater than 0");
+        }
+        this.channel = Objects.requireNonNull(channel, "channel");
+        this.compression = Objects.requireNonNull(compression, "compression");
+        this.blockSize = blockSize;
+        this.pending = new ArrayList<>(blockSize);
+        this.deflater = compression == Compression.DEFLATE ? new Deflater() : null;
+
+        encoded.writeInt(AnimeListSnapshotFormat.MAGIC);
+        encoded.writeByte(AnimeListSnapshotFormat.VERSION);
+        encoded.writeByte(compression.ordinal());
+        ByteSink enumTables = new ByteSink();
+        AnimeListSnapshotFormat.encodeEnumTables(enumTables);
+        encoded.writeInt(enumTables.size());
+        encoded.writeBytes(enumTables.array(), 0, enumTables.size());
+        writeFully(encoded);
+    }
+
+    /**
+     * Writes an item to the snapshot.
+     *
+     * @param item the item to write
+     * @throws IOException if a block cannot be written
+     */
+    public void write(AnimeListItem item) throws IOException {
+        ensureOpen();
+        pending.add(Objects.requireNonNull(item, "item"));
+        if (pending.size() == blockSize) {
+            writeBlock();
+        }
+    }
+
+    /**
+     * Writes the given items to the snapshot.
+     *
+     * @param items the items to write
+     * @throws IOException if a block cannot be written
+     */
+    public void writeAll(Collection<AnimeListItem> items) throws IOException {
+        for (AnimeListItem item : items) {
+            write(item);
+        }
+    }
+
+    /**
+     * Writes the buffered items as a block, ends the snapshot and releases the compressor.
+     *
+     * @throws IOException if the last block cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            if (!pending.isEmpty()) {
+                writeBlock();
+            }
+            encoded.reset();
+            encoded.writeInt(0);
+            encoded.writeInt(0);
+            encoded.writeInt(0);
+            writeFully(encoded);
+        } finally {
+            closed = true;
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        encoded.reset();
+        AnimeListSnapshotFormat.encodeBlock(pending, strings, ratings, encoded);
+        stored.reset();
+        stored.writeInt(pending.size());
+        stored.writeInt(encoded.size());
+        if (compression == Compression.DEFLATE) {
+            stored.writeInt(0);
+            deflater.reset();
+            deflater.setInput(encoded.array(), 0, encoded.size());
+            deflater.finish();
+            while (!deflater.finished()) {
+                int length = deflater.deflate(deflateBuffer);
+                stored.writeBytes(deflateBuffer, 0, length);
+            }
+            int storedLength = stored.size() - AnimeListSnapshotFormat.BLOCK_HEADER_LENGTH;
+            ByteBuffer.wrap(stored.array()).putInt(8, storedLength);
+        } else {
+            stored.writeInt(encoded.size());
+            stored.writeBytes(encoded.array(), 0, encoded.size());
+        }
+        writeFully(stored);
+        pending.clear();
+    }
+
+    private void writeFully(ByteSink sink) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(sink.array(), 0, sink.size());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("The snapshot writer is closed");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.kosmateus.shinden.user.codec;
+
+/**
+ * Compression of the blocks of an anime list snapshot.
+ *
+ * @version 1.0.0
+ */
+public enum Compression {
+
+    /**
+     * The blocks are stored as encoded, which is the fastest to read and write.
+     */
+    NONE,
+
+    /**
+     * The blocks are compressed with {@link java.util.zip.Deflater}, which roughly halves the encoded columns again.
+     */
+    DEFLATE
+}
@@ -0,0 +1,71 @@
+package com.github.kosmateus.shinden.user.common.enums;
+
+/**
+ * Enum representing the sections of a user's profile page.
+ * <p>
+ * The {@code OverviewSection} enum is used to select the parts of the profile page mapped into a
+ * {@link com.github.kosmateus.shinden.user.response.UserOverview}. Every constant corresponds to a group of
+ * properties of the overview; the properties of the sections that are not requested are neither looked up in
+ * the page nor mapped, and remain {@code null}. The user ID is always mapped, as it is read from the page location.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+public enum OverviewSection {
+
+    /**
+     * The basic information from the profile sidebar: username, avatar, achievements count, last online date,
+     * rank, language, join date and score.
+     */
+    BASIC_INFORMATION,
+
+    /**
+     * The "about me" description of the user.
+     */
+    ABOUT,
+
+    /**
+     * The statistics of the user's anime list.
+     */
+    ANIME_STATISTICS,
+
+    /**
+     * The statistics of the user's manga list.
+     */
+    MANGA_STATISTICS,
+
+    /**
+     * The user's favourite anime.
+     */
+    FAVOURITE_ANIME,
+
+    /**
+     * The user's favourite manga.
+     */
+    FAVOURITE_MANGA,
+
+    /**
+     * The user's favourite characters.
+     */
+    FAVOURITE_CHARACTERS,
+
+    /**
+     * The user's favourite people.
+     */
+    FAVOURITE_PEOPLE,
+
+    /**
+     * The latest updates of the user's anime list.
+     */
+    ANIME_LIST_UPDATES,
+
+    /**
+     * The latest updates of the user's manga list.
+     */
+    MANGA_LIST_UPDATES,
+
+    /**
+     * The comments posted on the user's profile.
+     */
+    COMMENTS
+}
@@ -4,6 +4,7 @@ import com.github.kosmateus.shinden.user.response.Achievement;
 import com.github.kosmateus.shinden.user.response.Achievements;
 import com.github.kosmateus.shinden.utils.PatternMatcher;
 import com.github.kosmateus.shinden.utils.jsoup.BaseDocumentMapper;
+import com.github.kosmateus.shinden.utils.jsoup.PageRegion;
 import org.jsoup.nodes.Document;
 
 import java.util.List;
@@ -85,4 +86,9 @@ public class UserAchievementsMapper extends BaseDocumentMapper {
         return "user.achievements";
     }
 
+    @Override
+    protected PageRegion pageRegion() {
+        return PageRegion.of("section", "achv");
+    }
+
 }
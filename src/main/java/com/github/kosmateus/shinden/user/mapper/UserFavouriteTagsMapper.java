@@ -2,6 +2,7 @@ package com.github.kosmateus.shinden.user.mapper;
 
 import com.github.kosmateus.shinden.user.response.FavouriteTag;
 import com.github.kosmateus.shinden.utils.jsoup.BaseDocumentMapper;
+import com.github.kosmateus.shinden.utils.jsoup.PageRegion;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 
@@ -44,4 +45,9 @@ public class UserFavouriteTagsMapper extends BaseDocumentMapper {
     protected String getMapperCode() {
         return "user.favourite.tags";
     }
+
+    @Override
+    protected PageRegion pageRegion() {
+        return PageRegion.of("table", "fav-tags");
+    }
 }
@@ -2,6 +2,7 @@ package com.github.kosmateus.shinden.user.mapper;
 
 import com.github.kosmateus.shinden.common.enums.TitleType;
 import com.github.kosmateus.shinden.common.enums.UrlType;
+import com.github.kosmateus.shinden.user.common.enums.OverviewSection;
 import com.github.kosmateus.shinden.user.common.enums.UserTitleStatus;
 import com.github.kosmateus.shinden.user.response.Comment;
 import com.github.kosmateus.shinden.user.response.EntityOverview;
@@ -17,8 +18,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import static com.github.kosmateus.shinden.constants.ShindenConstants.MEDIA_ID_MATCHER;
@@ -35,18 +38,50 @@ public class UserOverviewMapper extends BaseDocumentMapper {
     private static final PatternMatcher LAST_NAME_MATCHER = PatternMatcher.nullableMatch("(?<=,).*", 0);
 
     public UserOverview map(Document document) {
-        return userBasicInformation(document)
-                .about(getAbout(document))
-                .animeStatistics(getAnimeStatistics(document))
-                .mangaStatistics(getMangaStatistics(document))
-                .favouriteAnime(getFavouriteAnime(document))
-                .favouriteManga(getFavouriteManga(document))
-                .favouriteCharacters(getFavouriteCharacters(document))
-                .favouritePeople(getFavouritePeople(document))
-                .animeListUpdates(getAnimeListUpdates(document))
-                .mangaListUpdates(getMangaListUpdates(document))
-                .comments(getComments(document))
-                .build();
+        return map(document, EnumSet.allOf(OverviewSection.class));
+    }
+
+    public UserOverview map(Document document, Set<OverviewSection> sections) {
+        UserOverviewBuilder builder = UserOverview.builder()
+                .id(mapper.with(document)
+                        .location()
+                        .pattern(USER_ID_MATCHER)
+                        .toLong()
+                        .orThrowWithCode("id"));
+        if (sections.contains(OverviewSection.BASIC_INFORMATION)) {
+            userBasicInformation(builder, document);
+        }
+        if (sections.contains(OverviewSection.ABOUT)) {
+            builder.about(getAbout(document));
+        }
+        if (sections.contains(OverviewSection.ANIME_STATISTICS)) {
+            builder.animeStatistics(getAnimeStatistics(document));
+        }
+        if (sections.contains(OverviewSection.MANGA_STATISTICS)) {
+            builder.mangaStatistics(getMangaStatistics(document));
+        }
+        if (sections.contains(OverviewSection.FAVOURITE_ANIME)) {
+            builder.favouriteAnime(getFavouriteAnime(document));
+        }
+        if (sections.contains(OverviewSection.FAVOURITE_MANGA)) {
+            builder.favouriteManga(getFavouriteManga(document));
+        }
+        if (sections.contains(OverviewSection.FAVOURITE_CHARACTERS)) {
+            builder.favouriteCharacters(getFavouriteCharacters(document));
+        }
+        if (sections.contains(OverviewSection.FAVOURITE_PEOPLE)) {
+            builder.favouritePeople(getFavouritePeople(document));
+        }
+        if (sections.contains(OverviewSection.ANIME_LIST_UPDATES)) {
+            builder.animeListUpdates(getAnimeListUpdates(document));
+        }
+        if (sections.contains(OverviewSection.MANGA_LIST_UPDATES)) {
+            builder.mangaListUpdates(getMangaListUpdates(document));
+        }
+        if (sections.contains(OverviewSection.COMMENTS)) {
+            builder.comments(getComments(document));
+        }
+        return builder.build();
     }
 
     @Override
@@ -63,13 +98,8 @@ public class UserOverviewMapper extends BaseDocumentMapper {
         );
     }
 
-    private UserOverviewBuilder userBasicInformation(Document document) {
-        return UserOverview.builder()
-                .id(mapper.with(document)
-                        .location()
-                        .pattern(USER_ID_MATCHER)
-                        .toLong()
-                        .orThrowWithCode("id"))
+    private void userBasicInformation(UserOverviewBuilder builder, Document document) {
+        builder
                 .username(mapper.with(document)
                         .selectFirst("div.l-main-contantainer.controller-user > div > button > strong")
                         .text()
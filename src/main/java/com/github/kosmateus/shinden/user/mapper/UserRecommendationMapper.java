@@ -4,6 +4,7 @@ import com.github.kosmateus.shinden.user.response.Recommendation;
 import com.github.kosmateus.shinden.utils.PatternMatcher;
 import com.github.kosmateus.shinden.utils.jsoup.BaseDocumentMapper;
 import com.github.kosmateus.shinden.utils.jsoup.DocumentMapperEngine.WithElementStep;
+import com.github.kosmateus.shinden.utils.jsoup.PageRegion;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 
@@ -56,4 +57,9 @@ public class UserRecommendationMapper extends BaseDocumentMapper {
     protected String getMapperCode() {
         return "user.recommendations";
     }
+
+    @Override
+    protected PageRegion pageRegion() {
+        return PageRegion.of("div", "l-container-col2", "box-userprofile");
+    }
 }
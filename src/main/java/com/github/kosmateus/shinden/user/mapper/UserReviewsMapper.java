@@ -3,6 +3,7 @@ package com.github.kosmateus.shinden.user.mapper;
 import com.github.kosmateus.shinden.user.response.Review;
 import com.github.kosmateus.shinden.utils.PatternMatcher;
 import com.github.kosmateus.shinden.utils.jsoup.BaseDocumentMapper;
+import com.github.kosmateus.shinden.utils.jsoup.PageRegion;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 
@@ -81,4 +82,9 @@ public class UserReviewsMapper extends BaseDocumentMapper {
     protected String getMapperCode() {
         return "user.reviews";
     }
+
+    @Override
+    protected PageRegion pageRegion() {
+        return PageRegion.of("div", "l-container-col2", "box-userprofile");
+    }
 }
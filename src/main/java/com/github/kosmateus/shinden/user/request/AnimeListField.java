@@ -0,0 +1,49 @@
+package com.github.kosmateus.shinden.user.request;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The properties of an {@link com.github.kosmateus.shinden.user.response.AnimeListItem AnimeListItem} that may be
+ * left out of an anime list response.
+ * <p>
+ * Excluded properties are skipped while the response is decoded, and are {@code null} in the returned items.
+ * The descriptions make up most of the response, so excluding them saves most of its decoding time and memory.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AnimeListField {
+
+    /**
+     * The title of the anime.
+     */
+    TITLE("title"),
+
+    /**
+     * The cover image identifier of the anime.
+     */
+    IMAGE("coverId"),
+
+    /**
+     * The English description of the anime.
+     */
+    DESCRIPTION_EN("descriptionEn"),
+
+    /**
+     * The Polish description of the anime.
+     */
+    DESCRIPTION("descriptionPl"),
+
+    /**
+     * The note added by the user.
+     */
+    USER_NOTE("userNote");
+
+    /**
+     * The name of the property in the JSON response.
+     */
+    private final String jsonProperty;
+}
@@ -24,6 +24,9 @@ import javax.validation.constraints.AssertTrue;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -109,6 +112,25 @@ public class AnimeListRequest {
      */
     private final boolean excludeTags;
 
+    /**
+     * The properties left out of the returned items.
+     * They are skipped while the response is decoded, and are {@code null} in the returned items.
+     */
+    @Nullable
+    private final Set<AnimeListField> excludedFields;
+
+    /**
+     * Returns the names of the JSON properties to skip while decoding the response.
+     *
+     * @return the JSON names of the excluded fields, empty if every field is returned.
+     */
+    public Set<String> getExcludedProperties() {
+        if (excludedFields == null || excludedFields.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return excludedFields.stream().map(AnimeListField::getJsonProperty).collect(Collectors.toSet());
+    }
+
     /**
      * Converts the current request parameters into a list of key-value pairs to be used as query parameters.
      * This method handles the conversion of tags, anime types, statuses, age ratings, and premiere years
@@ -281,5 +303,21 @@ public class AnimeListRequest {
             }
             return this;
         }
+
+        /**
+         * Leaves the given properties out of the returned items.
+         *
+         * @param fields the properties to leave out
+         * @return the builder itself
+         */
+        public AnimeListRequestBuilder excludeFields(AnimeListField... fields) {
+            Set<AnimeListField> copy = EnumSet.noneOf(AnimeListField.class);
+            if (excludedFields != null) {
+                copy.addAll(excludedFields);
+            }
+            copy.addAll(Arrays.asList(fields));
+            excludedFields = copy;
+            return this;
+        }
     }
 }
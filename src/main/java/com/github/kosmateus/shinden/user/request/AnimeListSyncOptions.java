@@ -0,0 +1,53 @@
+package com.github.kosmateus.shinden.user.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.Min;
+
+/**
+ * Options of an {@link com.github.kosmateus.shinden.user.AnimeListSynchronizer AnimeListSynchronizer}.
+ * <p>
+ * The {@code AnimeListSyncOptions} class controls how many items each request of a poll fetches, and how often a
+ * poll scans the complete list even though its first page is unchanged.
+ * </p>
+ *
+ * <pre>{@code
+ * AnimeListSynchronizer synchronizer = new AnimeListSynchronizer(api.user(), AnimeListSyncOptions.builder()
+ *         .pageSize(200)
+ *         .fullScanInterval(20)
+ *         .build());
+ * }</pre>
+ *
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+public class AnimeListSyncOptions {
+
+    /**
+     * The number of items fetched by each request.
+     * Defaults to 100.
+     */
+    @Min(1)
+    @Builder.Default
+    private final int pageSize = 100;
+
+    /**
+     * The number of polls of a user after which the complete list is scanned again.
+     * Defaults to 10, so at least every tenth poll detects changes past the first unchanged page.
+     * 1 scans the complete list on every poll.
+     */
+    @Min(1)
+    @Builder.Default
+    private final int fullScanInterval = 10;
+
+    /**
+     * Returns the default synchronization options.
+     *
+     * @return the {@code AnimeListSyncOptions} with every setting at its default value
+     */
+    public static AnimeListSyncOptions defaults() {
+        return AnimeListSyncOptions.builder().build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.kosmateus.shinden.user.response;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A change of a user's anime list detected between two polls.
+ * <p>
+ * The {@code AnimeListChange} class pairs the kind of the change with the state of the item before and after it.
+ * An added item has no previous state, and a removed item has no current state.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AnimeListChange {
+
+    /**
+     * The kind of the change.
+     */
+    private final Type type;
+
+    /**
+     * The item before the change, or {@code null} if the item was added.
+     */
+    private final AnimeListItem previous;
+
+    /**
+     * The item after the change, or {@code null} if the item was removed.
+     */
+    private final AnimeListItem current;
+
+    /**
+     * Creates the change of an item added to the list.
+     *
+     * @param current the added item.
+     * @return an {@link Type#ADDED} change.
+     */
+    public static AnimeListChange added(AnimeListItem current) {
+        return new AnimeListChange(Type.ADDED, null, current);
+    }
+
+    /**
+     * Creates the change of an item updated in the list.
+     *
+     * @param previous the item before the update.
+     * @param current  the item after the update.
+     * @return an {@link Type#UPDATED} change.
+     */
+    public static AnimeListChange updated(AnimeListItem previous, AnimeListItem current) {
+        return new AnimeListChange(Type.UPDATED, previous, current);
+    }
+
+    /**
+     * Creates the change of an item removed from the list.
+     *
+     * @param previous the removed item.
+     * @return a {@link Type#REMOVED} change.
+     */
+    public static AnimeListChange removed(AnimeListItem previous) {
+        return new AnimeListChange(Type.REMOVED, previous, null);
+    }
+
+    /**
+     * Returns the unique identifier of the changed anime title.
+     *
+     * @return the unique identifier of the anime title.
+     */
+    public Long getId() {
+        return current != null ? current.getId() : previous.getId();
+    }
+
+    /**
+     * The kind of a change of an anime list.
+     */
+    public enum Type {
+
+        /**
+         * The title was added to the list.
+         */
+        ADDED,
+
+        /**
+         * The status, the number of watched episodes or a rating of the title changed.
+         */
+        UPDATED,
+
+        /**
+         * The title was removed from the list.
+         */
+        REMOVED
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.kosmateus.shinden.utils;
+
+import com.github.kosmateus.shinden.common.request.BulkOptions;
+import com.github.kosmateus.shinden.common.response.BulkResult;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.opentelemetry.context.Context;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Utility class running bulk operations with bounded parallelism.
+ * <p>
+ * The {@code BulkExecutor} splits the work for every key into two stages. The fetch stage performs the HTTP
+ * exchange on a pool of {@link BulkOptions#getParallelism()} threads, each request first acquiring a permit
+ * from a rate limiter shared by the whole operation. The process stage parses and maps the fetched response on
+ * a separate pool of {@link BulkOptions#getMapperParallelism()} threads, so CPU-bound work never holds up the
+ * network threads.
+ * </p>
+ * <p>
+ * Both pools are created for a single operation and shut down once every key has been processed, or when the
+ * returned stream is closed. The OpenTelemetry context current when the operation starts is propagated to both
+ * pools, so the spans of the requests belong to the trace of the caller.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BulkExecutor {
+
+    /**
+     * Runs the fetch and process stages for every key and returns the results as a stream.
+     * <p>
+     * The work starts immediately; the stream only hands back the results, in the order requested by
+     * {@link BulkOptions#getOrder()}. An exception thrown by either stage is reported as a failed
+     * {@link BulkResult} of its key and does not affect the other keys.
+     * </p>
+     *
+     * @param <K>     the type of the keys.
+     * @param <F>     the type of the fetched responses.
+     * @param <T>     the type of the results.
+     * @param keys    the keys of the resources to fetch.
+     * @param options the options of the operation.
+     * @param fetch   the fetch stage, performing the HTTP exchange for a key.
+     * @param process the process stage, turning the fetched response of a key into the result.
+     * @return a stream of the results, one for every key.
+     */
+    public static <K, F, T> Stream<BulkResult<K, T>> execute(Collection<K> keys, BulkOptions options,
+                                                             Function<K, F> fetch, BiFunction<K, F, T> process) {
+        List<K> input = new ArrayList<>(keys);
+        if (input.isEmpty()) {
+            return Stream.empty();
+        }
+        ExecutorService networkPool = Executors.newFixedThreadPool(Math.min(options.getParallelism(), input.size()),
+                threadFactory("shinden-bulk-io-%d"));
+        ExecutorService cpuPool = Executors.newFixedThreadPool(Math.min(options.getMapperParallelism(), input.size()),
+                threadFactory("shinden-bulk-cpu-%d"));
+        Context context = Context.current();
+        Executor network = context.wrap(networkPool);
+        Executor cpu = context.wrap(cpuPool);
+        RateLimiter rateLimiter = Double.isInfinite(options.getRequestsPerSecond())
+                ? null
+                : RateLimiter.create(options.getRequestsPerSecond());
+
+        BlockingQueue<BulkResult<K, T>> completed = new LinkedBlockingQueue<>();
+        List<CompletableFuture<BulkResult<K, T>>> futures = new ArrayList<>(input.size());
+        for (K key : input) {
+            CompletableFuture<BulkResult<K, T>> future = CompletableFuture
+                    .supplyAsync(() -> {
+                        if (rateLimiter != null) {
+                            rateLimiter.acquire();
+                        }
+                        return fetch.apply(key);
+                    }, network)
+                    .thenApplyAsync(fetched -> process.apply(key, fetched), cpu)
+                    .handle((value, error) -> error == null
+                            ? BulkResult.<K, T>success(key, value)
+                            : BulkResult.<K, T>failure(key, unwrap(error)));
+            future.thenAccept(completed::add);
+            futures.add(future);
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, error) -> {
+                    networkPool.shutdown();
+                    cpuPool.shutdown();
+                });
+
+        Stream<BulkResult<K, T>> results = options.getOrder() == BulkOptions.Order.INPUT
+                ? futures.stream().map(CompletableFuture::join)
+                : IntStream.range(0, futures.size()).mapToObj(index -> take(completed));
+        return results.onClose(() -> {
+            networkPool.shutdownNow();
+            cpuPool.shutdownNow();
+        });
+    }
+
+    private static <T> T take(BlockingQueue<T> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the bulk operation results");
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static ThreadFactory threadFactory(String nameFormat) {
+        return new ThreadFactoryBuilder()
+                .setNameFormat(nameFormat)
+                .setDaemon(true)
+                .build();
+    }
+}
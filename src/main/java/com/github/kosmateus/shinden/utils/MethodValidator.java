@@ -7,6 +7,7 @@ import javax.validation.ConstraintViolationException;
 import javax.validation.Validation;
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
+import java.lang.reflect.Modifier;
 import java.util.Set;
 
 /**
@@ -16,24 +17,31 @@ import java.util.Set;
  * using the Bean Validation API. It checks for constraint violations and throws a {@link ConstraintViolationException}
  * if any violations are found.</p>
  *
+ * <p>The {@link Validator} is built on the first validation and shared by all {@code MethodValidator} instances,
+ * so creating the validating proxies of the API client does not bootstrap Hibernate Validator. Parameters of
+ * JDK types, such as IDs and strings, declare no constraints of their own and are not passed to the validator,
+ * so calls taking only such parameters do not bootstrap it either. Whether the other classes declare any
+ * constraint, on themselves, their properties or the properties they cascade to, is looked up once per class,
+ * and instances of classes without constraints are not passed to the validator.</p>
+ *
  * @version 1.0.0
  */
 public class MethodValidator {
 
-    private final Validator validator;
+    private static final ClassValue<Boolean> CONSTRAINED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !isJdkType(type) && ValidatorHolder.VALIDATOR.getConstraintsForClass(type).isBeanConstrained();
+        }
+    };
 
     /**
      * Constructs a new {@code MethodValidator} instance.
      *
-     * <p>This constructor initializes a {@link Validator} using the default provider and a custom message interpolator.</p>
+     * <p>The shared {@link Validator}, using the default provider and a custom message interpolator, is initialized
+     * on the first validation.</p>
      */
     public MethodValidator() {
-        try (ValidatorFactory factory = Validation.byDefaultProvider()
-                .configure()
-                .messageInterpolator(new ParameterMessageInterpolator())
-                .buildValidatorFactory()) {
-            this.validator = factory.getValidator();
-        }
     }
 
     /**
@@ -46,11 +54,52 @@ public class MethodValidator {
      */
     public void validateMethodParameters(Object[] args) {
         for (Object arg : args) {
-            if (arg != null) {
-                Set<ConstraintViolation<Object>> violations = validator.validate(arg);
-                if (!violations.isEmpty()) {
-                    throw new ConstraintViolationException(violations);
-                }
+            validateParameter(arg);
+        }
+    }
+
+    /**
+     * Validates a single method parameter against the constraints declared by its class.
+     *
+     * @param arg the method parameter to validate, may be {@code null}
+     * @throws ConstraintViolationException if any constraint violations are found
+     */
+    public void validateParameter(Object arg) {
+        if (arg != null && CONSTRAINED.get(arg.getClass())) {
+            Set<ConstraintViolation<Object>> violations = ValidatorHolder.VALIDATOR.validate(arg);
+            if (!violations.isEmpty()) {
+                throw new ConstraintViolationException(violations);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the arguments of a parameter declared with the given type can declare constraints.
+     *
+     * <p>The check does not bootstrap the validator. It rules out the primitive types and the final JDK types,
+     * such as {@link Long} and {@link String}, whose instances never declare constraints.</p>
+     *
+     * @param parameterType the declared type of the parameter
+     * @return {@code false} if no argument of the parameter can declare constraints; {@code true} otherwise.
+     */
+    public static boolean mayBeConstrained(Class<?> parameterType) {
+        return !isJdkType(parameterType) || !Modifier.isFinal(parameterType.getModifiers());
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+        return type.getClassLoader() == null;
+    }
+
+    private static final class ValidatorHolder {
+
+        private static final Validator VALIDATOR = createValidator();
+
+        private static Validator createValidator() {
+            try (ValidatorFactory factory = Validation.byDefaultProvider()
+                    .configure()
+                    .messageInterpolator(new ParameterMessageInterpolator())
+                    .buildValidatorFactory()) {
+                return factory.getValidator();
             }
         }
     }
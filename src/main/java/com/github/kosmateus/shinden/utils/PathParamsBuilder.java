@@ -44,4 +44,19 @@ public class PathParamsBuilder {
                 )
                 .build();
     }
+
+    /**
+     * Builds a map holding a single path parameter.
+     * <p>
+     * This method is a shorthand for path templates with one variable part, such as {@code /user/{userId}/reviews}.
+     * The value is converted to its string representation.
+     * </p>
+     *
+     * @param name  the name of the path parameter
+     * @param value the value of the path parameter, must not be null
+     * @return an immutable {@link Map} containing the single path parameter
+     */
+    public static Map<String, String> of(String name, Object value) {
+        return ImmutableMap.of(name, String.valueOf(Objects.requireNonNull(value, name)));
+    }
 }
@@ -1,8 +1,16 @@
 package com.github.kosmateus.shinden.utils;
 
+import lombok.RequiredArgsConstructor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 /**
  * Invocation handler for method validation.
@@ -11,12 +19,22 @@ import java.lang.reflect.Proxy;
  * that intercepts method calls to the target object, allowing for validation of method parameters before
  * invoking the actual method.</p>
  *
+ * <p>On the first call of each method, the handler computes its validation plan: the parameters whose
+ * arguments may declare constraints, and a {@link MethodHandle} bound to the target. Later calls validate only
+ * these parameters, skipping the validation entirely when there is none, and invoke the target through the
+ * method handle. The plan of the last called method is kept at hand, so repeated calls of the same method do not
+ * look it up. Exceptions thrown by the target are rethrown unwrapped.</p>
+ *
  * @version 1.0.0
  */
 public class ValidationInvocationHandler implements InvocationHandler {
 
+    private static final Object[] NO_ARGS = new Object[0];
+
     private final Object target;
     private final MethodValidator methodValidator;
+    private final Map<Method, ValidationPlan> plans = new ConcurrentHashMap<>();
+    private ValidationPlan lastPlan;
 
     /**
      * Constructs a new {@code ValidationInvocationHandler} for the specified target object.
@@ -56,7 +74,51 @@ public class ValidationInvocationHandler implements InvocationHandler {
      */
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        methodValidator.validateMethodParameters(args);
-        return method.invoke(target, args);
+        ValidationPlan plan = lastPlan;
+        if (plan == null || plan.method != method) {
+            plan = plans.computeIfAbsent(method, this::plan);
+            lastPlan = plan;
+        }
+        Object[] arguments = args != null ? args : NO_ARGS;
+        for (int parameter : plan.validatedParameters) {
+            methodValidator.validateParameter(arguments[parameter]);
+        }
+        return plan.invoker.invokeExact(arguments);
+    }
+
+    private ValidationPlan plan(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        int[] validatedParameters = IntStream.range(0, parameterTypes.length)
+                .filter(parameter -> MethodValidator.mayBeConstrained(parameterTypes[parameter]))
+                .toArray();
+        MethodHandle invoker = unreflect(method)
+                .bindTo(target)
+                .asSpreader(Object[].class, parameterTypes.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return new ValidationPlan(method, validatedParameters, invoker);
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            method.setAccessible(true);
+            try {
+                return MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException inaccessible) {
+                throw new IllegalArgumentException("Method " + method + " cannot be invoked", inaccessible);
+            }
+        }
+    }
+
+    /**
+     * The precomputed validation and dispatch of a single method.
+     */
+    @RequiredArgsConstructor
+    private static final class ValidationPlan {
+
+        private final Method method;
+        private final int[] validatedParameters;
+        private final MethodHandle invoker;
     }
 }
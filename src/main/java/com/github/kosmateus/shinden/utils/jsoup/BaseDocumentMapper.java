@@ -38,6 +38,36 @@ public abstract class BaseDocumentMapper {
      */
     protected abstract String getMapperCode();
 
+    /**
+     * Returns the code that uniquely identifies the mapper, e.g. {@code user.overview}.
+     * This code is exposed to name the mapping phase in diagnostics such as tracing spans.
+     *
+     * @return a unique mapper code
+     */
+    public final String getCode() {
+        return getMapperCode();
+    }
+
+    /**
+     * Returns the region of the page the mapper reads its data from.
+     * The page is cut down to this region before it is parsed, see {@link PageRegion#trim(byte[])}.
+     *
+     * @return the page region, or {@code null} if the whole page is parsed
+     */
+    public final PageRegion getRegion() {
+        return pageRegion();
+    }
+
+    /**
+     * Returns the region of the page the mapper reads its data from.
+     * Subclasses can override this method when all selectors of the mapper are nested in a single kind of element.
+     *
+     * @return the page region, or {@code null} if the whole page should be parsed
+     */
+    protected PageRegion pageRegion() {
+        return null;
+    }
+
     /**
      * Creates a new instance of {@link DocumentMapperEngine} with the appropriate type mappers.
      *
@@ -9,8 +9,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
 import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -25,6 +33,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
 
@@ -125,6 +134,22 @@ public class DocumentMapperEngine {
         return new WithDocumentStep(document);
     }
 
+    /**
+     * Starts mapping a document incrementally, while it is being parsed from the given reader.
+     * <p>
+     * Unlike {@link #with(Document)}, the document is not built up front. The returned {@link StreamStep} parses the
+     * input only as far as needed to produce the next selected element, so the parsing and the mapping of the
+     * elements are interleaved.
+     * </p>
+     *
+     * @param reader  the reader supplying the HTML to parse
+     * @param baseUri the URL the document is served from, used to resolve relative links
+     * @return a {@link StreamStep} instance for selecting the elements to map
+     */
+    public StreamStep stream(Reader reader, String baseUri) {
+        return new StreamStep(reader, baseUri);
+    }
+
     private <T> Optional<Element, T> text(Element document, String select, PatternMatcher patternMatcher, Boolean keepNewLines,
                                           Class<T> tClass, Integer index) {
         return textMapper.parse(document, select, patternMatcher, keepNewLines, Collections.emptyList(), tClass, index);
@@ -493,6 +518,108 @@ public class DocumentMapperEngine {
     }
 
 
+    /**
+     * Represents a step in the mapping process that operates on a document parsed incrementally.
+     * <p>
+     * The {@code StreamStep} class is backed by a jsoup {@link StreamParser}. Nothing is parsed until the
+     * elements selected by {@link #select(String)} are consumed. Once they are, the rest of the document can be
+     * mapped with {@link #complete()}. The step should be closed when the mapping is done, which closes the reader.
+     * </p>
+     *
+     * @version 1.0.0
+     */
+    public class StreamStep implements AutoCloseable {
+
+        private final StreamParser parser;
+
+        private StreamStep(Reader reader, String baseUri) {
+            Reader markable = reader.markSupported() ? reader : new BufferedReader(reader);
+            this.parser = new StreamParser(Parser.htmlParser()).parse(markable, baseUri);
+        }
+
+        /**
+         * Selects the elements matching the provided CSS selector as they are parsed.
+         * <p>
+         * The selector is evaluated against the whole document, so it may refer to the ancestors of the selected
+         * elements, e.g. {@code section.list > article > ul.row}.
+         * </p>
+         *
+         * @param select the CSS selector to apply for selecting the elements
+         * @return a {@link StreamSelectStep} instance for mapping the selected elements
+         */
+        public StreamSelectStep select(String select) {
+            return new StreamSelectStep(parser, QueryParser.parse(select));
+        }
+
+        /**
+         * Parses the rest of the input and returns a step operating on the document.
+         * <p>
+         * The document holds everything parsed so far except for the elements already mapped through
+         * {@link #select(String)}, which were removed from it.
+         * </p>
+         *
+         * @return a {@link WithDocumentStep} instance for further operations on the document
+         * @throws java.io.UncheckedIOException if the input could not be read
+         */
+        public WithDocumentStep complete() {
+            try {
+                return new WithDocumentStep(parser.complete());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Stops parsing and closes the reader.
+         */
+        @Override
+        public void close() {
+            parser.close();
+        }
+    }
+
+
+    /**
+     * Represents a step in the mapping process that maps the elements of an incrementally parsed document.
+     * <p>
+     * The {@code StreamSelectStep} class hands every selected element to the mapper as soon as the element is
+     * closed by the parser, that is once all its children have been parsed, and then removes the element from the
+     * document. Only the element being mapped is kept in memory, no matter how many elements the document holds.
+     * </p>
+     *
+     * @version 1.0.0
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public class StreamSelectStep {
+
+        private final StreamParser parser;
+        private final Evaluator evaluator;
+
+        /**
+         * Maps the selected elements to a lazily evaluated stream of a specified type.
+         * <p>
+         * The input is parsed while the stream is consumed. Exceptions thrown by the {@code mapper} are propagated
+         * to the consumer of the stream, and a failure to read the input is reported as an
+         * {@link java.io.UncheckedIOException}. Closing the stream closes the {@link StreamStep} it was selected from.
+         * </p>
+         *
+         * @param <T>    the type to which the elements should be mapped
+         * @param mapper a function to map each selected element to the desired type
+         * @return a {@link Stream} of the mapped elements, in document order
+         */
+        public <T> Stream<T> mapTo(Function<Element, T> mapper) {
+            return parser.stream()
+                    .filter(element -> element.is(evaluator))
+                    .map(element -> {
+                        T mapped = mapper.apply(element);
+                        element.remove();
+                        return mapped;
+                    })
+                    .onClose(parser::close);
+        }
+    }
+
+
     /**
      * Represents a step in the mapping process focused on selecting the first HTML element that matches a CSS selector.
      * <p>
@@ -0,0 +1,350 @@
+package com.github.kosmateus.shinden.utils.jsoup;
+
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Describes the region of a page a mapper reads its data from.
+ * <p>
+ * A {@code PageRegion} is anchored at the elements with a given tag name and CSS classes, e.g. {@code section.achv}.
+ * Before a page is parsed, {@link #trim(byte[])} scans the raw body for the anchor elements and cuts the body down to
+ * them, so the navigation, sidebars and scripts surrounding the region never reach the HTML parser. The end of every
+ * anchor element is found by balancing its opening and closing tags; comments and the contents of {@code script} and
+ * {@code style} elements are skipped while scanning.
+ * </p>
+ * <p>
+ * The scanner works on the bytes of the body, so it supports the ASCII compatible charsets, such as UTF-8 and the
+ * ISO-8859 family, in which HTML pages are served.
+ * </p>
+ *
+ * @version 1.0.0
+ */
+public final class PageRegion {
+
+    private static final byte[] PREFIX = "<html><head></head><body>".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SUFFIX = "</body></html>".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] COMMENT_START = "<!--".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] COMMENT_END = "-->".getBytes(StandardCharsets.US_ASCII);
+    private static final List<byte[]> RAW_TEXT_TAGS = Arrays.asList(
+            "script".getBytes(StandardCharsets.US_ASCII),
+            "style".getBytes(StandardCharsets.US_ASCII));
+
+    /**
+     * The tag name of the anchor elements, in lower case.
+     */
+    @Getter
+    private final String tagName;
+
+    /**
+     * The CSS classes every anchor element has.
+     */
+    @Getter
+    private final Set<String> classes;
+
+    private final byte[] tagBytes;
+
+    private PageRegion(String tagName, Set<String> classes) {
+        this.tagName = tagName.toLowerCase(Locale.ROOT);
+        this.classes = Collections.unmodifiableSet(classes);
+        this.tagBytes = this.tagName.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Creates a region anchored at the elements with the given tag name and CSS classes.
+     *
+     * @param tagName the tag name of the anchor elements, e.g. {@code section}
+     * @param classes the CSS classes the anchor elements must have, e.g. {@code achv}
+     * @return the page region
+     */
+    public static PageRegion of(String tagName, String... classes) {
+        return new PageRegion(tagName, new HashSet<>(Arrays.asList(classes)));
+    }
+
+    /**
+     * Cuts the page down to the anchor elements of this region.
+     * <p>
+     * Every anchor element found in the page is kept, in document order, wrapped in an empty document skeleton.
+     * Elements nested in an anchor element are kept as part of it.
+     * </p>
+     *
+     * @param page the raw body of the page
+     * @return the trimmed page, or {@code null} if the page holds no anchor element, or an anchor element is not closed,
+     * in which case the whole page should be parsed
+     */
+    public byte[] trim(byte[] page) {
+        List<int[]> regions = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int start = findAnchor(page, position);
+            if (start < 0) {
+                break;
+            }
+            int end = findEnd(page, start);
+            if (end < 0) {
+                return null;
+            }
+            regions.add(new int[]{start, end});
+            position = end;
+        }
+        if (regions.isEmpty()) {
+            return null;
+        }
+        int length = PREFIX.length + SUFFIX.length;
+        for (int[] region : regions) {
+            length += region[1] - region[0];
+        }
+        ByteArrayOutputStream trimmed = new ByteArrayOutputStream(length);
+        trimmed.write(PREFIX, 0, PREFIX.length);
+        for (int[] region : regions) {
+            trimmed.write(page, region[0], region[1] - region[0]);
+        }
+        trimmed.write(SUFFIX, 0, SUFFIX.length);
+        return trimmed.toByteArray();
+    }
+
+    @Override
+    public String toString() {
+        List<String> sorted = new ArrayList<>(classes);
+        Collections.sort(sorted);
+        return tagName + (sorted.isEmpty() ? "" : "." + String.join(".", sorted));
+    }
+
+    /**
+     * Returns the position of the next anchor element starting at or after the given position, or {@code -1}.
+     */
+    private int findAnchor(byte[] page, int from) {
+        int position = from;
+        while ((position = indexOf(page, (byte) '<', position)) >= 0) {
+            int skipped = skipOpaque(page, position);
+            if (skipped != position) {
+                if (skipped < 0) {
+                    return -1;
+                }
+                position = skipped;
+                continue;
+            }
+            if (isTagStart(page, position + 1, tagBytes)) {
+                int tagEnd = findTagEnd(page, position + 1 + tagBytes.length);
+                if (tagEnd < 0) {
+                    return -1;
+                }
+                if (hasClasses(page, position + 1 + tagBytes.length, tagEnd)) {
+                    return position;
+                }
+                position = tagEnd + 1;
+            } else {
+                position++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position right after the closing tag balancing the anchor element at the given position,
+     * or {@code -1} if the element is not closed.
+     */
+    private int findEnd(byte[] page, int start) {
+        int depth = 0;
+        int position = start;
+        while ((position = indexOf(page, (byte) '<', position)) >= 0) {
+            int skipped = skipOpaque(page, position);
+            if (skipped != position) {
+                if (skipped < 0) {
+                    return -1;
+                }
+                position = skipped;
+                continue;
+            }
+            boolean closing = position + 1 < page.length && page[position + 1] == '/';
+            int nameStart = closing ? position + 2 : position + 1;
+            if (!isTagStart(page, nameStart, tagBytes)) {
+                position++;
+                continue;
+            }
+            int tagEnd = findTagEnd(page, nameStart + tagBytes.length);
+            if (tagEnd < 0) {
+                return -1;
+            }
+            if (closing) {
+                depth--;
+                if (depth == 0) {
+                    return tagEnd + 1;
+                }
+            } else if (page[tagEnd - 1] != '/') {
+                depth++;
+            }
+            position = tagEnd + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Skips a comment or a {@code script} or {@code style} element starting at the given position. Returns the
+     * position following it, the given position if there is nothing to skip, or {@code -1} if it is not closed.
+     */
+    private static int skipOpaque(byte[] page, int position) {
+        if (startsWith(page, position, COMMENT_START)) {
+            int end = indexOf(page, COMMENT_END, position + COMMENT_START.length);
+            return end < 0 ? -1 : end + COMMENT_END.length;
+        }
+        for (byte[] rawTextTag : RAW_TEXT_TAGS) {
+            if (isTagStart(page, position + 1, rawTextTag)) {
+                int end = position + 1 + rawTextTag.length;
+                while ((end = indexOf(page, (byte) '<', end)) >= 0) {
+                    if (end + 1 < page.length && page[end + 1] == '/' && isTagStart(page, end + 2, rawTextTag)) {
+                        int tagEnd = findTagEnd(page, end + 2 + rawTextTag.length);
+                        return tagEnd < 0 ? -1 : tagEnd + 1;
+                    }
+                    end++;
+                }
+                return -1;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Checks whether the class attribute of the tag spanning the given range holds all classes of this region.
+     */
+    private boolean hasClasses(byte[] page, int from, int to) {
+        if (classes.isEmpty()) {
+            return true;
+        }
+        String classAttribute = readAttribute(page, from, to, "class");
+        if (classAttribute == null) {
+            return false;
+        }
+        Set<String> elementClasses = new HashSet<>(Arrays.asList(classAttribute.trim().split("\\s+")));
+        return elementClasses.containsAll(classes);
+    }
+
+    private static String readAttribute(byte[] page, int from, int to, String attribute) {
+        int position = from;
+        while (position < to) {
+            while (position < to && (isWhitespace(page[position]) || page[position] == '/')) {
+                position++;
+            }
+            int nameStart = position;
+            while (position < to && !isWhitespace(page[position]) && page[position] != '=' && page[position] != '/') {
+                position++;
+            }
+            String name = new String(page, nameStart, position - nameStart, StandardCharsets.ISO_8859_1);
+            while (position < to && isWhitespace(page[position])) {
+                position++;
+            }
+            String value = "";
+            if (position < to && page[position] == '=') {
+                position++;
+                while (position < to && isWhitespace(page[position])) {
+                    position++;
+                }
+                int valueStart;
+                int valueEnd;
+                if (position < to && (page[position] == '"' || page[position] == '\'')) {
+                    byte quote = page[position];
+                    valueStart = position + 1;
+                    valueEnd = valueStart;
+                    while (valueEnd < to && page[valueEnd] != quote) {
+                        valueEnd++;
+                    }
+                    position = valueEnd + 1;
+                } else {
+                    valueStart = position;
+                    valueEnd = position;
+                    while (valueEnd < to && !isWhitespace(page[valueEnd])) {
+                        valueEnd++;
+                    }
+                    position = valueEnd;
+                }
+                value = new String(page, valueStart, valueEnd - valueStart, StandardCharsets.ISO_8859_1);
+            }
+            if (name.equalsIgnoreCase(attribute)) {
+                return value;
+            }
+            if (name.isEmpty() && position == nameStart) {
+                position++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the position of the {@code >} closing the tag whose attributes start at the given position,
+     * honouring quoted attribute values, or {@code -1}.
+     */
+    private static int findTagEnd(byte[] page, int from) {
+        byte quote = 0;
+        for (int position = from; position < page.length; position++) {
+            byte current = page[position];
+            if (quote != 0) {
+                if (current == quote) {
+                    quote = 0;
+                }
+            } else if (current == '"' || current == '\'') {
+                quote = current;
+            } else if (current == '>') {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether the tag name at the given position is the given name, followed by a delimiter.
+     */
+    private static boolean isTagStart(byte[] page, int position, byte[] name) {
+        if (position + name.length >= page.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (Character.toLowerCase((char) (page[position + i] & 0xFF)) != name[i]) {
+                return false;
+            }
+        }
+        byte delimiter = page[position + name.length];
+        return isWhitespace(delimiter) || delimiter == '>' || delimiter == '/';
+    }
+
+    private static boolean isWhitespace(byte value) {
+        return value == ' ' || value == '\t' || value == '\n' || value == '\r' || value == '\f';
+    }
+
+    private static boolean startsWith(byte[] page, int position, byte[] prefix) {
+        if (position + prefix.length > page.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (page[position + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] page, byte value, int from) {
+        for (int position = from; position < page.length; position++) {
+            if (page[position] == value) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte[] page, byte[] value, int from) {
+        for (int position = from; position <= page.length - value.length; position++) {
+            if (startsWith(page, position, value)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.kosmateus.shinden.anime.request;
+
+import com.github.kosmateus.shinden.common.enums.TitleStatus;
+import com.github.kosmateus.shinden.common.enums.TitleType;
+import com.github.kosmateus.shinden.common.enums.tag.Genre;
+import com.github.kosmateus.shinden.http.request.HttpRequest.KeyValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Anime search request test")
+class AnimeSearchRequestTest {
+
+    @Test
+    @DisplayName("Should encode the same canonical query regardless of the order of the filter values")
+    void shouldEncodeCanonicalQuery() {
+        AnimeSearchRequest first = AnimeSearchRequest.search("naruto & co")
+                .addTitleType(TitleType.MOVIE)
+                .addTitleType(TitleType.TV)
+                .addIncludedTag(Genre.DRAMA)
+                .addIncludedTag(Genre.ACTION)
+                .build();
+        AnimeSearchRequest second = AnimeSearchRequest.search("naruto & co")
+                .addIncludedTag(Genre.ACTION)
+                .addTitleType(TitleType.TV)
+                .addIncludedTag(Genre.DRAMA)
+                .addTitleType(TitleType.MOVIE)
+                .build();
+
+        assertThat(first.getCanonicalQuery()).isEqualTo(second.getCanonicalQuery());
+        assertThat(first.getCanonicalQuery())
+                .startsWith("search=naruto+%26+co&genres=i5%3Bi8&genres-type=all&series_type%5B%5D=TV&series_type%5B%5D=Movie&");
+    }
+
+    @Test
+    @DisplayName("Should expand the empty filters into all values and encode the query once")
+    void shouldExpandEmptyFiltersOnce() {
+        List<KeyValue> queryParams = AnimeSearchRequest.EMPTY.toQueryParams();
+
+        assertThat(queryParams).filteredOn(param -> param.getKey().equals(TitleType.ANIME_SEARCH_QUERY_PARAM))
+                .hasSize(TitleType.values().length);
+        assertThat(queryParams).filteredOn(param -> param.getKey().equals(TitleStatus.ANIME_SEARCH_QUERY_PARAM))
+                .hasSize(TitleStatus.values().length);
+        assertThat(AnimeSearchRequest.EMPTY.toQueryParams()).isSameAs(queryParams);
+    }
+
+    @Test
+    @DisplayName("Should leave built requests unchanged when the builder is reused")
+    void shouldLeaveBuiltRequestUnchanged() {
+        AnimeSearchRequest.AnimeSearchRequestBuilder builder = AnimeSearchRequest.builder().addTitleType(TitleType.TV);
+        AnimeSearchRequest request = builder.build();
+        builder.addTitleType(TitleType.OVA);
+
+        assertThat(request.getTitleTypes()).containsExactly(TitleType.TV);
+    }
+
+    @Test
+    @DisplayName("Should copy the sets given to the builder")
+    void shouldCopySetsGivenToBuilder() {
+        Set<TitleType> titleTypes = new HashSet<>(Collections.singleton(TitleType.TV));
+        AnimeSearchRequest request = AnimeSearchRequest.builder().titleTypes(titleTypes).build();
+        String canonicalQuery = request.getCanonicalQuery();
+
+        titleTypes.add(TitleType.OVA);
+
+        assertThat(request.getTitleTypes()).containsExactly(TitleType.TV);
+        assertThat(AnimeSearchRequest.builder().titleTypes(titleTypes).build().getCanonicalQuery())
+                .isNotEqualTo(canonicalQuery);
+        assertThatThrownBy(() -> request.getTitleTypes().add(TitleType.MOVIE))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
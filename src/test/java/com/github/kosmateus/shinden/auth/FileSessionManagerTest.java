@@ -0,0 +1,67 @@
+package com.github.kosmateus.shinden.auth;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("File session manager test")
+class FileSessionManagerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should restore the stored session without the password")
+    void shouldRestoreStoredSession() throws Exception {
+        Path path = directory.resolve("shinden.session");
+        FileSessionManager stored = FileSessionManager.builder().path(path).build();
+        stored.setUsername("user");
+        stored.setPassword("secret");
+        stored.setRememberMe(true);
+        stored.updateSession(SessionSnapshot.of(ImmutableMap.of("jwtCookie", "jwt", "sid", "abc"), "token", 42L));
+
+        FileSessionManager restored = FileSessionManager.builder().path(path).build();
+
+        assertThat(restored.getUsername()).isEqualTo("user");
+        assertThat(restored.getPassword()).isNull();
+        assertThat(restored.isRememberMe()).isTrue();
+        assertThat(restored.getSnapshot().getCookieHeader()).isEqualTo("jwtCookie=jwt; sid=abc");
+        assertThat(restored.getAuthToken()).isEqualTo("token");
+        assertThat(restored.getUserId()).isEqualTo(42L);
+        assertThat(new String(Files.readAllBytes(path), StandardCharsets.UTF_8)).doesNotContain("secret");
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    @DisplayName("Should encrypt the stored session and start empty without the right key")
+    void shouldEncryptStoredSession() throws Exception {
+        Path path = directory.resolve("shinden.session");
+        KeyGenerator generator = KeyGenerator.getInstance("AES");
+        generator.init(128);
+        SecretKey key = generator.generateKey();
+        FileSessionManager stored = FileSessionManager.builder().path(path).encryptionKey(key).build();
+        stored.updateSession(SessionSnapshot.of(ImmutableMap.of("sid", "abc"), "token", 42L));
+
+        FileSessionManager restored = FileSessionManager.builder().path(path).encryptionKey(key).build();
+        FileSessionManager wrongKey = FileSessionManager.builder().path(path).encryptionKey(generator.generateKey()).build();
+        FileSessionManager noKey = FileSessionManager.builder().path(path).build();
+
+        assertThat(new String(Files.readAllBytes(path), StandardCharsets.ISO_8859_1)).doesNotContain("token", "abc");
+        assertThat(restored.getAuthToken()).isEqualTo("token");
+        assertThat(restored.getCookies()).containsEntry("sid", "abc");
+        assertThat(wrongKey.isSuccessfullyAuthenticated()).isFalse();
+        assertThat(noKey.getSnapshot().getCookies()).isEmpty();
+    }
+}
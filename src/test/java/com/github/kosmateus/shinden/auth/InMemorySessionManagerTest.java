@@ -0,0 +1,31 @@
+package com.github.kosmateus.shinden.auth;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("In-memory session manager test")
+class InMemorySessionManagerTest {
+
+    @Test
+    @DisplayName("Should publish a new snapshot with a precomputed cookie header on every change")
+    void shouldPublishSnapshots() {
+        InMemorySessionManager sessionManager = new InMemorySessionManager();
+        SessionSnapshot anonymous = sessionManager.getSnapshot();
+
+        sessionManager.updateSession(SessionSnapshot.of(ImmutableMap.of("sid", "abc", "remember", "1"), "token", 42L));
+        SessionSnapshot authenticated = sessionManager.getSnapshot();
+        sessionManager.setCookies(ImmutableMap.of("sid", "def"));
+
+        assertThat(anonymous.getCookies()).isEmpty();
+        assertThat(anonymous.getCookieHeader()).isNull();
+        assertThat(anonymous.isAuthenticated()).isFalse();
+        assertThat(authenticated.getCookieHeader()).isEqualTo("sid=abc; remember=1");
+        assertThat(authenticated.getUserId()).isEqualTo(42L);
+        assertThat(sessionManager.getSnapshot().getCookieHeader()).isEqualTo("sid=def");
+        assertThat(sessionManager.getSnapshot().getAuthToken()).isEqualTo("token");
+        assertThat(sessionManager.isSuccessfullyAuthenticated()).isTrue();
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.kosmateus.shinden.auth;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Session pool test")
+class SessionPoolTest {
+
+    private final Map<String, AtomicInteger> logins = new ConcurrentHashMap<>();
+
+    private Optional<SessionSnapshot> login(String username, String password) {
+        int login = logins.computeIfAbsent(username, key -> new AtomicInteger()).incrementAndGet();
+        return Optional.of(SessionSnapshot.of(ImmutableMap.of("sid", username + "-" + login), "token-" + username, 1L));
+    }
+
+    @Test
+    @DisplayName("Should use the authenticated sessions in turn")
+    void shouldUseSessionsInTurn() {
+        SessionPool pool = SessionPool.builder()
+                .account("first", "secret")
+                .account("second", "secret")
+                .authenticator(this::login)
+                .build();
+
+        assertThat(pool.loginAll()).isEqualTo(2);
+        List<String> cookies = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            try (SessionLease lease = pool.lease()) {
+                cookies.add(lease.getSnapshot().getCookieHeader());
+            }
+        }
+
+        assertThat(cookies).containsExactly("sid=first-1", "sid=second-1", "sid=first-1", "sid=second-1");
+    }
+
+    @Test
+    @DisplayName("Should pick the session with the fewest requests in progress")
+    void shouldPickLeastLoadedSession() {
+        SessionPool pool = SessionPool.builder()
+                .account("first", "secret")
+                .account("second", "secret")
+                .account("third", "secret")
+                .selection(SessionPool.Selection.LEAST_LOADED)
+                .authenticator(this::login)
+                .build();
+        pool.loginAll();
+
+        SessionLease first = pool.lease();
+        SessionLease second = pool.lease();
+        first.close();
+        SessionLease third = pool.lease();
+        SessionLease fourth = pool.lease();
+
+        assertThat(second.getSnapshot().getCookieHeader()).isNotEqualTo(first.getSnapshot().getCookieHeader());
+        assertThat(fourth.getSnapshot().getCookieHeader())
+                .isNotIn(second.getSnapshot().getCookieHeader(), third.getSnapshot().getCookieHeader());
+    }
+
+    @Test
+    @DisplayName("Should log a rejected session in again while the other sessions keep serving requests")
+    void shouldReloginRejectedSession() throws InterruptedException {
+        CountDownLatch relogin = new CountDownLatch(1);
+        CountDownLatch relogged = new CountDownLatch(1);
+        SessionPool pool = SessionPool.builder()
+                .account("first", "secret")
+                .account("second", "secret")
+                .authenticator((username, password) -> {
+                    if (logins.containsKey(username)) {
+                        try {
+                            relogin.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        relogged.countDown();
+                    }
+                    return login(username, password);
+                })
+                .build();
+        pool.loginAll();
+
+        try (SessionLease lease = pool.lease()) {
+            assertThat(lease.getSnapshot().getCookieHeader()).isEqualTo("sid=first-1");
+            lease.invalidate();
+        }
+        List<String> whileRelogging = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            try (SessionLease lease = pool.lease()) {
+                whileRelogging.add(lease.getSnapshot().getCookieHeader());
+            }
+        }
+        relogin.countDown();
+        assertThat(relogged.await(5, TimeUnit.SECONDS)).isTrue();
+        while (pool.loginAll() < 2) {
+            Thread.sleep(10);
+        }
+
+        assertThat(whileRelogging).containsOnly("sid=second-1");
+        assertThat(logins.get("first")).hasValue(2);
+        assertThat(logins.get("second")).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should keep sessions in rotation on 403 responses shortly after their login")
+    void shouldKeepSessionsOnForbiddenPages() {
+        SessionPool pool = SessionPool.builder()
+                .account("first", "secret")
+                .account("second", "secret")
+                .authenticator(this::login)
+                .build();
+        pool.loginAll();
+        SessionRenewer renewer = new SessionRenewer(pool, Optional.empty());
+        String url = "https://shinden.pl/user/42";
+
+        for (int i = 0; i < 10; i++) {
+            try (SessionLease lease = pool.lease()) {
+                assertThat(lease.getSnapshot().isAuthenticated()).isTrue();
+                assertThat(renewer.renewIfRejected(lease, 403, url, url)).isFalse();
+            }
+        }
+
+        assertThat(pool.loginAll()).isEqualTo(2);
+        assertThat(logins.get("first")).hasValue(1);
+        assertThat(logins.get("second")).hasValue(1);
+    }
+}
@@ -0,0 +1,198 @@
+package com.github.kosmateus.shinden.auth;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.kosmateus.shinden.constants.ShindenConstants.SHINDEN_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Session renewer test")
+class SessionRenewerTest {
+
+    private static final SessionSnapshot EXPIRED = SessionSnapshot.of(ImmutableMap.of("jwtCookie", "expired"), "token", 42L);
+    private static final String URL = SHINDEN_URL + "/user/42";
+
+    private final AtomicInteger logins = new AtomicInteger();
+
+    private InMemorySessionManager sessionManager() {
+        InMemorySessionManager sessionManager = new InMemorySessionManager();
+        sessionManager.setUsername("user");
+        sessionManager.setPassword("secret");
+        sessionManager.updateSession(EXPIRED);
+        return sessionManager;
+    }
+
+    private Optional<SessionSnapshot> login(String username, String password) {
+        return Optional.of(SessionSnapshot.of(ImmutableMap.of("jwtCookie", "renewed-" + logins.incrementAndGet()),
+                "token", 42L));
+    }
+
+    @Test
+    @DisplayName("Should log in once for all requests rejected with the expired session")
+    void shouldLogInOnceForConcurrentRejections() throws Exception {
+        InMemorySessionManager sessionManager = sessionManager();
+        CountDownLatch loginStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SessionRenewer renewer = new SessionRenewer(sessionManager, Optional.of(() -> (username, password) -> {
+            loginStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return login(username, password);
+        }));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> renewals = new ArrayList<>();
+            renewals.add(executor.submit(() -> renewer.renewIfRejected(SessionLease.of(EXPIRED), 403, URL, URL)));
+            loginStarted.await();
+            for (int i = 0; i < 7; i++) {
+                renewals.add(executor.submit(() -> renewer.renewIfRejected(SessionLease.of(EXPIRED), 401, URL, URL)));
+            }
+            release.countDown();
+            for (Future<Boolean> renewal : renewals) {
+                assertThat(renewal.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(logins).hasValue(1);
+        assertThat(sessionManager.getSnapshot().getCookieHeader()).isEqualTo("jwtCookie=renewed-1");
+    }
+
+    @Test
+    @DisplayName("Should detect a redirect to the login page and ignore unauthenticated or successful requests")
+    void shouldDetectRejections() {
+        InMemorySessionManager sessionManager = sessionManager();
+        SessionRenewer renewer = new SessionRenewer(sessionManager, Optional.of(() -> this::login));
+
+        assertThat(renewer.renewIfRejected(SessionLease.of(EXPIRED), 200, URL, URL)).isFalse();
+        assertThat(renewer.renewIfRejected(SessionLease.of(SessionSnapshot.EMPTY), 401, URL, URL)).isFalse();
+        assertThat(renewer.renewIfRejected(SessionLease.of(EXPIRED), 200, URL, SHINDEN_URL + "/main/login")).isTrue();
+        assertThat(renewer.renewIfRejected(sessionManager.lease(), 403, URL, URL)).isFalse();
+
+        assertThat(logins).hasValue(1);
+        assertThat(SessionRenewer.isRetryable("GET")).isTrue();
+        assertThat(SessionRenewer.isRetryable("POST")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should retry a request rejected with a session renewed in the meantime without logging in again")
+    void shouldRetryStaleLeaseAfterRenewal() {
+        InMemorySessionManager sessionManager = sessionManager();
+        SessionRenewer renewer = new SessionRenewer(sessionManager, Optional.of(() -> this::login));
+
+        assertThat(renewer.renewIfRejected(SessionLease.of(EXPIRED), 401, URL, URL)).isTrue();
+        assertThat(renewer.renewIfRejected(SessionLease.of(EXPIRED), 403, URL, URL)).isTrue();
+        assertThat(renewer.renewIfRejected(sessionManager.lease(), 403, URL, URL)).isFalse();
+
+        assertThat(logins).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should log in again for a session manager assembling a new snapshot on every call")
+    void shouldLogInForSessionManagerWithoutCachedSnapshot() {
+        SessionManager sessionManager = new FieldSessionManager();
+        sessionManager.setUsername("user");
+        sessionManager.setPassword("secret");
+        sessionManager.updateSession(EXPIRED);
+        SessionRenewer renewer = new SessionRenewer(sessionManager, Optional.of(() -> this::login));
+
+        assertThat(renewer.renewIfRejected(sessionManager.lease(), 401, URL, URL)).isTrue();
+
+        assertThat(logins).hasValue(1);
+        assertThat(sessionManager.getCookies()).containsEntry("jwtCookie", "renewed-1");
+    }
+
+    /**
+     * A session manager relying on the default {@link SessionManager#getSnapshot()}.
+     */
+    private static final class FieldSessionManager implements SessionManager {
+
+        private Long userId;
+        private String username;
+        private String password;
+        private String authToken;
+        private boolean rememberMe;
+        private Map<String, String> cookies;
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        @Override
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        @Override
+        public String getPassword() {
+            return password;
+        }
+
+        @Override
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        @Override
+        public String getAuthToken() {
+            return authToken;
+        }
+
+        @Override
+        public void setAuthToken(String authToken) {
+            this.authToken = authToken;
+        }
+
+        @Override
+        public boolean isRememberMe() {
+            return rememberMe;
+        }
+
+        @Override
+        public void setRememberMe(boolean rememberMe) {
+            this.rememberMe = rememberMe;
+        }
+
+        @Override
+        public boolean isSuccessfullyAuthenticated() {
+            return authToken != null;
+        }
+
+        @Override
+        public Map<String, String> getCookies() {
+            return cookies;
+        }
+
+        @Override
+        public void setCookies(Map<String, String> cookies) {
+            this.cookies = cookies;
+        }
+    }
+}
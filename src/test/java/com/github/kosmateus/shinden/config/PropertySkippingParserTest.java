@@ -0,0 +1,74 @@
+package com.github.kosmateus.shinden.config;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.kosmateus.shinden.user.common.enums.UserTitleStatus;
+import com.github.kosmateus.shinden.user.request.AnimeListField;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+import com.github.kosmateus.shinden.user.response.ListResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Property skipping parser test")
+class PropertySkippingParserTest {
+
+    private static final String BODY = "{\"result\":{\"count\":2,\"items\":["
+            + "{\"titleId\":\"1\",\"descriptionEn\":\"Long synopsis\",\"watchStatus\":\"completed\","
+            + "\"descriptionPl\":{\"nested\":[1,2,{\"deep\":\"value\"}]},\"title\":\"Mushishi\","
+            + "\"premiereDate\":\"2005-10-23\",\"rateTotal\":10},"
+            + "{\"titleId\":\"2\",\"title\":\"Akira\",\"descriptionPl\":\"Opis\",\"isFavourite\":1}"
+            + "]}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("Should skip the excluded properties and decode the others")
+    void shouldSkipExcludedProperties() throws IOException {
+        AnimeListRequest request = AnimeListRequest.builder()
+                .userId(1L)
+                .excludeFields(AnimeListField.DESCRIPTION_EN, AnimeListField.DESCRIPTION)
+                .build();
+
+        List<AnimeListItem> items;
+        try (JsonParser parser = new PropertySkippingParser(objectMapper.getFactory().createParser(BODY),
+                request.getExcludedProperties())) {
+            items = objectMapper.readerFor(new TypeReference<ListResponse<AnimeListItem>>() {
+            }).<ListResponse<AnimeListItem>>readValue(parser).getResult().getItems();
+        }
+
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).getId()).isEqualTo(1L);
+        assertThat(items.get(0).getStatus()).isEqualTo(UserTitleStatus.COMPLETED);
+        assertThat(items.get(0).getTitle()).isEqualTo("Mushishi");
+        assertThat(items.get(0).getStartDate()).isEqualTo(LocalDate.of(2005, 10, 23));
+        assertThat(items.get(0).getUserTotalRating()).isEqualTo(10);
+        assertThat(items.get(1).getTitle()).isEqualTo("Akira");
+        assertThat(items.get(1).isFavourite()).isTrue();
+        assertThat(items).allSatisfy(item -> {
+            assertThat(item.getDescriptionEn()).isNull();
+            assertThat(item.getDescription()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should add excluded fields to an unmodifiable set given to the builder")
+    void shouldAddExcludedFieldsToUnmodifiableSet() {
+        AnimeListRequest request = AnimeListRequest.builder()
+                .userId(1L)
+                .excludedFields(Collections.singleton(AnimeListField.DESCRIPTION))
+                .excludeFields(AnimeListField.USER_NOTE)
+                .build();
+
+        assertThat(request.getExcludedProperties()).containsExactlyInAnyOrder("descriptionPl", "userNote");
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.kosmateus.shinden.http.request;
+
+import com.github.kosmateus.shinden.http.request.HttpRequest.KeyValue;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.github.kosmateus.shinden.constants.ShindenConstants.SHINDEN_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HTTP request test")
+class HttpRequestTest {
+
+    @Test
+    @DisplayName("Should build the URL with percent-encoded path and query parameters")
+    void shouldBuildEncodedUrl() {
+        HttpRequest request = HttpRequest.builder()
+                .target(SHINDEN_URL)
+                .path("/user/{userId}/anime/{status}")
+                .pathParams(ImmutableMap.of("userId", "123", "status", "in progress/ł"))
+                .queryParams(Arrays.asList(
+                        KeyValue.of("search", "Tom & Jerry żółw"),
+                        KeyValue.of("series_type[]", "TV"),
+                        KeyValue.of("empty", ""),
+                        null))
+                .build();
+
+        assertThat(request.getURL()).isEqualTo(SHINDEN_URL + "/user/123/anime/in%20progress%2F%C5%82"
+                + "?search=Tom%20%26%20Jerry%20%C5%BC%C3%B3%C5%82w&series_type%5B%5D=TV");
+        assertThat(request.getURL()).isSameAs(request.getURL());
+    }
+
+    @Test
+    @DisplayName("Should reject a request without the value of a path parameter")
+    void shouldRejectMissingPathParameter() {
+        HttpRequest request = HttpRequest.builder()
+                .target(SHINDEN_URL)
+                .path("/user/{userId}/reviews")
+                .build();
+
+        assertThatThrownBy(request::getURL).isInstanceOf(IllegalArgumentException.class);
+        assertThat(request).isEqualTo(HttpRequest.builder().target(SHINDEN_URL).path("/user/{userId}/reviews").build());
+    }
+}
@@ -0,0 +1,181 @@
+package com.github.kosmateus.shinden.http.rest;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.kosmateus.shinden.ShindenApi;
+import com.github.kosmateus.shinden.ShindenConfig;
+import com.github.kosmateus.shinden.auth.InMemorySessionManager;
+import com.github.kosmateus.shinden.auth.SessionRenewer;
+import com.github.kosmateus.shinden.http.request.HttpRequest;
+import com.github.kosmateus.shinden.http.response.ResponseHandler;
+import com.github.kosmateus.shinden.http.transport.HttpTransport;
+import com.github.kosmateus.shinden.http.transport.HttpTransportDecorator;
+import com.github.kosmateus.shinden.http.transport.RecordingTransport;
+import com.github.kosmateus.shinden.http.transport.ReplayTransport;
+import com.github.kosmateus.shinden.http.transport.TransportArchive;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
+import com.github.kosmateus.shinden.tracing.ShindenTracing;
+import com.github.kosmateus.shinden.tracing.TracingAttributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HTTP REST client executor test")
+class HttpRestClientExecutorTest {
+
+    private static final String ANIME_LIST = "{\"result\":{\"count\":1,\"items\":["
+            + "{\"titleId\":\"1\",\"title\":\"Mushishi\",\"watchStatus\":\"completed\",\"unknownProperty\":[]}"
+            + "]}}";
+
+    @Test
+    @DisplayName("Should decode responses with the configured Jackson module")
+    void shouldDecodeWithConfiguredJacksonModule() {
+        AtomicInteger itemDeserializers = new AtomicInteger();
+        SimpleModule module = new SimpleModule().setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                          JsonDeserializer<?> deserializer) {
+                if (beanDesc.getBeanClass() == AnimeListItem.AnimeListItemBuilder.class) {
+                    itemDeserializers.incrementAndGet();
+                }
+                return deserializer;
+            }
+        });
+        ShindenApi api = ShindenApi.create(ShindenConfig.builder()
+                .jacksonModule(module)
+                .transport(network -> request -> TransportResponse.builder()
+                        .statusCode(200)
+                        .url(request.getUrl())
+                        .headers(Collections.singletonMap("Content-Type", "application/json"))
+                        .contentType("application/json")
+                        .body(ANIME_LIST.getBytes(StandardCharsets.UTF_8))
+                        .build())
+                .build());
+        AnimeListRequest request = AnimeListRequest.builder().userId(1L).build();
+
+        List<AnimeListItem> first = api.user().getAnimeList(request);
+        List<AnimeListItem> second = api.user().getAnimeList(request);
+
+        assertThat(first).extracting(AnimeListItem::getTitle).containsExactly("Mushishi");
+        assertThat(second).extracting(AnimeListItem::getId).containsExactly(1L);
+        assertThat(itemDeserializers).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should replay a recorded multipart POST request")
+    void shouldReplayRecordedMultipartPost() {
+        TransportArchive archive = new TransportArchive();
+        HttpTransport server = request -> TransportResponse.builder()
+                .statusCode(200)
+                .url(request.getUrl())
+                .contentType("text/plain; charset=UTF-8")
+                .body("saved".getBytes(StandardCharsets.UTF_8))
+                .build();
+        HttpRestClientExecutor recording = executor(network -> RecordingTransport.into(archive).decorate(server));
+
+        ResponseHandler<String> recorded = recording.executeRequest(passwordRequest(), "POST", String.class);
+        HttpRestClientExecutor replaying = executor(HttpTransportDecorator.replaceWith(new ReplayTransport(archive)));
+        ResponseHandler<String> replayed = replaying.executeRequest(passwordRequest(), "POST", String.class);
+
+        assertThat(recorded.getEntity()).isEqualTo("saved");
+        assertThat(replayed.isOk()).isTrue();
+        assertThat(replayed.getEntity()).isEqualTo("saved");
+    }
+
+    @Test
+    @DisplayName("Should report the HTTP exchange and the JSON decoding as spans")
+    void shouldReportExchangeAndDecodingSpans() {
+        InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        try (SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build()) {
+            ShindenTracing tracing = ShindenTracing.of(OpenTelemetrySdk.builder()
+                    .setTracerProvider(tracerProvider)
+                    .build());
+            byte[] body = "{\"name\":\"Mushishi\"}".getBytes(StandardCharsets.UTF_8);
+            HttpRestClientExecutor executor = executor(HttpTransportDecorator.replaceWith(request -> {
+                if (request.getUrl().endsWith("/2")) {
+                    throw new IOException("Connection reset");
+                }
+                return TransportResponse.builder()
+                        .statusCode(200)
+                        .url(request.getUrl())
+                        .contentType("application/json")
+                        .body(body)
+                        .build();
+            }), tracing);
+
+            assertThat(executor.executeRequest(titleRequest(1L), "GET", Map.class).isOk()).isTrue();
+            assertThat(executor.executeRequest(titleRequest(2L), "GET", Map.class).isPresent()).isFalse();
+
+            List<SpanData> spans = exporter.getFinishedSpanItems();
+            assertThat(spans).extracting(SpanData::getName)
+                    .containsExactly("GET https://shinden.pl/titles/{titleId}", "json.decode",
+                            "GET https://shinden.pl/titles/{titleId}");
+            SpanData exchange = spans.get(0);
+            assertThat(exchange.getKind()).isEqualTo(SpanKind.CLIENT);
+            assertThat(exchange.getAttributes().get(TracingAttributes.HTTP_METHOD)).isEqualTo("GET");
+            assertThat(exchange.getAttributes().get(TracingAttributes.URL_TEMPLATE))
+                    .isEqualTo("https://shinden.pl/titles/{titleId}");
+            assertThat(exchange.getAttributes().get(TracingAttributes.HTTP_STATUS)).isEqualTo(200L);
+            assertThat(exchange.getAttributes().get(TracingAttributes.BODY_SIZE)).isEqualTo((long) body.length);
+            assertThat(exchange.getStatus().getStatusCode()).isEqualTo(StatusCode.UNSET);
+            assertThat(spans.get(1).getKind()).isEqualTo(SpanKind.INTERNAL);
+            SpanData failed = spans.get(2);
+            assertThat(failed.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+            assertThat(failed.getAttributes().get(TracingAttributes.HTTP_STATUS)).isNull();
+            assertThat(failed.getEvents()).extracting("name").containsExactly("exception");
+        }
+    }
+
+    private static HttpRestClientExecutor executor(HttpTransportDecorator transport) {
+        return executor(transport, ShindenTracing.noop());
+    }
+
+    private static HttpRestClientExecutor executor(HttpTransportDecorator transport, ShindenTracing tracing) {
+        InMemorySessionManager sessionManager = new InMemorySessionManager();
+        return new HttpRestClientExecutor(sessionManager, new SessionRenewer(sessionManager, Optional.empty()),
+                tracing, null, Optional.of(transport), Optional.empty());
+    }
+
+    private static HttpRequest titleRequest(Long titleId) {
+        return HttpRequest.builder()
+                .target("https://shinden.pl")
+                .path("/titles/{titleId}")
+                .pathParams(Collections.singletonMap("titleId", String.valueOf(titleId)))
+                .build();
+    }
+
+    private static HttpRequest passwordRequest() {
+        Map<String, String> formFields = new LinkedHashMap<>();
+        formFields.put("passwd_old", "old");
+        formFields.put("passwd", "new");
+        return HttpRequest.builder()
+                .target("https://shinden.pl")
+                .path("/user/1/edit_passwd")
+                .formFields(formFields)
+                .build();
+    }
+}
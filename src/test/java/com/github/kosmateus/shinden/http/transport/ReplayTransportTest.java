@@ -0,0 +1,153 @@
+package com.github.kosmateus.shinden.http.transport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Replay transport test")
+class ReplayTransportTest {
+
+    private static final TransportRequest REVIEWS = TransportRequest.builder()
+            .method("GET")
+            .url("https://shinden.pl/user/1/reviews")
+            .urlTemplate("https://shinden.pl/user/{userId}/reviews")
+            .build();
+
+    @Test
+    @DisplayName("Should replay recorded exchanges after an archive round trip")
+    void shouldReplayRecordedExchangesAfterArchiveRoundTrip() throws IOException {
+        AtomicInteger calls = new AtomicInteger();
+        TransportArchive archive = new TransportArchive();
+        HttpTransport recording = RecordingTransport.into(archive).decorate(request -> TransportResponse.builder()
+                .statusCode(200)
+                .statusMessage("OK")
+                .url(request.getUrl())
+                .headers(Collections.singletonMap("Content-Type", "text/html; charset=UTF-8"))
+                .cookies(Collections.singletonMap("sid", "abc"))
+                .contentType("text/html; charset=UTF-8")
+                .body(("<p>call " + calls.incrementAndGet() + "</p>").getBytes(StandardCharsets.UTF_8))
+                .build());
+
+        recording.execute(REVIEWS);
+        recording.execute(REVIEWS);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        archive.writeTo(output);
+        ReplayTransport replay = new ReplayTransport(TransportArchive.read(new ByteArrayInputStream(output.toByteArray())));
+
+        TransportResponse first = replay.execute(REVIEWS);
+        TransportResponse second = replay.execute(REVIEWS);
+        TransportResponse third = replay.execute(REVIEWS);
+
+        assertThat(first.getStatusCode()).isEqualTo(200);
+        assertThat(first.getUrl()).isEqualTo("https://shinden.pl/user/1/reviews");
+        assertThat(first.getCookies()).containsEntry("sid", "abc");
+        assertThat(first.getCharsetName()).isEqualTo("UTF-8");
+        assertThat(first.getBodyAsString()).isEqualTo("<p>call 1</p>");
+        assertThat(second.getBodyAsString()).isEqualTo("<p>call 2</p>");
+        assertThat(third.getBodyAsString()).isEqualTo("<p>call 1</p>");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should distinguish requests by their body")
+    void shouldDistinguishRequestsByBody() {
+        TransportRequest login = TransportRequest.builder()
+                .method("POST")
+                .url("https://shinden.pl/main/0/login")
+                .body("username=a".getBytes(StandardCharsets.UTF_8))
+                .build();
+        TransportRequest otherLogin = TransportRequest.builder()
+                .method("POST")
+                .url("https://shinden.pl/main/0/login")
+                .body("username=b".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        assertThat(login.getExchangeKey()).startsWith("POST https://shinden.pl/main/0/login ");
+        assertThat(login.getExchangeKey()).isNotEqualTo(otherLogin.getExchangeKey());
+        assertThat(REVIEWS.getExchangeKey()).isEqualTo("GET https://shinden.pl/user/1/reviews");
+    }
+
+    @Test
+    @DisplayName("Should leave the credentials out of the exchange key")
+    void shouldLeaveCredentialsOutOfExchangeKey() {
+        String boundary = "multipart/form-data; boundary=xyz";
+
+        assertThat(formRequest("username=a&password=first&remember=on").getExchangeKey())
+                .isEqualTo(formRequest("username=b&password=second&remember=on").getExchangeKey())
+                .isNotEqualTo(formRequest("username=a&password=first&remember=").getExchangeKey());
+        assertThat(request(boundary, multipart("first", "Kot")).getExchangeKey())
+                .isEqualTo(request(boundary, multipart("second", "Kot")).getExchangeKey())
+                .isNotEqualTo(request(boundary, multipart("first", "Pies")).getExchangeKey());
+    }
+
+    @Test
+    @DisplayName("Should reject archives declaring invalid lengths")
+    void shouldRejectInvalidLengths() {
+        assertThatThrownBy(() -> TransportArchive.read(archiveWithBodyLength(-1)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("-1");
+        assertThatThrownBy(() -> TransportArchive.read(archiveWithBodyLength(Integer.MAX_VALUE)))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> TransportArchive.read(archiveWithBodyLength(1024 * 1024)))
+                .isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail when no exchange was recorded for the request")
+    void shouldFailWhenNoExchangeWasRecorded() {
+        ReplayTransport replay = new ReplayTransport(new TransportArchive());
+
+        assertThatThrownBy(() -> replay.execute(REVIEWS))
+                .isInstanceOf(IOException.class)
+                .hasMessage("No recorded exchange for GET https://shinden.pl/user/1/reviews");
+    }
+
+    private static TransportRequest formRequest(String body) {
+        return request("application/x-www-form-urlencoded; charset=UTF-8", body);
+    }
+
+    private static TransportRequest request(String contentType, String body) {
+        return TransportRequest.builder()
+                .method("POST")
+                .url("https://shinden.pl/main/0/login")
+                .contentType(contentType)
+                .body(body.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static String multipart(String password, String nick) {
+        return "--xyz\r\nContent-Disposition: form-data; name=\"passwd\"\r\n\r\n" + password + "\r\n"
+                + "--xyz\r\nContent-Disposition: form-data; name=\"nick\"\r\n\r\n" + nick + "\r\n--xyz--\r\n";
+    }
+
+    private static ByteArrayInputStream archiveWithBodyLength(int length) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            output.writeInt(0x53484e54);
+            output.writeInt(1);
+            output.writeInt(1);
+            output.writeInt(-1);
+            output.writeLong(0);
+            output.writeInt(200);
+            output.writeInt(-1);
+            output.writeInt(-1);
+            output.writeInt(0);
+            output.writeInt(0);
+            output.writeInt(-1);
+            output.writeInt(length);
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.kosmateus.shinden.http.transport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Response body reader test")
+class ResponseBodyReaderTest {
+
+    @Test
+    @DisplayName("Should read bodies spanning many chunks from short reads")
+    void shouldReadBodySpanningManyChunks() throws IOException {
+        byte[] body = new byte[100_003];
+        new Random(42).nextBytes(body);
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThat(ResponseBodyReader.read(new ShortReadInputStream(new ByteArrayInputStream(body)))).isEqualTo(body);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read an empty body")
+    void shouldReadEmptyBody() throws IOException {
+        assertThat(ResponseBodyReader.read(new ByteArrayInputStream(new byte[0]))).isEmpty();
+    }
+
+    private static final class ShortReadInputStream extends FilterInputStream {
+
+        private ShortReadInputStream(InputStream input) {
+            super(input);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            return super.read(buffer, offset, Math.min(length, 1000));
+        }
+    }
+}
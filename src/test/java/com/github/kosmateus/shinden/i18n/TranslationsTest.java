@@ -0,0 +1,75 @@
+package com.github.kosmateus.shinden.i18n;
+
+import com.github.kosmateus.shinden.common.enums.TitleStatus;
+import com.github.kosmateus.shinden.common.enums.tag.Genre;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("Translations test")
+class TranslationsTest {
+
+    private final Translations translations = new Translations(ImmutableMap.of(
+            "status.airing", "Emitowane",
+            "status.finished", "Zakończone",
+            "status-other.proposal", "Propozycja",
+            "statuses", "Statusy",
+            "type.tv", "TV"
+    ));
+
+    @Test
+    @DisplayName("Should look up translations and views of the groups sharing a prefix")
+    void shouldLookUpTranslationsAndGroups() {
+        Map<String, String> group = translations.getGroup("status");
+
+        assertThat(translations.get("status.finished")).isEqualTo("Zakończone");
+        assertThat(translations.get("status")).isNull();
+        assertThat(group).containsOnly(entry("airing", "Emitowane"), entry("finished", "Zakończone"));
+        assertThat(group.get("finished")).isEqualTo("Zakończone");
+        assertThat(group.get("proposal")).isNull();
+        assertThat(translations.getGroup("missing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should compile the YAML translations into a bundle with the same translations")
+    void shouldCompileTranslationBundle() throws IOException {
+        Map<String, String> yaml;
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("translation.yaml")) {
+            yaml = TranslationYaml.read(inputStream);
+        }
+        ByteArrayOutputStream bundle = new ByteArrayOutputStream();
+        TranslationBundle.write(ImmutableMap.of("translation.yaml", yaml), bundle);
+
+        Translations compiled = TranslationBundle.read(new ByteArrayInputStream(bundle.toByteArray()))
+                .get("translation.yaml");
+
+        assertThat(compiled.getGroup("tags")).hasSize((int) yaml.keySet().stream()
+                .filter(key -> key.startsWith("tags.")).count());
+        yaml.forEach((key, value) -> assertThat(compiled.get(key)).isEqualTo(value));
+        assertThat(compiled.getTranslation(Genre.ACTION)).isEqualTo(yaml.get(Genre.ACTION.getTranslationKey()));
+    }
+
+    @Test
+    @DisplayName("Should find enum constants by their translations in several locales")
+    void shouldFindEnumConstantsByTranslation() {
+        Translations polish = Translations.forLocale(new Locale("pl", "PL"));
+        String translation = TitleStatus.CURRENTLY_AIRING.getTranslation(Locale.ENGLISH);
+        String finished = polish.get(TitleStatus.FINISHED_AIRING.getTranslationKey());
+
+        assertThat(polish.findByTranslation(TitleStatus.class, finished)).contains(TitleStatus.FINISHED_AIRING);
+        assertThat(Translations.forLocale(Locale.ENGLISH).findByTranslation(TitleStatus.class, translation))
+                .contains(TitleStatus.CURRENTLY_AIRING);
+        assertThat(polish.findByTranslation(TitleStatus.class, "unknown")).isEmpty();
+        assertThat(TitleStatus.fromValue(translation)).isEqualTo(TitleStatus.CURRENTLY_AIRING);
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.kosmateus.shinden.login;
+
+import com.github.kosmateus.shinden.exception.JsoupParserException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Auth token parser test")
+class AuthTokenParserTest {
+
+    private static final byte[] PAGE = ("<!DOCTYPE html><html><head><title>Shinden</title>\n"
+            + "<script>var _Storage = {};\n"
+            + "_Storage.userIdLabel = 'ID';\n"
+            + "_Storage.userId = 12345;\n"
+            + "_Storage.basic = 'dXNlcjp0b2tlbg==';\n"
+            + "</script></head><body><p>Zażółć gęślą jaźń</p></body></html>").getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("Should read the auth token and user ID from the inline scripts of the page")
+    void shouldReadAuthenticationDetails() {
+        assertThat(AuthTokenParser.parseAuthToken(PAGE)).isEqualTo("dXNlcjp0b2tlbg==");
+        assertThat(AuthTokenParser.parseUserId(PAGE)).contains(12345L);
+    }
+
+    @Test
+    @DisplayName("Should report a page without the auth token or user ID")
+    void shouldReportMissingDetails() {
+        byte[] page = "<html><head><script>_Storage.userId = 'none';</script></head></html>"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(AuthTokenParser.parseUserId(page)).isEmpty();
+        assertThatThrownBy(() -> AuthTokenParser.parseAuthToken(page)).isInstanceOf(JsoupParserException.class);
+    }
+}
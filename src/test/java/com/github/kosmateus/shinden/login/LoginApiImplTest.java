@@ -0,0 +1,47 @@
+package com.github.kosmateus.shinden.login;
+
+import com.github.kosmateus.shinden.auth.SessionPool;
+import com.github.kosmateus.shinden.auth.SessionSnapshot;
+import com.github.kosmateus.shinden.http.response.ResponseHandler;
+import com.github.kosmateus.shinden.http.transport.TransportResponse;
+import com.github.kosmateus.shinden.login.request.LoginRequest;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Login API test")
+class LoginApiImplTest {
+
+    @Test
+    @DisplayName("Should reject logging in through a session pool before sending any request")
+    void shouldRejectLoginThroughSessionPool() {
+        SessionPool pool = SessionPool.builder()
+                .account("first", "secret")
+                .authenticator((username, password) -> Optional.of(
+                        SessionSnapshot.of(ImmutableMap.of("sid", username), "token", 1L)))
+                .build();
+        LoginApiImpl loginApi = new LoginApiImpl(new LoginClient(null) {
+            @Override
+            ResponseHandler<TransportResponse> sendLoginForm(Map<String, String> formData) {
+                throw new AssertionError("The login form must not be sent");
+            }
+
+            @Override
+            ResponseHandler<TransportResponse> getMainPage(Map<String, String> cookies) {
+                throw new AssertionError("The main page must not be fetched");
+            }
+        }, pool);
+        LoginRequest loginRequest = LoginRequest.builder()
+                .username("first")
+                .password("secret")
+                .build();
+
+        assertThatThrownBy(() -> loginApi.login(loginRequest)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> loginApi.resume(loginRequest)).isInstanceOf(IllegalStateException.class);
+    }
+}
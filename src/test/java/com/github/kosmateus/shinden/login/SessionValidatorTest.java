@@ -0,0 +1,51 @@
+package com.github.kosmateus.shinden.login;
+
+import com.github.kosmateus.shinden.auth.SessionSnapshot;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Session validator test")
+class SessionValidatorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.ofEpochSecond(1_700_000_000L), ZoneOffset.UTC);
+
+    private static SessionSnapshot session(String jwt) {
+        return SessionSnapshot.of(ImmutableMap.of("jwtCookie", jwt), "token", 42L);
+    }
+
+    private static String jwt(long expiry) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(("{\"sub\":\"42\",\"exp\":" + expiry + "}").getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+
+    @Test
+    @DisplayName("Should reuse an authenticated session of the same user until it is about to expire")
+    void shouldReuseValidSession() {
+        long now = CLOCK.instant().getEpochSecond();
+
+        assertThat(SessionValidator.isReusable(session(jwt(now + 3600)), "user", "user", CLOCK)).isTrue();
+        assertThat(SessionValidator.isReusable(session("opaque"), "user", "user", CLOCK)).isTrue();
+        assertThat(SessionValidator.isReusable(session(jwt(now + 60)), "user", "user", CLOCK)).isFalse();
+        assertThat(SessionValidator.isReusable(session(jwt(now + 3600)), "user", "other", CLOCK)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not reuse an incomplete session")
+    void shouldNotReuseIncompleteSession() {
+        assertThat(SessionValidator.isReusable(SessionSnapshot.EMPTY, null, "user", CLOCK)).isFalse();
+        assertThat(SessionValidator.isReusable(SessionSnapshot.of(ImmutableMap.of("sid", "abc"), "token", 42L),
+                "user", "user", CLOCK)).isFalse();
+        assertThat(SessionValidator.isReusable(session("opaque").withUserId(null), "user", "user", CLOCK)).isFalse();
+    }
+}
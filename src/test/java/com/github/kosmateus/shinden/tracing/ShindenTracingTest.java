@@ -0,0 +1,114 @@
+package com.github.kosmateus.shinden.tracing;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Shinden tracing test")
+class ShindenTracingTest {
+
+    private InMemorySpanExporter exporter;
+    private SdkTracerProvider tracerProvider;
+    private ShindenTracing tracing;
+
+    @BeforeEach
+    void setUp() {
+        exporter = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        tracing = ShindenTracing.of(OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    @DisplayName("Should nest HTTP, parse and mapper spans under the API call span")
+    void shouldNestPhaseSpansUnderApiCallSpan() {
+        Lookup lookup = TracingInvocationHandler.createProxy(userId -> {
+            tracing.inSpan("GET https://shinden.pl/user/{userId}", SpanKind.CLIENT, span -> {
+                span.setAttribute(TracingAttributes.URL_TEMPLATE, "https://shinden.pl/user/{userId}");
+                span.setAttribute(TracingAttributes.HTTP_STATUS, 200);
+                return null;
+            });
+            tracing.inSpan("jsoup.parse", SpanKind.INTERNAL, span -> null);
+            return tracing.inMapperSpan("user.reviews", () -> Arrays.asList("first", "second", "third"));
+        }, Lookup.class, tracing);
+
+        List<String> result = lookup.find(1L);
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        SpanData apiSpan = span(spans, "Lookup.find");
+        SpanData httpSpan = span(spans, "GET https://shinden.pl/user/{userId}");
+        SpanData parseSpan = span(spans, "jsoup.parse");
+        SpanData mapperSpan = span(spans, "map user.reviews");
+
+        assertThat(result).hasSize(3);
+        assertThat(spans).hasSize(4);
+        assertThat(apiSpan.getParentSpanContext().isValid()).isFalse();
+        assertThat(Arrays.asList(httpSpan, parseSpan, mapperSpan))
+                .allSatisfy(child -> assertThat(child.getParentSpanId()).isEqualTo(apiSpan.getSpanId()));
+        assertThat(apiSpan.getAttributes().get(TracingAttributes.ROWS)).isEqualTo(3L);
+        assertThat(httpSpan.getKind()).isEqualTo(SpanKind.CLIENT);
+        assertThat(httpSpan.getAttributes().get(TracingAttributes.URL_TEMPLATE)).isEqualTo("https://shinden.pl/user/{userId}");
+        assertThat(httpSpan.getAttributes().get(TracingAttributes.HTTP_STATUS)).isEqualTo(200L);
+        assertThat(mapperSpan.getAttributes().get(TracingAttributes.MAPPER)).isEqualTo("user.reviews");
+        assertThat(mapperSpan.getAttributes().get(TracingAttributes.ROWS)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should record the failure and rethrow the original exception")
+    void shouldRecordFailureAndRethrowOriginalException() {
+        Lookup lookup = TracingInvocationHandler.createProxy(userId -> {
+            throw new IllegalStateException("boom");
+        }, Lookup.class, tracing);
+
+        assertThatThrownBy(() -> lookup.find(1L))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+
+        SpanData apiSpan = span(exporter.getFinishedSpanItems(), "Lookup.find");
+        assertThat(apiSpan.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(apiSpan.getEvents()).extracting("name").containsExactly("exception");
+    }
+
+    @Test
+    @DisplayName("Should not create a proxy when tracing is disabled")
+    void shouldNotCreateProxyWhenTracingIsDisabled() {
+        Lookup target = userId -> Arrays.asList("first");
+
+        Lookup lookup = TracingInvocationHandler.createProxy(target, Lookup.class, ShindenTracing.noop());
+
+        assertThat(lookup).isSameAs(target);
+        assertThat(ShindenTracing.noop().inMapperSpan("user.reviews", () -> "mapped")).isEqualTo("mapped");
+        assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    }
+
+    private static SpanData span(List<SpanData> spans, String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span named " + name));
+    }
+
+    interface Lookup {
+        List<String> find(Long userId);
+    }
+}
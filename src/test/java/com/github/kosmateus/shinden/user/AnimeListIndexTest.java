@@ -0,0 +1,94 @@
+package com.github.kosmateus.shinden.user;
+
+import com.github.kosmateus.shinden.common.enums.TitleType;
+import com.github.kosmateus.shinden.common.enums.tag.Genre;
+import com.github.kosmateus.shinden.common.request.Pageable;
+import com.github.kosmateus.shinden.common.request.Sort;
+import com.github.kosmateus.shinden.common.response.Page;
+import com.github.kosmateus.shinden.user.common.enums.UserTitleStatus;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest;
+import com.github.kosmateus.shinden.user.request.AnimeListRequest.SortType;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Anime list index test")
+class AnimeListIndexTest {
+
+    private static final long USER_ID = 7L;
+
+    private final AnimeListIndex index = AnimeListIndex.of(USER_ID, Arrays.asList(
+            item(1L, "Mushishi", UserTitleStatus.COMPLETED, TitleType.TV, 10, 2005),
+            item(2L, "akira", UserTitleStatus.COMPLETED, TitleType.MOVIE, 8, 1988),
+            item(3L, "Berserk", UserTitleStatus.IN_PROGRESS, TitleType.TV, null, 1997),
+            item(4L, "Cowboy Bebop", UserTitleStatus.COMPLETED, TitleType.TV, 10, null)
+    ));
+
+    @Test
+    @DisplayName("Should filter the list locally")
+    void shouldFilterLocally() {
+        assertThat(ids(index.query(request().status(UserTitleStatus.COMPLETED).addAnimeType(TitleType.TV).build())))
+                .containsExactly(1L, 4L);
+        assertThat(ids(index.query(request().premiereYearMin(1990).premiereYearMax(2000).build())))
+                .containsExactly(3L);
+        assertThat(index.query(request().build())).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should sort the list locally, keeping missing values last")
+    void shouldSortLocally() {
+        assertThat(ids(index.query(request().build(), Sort.by(SortType.TITLE.asc())))).containsExactly(2L, 3L, 4L, 1L);
+        assertThat(ids(index.query(request().build(), Sort.by(SortType.RATE.desc())))).containsExactly(1L, 4L, 2L, 3L);
+        assertThat(ids(index.query(request().build(), Sort.by(SortType.PREMIERE_DATE.desc()))))
+                .containsExactly(1L, 3L, 2L, 4L);
+        assertThat(ids(index.query(request().build(), Sort.by(SortType.RATE.desc(), SortType.TITLE.asc()))))
+                .containsExactly(4L, 1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should page the sorted list")
+    void shouldPageSortedList() {
+        Page<AnimeListItem> page = index.query(request().build(), Pageable.of(1, 3, Sort.by(SortType.TITLE.asc())));
+
+        assertThat(ids(page.getContent())).containsExactly(1L);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.isLast()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject requests it cannot answer")
+    void shouldRejectUnsupportedRequests() {
+        assertThatThrownBy(() -> index.query(AnimeListRequest.builder().userId(8L).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.query(request().addTag(Genre.ACTION).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static AnimeListRequest.AnimeListRequestBuilder request() {
+        return AnimeListRequest.builder().userId(USER_ID);
+    }
+
+    private static AnimeListItem item(Long id, String title, UserTitleStatus status, TitleType type,
+                                      Integer rating, Integer premiereYear) {
+        return AnimeListItem.builder()
+                .id(id)
+                .title(title)
+                .status(status)
+                .type(type)
+                .userTotalRating(rating)
+                .startDate(premiereYear != null ? LocalDate.of(premiereYear, 4, 1) : null)
+                .build();
+    }
+
+    private static List<Long> ids(List<AnimeListItem> items) {
+        return items.stream().map(AnimeListItem::getId).collect(Collectors.toList());
+    }
+}
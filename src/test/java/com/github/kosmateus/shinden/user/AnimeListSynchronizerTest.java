@@ -0,0 +1,108 @@
+package com.github.kosmateus.shinden.user;
+
+import com.github.kosmateus.shinden.common.request.Pageable;
+import com.github.kosmateus.shinden.common.response.PageImpl;
+import com.github.kosmateus.shinden.user.common.enums.UserTitleStatus;
+import com.github.kosmateus.shinden.user.request.AnimeListSyncOptions;
+import com.github.kosmateus.shinden.user.response.AnimeListChange;
+import com.github.kosmateus.shinden.user.response.AnimeListChange.Type;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Anime list synchronizer test")
+class AnimeListSynchronizerTest {
+
+    private static final long USER_ID = 7L;
+
+    private final List<AnimeListItem> list = new ArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final UserApi userApi = (UserApi) Proxy.newProxyInstance(UserApi.class.getClassLoader(),
+            new Class<?>[]{UserApi.class}, (proxy, method, args) -> {
+                requests.incrementAndGet();
+                Pageable<?> pageable = (Pageable<?>) args[1];
+                int from = (int) Math.min(pageable.getOffset(), list.size());
+                int to = Math.min(from + pageable.getPageSize(), list.size());
+                return new PageImpl<>(new ArrayList<>(list.subList(from, to)), pageable, list.size());
+            });
+
+    @Test
+    @DisplayName("Should report the complete list on the first poll and nothing for an unchanged list")
+    void shouldReportOnlyChanges() {
+        AnimeListSynchronizer synchronizer = synchronizer(10);
+        for (long id = 1; id <= 5; id++) {
+            list.add(item(id, UserTitleStatus.PLAN, 0));
+        }
+
+        assertThat(synchronizer.synchronize(USER_ID)).extracting(AnimeListChange::getType).containsOnly(Type.ADDED)
+                .hasSize(5);
+        requests.set(0);
+        assertThat(synchronizer.synchronize(USER_ID)).isEmpty();
+        assertThat(requests).hasValue(1);
+        assertThat(synchronizer.getItems(USER_ID)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Should stop at the first unchanged page and catch up on the next full scan")
+    void shouldStopEarlyUntilFullScan() {
+        AnimeListSynchronizer synchronizer = synchronizer(2);
+        for (long id = 1; id <= 5; id++) {
+            list.add(item(id, UserTitleStatus.PLAN, 0));
+        }
+        synchronizer.synchronize(USER_ID);
+
+        list.set(0, item(1L, UserTitleStatus.IN_PROGRESS, 3));
+        list.set(4, item(5L, UserTitleStatus.COMPLETED, 12));
+        requests.set(0);
+        assertThat(synchronizer.synchronize(USER_ID))
+                .extracting(AnimeListChange::getType, AnimeListChange::getId)
+                .containsExactly(tuple(Type.UPDATED, 1L));
+        assertThat(requests).hasValue(2);
+
+        assertThat(synchronizer.synchronize(USER_ID))
+                .extracting(AnimeListChange::getType, AnimeListChange::getId)
+                .containsExactly(tuple(Type.UPDATED, 5L));
+    }
+
+    @Test
+    @DisplayName("Should report added and removed items")
+    void shouldReportAddedAndRemovedItems() {
+        AnimeListSynchronizer synchronizer = synchronizer(10);
+        for (long id = 1; id <= 5; id++) {
+            list.add(item(id, UserTitleStatus.PLAN, 0));
+        }
+        synchronizer.synchronize(USER_ID);
+
+        list.remove(3);
+        list.add(0, item(6L, UserTitleStatus.PLAN, 0));
+        assertThat(synchronizer.synchronize(USER_ID))
+                .extracting(AnimeListChange::getType, AnimeListChange::getId)
+                .containsExactly(tuple(Type.ADDED, 6L), tuple(Type.REMOVED, 4L));
+        assertThat(synchronizer.getItems(USER_ID)).extracting(AnimeListItem::getId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 5L, 6L);
+    }
+
+    private AnimeListSynchronizer synchronizer(int fullScanInterval) {
+        return new AnimeListSynchronizer(userApi, AnimeListSyncOptions.builder()
+                .pageSize(2)
+                .fullScanInterval(fullScanInterval)
+                .build());
+    }
+
+    private static AnimeListItem item(Long id, UserTitleStatus status, int watchedEpisodes) {
+        return AnimeListItem.builder()
+                .id(id)
+                .title("Title " + id)
+                .status(status)
+                .watchedEpisodes(watchedEpisodes)
+                .build();
+    }
+}
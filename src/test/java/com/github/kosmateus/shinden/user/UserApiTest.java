@@ -5,10 +5,13 @@ import com.github.kosmateus.shinden.common.enums.MPAA;
 import com.github.kosmateus.shinden.common.enums.TitleStatus;
 import com.github.kosmateus.shinden.common.enums.TitleType;
 import com.github.kosmateus.shinden.common.enums.tag.Genre;
+import com.github.kosmateus.shinden.common.request.BulkOptions;
 import com.github.kosmateus.shinden.common.request.Pageable;
 import com.github.kosmateus.shinden.common.request.Sort;
+import com.github.kosmateus.shinden.common.response.BulkResult;
 import com.github.kosmateus.shinden.common.response.Page;
 import com.github.kosmateus.shinden.common.response.UpdateResult;
+import com.github.kosmateus.shinden.exception.NotFoundException;
 import com.github.kosmateus.shinden.http.request.LocalFileResource;
 import com.github.kosmateus.shinden.user.common.AnimeListSettings;
 import com.github.kosmateus.shinden.user.common.MangaListSettings;
@@ -16,6 +19,7 @@ import com.github.kosmateus.shinden.user.common.PageSettings;
 import com.github.kosmateus.shinden.user.common.ReadTimeSettings;
 import com.github.kosmateus.shinden.user.common.enums.ChapterLanguage;
 import com.github.kosmateus.shinden.user.common.enums.ChapterStatus;
+import com.github.kosmateus.shinden.user.common.enums.OverviewSection;
 import com.github.kosmateus.shinden.user.common.enums.PageMainMenu;
 import com.github.kosmateus.shinden.user.common.enums.PageTheme;
 import com.github.kosmateus.shinden.user.common.enums.ShowOption;
@@ -76,7 +80,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.github.kosmateus.shinden.common.response.Result.SUCCESS;
@@ -128,6 +134,33 @@ class UserApiTest extends BaseTest {
             assertFavouriteEntities(overview.getFavouriteCharacters());
             assertComments(overview.getComments());
         }
+
+        @Test
+        @DisplayName("Should get user overviews in bulk and report missing users as failures")
+        void shouldGetOverviewsInBulk() {
+            Long userId = API_CONFIG.getUnauthenticatedUserId();
+            List<BulkResult<Long, UserOverview>> results = userApi.getOverviews(Arrays.asList(userId, Long.MAX_VALUE),
+                            BulkOptions.builder().order(BulkOptions.Order.INPUT).build())
+                    .collect(Collectors.toList());
+
+            assertThat(results).extracting(BulkResult::getKey).containsExactly(userId, Long.MAX_VALUE);
+            assertThat(results.get(0).isSuccess()).isTrue();
+            assertThat(results.get(0).getValue().getUsername()).isEqualToIgnoringCase(API_CONFIG.getUnauthenticatedUsername());
+            assertThat(results.get(1).getError()).isInstanceOf(NotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("Should map only the requested sections of user overview")
+        void shouldGetOverviewSections() {
+            UserOverview overview = userApi.getOverview(API_CONFIG.getUnauthenticatedUserId(),
+                    EnumSet.of(OverviewSection.ANIME_STATISTICS, OverviewSection.FAVOURITE_ANIME));
+            assertThat(overview.getId()).isEqualTo(API_CONFIG.getUnauthenticatedUserId());
+            assertStatistics(overview.getAnimeStatistics());
+            assertFavouriteMediaItems(overview.getFavouriteAnime());
+            assertThat(overview.getUsername()).isNull();
+            assertThat(overview.getMangaStatistics()).isNull();
+            assertThat(overview.getComments()).isNull();
+        }
     }
 
     @Nested
@@ -0,0 +1,185 @@
+package com.github.kosmateus.shinden.user.codec;
+
+import com.github.kosmateus.shinden.common.enums.MPAA;
+import com.github.kosmateus.shinden.common.enums.TitleStatus;
+import com.github.kosmateus.shinden.common.enums.TitleType;
+import com.github.kosmateus.shinden.user.common.enums.UserTitleStatus;
+import com.github.kosmateus.shinden.user.response.AnimeListItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Anime list snapshot test")
+class AnimeListSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    @DisplayName("Should read the written items back, streamed and mapped")
+    void shouldRoundTripItems(Compression compression) throws IOException {
+        List<AnimeListItem> items = items(1000);
+        Path file = directory.resolve("snapshot.bin");
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE);
+             AnimeListSnapshotWriter writer = new AnimeListSnapshotWriter(channel, compression, 300)) {
+            writer.writeAll(items);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, READ);
+             AnimeListSnapshotReader reader = new AnimeListSnapshotReader(channel)) {
+            assertThat(reader.readAll()).usingRecursiveFieldByFieldElementComparator().isEqualTo(items);
+        }
+        try (FileChannel channel = FileChannel.open(file, READ);
+             AnimeListSnapshotReader reader = AnimeListSnapshotReader.map(channel)) {
+            assertThat(reader.readBlock()).hasSize(300);
+            assertThat(reader.readAll()).usingRecursiveFieldByFieldElementComparator()
+                    .isEqualTo(items.subList(300, items.size()));
+            assertThat(reader.readBlock()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should store repeated strings once")
+    void shouldStoreRepeatedStringsOnce() throws IOException {
+        List<AnimeListItem> items = items(1000);
+        Path file = directory.resolve("snapshot.bin");
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE);
+             AnimeListSnapshotWriter writer = new AnimeListSnapshotWriter(channel, Compression.NONE, 100)) {
+            writer.writeAll(items);
+        }
+
+        long descriptionBytes = items.stream()
+                .mapToLong(item -> item.getDescriptionEn().length() + item.getDescription().length())
+                .sum();
+        assertThat(file.toFile().length()).isLessThan(descriptionBytes);
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not snapshots")
+    void shouldRejectOtherFiles() throws IOException {
+        Path file = directory.resolve("other.bin");
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[64]));
+        }
+
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            assertThatThrownBy(() -> AnimeListSnapshotReader.map(channel))
+                    .isInstanceOf(IOException.class)
+                    .hasMessage("Not an anime list snapshot");
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    @DisplayName("Should reject invalid lengths before allocating them, streamed and mapped")
+    void shouldRejectInvalidLengths(Compression compression) throws IOException {
+        byte[] snapshot = snapshot(compression);
+        int block = firstBlock(snapshot);
+
+        assertRejected(patch(snapshot, 6, -1), "Invalid length in anime list snapshot: -1");
+        assertRejected(patch(snapshot, block, -5), "Corrupt anime list snapshot block");
+        assertRejected(patch(snapshot, block + 4, Integer.MAX_VALUE),
+                "Invalid length in anime list snapshot: " + Integer.MAX_VALUE);
+        assertRejected(patch(snapshot, block + 8, -1), "Invalid length in anime list snapshot: -1");
+        assertRejected(patch(patch(snapshot, block + 4, 100 * 1024 * 1024), block + 8, 100 * 1024 * 1024),
+                "Truncated anime list snapshot");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    @DisplayName("Should reject truncated snapshots, streamed and mapped")
+    void shouldRejectTruncatedSnapshots(Compression compression) throws IOException {
+        byte[] snapshot = snapshot(compression);
+
+        assertRejected(Arrays.copyOf(snapshot, firstBlock(snapshot) + 20), "Truncated anime list snapshot");
+        assertRejected(Arrays.copyOf(snapshot, 12), "Truncated anime list snapshot");
+    }
+
+    private byte[] snapshot(Compression compression) throws IOException {
+        Path file = directory.resolve("snapshot.bin");
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE);
+             AnimeListSnapshotWriter writer = new AnimeListSnapshotWriter(channel, compression, 300)) {
+            writer.writeAll(items(1000));
+        }
+        return Files.readAllBytes(file);
+    }
+
+    private static int firstBlock(byte[] snapshot) {
+        return 10 + ByteBuffer.wrap(snapshot).getInt(6);
+    }
+
+    private static byte[] patch(byte[] snapshot, int offset, int value) {
+        byte[] patched = snapshot.clone();
+        ByteBuffer.wrap(patched).putInt(offset, value);
+        return patched;
+    }
+
+    private void assertRejected(byte[] snapshot, String message) throws IOException {
+        Path file = directory.resolve("corrupt.bin");
+        Files.write(file, snapshot);
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            assertThatThrownBy(() -> {
+                try (AnimeListSnapshotReader reader = new AnimeListSnapshotReader(channel)) {
+                    reader.readAll();
+                }
+            }).isInstanceOf(IOException.class).hasMessage(message);
+        }
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            assertThatThrownBy(() -> {
+                try (AnimeListSnapshotReader reader = AnimeListSnapshotReader.map(channel)) {
+                    reader.readAll();
+                }
+            }).isInstanceOf(IOException.class).hasMessage(message);
+        }
+    }
+
+    private static List<AnimeListItem> items(int count) {
+        List<AnimeListItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int title = i % 50;
+            items.add(AnimeListItem.builder()
+                    .id(1000L + i * 7L)
+                    .status(i % 3 == 0 ? null : UserTitleStatus.values()[i % UserTitleStatus.values().length])
+                    .isFavourite(i % 5 == 0)
+                    .dmca(i % 11 == 0)
+                    .title("Title " + title)
+                    .image(String.valueOf(100000 + title))
+                    .startDate(LocalDate.of(1990, 1, 1).plusDays(title * 40L))
+                    .premierePrecision(3)
+                    .endDate(i % 4 == 0 ? null : LocalDate.of(2000, 6, 1).plusDays(title))
+                    .titleStatus(TitleStatus.values()[title % TitleStatus.values().length])
+                    .mpaa(title % 7 == 0 ? null : MPAA.values()[title % MPAA.values().length])
+                    .totalRating(title % 6 == 0 ? null : 7.5 + title / 100.0)
+                    .storyRating(8.25)
+                    .totalEpisodes(12 + title)
+                    .type(TitleType.values()[title % TitleType.values().length])
+                    .watchedEpisodes(i % 13)
+                    .userTotalRating(i % 9 == 0 ? null : i % 10)
+                    .userNote(i % 17 == 0 ? "Note żółć " + i : null)
+                    .userNotePrivate(i % 2 == 0)
+                    .descriptionEn("An English description of title " + title)
+                    .description("Polski opis tytułu " + title)
+                    .build());
+        }
+        return items;
+    }
+}
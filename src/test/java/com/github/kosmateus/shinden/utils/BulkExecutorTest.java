@@ -0,0 +1,119 @@
+package com.github.kosmateus.shinden.utils;
+
+import com.github.kosmateus.shinden.common.request.BulkOptions;
+import com.github.kosmateus.shinden.common.response.BulkResult;
+import com.github.kosmateus.shinden.exception.NotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Bulk executor test")
+class BulkExecutorTest {
+
+    @Test
+    @DisplayName("Should return results in input order and report failures per key")
+    void shouldReturnResultsInInputOrder() {
+        List<BulkResult<Long, String>> results = BulkExecutor.<Long, Long, String>execute(Arrays.asList(3L, 1L, 2L),
+                        BulkOptions.builder().order(BulkOptions.Order.INPUT).requestsPerSecond(Double.POSITIVE_INFINITY).build(),
+                        key -> {
+                            sleep(key * 50);
+                            return key;
+                        },
+                        (key, fetched) -> {
+                            if (key == 2L) {
+                                throw new NotFoundException("User not found");
+                            }
+                            return "user-" + fetched;
+                        })
+                .collect(Collectors.toList());
+
+        assertThat(results).extracting(BulkResult::getKey).containsExactly(3L, 1L, 2L);
+        assertThat(results).extracting(BulkResult::getValue).containsExactly("user-3", "user-1", null);
+        assertThat(results.get(2).isSuccess()).isFalse();
+        assertThat(results.get(2).getError()).isInstanceOf(NotFoundException.class).hasMessage("User not found");
+    }
+
+    @Test
+    @DisplayName("Should return results in completion order")
+    void shouldReturnResultsInCompletionOrder() {
+        CountDownLatch firstReturned = new CountDownLatch(1);
+        List<Long> keys = BulkExecutor.<Long, Long, Long>execute(Arrays.asList(1L, 2L),
+                        BulkOptions.builder().parallelism(2).requestsPerSecond(Double.POSITIVE_INFINITY).build(),
+                        key -> {
+                            if (key == 1L) {
+                                await(firstReturned);
+                            }
+                            return key;
+                        },
+                        (key, fetched) -> fetched)
+                .peek(result -> firstReturned.countDown())
+                .map(BulkResult::getKey)
+                .collect(Collectors.toList());
+
+        assertThat(keys).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should fetch and process on separate bounded pools")
+    void shouldFetchAndProcessOnSeparatePools() {
+        Set<String> fetchThreads = ConcurrentHashMap.newKeySet();
+        Set<String> processThreads = ConcurrentHashMap.newKeySet();
+
+        long count = BulkExecutor.<Integer, Integer, Integer>execute(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8),
+                        BulkOptions.builder().parallelism(2).mapperParallelism(1).requestsPerSecond(Double.POSITIVE_INFINITY).build(),
+                        key -> {
+                            fetchThreads.add(Thread.currentThread().getName());
+                            return key;
+                        },
+                        (key, fetched) -> {
+                            processThreads.add(Thread.currentThread().getName());
+                            return fetched;
+                        })
+                .filter(BulkResult::isSuccess)
+                .count();
+
+        assertThat(count).isEqualTo(8);
+        assertThat(fetchThreads).hasSizeLessThanOrEqualTo(2).allMatch(name -> name.startsWith("shinden-bulk-io-"));
+        assertThat(processThreads).hasSize(1).allMatch(name -> name.startsWith("shinden-bulk-cpu-"));
+    }
+
+    @Test
+    @DisplayName("Should limit the rate of the requests")
+    void shouldLimitRateOfRequests() {
+        long start = System.nanoTime();
+
+        List<BulkResult<Integer, Integer>> results = BulkExecutor.<Integer, Integer, Integer>execute(Arrays.asList(1, 2, 3, 4, 5),
+                        BulkOptions.builder().parallelism(5).requestsPerSecond(20).build(),
+                        key -> key,
+                        (key, fetched) -> fetched)
+                .collect(Collectors.toList());
+
+        assertThat(results).hasSize(5).allMatch(BulkResult::isSuccess);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(180);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
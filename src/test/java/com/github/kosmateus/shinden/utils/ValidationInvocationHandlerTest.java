@@ -0,0 +1,59 @@
+package com.github.kosmateus.shinden.utils;
+
+import com.github.kosmateus.shinden.common.request.BulkOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolationException;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Validation invocation handler test")
+class ValidationInvocationHandlerTest {
+
+    private final LookupApi api = ValidationInvocationHandler.createProxy(new LookupApiImpl(), LookupApi.class);
+
+    @Test
+    @DisplayName("Should validate constrained requests and pass other arguments through")
+    void shouldValidateConstrainedRequests() {
+        assertThat(api.find(42L, 3)).isEqualTo(45L);
+        assertThat(api.count(BulkOptions.builder().parallelism(2).build())).isEqualTo(2);
+        assertThat(api.count(null)).isZero();
+        assertThatThrownBy(() -> api.count(BulkOptions.builder().parallelism(0).build()))
+                .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Should rethrow the exceptions of the target unwrapped")
+    void shouldRethrowExceptionsUnwrapped() {
+        assertThatThrownBy(() -> api.find(-1L, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown ID");
+    }
+
+    interface LookupApi {
+
+        Long find(@NotNull Long id, int offset);
+
+        int count(@Valid BulkOptions options);
+    }
+
+    static class LookupApiImpl implements LookupApi {
+
+        @Override
+        public Long find(Long id, int offset) {
+            if (id < 0) {
+                throw new IllegalArgumentException("Unknown ID");
+            }
+            return id + offset;
+        }
+
+        @Override
+        public int count(BulkOptions options) {
+            return options != null ? options.getParallelism() : 0;
+        }
+    }
+}
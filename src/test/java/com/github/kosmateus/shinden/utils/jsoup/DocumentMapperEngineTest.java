@@ -0,0 +1,105 @@
+package com.github.kosmateus.shinden.utils.jsoup;
+
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.kosmateus.shinden.constants.ShindenConstants.DATE_FORMAT;
+import static com.github.kosmateus.shinden.constants.ShindenConstants.DATE_TIME_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Document mapper engine test")
+class DocumentMapperEngineTest {
+
+    private static final String ROW = "section.list > article > ul.row";
+
+    private final DocumentMapperEngine mapper = new DocumentMapperEngine(DATE_TIME_FORMAT, DATE_FORMAT,
+            details -> () -> new IllegalStateException(details.getLeft()));
+
+    @Test
+    @DisplayName("Should map streamed rows in document order and drop them once mapped")
+    void shouldMapStreamedRows() {
+        List<Element> mapped = new ArrayList<>();
+        List<String> titles;
+        try (Stream<String> rows = mapper.stream(new StringReader(page(3)), "").select(ROW)
+                .mapTo(row -> {
+                    mapped.add(row);
+                    return mapper.with(row).selectFirst("li.title").text().orThrowWithCode("title");
+                })) {
+            titles = rows.collect(Collectors.toList());
+        }
+
+        assertThat(titles).containsExactly("Title 0", "Title 1", "Title 2");
+        assertThat(mapped).allSatisfy(row -> assertThat(row.parent()).isNull());
+    }
+
+    @Test
+    @DisplayName("Should map the first streamed row before the whole input is read")
+    void shouldMapFirstRowBeforeInputIsRead() {
+        String page = page(5000);
+        CountingReader reader = new CountingReader(new StringReader(page));
+        try (Stream<String> rows = mapper.stream(reader, "").select(ROW)
+                .mapTo(row -> mapper.with(row).selectFirst("li.title").text().orThrowWithCode("title"))) {
+            Iterator<String> iterator = rows.iterator();
+
+            assertThat(iterator.next()).isEqualTo("Title 0");
+            assertThat(reader.read).isLessThan(page.length() / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("Should map the rest of the streamed document once the rows are mapped")
+    void shouldCompleteStreamedDocument() {
+        try (DocumentMapperEngine.StreamStep document = mapper.stream(new StringReader(page(2)), "")) {
+            long rows = document.select(ROW).mapTo(Function.identity()).count();
+            DocumentMapperEngine.WithDocumentStep rest = document.complete();
+
+            assertThat(rows).isEqualTo(2);
+            assertThat(rest.select(ROW).mapTo(Element::text).orElse(null)).isEmpty();
+            assertThat(rest.selectFirst("body > ul.row").text().orThrowWithCode("outside")).isEqualTo("Outside");
+        }
+    }
+
+    private static String page(int rows) {
+        StringBuilder page = new StringBuilder("<html><body><section class=\"list\"><article>");
+        for (int i = 0; i < rows; i++) {
+            page.append("<ul class=\"row\"><li class=\"title\">Title ").append(i).append("</li><li>Details</li></ul>");
+        }
+        return page.append("</article></section><ul class=\"row\"><li class=\"title\">Outside</li></ul></body></html>")
+                .toString();
+    }
+
+    private static final class CountingReader extends FilterReader {
+
+        private long read;
+
+        private CountingReader(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                read += count;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.kosmateus.shinden.utils.jsoup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Page region test")
+class PageRegionTest {
+
+    private final PageRegion region = PageRegion.of("section", "list");
+
+    @Test
+    @DisplayName("Should cut the page down to the balanced anchor elements")
+    void shouldTrimToAnchorElements() {
+        String page = "<html><head><title>Title</title></head><body><nav><section class=\"menu\">Menu</section></nav>"
+                + "<section class='box list'><section>Nested</section><p>First</p></section>"
+                + "<div>Between</div>"
+                + "<SECTION class=\"list\">Second</SECTION><footer>Footer</footer></body></html>";
+
+        assertThat(trim(page)).isEqualTo("<html><head></head><body>"
+                + "<section class='box list'><section>Nested</section><p>First</p></section>"
+                + "<SECTION class=\"list\">Second</SECTION>"
+                + "</body></html>");
+    }
+
+    @Test
+    @DisplayName("Should skip the tags in comments, scripts and attribute values")
+    void shouldSkipOpaqueContent() {
+        String page = "<body><!-- <section class=\"list\"> --><script>var s = '<section class=\"list\">';</script>"
+                + "<section class=\"list\" data-html=\"</section>\"><script>document.write('</section>');</script>"
+                + "Content</section></body>";
+
+        assertThat(trim(page)).isEqualTo("<html><head></head><body>"
+                + "<section class=\"list\" data-html=\"</section>\"><script>document.write('</section>');</script>"
+                + "Content</section>"
+                + "</body></html>");
+    }
+
+    @Test
+    @DisplayName("Should request a full parse when the anchor is missing or not closed")
+    void shouldFallBackToFullParse() {
+        assertThat(region.trim(bytes("<body><section class=\"lists\">Content</section></body>"))).isNull();
+        assertThat(region.trim(bytes("<body><section class=\"list\"><section>Content</section></body>"))).isNull();
+    }
+
+    private String trim(String page) {
+        return new String(region.trim(bytes(page)), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String page) {
+        return page.getBytes(StandardCharsets.UTF_8);
+    }
+}